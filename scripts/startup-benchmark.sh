@@ -0,0 +1,58 @@
+#!/usr/bin/env bash
+# Mide el tiempo hasta la primera petición exitosa (GET /api/v1/products?size=1) desde que se lanza el
+# proceso, comparando el jar normal con el modo de arranque rápido (AOT + AppCDS).
+#
+# Requisitos: Postgres accesible (docker compose up -d postgres) y los artefactos construidos:
+#   ./gradlew bootJar                      -> modo "plain"
+#   ./gradlew cdsArchive -PfastStartup     -> modo "fast"
+#
+# Uso: scripts/startup-benchmark.sh [plain|fast|both] [iteraciones]
+set -euo pipefail
+
+MODE="${1:-both}"
+RUNS="${2:-5}"
+PORT="${PORT:-9091}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+URL="http://localhost:${PORT}/api/v1/products?size=1"
+FAST_DIR="${ROOT}/build/fast-startup"
+
+now_ms() { date +%s%3N; }
+
+launch() {
+  case "$1" in
+    plain)
+      java -Dserver.port="${PORT}" -Dspring.profiles.active=prod \
+        -jar "$(ls "${ROOT}"/build/libs/*.jar | grep -v plain | head -n1)" ;;
+    fast)
+      java -Dserver.port="${PORT}" -Dspring.profiles.active=prod -Dspring.aot.enabled=true \
+        -XX:SharedArchiveFile="${FAST_DIR}/application.jsa" -Xshare:auto \
+        -jar "$(ls "${FAST_DIR}"/*.jar | head -n1)" ;;
+  esac
+}
+
+measure() {
+  local mode="$1" total=0 start pid elapsed
+  for ((i = 1; i <= RUNS; i++)); do
+    start=$(now_ms)
+    launch "${mode}" >/dev/null 2>&1 &
+    pid=$!
+    until curl -fs -o /dev/null "${URL}"; do
+      if ! kill -0 "${pid}" 2>/dev/null; then
+        echo "${mode}: el proceso terminó antes de responder" >&2
+        exit 1
+      fi
+      sleep 0.05
+    done
+    elapsed=$(( $(now_ms) - start ))
+    total=$(( total + elapsed ))
+    kill "${pid}"; wait "${pid}" 2>/dev/null || true
+    echo "${mode} #${i}: ${elapsed} ms"
+  done
+  echo "${mode}: promedio $(( total / RUNS )) ms hasta la primera respuesta exitosa"
+}
+
+case "${MODE}" in
+  plain|fast) measure "${MODE}" ;;
+  both) measure plain; measure fast ;;
+  *) echo "Uso: $0 [plain|fast|both] [iteraciones]" >&2; exit 1 ;;
+esac
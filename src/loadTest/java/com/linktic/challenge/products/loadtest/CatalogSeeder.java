@@ -0,0 +1,74 @@
+package com.linktic.challenge.products.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Carga un catálogo sintético determinista (misma semilla, mismos datos) directamente por JDBC,
+ * sin pasar por la API, para que la carga inicial no cuente en las mediciones.
+ */
+final class CatalogSeeder {
+    static final String ID_PREFIX = "load-";
+    static final List<String> CATEGORIES = List.of(
+            "Electrónica", "Hogar", "Deportes", "Juguetes", "Libros", "Moda", "Jardín", "Oficina");
+    static final List<String> BRANDS = List.of(
+            "TechNova", "CasaViva", "SportMax", "Ludix", "Lectura", "Urbana", "Verde", "Ofimax");
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    CatalogSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    List<String> seed(int size, long seed) {
+        Random random = new Random(seed);
+        List<String> ids = new ArrayList<>(size);
+        List<Object[]> products = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> specifications = new ArrayList<>(BATCH_SIZE * 2);
+
+        for (int i = 0; i < size; i++) {
+            String id = ID_PREFIX + i;
+            ids.add(id);
+            double rating = Math.round(random.nextDouble() * 50) / 10.0;
+            products.add(new Object[]{
+                    id,
+                    "Producto sintético " + i,
+                    "https://example.com/images/" + id + ".jpg",
+                    "Producto generado para pruebas de carga número " + i,
+                    BigDecimal.valueOf(1 + random.nextDouble() * 999).setScale(2, RoundingMode.HALF_UP),
+                    "USD",
+                    rating,
+                    CATEGORIES.get(random.nextInt(CATEGORIES.size())),
+                    BRANDS.get(random.nextInt(BRANDS.size())),
+                    rating
+            });
+            specifications.add(new Object[]{id, "color", "Color " + random.nextInt(12)});
+            specifications.add(new Object[]{id, "peso", random.nextInt(5_000) + "g"});
+
+            if (products.size() == BATCH_SIZE || i == size - 1) {
+                flush(products, specifications);
+            }
+        }
+        return ids;
+    }
+
+    private void flush(List<Object[]> products, List<Object[]> specifications) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO products (id, name, image_url, description, price, currency, rating, category, brand,
+                                      rating_count, rating_sum)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 1, ?)
+                """, products);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product_specifications (product_id, spec_key, spec_value) VALUES (?, ?, ?)",
+                specifications);
+        products.clear();
+        specifications.clear();
+    }
+}
@@ -0,0 +1,75 @@
+package com.linktic.challenge.products.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.linktic.challenge.products.loadtest.LoadReport.OperationSummary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Línea base versionada con la que se compara cada corrida.
+ *
+ * <p>Una corrida es regresión si p99 o p999 superan la base en más de la tolerancia, si la tasa de
+ * error sube más de medio punto o, cuando se midió a la misma tasa de llegada, si el throughput cae
+ * por debajo de la base menos la tolerancia.</p>
+ *
+ * @param ratePerSecond tasa de llegada con la que se registró la base
+ * @param mix           mezcla de operaciones con la que se registró ({@link Operation#mix()}); con otra mezcla
+ *                      las cifras no son comparables y la corrida falla hasta que se vuelva a registrar
+ */
+record LoadBaseline(int ratePerSecond, String mix, Map<String, Entry> operations) {
+    private static final double ERROR_RATE_MARGIN = 0.005;
+
+    record Entry(double throughputPerSecond, double p99Ms, double p999Ms, double errorRate) { }
+
+    static LoadBaseline from(int ratePerSecond, List<OperationSummary> summaries) {
+        Map<String, Entry> operations = new LinkedHashMap<>();
+        summaries.forEach(summary -> operations.put(summary.name(), new Entry(
+                summary.throughputPerSecond(), summary.p99Ms(), summary.p999Ms(), summary.errorRate())));
+        return new LoadBaseline(ratePerSecond, Operation.mix(), operations);
+    }
+
+    static LoadBaseline read(Path file, ObjectMapper objectMapper) throws IOException {
+        return objectMapper.readValue(file.toFile(), LoadBaseline.class);
+    }
+
+    void write(Path file, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+    }
+
+    boolean sameMix(LoadBaseline other) {
+        return mix != null && mix.equals(other.mix);
+    }
+
+    List<String> regressions(int currentRate, List<OperationSummary> summaries, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        for (OperationSummary summary : summaries) {
+            Entry base = operations.get(summary.name());
+            if (base == null) {
+                continue;
+            }
+            if (summary.p99Ms() > base.p99Ms() * (1 + tolerance)) {
+                regressions.add("%s p99 %.1f ms > baseline %.1f ms".formatted(summary.name(), summary.p99Ms(), base.p99Ms()));
+            }
+            if (summary.p999Ms() > base.p999Ms() * (1 + tolerance)) {
+                regressions.add("%s p999 %.1f ms > baseline %.1f ms".formatted(summary.name(), summary.p999Ms(), base.p999Ms()));
+            }
+            if (summary.errorRate() > base.errorRate() + ERROR_RATE_MARGIN) {
+                regressions.add("%s error rate %.2f%% > baseline %.2f%%".formatted(
+                        summary.name(), summary.errorRate() * 100, base.errorRate() * 100));
+            }
+            if (currentRate == ratePerSecond && summary.throughputPerSecond() < base.throughputPerSecond() * (1 - tolerance)) {
+                regressions.add("%s throughput %.1f req/s < baseline %.1f req/s".formatted(
+                        summary.name(), summary.throughputPerSecond(), base.throughputPerSecond()));
+            }
+        }
+        return regressions;
+    }
+}
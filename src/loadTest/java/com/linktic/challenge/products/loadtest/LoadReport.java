@@ -0,0 +1,113 @@
+package com.linktic.challenge.products.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Latencias y errores de la fase medida, por operación. Las latencias se toman desde el instante
+ * programado de cada petición, no desde su envío real, para no ocultar la espera cuando el
+ * servicio se atrasa (omisión coordinada).
+ */
+final class LoadReport {
+    static final String ALL = "all";
+
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+
+    LoadReport() {
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    void success(Operation operation, long latencyMicros) {
+        stats.get(operation).record(latencyMicros, false);
+    }
+
+    void error(Operation operation, long latencyMicros) {
+        stats.get(operation).record(latencyMicros, true);
+    }
+
+    /** Petición no enviada porque se alcanzó el máximo en vuelo; cuenta como error sin latencia. */
+    void dropped(Operation operation) {
+        stats.get(operation).drop();
+    }
+
+    List<OperationSummary> summarize(Duration measured) {
+        List<OperationSummary> summaries = new ArrayList<>();
+        OperationStats total = new OperationStats();
+        stats.forEach((operation, operationStats) -> {
+            summaries.add(operationStats.summarize(operation.name(), measured));
+            total.merge(operationStats);
+        });
+        summaries.add(total.summarize(ALL, measured));
+        return summaries;
+    }
+
+    record OperationSummary(
+            String name,
+            long requests,
+            double throughputPerSecond,
+            double p50Ms,
+            double p99Ms,
+            double p999Ms,
+            double errorRate
+    ) { }
+
+    private static final class OperationStats {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long failed;
+        private long dropped;
+
+        synchronized void record(long latencyMicros, boolean error) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyMicros;
+            if (error) {
+                failed++;
+            }
+        }
+
+        synchronized void drop() {
+            dropped++;
+        }
+
+        synchronized void merge(OperationStats other) {
+            synchronized (other) {
+                for (int i = 0; i < other.count; i++) {
+                    record(other.latencies[i], false);
+                }
+                failed += other.failed;
+                dropped += other.dropped;
+            }
+        }
+
+        synchronized OperationSummary summarize(String name, Duration measured) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            long requests = count + dropped;
+            return new OperationSummary(
+                    name,
+                    requests,
+                    count / (measured.toMillis() / 1000.0),
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.99),
+                    percentileMillis(sorted, 0.999),
+                    requests == 0 ? 0 : (double) (failed + dropped) / requests
+            );
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.linktic.challenge.products.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Parámetros de una corrida, leídos de propiedades de sistema {@code loadTest.*} (Gradle las pasa
+ * desde {@code -PloadTest.<nombre>=<valor>}).
+ *
+ * @param catalogSize    productos sintéticos cargados antes de medir
+ * @param ratePerSecond  tasa fija de llegada de peticiones
+ * @param warmup         tiempo de calentamiento cuyas mediciones se descartan
+ * @param duration       tiempo medido
+ * @param tolerance      margen relativo sobre la línea base antes de considerar una regresión
+ * @param updateBaseline escribe la corrida como nueva línea base en lugar de compararla
+ */
+record LoadTestSettings(
+        int catalogSize,
+        int ratePerSecond,
+        Duration warmup,
+        Duration duration,
+        long seed,
+        double tolerance,
+        boolean updateBaseline
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadTest.catalogSize", 10_000),
+                Integer.getInteger("loadTest.rate", 200),
+                Duration.ofSeconds(Long.getLong("loadTest.warmupSeconds", 10L)),
+                Duration.ofSeconds(Long.getLong("loadTest.durationSeconds", 60L)),
+                Long.getLong("loadTest.seed", 42L),
+                Double.parseDouble(System.getProperty("loadTest.tolerance", "0.20")),
+                Boolean.getBoolean("loadTest.updateBaseline")
+        );
+    }
+}
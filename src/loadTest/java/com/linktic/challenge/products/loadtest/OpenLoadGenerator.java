@@ -0,0 +1,92 @@
+package com.linktic.challenge.products.loadtest;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga de modelo abierto: programa las peticiones a tasa fija sin esperar respuestas,
+ * así un servicio lento acumula cola en lugar de frenar al generador.
+ */
+final class OpenLoadGenerator {
+    private static final int MAX_IN_FLIGHT = 5_000;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ProductWorkload workload;
+    private final int ratePerSecond;
+    private final Random random;
+    private final int totalWeight;
+
+    OpenLoadGenerator(ProductWorkload workload, int ratePerSecond, long seed) {
+        this.workload = workload;
+        this.ratePerSecond = ratePerSecond;
+        this.random = new Random(seed);
+        int weight = 0;
+        for (Operation operation : Operation.values()) {
+            weight += operation.weight();
+        }
+        this.totalWeight = weight;
+    }
+
+    /**
+     * Ejecuta la mezcla durante {@code duration}; con {@code report} nulo las respuestas se descartan
+     * (calentamiento).
+     */
+    void run(Duration duration, LoadReport report) throws InterruptedException {
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        AtomicInteger inFlight = new AtomicInteger();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * periodNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = nextOperation();
+            if (inFlight.get() >= MAX_IN_FLIGHT) {
+                if (report != null) {
+                    report.dropped(operation);
+                }
+                continue;
+            }
+
+            inFlight.incrementAndGet();
+            workload.send(operation).whenComplete((response, ex) -> {
+                inFlight.decrementAndGet();
+                if (report == null) {
+                    return;
+                }
+                long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+                if (ex == null && ProductWorkload.isSuccess(response.status())) {
+                    report.success(response.operation(), latencyMicros);
+                } else {
+                    report.error(ex == null ? response.operation() : operation, latencyMicros);
+                }
+            });
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private Operation nextOperation() {
+        int roll = random.nextInt(totalWeight);
+        for (Operation operation : Operation.values()) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Operation weights are inconsistent");
+    }
+}
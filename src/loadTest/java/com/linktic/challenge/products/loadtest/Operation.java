@@ -0,0 +1,43 @@
+package com.linktic.challenge.products.loadtest;
+
+/**
+ * Operaciones de la mezcla de carga con su peso relativo; cubren todos los endpoints de
+ * {@code ProductController}.
+ */
+enum Operation {
+    GET_BY_ID(45),
+    LIST(15),
+    FACETS(5),
+    TOP_BY_CATEGORY(4),
+    AUTOCOMPLETE(6),
+    RATE(5),
+    CREATE(7),
+    UPDATE(5),
+    PATCH(5),
+    DELETE(2),
+    BULK_DELETE(1);
+
+    private final int weight;
+
+    Operation(int weight) {
+        this.weight = weight;
+    }
+
+    int weight() {
+        return weight;
+    }
+
+    /**
+     * Identifica la mezcla (operaciones y pesos): una línea base solo es comparable con corridas de la misma mezcla.
+     */
+    static String mix() {
+        StringBuilder mix = new StringBuilder();
+        for (Operation operation : values()) {
+            if (!mix.isEmpty()) {
+                mix.append(',');
+            }
+            mix.append(operation.name()).append(':').append(operation.weight);
+        }
+        return mix.toString();
+    }
+}
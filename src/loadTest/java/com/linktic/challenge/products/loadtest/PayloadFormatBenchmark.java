@@ -0,0 +1,126 @@
+package com.linktic.challenge.products.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.linktic.challenge.products.application.dto.ProductDto;
+import com.linktic.challenge.products.infrastructure.web.PageResponse;
+import com.linktic.challenge.shared.response.StandardResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara JSON, CBOR y Smile sobre páginas de 10, 100 y 1000 productos con la misma estructura que
+ * responde {@code GET /api/v1/products}: bytes por respuesta y tiempo medio de codificar y decodificar.
+ * No levanta la aplicación; se ejecuta con {@code ./gradlew payloadBenchmark}.
+ */
+class PayloadFormatBenchmark {
+    private static final TypeReference<StandardResponse<PageResponse<ProductDto>>> PAGE_TYPE = new TypeReference<>() { };
+    private static final List<Integer> PAGE_SIZES = List.of(10, 100, 1000);
+
+    @Test
+    @DisplayName("Dadas páginas de 10, 100 y 1000 productos, cuando se codifican en cada formato, entonces debe reportar tamaño y costo")
+    void givenProductPages_whenEncodedInEachFormat_thenShouldReportSizeAndCost() throws Exception {
+        // Given
+        int iterations = Integer.getInteger("payloadBenchmark.iterations", 200);
+        Map<String, ObjectMapper> formats = new LinkedHashMap<>();
+        formats.put("json", new Jackson2ObjectMapperBuilder().build());
+        formats.put("cbor", new Jackson2ObjectMapperBuilder().factory(new CBORFactory()).build());
+        formats.put("smile", new Jackson2ObjectMapperBuilder().factory(new SmileFactory()).build());
+
+        // When
+        List<FormatResult> results = new ArrayList<>();
+        for (int pageSize : PAGE_SIZES) {
+            StandardResponse<PageResponse<ProductDto>> page = page(pageSize, 42L);
+            for (Map.Entry<String, ObjectMapper> format : formats.entrySet()) {
+                results.add(measure(format.getKey(), format.getValue(), page, iterations));
+            }
+        }
+
+        // Then
+        print(iterations, results);
+        Path reportDir = Path.of(System.getProperty("loadTest.reportDir", "build/reports/load-test"));
+        Files.createDirectories(reportDir);
+        formats.get("json").copy().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportDir.resolve("payload-formats.json").toFile(), results);
+    }
+
+    private static FormatResult measure(String format, ObjectMapper mapper,
+                                        StandardResponse<PageResponse<ProductDto>> page, int iterations) throws Exception {
+        byte[] encoded = mapper.writeValueAsBytes(page);
+        // Cada formato debe conservar la respuesta completa, incluidos los BigDecimal con su escala
+        assertEquals(page, mapper.readValue(encoded, PAGE_TYPE), format);
+
+        // Calentamiento del JIT antes de medir
+        for (int i = 0; i < iterations; i++) {
+            mapper.readValue(mapper.writeValueAsBytes(page), PAGE_TYPE);
+        }
+
+        long encodeStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            encoded = mapper.writeValueAsBytes(page);
+        }
+        long encodeNanos = System.nanoTime() - encodeStart;
+
+        long decodeStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            mapper.readValue(encoded, PAGE_TYPE);
+        }
+        long decodeNanos = System.nanoTime() - decodeStart;
+
+        return new FormatResult(format, page.getData().content().size(), encoded.length,
+                encodeNanos / 1_000.0 / iterations, decodeNanos / 1_000.0 / iterations);
+    }
+
+    // Mismos datos que CatalogSeeder, para que la mezcla de textos, precios y especificaciones sea comparable
+    private static StandardResponse<PageResponse<ProductDto>> page(int size, long seed) {
+        Random random = new Random(seed);
+        List<ProductDto> products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String id = CatalogSeeder.ID_PREFIX + i;
+            products.add(new ProductDto(
+                    id,
+                    "Producto sintético " + i,
+                    "https://example.com/images/" + id + ".jpg",
+                    "Producto generado para pruebas de carga número " + i,
+                    BigDecimal.valueOf(1 + random.nextDouble() * 999).setScale(2, RoundingMode.HALF_UP),
+                    "USD",
+                    Math.round(random.nextDouble() * 50) / 10.0,
+                    CatalogSeeder.CATEGORIES.get(random.nextInt(CatalogSeeder.CATEGORIES.size())),
+                    CatalogSeeder.BRANDS.get(random.nextInt(CatalogSeeder.BRANDS.size())),
+                    Map.of("color", "Color " + random.nextInt(12), "peso", random.nextInt(5_000) + "g")));
+        }
+        return StandardResponse.<PageResponse<ProductDto>>builder()
+                .success(true)
+                .code("200")
+                .message("Lista de productos obtenida exitosamente")
+                .data(new PageResponse<>(products, 0, size, 10_000, 10_000 / size, true, false, false))
+                .correlationId("123e4567-e89b-12d3-a456-426614174000")
+                .timestamp("2025-01-01T00:00:00Z")
+                .build();
+    }
+
+    private static void print(int iterations, List<FormatResult> results) {
+        System.out.printf("%nFormatos de respuesta: %d iteraciones por medición%n", iterations);
+        System.out.printf("%-8s %10s %10s %14s %14s%n", "formato", "productos", "bytes", "encode µs", "decode µs");
+        results.forEach(r -> System.out.printf("%-8s %10d %10d %14.1f %14.1f%n",
+                r.format(), r.products(), r.bytes(), r.encodeMicros(), r.decodeMicros()));
+    }
+
+    record FormatResult(String format, int products, int bytes, double encodeMicros, double decodeMicros) { }
+}
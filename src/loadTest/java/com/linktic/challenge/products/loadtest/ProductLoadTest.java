@@ -0,0 +1,90 @@
+package com.linktic.challenge.products.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.linktic.challenge.products.loadtest.LoadReport.OperationSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Prueba de carga de la API completa contra Postgres en Testcontainers. Se ejecuta con
+ * {@code ./gradlew loadTest}; ver la sección "Pruebas de carga" del README para los parámetros.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class ProductLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Dada la mezcla de lectura y escritura a tasa fija, cuando se mide, entonces no debe haber regresión frente a la línea base")
+    void givenMixedWorkloadAtFixedRate_whenMeasured_thenShouldNotRegressAgainstBaseline() throws Exception {
+        // Given
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        List<String> catalogIds = new CatalogSeeder(jdbcTemplate).seed(settings.catalogSize(), settings.seed());
+        ProductWorkload workload = new ProductWorkload(URI.create("http://localhost:" + port), catalogIds, objectMapper);
+        OpenLoadGenerator generator = new OpenLoadGenerator(workload, settings.ratePerSecond(), settings.seed());
+
+        // When
+        generator.run(settings.warmup(), null);
+        LoadReport report = new LoadReport();
+        generator.run(settings.duration(), report);
+        List<OperationSummary> summaries = report.summarize(settings.duration());
+
+        // Then
+        print(settings, summaries);
+        Path reportDir = Path.of(System.getProperty("loadTest.reportDir", "build/reports/load-test"));
+        Files.createDirectories(reportDir);
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportDir.resolve("report.json").toFile(), summaries);
+
+        Path baselineFile = Path.of(System.getProperty("loadTest.baselineFile", "src/loadTest/resources/load-test-baseline.json"));
+        LoadBaseline current = LoadBaseline.from(settings.ratePerSecond(), summaries);
+        if (settings.updateBaseline()) {
+            current.write(baselineFile, objectMapper);
+            System.out.println("Línea base actualizada en " + baselineFile.toAbsolutePath());
+            return;
+        }
+
+        // Sin base comparable la corrida no puede detectar regresiones: falla en lugar de pasar en silencio
+        if (!Files.exists(baselineFile)) {
+            fail("No load-test baseline at " + baselineFile.toAbsolutePath()
+                    + "; record one with -PloadTest.updateBaseline=true or pass -PloadTest.baselineFile=<path>");
+        }
+        LoadBaseline baseline = LoadBaseline.read(baselineFile, objectMapper);
+        if (!baseline.sameMix(current)) {
+            fail("Load-test baseline " + baselineFile.toAbsolutePath() + " was recorded with mix [" + baseline.mix()
+                    + "] but the current mix is [" + current.mix() + "]; re-record it with -PloadTest.updateBaseline=true");
+        }
+        List<String> regressions = baseline.regressions(settings.ratePerSecond(), summaries, settings.tolerance());
+        assertTrue(regressions.isEmpty(), () -> "Load-test regressions:\n  " + String.join("\n  ", regressions));
+    }
+
+    private static void print(LoadTestSettings settings, List<OperationSummary> summaries) {
+        System.out.printf("%nCarga: %d req/s durante %ds sobre %d productos%n",
+                settings.ratePerSecond(), settings.duration().toSeconds(), settings.catalogSize());
+        System.out.printf("%-16s %9s %10s %9s %9s %9s %8s%n", "operación", "peticiones", "req/s", "p50 ms", "p99 ms", "p999 ms", "errores");
+        summaries.forEach(s -> System.out.printf("%-16s %9d %10.1f %9.1f %9.1f %9.1f %7.2f%%%n",
+                s.name(), s.requests(), s.throughputPerSecond(), s.p50Ms(), s.p99Ms(), s.p999Ms(), s.errorRate() * 100));
+    }
+}
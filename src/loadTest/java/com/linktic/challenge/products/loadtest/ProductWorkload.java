@@ -0,0 +1,200 @@
+package com.linktic.challenge.products.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Traduce cada {@link Operation} en una petición HTTP contra la API.
+ *
+ * <p>Las lecturas y los votos usan el catálogo sembrado; las escrituras (PUT, PATCH, DELETE, bulk-delete)
+ * usan solo productos creados durante la corrida, que se sacan del pool mientras están en vuelo para que
+ * dos peticiones no compitan por el mismo producto.</p>
+ */
+final class ProductWorkload {
+    private static final String PRODUCTS_PATH = "/api/v1/products";
+    private static final List<String> SORT_FIELDS = List.of("name", "price", "rating");
+    private static final List<String> AUTOCOMPLETE_WORDS = List.of("Producto", "sintético", "carga");
+    private static final int BULK_DELETE_SIZE = 5;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final URI baseUri;
+    private final List<String> catalogIds;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentLinkedDeque<String> createdIds = new ConcurrentLinkedDeque<>();
+
+    ProductWorkload(URI baseUri, List<String> catalogIds, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.catalogIds = List.copyOf(catalogIds);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Envía la operación y retorna la operación realmente ejecutada con su código HTTP. Si la operación
+     * necesita un producto creado y el pool está vacío, se envía un alta en su lugar y se mide como
+     * {@link Operation#CREATE}, así cada operación de la línea base mide solo lo que su nombre indica.
+     */
+    CompletableFuture<Response> send(Operation operation) {
+        return switch (operation) {
+            case GET_BY_ID -> status(operation, get(PRODUCTS_PATH + "/" + randomCatalogId()));
+            case LIST -> status(operation, get(PRODUCTS_PATH + listQuery()));
+            case FACETS -> status(operation, get(PRODUCTS_PATH + "/facets?category=" + encode(randomCategory())));
+            case TOP_BY_CATEGORY -> status(operation, get(PRODUCTS_PATH + "/top-by-category?limit=10"));
+            case AUTOCOMPLETE -> status(operation, get(PRODUCTS_PATH + "/autocomplete?q=" + encode(autocompletePrefix())));
+            case RATE -> status(operation, json(PRODUCTS_PATH + "/" + randomCatalogId() + "/ratings", "POST",
+                    "application/json", Map.of("score", Math.round(ThreadLocalRandom.current().nextDouble() * 50) / 10.0)));
+            case CREATE -> create();
+            case UPDATE -> withCreatedProduct(id -> status(operation, request(id, "PUT", "application/json", productBody()))
+                    .whenComplete((response, ex) -> createdIds.addLast(id)));
+            case PATCH -> withCreatedProduct(id -> status(operation, request(id, "PATCH", "application/merge-patch+json",
+                    Map.of("price", randomPrice()))).whenComplete((response, ex) -> createdIds.addLast(id)));
+            case DELETE -> withCreatedProduct(id -> status(operation, HttpRequest.newBuilder(uri(PRODUCTS_PATH + "/" + id))
+                    .DELETE().build()));
+            case BULK_DELETE -> bulkDelete();
+        };
+    }
+
+    // POST responde 200 con el producto creado (ResponseEntity.ok con ETag): cualquier 2xx cuenta como alta
+    private CompletableFuture<Response> create() {
+        return httpClient.sendAsync(json(PRODUCTS_PATH, "POST", "application/json", productBody()),
+                        HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    if (isSuccess(response.statusCode())) {
+                        String id = readId(response.body());
+                        if (!id.isEmpty()) {
+                            createdIds.addLast(id);
+                        }
+                    }
+                    return new Response(Operation.CREATE, response.statusCode());
+                });
+    }
+
+    private CompletableFuture<Response> bulkDelete() {
+        List<String> ids = new ArrayList<>(BULK_DELETE_SIZE);
+        String id;
+        while (ids.size() < BULK_DELETE_SIZE && (id = createdIds.pollFirst()) != null) {
+            ids.add(id);
+        }
+        if (ids.isEmpty()) {
+            return create();
+        }
+        return status(Operation.BULK_DELETE,
+                json(PRODUCTS_PATH + "/bulk-delete", "POST", "application/json", Map.of("ids", ids)));
+    }
+
+    private CompletableFuture<Response> withCreatedProduct(Function<String, CompletableFuture<Response>> action) {
+        String id = createdIds.pollFirst();
+        return id == null ? create() : action.apply(id);
+    }
+
+    private HttpRequest request(String id, String method, String contentType, Object body) {
+        return json(PRODUCTS_PATH + "/" + id, method, contentType, body);
+    }
+
+    private HttpRequest json(String path, String method, String contentType, Object body) {
+        try {
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Content-Type", contentType)
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (Exception ex) {
+            throw new IllegalStateException("Cannot serialize load-test request body", ex);
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private CompletableFuture<Response> status(Operation operation, HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(response -> new Response(operation, response.statusCode()));
+    }
+
+    static boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private URI uri(String path) {
+        return baseUri.resolve(path);
+    }
+
+    private String readId(String body) {
+        try {
+            JsonNode data = objectMapper.readTree(body).path("data");
+            return data.path("id").asText();
+        } catch (Exception ex) {
+            throw new IllegalStateException("Cannot read created product id", ex);
+        }
+    }
+
+    private String randomCatalogId() {
+        return catalogIds.get(ThreadLocalRandom.current().nextInt(catalogIds.size()));
+    }
+
+    private static String randomCategory() {
+        return CatalogSeeder.CATEGORIES.get(ThreadLocalRandom.current().nextInt(CatalogSeeder.CATEGORIES.size()));
+    }
+
+    // Prefijos de 2 a 4 letras de una marca o de las palabras de los nombres sembrados
+    private static String autocompletePrefix() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String word = random.nextBoolean()
+                ? CatalogSeeder.BRANDS.get(random.nextInt(CatalogSeeder.BRANDS.size()))
+                : AUTOCOMPLETE_WORDS.get(random.nextInt(AUTOCOMPLETE_WORDS.size()));
+        return word.substring(0, Math.min(word.length(), 2 + random.nextInt(3)));
+    }
+
+    private String listQuery() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int pages = Math.max(1, catalogIds.size() / 20);
+        return "?page=" + random.nextInt(Math.min(pages, 50))
+                + "&size=20&sortBy=" + SORT_FIELDS.get(random.nextInt(SORT_FIELDS.size()))
+                + "&sortDirection=" + (random.nextBoolean() ? "asc" : "desc");
+    }
+
+    private Map<String, Object> productBody() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int n = random.nextInt(1_000_000);
+        return Map.of(
+                "name", "Producto de carga " + n,
+                "imageUrl", "https://example.com/images/carga-" + n + ".jpg",
+                "description", "Producto creado durante la prueba de carga " + n,
+                "price", randomPrice(),
+                "currency", "USD",
+                "rating", Math.round(random.nextDouble() * 50) / 10.0,
+                "category", CatalogSeeder.CATEGORIES.get(random.nextInt(CatalogSeeder.CATEGORIES.size())),
+                "brand", CatalogSeeder.BRANDS.get(random.nextInt(CatalogSeeder.BRANDS.size())),
+                "specifications", Map.of("color", "Color " + random.nextInt(12))
+        );
+    }
+
+    /**
+     * Operación ejecutada y código HTTP de su respuesta.
+     */
+    record Response(Operation operation, int status) { }
+
+    private static double randomPrice() {
+        return Math.round(ThreadLocalRandom.current().nextDouble(1, 1_000) * 100) / 100.0;
+    }
+}
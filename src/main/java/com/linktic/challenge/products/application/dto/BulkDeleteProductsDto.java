@@ -0,0 +1,17 @@
+package com.linktic.challenge.products.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Criterio de eliminación masiva: una lista de IDs o una categoría, no ambos")
+public record BulkDeleteProductsDto(
+        @Schema(description = "IDs de los productos a eliminar", example = "[\"prod001\", \"prod002\"]")
+        @Size(max = BulkDeleteProductsDto.MAX_IDS) List<String> ids,
+
+        @Schema(description = "Categoría cuyos productos se eliminan por completo", example = "Electrónica")
+        String category
+) {
+    public static final int MAX_IDS = 500;
+}
@@ -0,0 +1,21 @@
+package com.linktic.challenge.products.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Resultado de una eliminación masiva")
+public record BulkDeleteResultDto(
+        @Schema(description = "Cantidad de productos eliminados", example = "2")
+        int deletedCount,
+
+        @Schema(description = "IDs efectivamente eliminados")
+        List<String> deletedIds,
+
+        @Schema(description = "IDs solicitados que no existían (solo para eliminación por IDs)")
+        List<String> notFoundIds,
+
+        @Schema(description = "La categoría puede tener más productos: se eliminan hasta 500 por petición y hay que repetirla",
+                example = "false")
+        boolean moreRemaining
+) {}
@@ -0,0 +1,14 @@
+package com.linktic.challenge.products.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Productos destacados de una categoría")
+public record CategoryTopProductsDto(
+        @Schema(description = "Productos de mayor rating; a igual rating, por ID descendente")
+        List<ProductDto> topRated,
+
+        @Schema(description = "Productos de menor precio; a igual precio, por ID ascendente")
+        List<ProductDto> lowestPrice
+) {}
@@ -0,0 +1,23 @@
+package com.linktic.challenge.products.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Schema(description = "Conteos por faceta del catálogo para un filtro")
+public record ProductFacetsDto(
+        @Schema(description = "Productos que cumplen el filtro completo", example = "42")
+        long total,
+
+        @Schema(description = "Productos por categoría, aplicando el filtro de las demás facetas")
+        Map<String, Long> categories,
+
+        @Schema(description = "Productos por marca, aplicando el filtro de las demás facetas")
+        Map<String, Long> brands,
+
+        @Schema(description = "Productos por rango de precio (0-50, 50-100, 100-250, 250-500, 500-1000, 1000+)")
+        Map<String, Long> priceRanges,
+
+        @Schema(description = "Productos por rango de rating (0-1 ... 4-5)")
+        Map<String, Long> ratingRanges
+) {}
@@ -0,0 +1,18 @@
+package com.linktic.challenge.products.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Sugerencia de autocompletado")
+public record ProductSuggestionDto(
+        @Schema(description = "Texto sugerido", example = "Smartphone Galaxy XZ")
+        String text,
+
+        @Schema(description = "Tipo de sugerencia", example = "NAME", allowableValues = {"NAME", "BRAND"})
+        String type,
+
+        @Schema(description = "ID del producto; null en las marcas", example = "prod001")
+        String productId,
+
+        @Schema(description = "Rating del producto, o el mayor de la marca", example = "4.7")
+        double rating
+) {}
@@ -0,0 +1,12 @@
+package com.linktic.challenge.products.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+public record RatingVoteDto(
+        @Schema(description = "Puntuación del voto (0.0 - 5.0); se conservan dos decimales", example = "4.5")
+        @NotNull @DecimalMin("0.0") @DecimalMax("5.0") Double score
+) {
+}
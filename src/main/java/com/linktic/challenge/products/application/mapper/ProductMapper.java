@@ -1,20 +1,40 @@
 package com.linktic.challenge.products.application.mapper;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.linktic.challenge.products.application.dto.BulkDeleteResultDto;
+import com.linktic.challenge.products.application.dto.CategoryTopProductsDto;
 import com.linktic.challenge.products.application.dto.CreateProductDto;
 import com.linktic.challenge.products.application.dto.ProductDto;
+import com.linktic.challenge.products.application.dto.ProductFacetsDto;
+import com.linktic.challenge.products.application.dto.ProductSuggestionDto;
 import com.linktic.challenge.products.application.dto.UpdateProductDto;
+import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
 import com.linktic.challenge.products.domain.exception.mapper.ProductMapperException;
+import com.linktic.challenge.products.domain.exception.valueobject.InvalidCategoryException;
+import com.linktic.challenge.products.domain.exception.valueobject.InvalidPriceException;
+import com.linktic.challenge.products.domain.exception.valueobject.InvalidRatingException;
 import com.linktic.challenge.products.domain.model.*;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.Currency;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @Component
 public class ProductMapper {
 
+    private static final Set<String> PATCHABLE_FIELDS = Set.of(
+            "name", "imageUrl", "description", "price", "currency",
+            "rating", "category", "brand", "specifications"
+    );
+
     public ProductDto toDto(Product product) {
         if (product == null) {
             return null;
@@ -78,4 +98,165 @@ public class ProductMapper {
                 new ProductSpecifications(updateProductDto.specifications())
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Convierte un documento JSON Merge Patch (RFC 7396) en un {@link ProductPatch}.
+     * Los campos ausentes no se modifican; un {@code null} explícito elimina el valor
+     * cuando el campo lo admite ({@code brand} y {@code specifications}; {@code imageUrl} vuelve a la
+     * imagen por defecto). En los obligatorios, incluido {@code rating}, se rechaza con 400.
+     */
+    public ProductPatch toPatch(String id, JsonNode mergePatch) {
+        if (mergePatch == null || !mergePatch.isObject()) {
+            throw new InvalidProductException("Merge patch document must be a JSON object");
+        }
+
+        mergePatch.fieldNames().forEachRemaining(field -> {
+            if (!PATCHABLE_FIELDS.contains(field)) {
+                throw new InvalidProductException("Field cannot be patched: " + field);
+            }
+        });
+
+        return new ProductPatch(
+                new ProductId(id), // ID del path, no del documento
+                mergePatch.has("name") ? new ProductName(patchText(mergePatch, "name")) : null,
+                mergePatch.has("imageUrl") ? new ProductImageUrl(patchText(mergePatch, "imageUrl")) : null,
+                mergePatch.has("description") ? new ProductDescription(patchText(mergePatch, "description")) : null,
+                mergePatch.has("price") ? patchPrice(mergePatch) : null,
+                mergePatch.has("currency") ? patchCurrency(mergePatch) : null,
+                mergePatch.has("rating") ? patchRating(mergePatch) : null,
+                mergePatch.has("category") ? patchCategory(mergePatch) : null,
+                mergePatch.has("brand") ? new ProductBrand(patchText(mergePatch, "brand")) : null,
+                mergePatch.has("specifications") ? patchSpecifications(mergePatch) : null
+        );
+    }
+
+    private String patchText(JsonNode mergePatch, String field) {
+        JsonNode node = mergePatch.get(field);
+        if (node.isNull()) {
+            return null;
+        }
+        if (!node.isTextual()) {
+            throw new InvalidProductException(String.format("Field '%s' must be a string", field));
+        }
+        return node.textValue();
+    }
+
+    private BigDecimal patchPrice(JsonNode mergePatch) {
+        JsonNode node = mergePatch.get("price");
+        if (node.isNull()) {
+            throw new InvalidPriceException("Price value cannot be null");
+        }
+        if (node.isNumber()) {
+            return node.decimalValue();
+        }
+        if (node.isTextual()) {
+            return new BigDecimal(node.textValue());
+        }
+        throw new InvalidProductException("Field 'price' must be a number");
+    }
+
+    private Currency patchCurrency(JsonNode mergePatch) {
+        String currency = patchText(mergePatch, "currency");
+        if (currency == null) {
+            throw new InvalidPriceException("Price currency cannot be null");
+        }
+        return Currency.getInstance(currency);
+    }
+
+    private ProductRating patchRating(JsonNode mergePatch) {
+        JsonNode node = mergePatch.get("rating");
+        if (node.isNull()) {
+            // Todo producto tiene rating (los votos se promedian con él): no se puede eliminar
+            throw new InvalidRatingException("Cannot be removed; send a number between 0 and 5");
+        }
+        if (!node.isNumber()) {
+            throw new InvalidProductException("Field 'rating' must be a number");
+        }
+        return ProductRating.of(node.doubleValue());
+    }
+
+    private ProductCategory patchCategory(JsonNode mergePatch) {
+        String category = patchText(mergePatch, "category");
+        if (category == null) {
+            // La columna es obligatoria: no se permite eliminar la categoría
+            throw new InvalidCategoryException(null);
+        }
+        return new ProductCategory(category);
+    }
+
+    private ProductSpecificationsPatch patchSpecifications(JsonNode mergePatch) {
+        JsonNode node = mergePatch.get("specifications");
+        if (node.isNull()) {
+            return ProductSpecificationsPatch.removeAll();
+        }
+        if (!node.isObject()) {
+            throw new InvalidProductException("Field 'specifications' must be an object");
+        }
+
+        Map<String, String> changes = new LinkedHashMap<>();
+        node.properties().forEach(entry -> {
+            JsonNode value = entry.getValue();
+            if (!value.isNull() && !value.isTextual()) {
+                throw new InvalidProductException(
+                        String.format("Specification '%s' must be a string or null", entry.getKey()));
+            }
+            changes.put(entry.getKey(), value.isNull() ? null : value.textValue());
+        });
+        return ProductSpecificationsPatch.merge(changes);
+    }
+
+    public BulkDeleteResultDto toBulkDeleteResult(Collection<String> requestedIds, List<String> deletedIds) {
+        return toBulkDeleteResult(requestedIds, deletedIds, false);
+    }
+
+    public BulkDeleteResultDto toBulkDeleteResult(Collection<String> requestedIds, List<String> deletedIds,
+                                                  boolean moreRemaining) {
+        Set<String> deleted = new HashSet<>(deletedIds);
+        List<String> notFound = requestedIds == null ? List.of() : requestedIds.stream()
+                .filter(id -> !deleted.contains(id))
+                .distinct()
+                .toList();
+        return new BulkDeleteResultDto(deletedIds.size(), List.copyOf(deletedIds), notFound, moreRemaining);
+    }
+
+    public ProductFacetsDto toFacetsDto(ProductFacets facets) {
+        return new ProductFacetsDto(facets.total(), facets.categories(), facets.brands(),
+                facets.priceRanges(), facets.ratingRanges());
+    }
+
+    public CategoryTopProductsDto toTopProductsDto(CategoryTopProducts topProducts) {
+        return new CategoryTopProductsDto(
+                topProducts.topRated().stream().map(this::toDto).toList(),
+                topProducts.lowestPrice().stream().map(this::toDto).toList());
+    }
+
+    public ProductSuggestionDto toSuggestionDto(ProductSuggestion suggestion) {
+        return new ProductSuggestionDto(suggestion.text(), suggestion.type().name(), suggestion.productId(),
+                suggestion.rating());
+    }
+
+    /**
+     * Producto con solo los campos seleccionados, en el orden de {@link ProductDto}. Un campo pedido cuyo
+     * valor es {@code null} (una marca ausente) se incluye como {@code null}; uno no pedido no aparece.
+     */
+    public Map<String, Object> toSparseDto(ProductProjection projection) {
+        Map<String, Object> dto = new LinkedHashMap<>();
+        for (ProductField field : ProductField.values()) {
+            if (projection.fields().contains(field)) {
+                dto.put(field.fieldName(), switch (field) {
+                    case ID -> projection.id();
+                    case NAME -> projection.name();
+                    case IMAGE_URL -> projection.imageUrl();
+                    case DESCRIPTION -> projection.description();
+                    case PRICE -> projection.price();
+                    case CURRENCY -> projection.currency();
+                    case RATING -> projection.rating();
+                    case CATEGORY -> projection.category();
+                    case BRAND -> projection.brand();
+                    case SPECIFICATIONS -> projection.specifications();
+                });
+            }
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,9 @@
+package com.linktic.challenge.products.application.port.in;
+
+import com.linktic.challenge.products.domain.model.ProductSuggestion;
+
+import java.util.List;
+
+public interface ProductAutocompleteUseCase {
+    List<ProductSuggestion> suggest(String prefix, int limit);
+}
@@ -2,9 +2,18 @@ package com.linktic.challenge.products.application.port.in;
 
 
 import com.linktic.challenge.products.domain.model.Product;
+import com.linktic.challenge.products.domain.model.ProductPatch;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ProductManagementUseCase {
     Product createProduct(Product product);
     Product updateProduct(Product product);
+    Product patchProduct(ProductPatch patch);
     void deleteProduct(String id);
+    void deleteProduct(String id, Long expectedVersion);
+    List<String> deleteProducts(Collection<String> ids);
+    // Hasta limit productos por llamada, en una transacción: el llamador repite mientras retorne limit
+    List<String> deleteProductsByCategory(String category, int limit);
 }
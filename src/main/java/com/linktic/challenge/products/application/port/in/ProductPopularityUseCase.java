@@ -0,0 +1,5 @@
+package com.linktic.challenge.products.application.port.in;
+
+public interface ProductPopularityUseCase {
+    void recordView(String productId);
+}
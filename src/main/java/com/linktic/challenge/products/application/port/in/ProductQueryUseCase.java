@@ -1,10 +1,20 @@
 package com.linktic.challenge.products.application.port.in;
 
 import com.linktic.challenge.products.domain.model.Product;
+import com.linktic.challenge.products.domain.model.ProductFacets;
+import com.linktic.challenge.products.domain.model.ProductField;
+import com.linktic.challenge.products.domain.model.ProductFilter;
+import com.linktic.challenge.products.domain.model.ProductProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Set;
+
 public interface ProductQueryUseCase {
     Product findById(String id);
     Page<Product> findAllProducts(Pageable pageable);
+    Page<Product> findAllProducts(ProductFilter filter, Pageable pageable);
+    ProductProjection findById(String id, Set<ProductField> fields);
+    Page<ProductProjection> findAllProducts(ProductFilter filter, Set<ProductField> fields, Pageable pageable);
+    ProductFacets countFacets(ProductFilter filter);
 }
@@ -0,0 +1,9 @@
+package com.linktic.challenge.products.application.port.in;
+
+import com.linktic.challenge.products.domain.model.CategoryTopProducts;
+
+import java.util.SortedMap;
+
+public interface ProductRankingUseCase {
+    SortedMap<String, CategoryTopProducts> topProductsByCategory(int limit);
+}
@@ -0,0 +1,7 @@
+package com.linktic.challenge.products.application.port.in;
+
+import com.linktic.challenge.products.domain.model.ProductRating;
+
+public interface ProductRatingUseCase {
+    void submitVote(String productId, ProductRating score);
+}
@@ -3,7 +3,16 @@ package com.linktic.challenge.products.application.usecase;
 import com.linktic.challenge.products.application.port.in.ProductManagementUseCase;
 import com.linktic.challenge.products.application.port.in.ProductQueryUseCase;
 import com.linktic.challenge.products.domain.exception.entity.ProductNotFoundException;
+import com.linktic.challenge.products.domain.exception.entity.ProductVersionConflictException;
+import com.linktic.challenge.products.domain.exception.valueobject.InvalidCategoryException;
 import com.linktic.challenge.products.domain.model.Product;
+import com.linktic.challenge.products.domain.model.ProductCategory;
+import com.linktic.challenge.products.domain.model.ProductFacets;
+import com.linktic.challenge.products.domain.model.ProductField;
+import com.linktic.challenge.products.domain.model.ProductFilter;
+import com.linktic.challenge.products.domain.model.ProductId;
+import com.linktic.challenge.products.domain.model.ProductPatch;
+import com.linktic.challenge.products.domain.model.ProductProjection;
 import com.linktic.challenge.products.domain.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +20,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -28,6 +41,27 @@ public class ProductUseCaseImpl implements ProductQueryUseCase, ProductManagemen
         return productRepository.findAll(pageable);
     }
 
+    @Override
+    public Page<Product> findAllProducts(ProductFilter filter, Pageable pageable) {
+        return filter.isEmpty() ? productRepository.findAll(pageable) : productRepository.findAll(filter, pageable);
+    }
+
+    @Override
+    public ProductProjection findById(String id, Set<ProductField> fields) {
+        return productRepository.findById(id, fields)
+                .orElseThrow(() -> new ProductNotFoundException("Product not found with id: " + id));
+    }
+
+    @Override
+    public Page<ProductProjection> findAllProducts(ProductFilter filter, Set<ProductField> fields, Pageable pageable) {
+        return productRepository.findAll(filter, fields, pageable);
+    }
+
+    @Override
+    public ProductFacets countFacets(ProductFilter filter) {
+        return productRepository.countFacets(filter);
+    }
+
     @Override
     public Product createProduct(Product product) {
         return productRepository.save(product);
@@ -38,8 +72,51 @@ public class ProductUseCaseImpl implements ProductQueryUseCase, ProductManagemen
         return productRepository.update(product);
     }
 
+    @Override
+    public Product patchProduct(ProductPatch patch) {
+        if (patch.isEmpty()) {
+            Product current = findById(patch.id().value());
+            if (patch.expectedVersion() != null && !patch.expectedVersion().equals(current.version())) {
+                throw new ProductVersionConflictException(patch.id().value(), patch.expectedVersion(), current.version());
+            }
+            return current;
+        }
+        return productRepository.patch(patch);
+    }
+
     @Override
     public void deleteProduct(String id) {
         productRepository.deleteById(id);
     }
+
+    @Override
+    public void deleteProduct(String id, Long expectedVersion) {
+        productRepository.deleteById(id, expectedVersion);
+    }
+
+    @Override
+    public List<String> deleteProducts(Collection<String> ids) {
+        // Valida el formato de cada ID antes de enviarlos a la base de datos
+        List<String> validIds = ids.stream()
+                .map(ProductId::new)
+                .map(ProductId::value)
+                .distinct()
+                .toList();
+
+        List<String> deletedIds = productRepository.deleteAllById(validIds);
+        log.info("Eliminación masiva por IDs: {} solicitados, {} eliminados", validIds.size(), deletedIds.size());
+        return deletedIds;
+    }
+
+    @Override
+    public List<String> deleteProductsByCategory(String category, int limit) {
+        if (category == null) {
+            throw new InvalidCategoryException("Category is required for bulk delete");
+        }
+        String categoryValue = new ProductCategory(category).value();
+
+        List<String> deletedIds = productRepository.deleteByCategory(categoryValue, limit);
+        log.info("Eliminación masiva por categoría '{}': {} eliminados", categoryValue, deletedIds.size());
+        return deletedIds;
+    }
 }
@@ -0,0 +1,25 @@
+package com.linktic.challenge.products.domain.exception.entity;
+
+import lombok.Getter;
+
+@Getter
+public class ProductVersionConflictException extends ProductEntityException {
+    private final String productId;
+    private final Long expectedVersion;
+    private final Long currentVersion;
+
+    public ProductVersionConflictException(String productId, Long expectedVersion, Long currentVersion) {
+        super("Product " + productId + " version mismatch: expected " + expectedVersion + " but was " + currentVersion);
+        this.productId = productId;
+        this.expectedVersion = expectedVersion;
+        this.currentVersion = currentVersion;
+    }
+
+    // Precondición que nunca puede cumplirse (p. ej. un ETag débil en If-Match): no hay versión que comparar
+    public ProductVersionConflictException(String productId, String message) {
+        super(message);
+        this.productId = productId;
+        this.expectedVersion = null;
+        this.currentVersion = null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.linktic.challenge.products.domain.model;
+
+import java.util.List;
+
+/**
+ * Productos destacados de una categoría: los de mayor rating y los de menor precio.
+ */
+public record CategoryTopProducts(List<Product> topRated, List<Product> lowestPrice) {
+    public CategoryTopProducts {
+        topRated = List.copyOf(topRated);
+        lowestPrice = List.copyOf(lowestPrice);
+    }
+}
@@ -1,5 +1,11 @@
 package com.linktic.challenge.products.domain.model;
 
+/**
+ * Producto del catálogo.
+ *
+ * <p>{@code version} es la versión persistida que se usa para el control de concurrencia
+ * optimista; es {@code null} en productos que aún no existen o cuando no se conoce la versión.</p>
+ */
 public record Product(
         ProductId id,
         ProductName name,
@@ -9,5 +15,22 @@ public record Product(
         ProductRating rating,
         ProductCategory category,
         ProductBrand brand,
-        ProductSpecifications specifications
-) { }
+        ProductSpecifications specifications,
+        Long version
+) {
+    public Product(ProductId id,
+                   ProductName name,
+                   ProductImageUrl imageUrl,
+                   ProductDescription description,
+                   ProductPrice price,
+                   ProductRating rating,
+                   ProductCategory category,
+                   ProductBrand brand,
+                   ProductSpecifications specifications) {
+        this(id, name, imageUrl, description, price, rating, category, brand, specifications, null);
+    }
+
+    public Product withVersion(Long version) {
+        return new Product(id, name, imageUrl, description, price, rating, category, brand, specifications, version);
+    }
+}
@@ -0,0 +1,56 @@
+package com.linktic.challenge.products.domain.model;
+
+import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Rangos fijos de precio y rating usados como facetas. Cada producto cae en exactamente un rango
+ * de cada tipo; el límite inferior es inclusivo y el superior exclusivo, salvo el último rango de
+ * rating, que incluye el 5.
+ */
+public final class ProductFacetRanges {
+
+    /** Umbrales de precio; el rango {@code i} cubre los precios con {@code i} umbrales menores o iguales. */
+    public static final List<BigDecimal> PRICE_BOUNDS = List.of(
+            new BigDecimal("50"), new BigDecimal("100"), new BigDecimal("250"),
+            new BigDecimal("500"), new BigDecimal("1000"));
+
+    public static final List<String> PRICE_RANGES = List.of(
+            "0-50", "50-100", "100-250", "250-500", "500-1000", "1000+");
+
+    public static final List<String> RATING_RANGES = List.of("0-1", "1-2", "2-3", "3-4", "4-5");
+
+    private ProductFacetRanges() {
+    }
+
+    public static int priceRangeIndex(BigDecimal price) {
+        int index = 0;
+        while (index < PRICE_BOUNDS.size() && price.compareTo(PRICE_BOUNDS.get(index)) >= 0) {
+            index++;
+        }
+        return index;
+    }
+
+    public static int ratingRangeIndex(double rating) {
+        return (int) Math.min(Math.floor(rating), RATING_RANGES.size() - 1);
+    }
+
+    public static int priceRangeIndex(String label) {
+        return indexOf(PRICE_RANGES, label, "price");
+    }
+
+    public static int ratingRangeIndex(String label) {
+        return indexOf(RATING_RANGES, label, "rating");
+    }
+
+    private static int indexOf(List<String> labels, String label, String facet) {
+        int index = labels.indexOf(label);
+        if (index < 0) {
+            throw new InvalidProductException(
+                    String.format("Unknown %s range '%s', expected one of %s", facet, label, labels));
+        }
+        return index;
+    }
+}
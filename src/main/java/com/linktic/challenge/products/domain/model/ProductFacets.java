@@ -0,0 +1,46 @@
+package com.linktic.challenge.products.domain.model;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Conteos por faceta para un {@link ProductFilter}.
+ *
+ * <p>{@code total} aplica el filtro completo. Cada faceta se cuenta con el filtro de las demás, sin
+ * el suyo, para que el cliente vea cuántos resultados obtendría al agregar otro valor de la misma
+ * faceta. Los valores sin productos se omiten.</p>
+ */
+public record ProductFacets(
+        long total,
+        Map<String, Long> categories,
+        Map<String, Long> brands,
+        Map<String, Long> priceRanges,
+        Map<String, Long> ratingRanges
+) {
+    public ProductFacets {
+        categories = ordered(categories);
+        brands = ordered(brands);
+        priceRanges = ordered(priceRanges);
+        ratingRanges = ordered(ratingRanges);
+    }
+
+    /**
+     * Ordena los conteos de mayor a menor; a igual cantidad, por valor. Se usa para categorías y
+     * marcas, mientras que los rangos conservan su orden natural.
+     */
+    public static Map<String, Long> byCountDescending(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    // Conserva el orden de inserción (los rangos, de menor a mayor)
+    private static Map<String, Long> ordered(Map<String, Long> counts) {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(counts));
+    }
+}
@@ -0,0 +1,60 @@
+package com.linktic.challenge.products.domain.model;
+
+import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Campo de un producto seleccionable con {@code fields=} en las lecturas. El nombre es el de la
+ * respuesta JSON y el del atributo de la entidad.
+ */
+public enum ProductField {
+    ID("id"),
+    NAME("name"),
+    IMAGE_URL("imageUrl"),
+    DESCRIPTION("description"),
+    PRICE("price"),
+    CURRENCY("currency"),
+    RATING("rating"),
+    CATEGORY("category"),
+    BRAND("brand"),
+    SPECIFICATIONS("specifications");
+
+    private static final Map<String, ProductField> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(ProductField::fieldName, Function.identity()));
+
+    private final String fieldName;
+
+    ProductField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Campos pedidos más el ID, que siempre se incluye para poder referenciar el producto.
+     */
+    public static Set<ProductField> parse(Collection<String> names) {
+        Set<ProductField> fields = EnumSet.of(ID);
+        for (String name : names) {
+            if (name.isBlank()) {
+                continue;
+            }
+            ProductField field = BY_NAME.get(name.strip());
+            if (field == null) {
+                throw new InvalidProductException(String.format(
+                        "Unknown field '%s', selectable fields are %s", name, BY_NAME.keySet().stream().sorted().toList()));
+            }
+            fields.add(field);
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,51 @@
+package com.linktic.challenge.products.domain.model;
+
+import java.util.Set;
+
+/**
+ * Filtro del listado por facetas. Dentro de una faceta los valores se combinan con OR y entre
+ * facetas con AND; un conjunto vacío no filtra esa faceta.
+ *
+ * <p>Los rangos de precio y rating usan las etiquetas de {@link ProductFacetRanges}.</p>
+ */
+public record ProductFilter(
+        Set<String> categories,
+        Set<String> brands,
+        Set<String> priceRanges,
+        Set<String> ratingRanges
+) {
+    private static final ProductFilter NONE = new ProductFilter(Set.of(), Set.of(), Set.of(), Set.of());
+
+    public ProductFilter {
+        categories = categories == null ? Set.of() : Set.copyOf(categories);
+        brands = brands == null ? Set.of() : Set.copyOf(brands);
+        priceRanges = priceRanges == null ? Set.of() : Set.copyOf(priceRanges);
+        ratingRanges = ratingRanges == null ? Set.of() : Set.copyOf(ratingRanges);
+        priceRanges.forEach(ProductFacetRanges::priceRangeIndex);
+        ratingRanges.forEach(ProductFacetRanges::ratingRangeIndex);
+    }
+
+    public static ProductFilter none() {
+        return NONE;
+    }
+
+    public boolean isEmpty() {
+        return categories.isEmpty() && brands.isEmpty() && priceRanges.isEmpty() && ratingRanges.isEmpty();
+    }
+
+    public ProductFilter withoutCategories() {
+        return new ProductFilter(Set.of(), brands, priceRanges, ratingRanges);
+    }
+
+    public ProductFilter withoutBrands() {
+        return new ProductFilter(categories, Set.of(), priceRanges, ratingRanges);
+    }
+
+    public ProductFilter withoutPriceRanges() {
+        return new ProductFilter(categories, brands, Set.of(), ratingRanges);
+    }
+
+    public ProductFilter withoutRatingRanges() {
+        return new ProductFilter(categories, brands, priceRanges, Set.of());
+    }
+}
@@ -0,0 +1,70 @@
+package com.linktic.challenge.products.domain.model;
+
+import com.linktic.challenge.products.domain.exception.valueobject.InvalidPriceException;
+import com.linktic.challenge.products.domain.exception.valueobject.InvalidProductIdException;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+/**
+ * Actualización parcial de un producto.
+ *
+ * <p>Un componente {@code null} significa "no enviado" y deja la columna intacta. El precio y la
+ * moneda se modelan por separado para permitir cambiar solo el importe conservando la moneda
+ * almacenada.</p>
+ *
+ * <p>{@code expectedVersion} es la versión que el cliente declaró con {@code If-Match}; si es
+ * {@code null} el patch se aplica sobre la versión vigente.</p>
+ */
+public record ProductPatch(
+        ProductId id,
+        ProductName name,
+        ProductImageUrl imageUrl,
+        ProductDescription description,
+        BigDecimal price,
+        Currency currency,
+        ProductRating rating,
+        ProductCategory category,
+        ProductBrand brand,
+        ProductSpecificationsPatch specifications,
+        Long expectedVersion
+) {
+    public ProductPatch {
+        if (id == null) {
+            throw new InvalidProductIdException("Product id cannot be null");
+        }
+        if (price != null && price.compareTo(BigDecimal.ZERO) < 0) {
+            throw new InvalidPriceException("Price must be non-negative");
+        }
+    }
+
+    public ProductPatch(ProductId id,
+                        ProductName name,
+                        ProductImageUrl imageUrl,
+                        ProductDescription description,
+                        BigDecimal price,
+                        Currency currency,
+                        ProductRating rating,
+                        ProductCategory category,
+                        ProductBrand brand,
+                        ProductSpecificationsPatch specifications) {
+        this(id, name, imageUrl, description, price, currency, rating, category, brand, specifications, null);
+    }
+
+    public ProductPatch withExpectedVersion(Long expectedVersion) {
+        return new ProductPatch(id, name, imageUrl, description, price, currency, rating, category, brand,
+                specifications, expectedVersion);
+    }
+
+    public boolean isEmpty() {
+        return name == null
+                && imageUrl == null
+                && description == null
+                && price == null
+                && currency == null
+                && rating == null
+                && category == null
+                && brand == null
+                && specifications == null;
+    }
+}
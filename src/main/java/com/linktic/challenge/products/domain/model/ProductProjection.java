@@ -0,0 +1,46 @@
+package com.linktic.challenge.products.domain.model;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Producto leído solo con los campos de {@code fields}; los demás componentes quedan en {@code null}.
+ * A diferencia de {@link Product} no valida invariantes: es una vista de lectura, no una entidad.
+ *
+ * @param version siempre presente, para el {@code ETag} de la lectura por ID
+ */
+public record ProductProjection(
+        Set<ProductField> fields,
+        String id,
+        String name,
+        String imageUrl,
+        String description,
+        BigDecimal price,
+        String currency,
+        Double rating,
+        String category,
+        String brand,
+        Map<String, String> specifications,
+        Long version
+) {
+    public ProductProjection {
+        fields = Set.copyOf(fields);
+    }
+
+    public static ProductProjection of(Product product, Set<ProductField> fields) {
+        return new ProductProjection(
+                fields,
+                product.id().value(),
+                fields.contains(ProductField.NAME) ? product.name().value() : null,
+                fields.contains(ProductField.IMAGE_URL) ? product.imageUrl().value() : null,
+                fields.contains(ProductField.DESCRIPTION) ? product.description().value() : null,
+                fields.contains(ProductField.PRICE) ? product.price().value() : null,
+                fields.contains(ProductField.CURRENCY) ? product.price().currency().getCurrencyCode() : null,
+                fields.contains(ProductField.RATING) && product.rating() != null ? product.rating().value() : null,
+                fields.contains(ProductField.CATEGORY) ? product.category().value() : null,
+                fields.contains(ProductField.BRAND) && product.brand() != null ? product.brand().value() : null,
+                fields.contains(ProductField.SPECIFICATIONS) ? product.specifications().specs() : null,
+                product.version());
+    }
+}
@@ -0,0 +1,22 @@
+package com.linktic.challenge.products.domain.model;
+
+import com.linktic.challenge.products.domain.exception.valueobject.InvalidRatingException;
+
+import java.math.BigDecimal;
+
+/**
+ * Votos de rating acumulados para un producto desde el último volcado.
+ *
+ * @param count cantidad de votos
+ * @param sum   suma de las puntuaciones votadas
+ */
+public record ProductRatingVotes(String productId, long count, BigDecimal sum) {
+    public ProductRatingVotes {
+        if (count <= 0) {
+            throw new InvalidRatingException("Vote count must be positive");
+        }
+        if (sum == null || sum.signum() < 0) {
+            throw new InvalidRatingException("Vote sum must be non-negative");
+        }
+    }
+}
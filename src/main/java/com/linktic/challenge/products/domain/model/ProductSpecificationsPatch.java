@@ -0,0 +1,84 @@
+package com.linktic.challenge.products.domain.model;
+
+import com.linktic.challenge.products.domain.exception.valueobject.InvalidSpecificationsException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cambios sobre las especificaciones de un producto con semántica JSON Merge Patch (RFC 7396).
+ *
+ * <p>Una clave con valor {@code null} elimina la especificación; cualquier otro valor la crea
+ * o la reemplaza. Con {@code replaceAll} las especificaciones actuales se descartan antes de
+ * aplicar los cambios.</p>
+ *
+ * <p>Claves y valores se recortan antes de validarlos y guardarlos, así lo validado es lo que se escribe;
+ * dos claves que quedan iguales al recortarlas son un error.</p>
+ */
+public record ProductSpecificationsPatch(Map<String, String> changes, boolean replaceAll) {
+
+    public ProductSpecificationsPatch {
+        Map<String, String> normalized = new LinkedHashMap<>();
+        Map<String, String> upserts = new HashMap<>();
+
+        if (changes != null) {
+            changes.forEach((key, value) -> {
+                if (key == null) {
+                    throw new InvalidSpecificationsException("Specification key cannot be null");
+                }
+                String trimmedKey = key.trim();
+                if (trimmedKey.isEmpty()) {
+                    throw new InvalidSpecificationsException("Specification key or value cannot be empty");
+                }
+                if (normalized.containsKey(trimmedKey)) {
+                    throw new InvalidSpecificationsException("Duplicate specification key after trimming: " + trimmedKey);
+                }
+                String trimmedValue = value == null ? null : value.trim();
+                normalized.put(trimmedKey, trimmedValue);
+                if (trimmedValue != null) {
+                    upserts.put(trimmedKey, trimmedValue);
+                }
+            });
+        }
+
+        // Valida longitudes y vacíos de las claves y valores ya recortados que se van a escribir
+        new ProductSpecifications(upserts);
+
+        changes = Collections.unmodifiableMap(normalized);
+    }
+
+    public static ProductSpecificationsPatch merge(Map<String, String> changes) {
+        return new ProductSpecificationsPatch(changes, false);
+    }
+
+    public static ProductSpecificationsPatch replaceWith(Map<String, String> specs) {
+        return new ProductSpecificationsPatch(specs, true);
+    }
+
+    public static ProductSpecificationsPatch removeAll() {
+        return new ProductSpecificationsPatch(Map.of(), true);
+    }
+
+    /**
+     * Aplica los cambios sobre las especificaciones actuales y valida el resultado completo
+     * (por ejemplo, el máximo de especificaciones por producto).
+     */
+    public ProductSpecifications applyTo(Map<String, String> current) {
+        Map<String, String> result = new LinkedHashMap<>();
+        if (!replaceAll && current != null) {
+            result.putAll(current);
+        }
+
+        changes.forEach((key, value) -> {
+            if (value == null) {
+                result.remove(key);
+            } else {
+                result.put(key, value);
+            }
+        });
+
+        return new ProductSpecifications(result);
+    }
+}
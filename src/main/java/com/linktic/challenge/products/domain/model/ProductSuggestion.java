@@ -0,0 +1,15 @@
+package com.linktic.challenge.products.domain.model;
+
+/**
+ * Sugerencia de autocompletado: el nombre de un producto o una marca.
+ *
+ * @param productId producto sugerido; {@code null} en las marcas
+ * @param rating    rating del producto, o el mayor rating entre los productos de la marca
+ */
+public record ProductSuggestion(String text, Type type, String productId, double rating) {
+
+    public enum Type {
+        NAME,
+        BRAND
+    }
+}
@@ -0,0 +1,11 @@
+package com.linktic.challenge.products.domain.repository;
+
+import java.util.Map;
+
+public interface ProductPopularityRepository {
+    /**
+     * Acumula puntuaciones de popularidad, expresadas en escala logarítmica, a cada producto.
+     * Los productos que ya no existen se ignoran.
+     */
+    void addPopularity(Map<String, Double> scoresByProductId);
+}
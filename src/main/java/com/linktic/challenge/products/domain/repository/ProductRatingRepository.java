@@ -0,0 +1,15 @@
+package com.linktic.challenge.products.domain.repository;
+
+import com.linktic.challenge.products.domain.model.ProductRatingVotes;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductRatingRepository {
+    /**
+     * Suma los votos a los acumulados de cada producto y recalcula su rating.
+     *
+     * @return IDs de los productos actualizados; los que ya no existen se omiten
+     */
+    List<String> applyVotes(Collection<ProductRatingVotes> votes);
+}
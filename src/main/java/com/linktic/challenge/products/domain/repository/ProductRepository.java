@@ -1,10 +1,18 @@
 package com.linktic.challenge.products.domain.repository;
 
 import com.linktic.challenge.products.domain.model.Product;
+import com.linktic.challenge.products.domain.model.ProductFacets;
+import com.linktic.challenge.products.domain.model.ProductField;
+import com.linktic.challenge.products.domain.model.ProductFilter;
+import com.linktic.challenge.products.domain.model.ProductPatch;
+import com.linktic.challenge.products.domain.model.ProductProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ProductRepository {
 
@@ -12,11 +20,33 @@ public interface ProductRepository {
 
     Page<Product> findAll(Pageable pageable);
 
+    Page<Product> findAll(ProductFilter filter, Pageable pageable);
+
+    // Lecturas que solo traen de la base las columnas de los campos pedidos
+    Optional<ProductProjection> findById(String id, Set<ProductField> fields);
+
+    Page<ProductProjection> findAll(ProductFilter filter, Set<ProductField> fields, Pageable pageable);
+
+    ProductFacets countFacets(ProductFilter filter);
+
     Product save(Product product);
 
     Product update(Product product);
 
+    Product patch(ProductPatch patch);
+
     void deleteById(String id);
 
+    void deleteById(String id, Long expectedVersion);
+
+    List<String> deleteAllById(Collection<String> ids);
+
+    /**
+     * Elimina hasta {@code limit} productos de la categoría en una sola transacción.
+     *
+     * @return IDs eliminados; si son {@code limit}, puede quedar más en la categoría
+     */
+    List<String> deleteByCategory(String category, int limit);
+
     boolean existsById(String id);
 }
\ No newline at end of file
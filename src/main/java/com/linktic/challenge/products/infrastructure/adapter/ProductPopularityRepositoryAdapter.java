@@ -0,0 +1,30 @@
+package com.linktic.challenge.products.infrastructure.adapter;
+
+import com.linktic.challenge.products.domain.repository.ProductPopularityRepository;
+import com.linktic.challenge.products.infrastructure.persistence.repository.ProductJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * La popularidad no forma parte de la representación del producto: no cambia la versión ni genera
+ * eventos de outbox o avisos de invalidación.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductPopularityRepositoryAdapter implements ProductPopularityRepository {
+    private final ProductJpaRepository productJpaRepository;
+
+    @Override
+    @Transactional
+    public void addPopularity(Map<String, Double> scoresByProductId) {
+        if (scoresByProductId.isEmpty()) {
+            return;
+        }
+        productJpaRepository.addPopularity(
+                scoresByProductId.keySet().toArray(String[]::new),
+                scoresByProductId.values().toArray(Double[]::new));
+    }
+}
@@ -0,0 +1,52 @@
+package com.linktic.challenge.products.infrastructure.adapter;
+
+import com.linktic.challenge.products.domain.model.ProductRatingVotes;
+import com.linktic.challenge.products.domain.repository.ProductRatingRepository;
+import com.linktic.challenge.products.infrastructure.invalidation.LocalProductInvalidationPublisher;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidationNotifier;
+import com.linktic.challenge.products.infrastructure.outbox.ProductOutboxWriter;
+import com.linktic.challenge.products.infrastructure.persistence.repository.ProductJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductRatingRepositoryAdapter implements ProductRatingRepository {
+    private final ProductJpaRepository productJpaRepository;
+    private final ProductOutboxWriter productOutboxWriter;
+    private final ProductInvalidationNotifier productInvalidationNotifier;
+    private final LocalProductInvalidationPublisher localProductInvalidationPublisher;
+
+    @Override
+    @Transactional
+    public List<String> applyVotes(Collection<ProductRatingVotes> votes) {
+        if (votes.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object[]> rows = productJpaRepository.applyRatingVotesReturningVersions(
+                votes.stream().map(ProductRatingVotes::productId).toArray(String[]::new),
+                votes.stream().map(ProductRatingVotes::count).toArray(Long[]::new),
+                votes.stream().map(ProductRatingVotes::sum).toArray(BigDecimal[]::new));
+
+        Map<String, Long> versionsByProductId = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            versionsByProductId.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        List<String> updatedIds = new ArrayList<>(versionsByProductId.keySet());
+        productOutboxWriter.updated(versionsByProductId);
+        productInvalidationNotifier.productsChanged(updatedIds);
+        // El volcado no pasa por ProductManagementUseCase: los motores en memoria de esta instancia
+        // releen los productos tras el commit aunque el aviso entre instancias esté desactivado
+        localProductInvalidationPublisher.productsChanged(updatedIds);
+        return updatedIds;
+    }
+}
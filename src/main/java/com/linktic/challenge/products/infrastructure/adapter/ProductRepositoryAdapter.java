@@ -1,38 +1,91 @@
 package com.linktic.challenge.products.infrastructure.adapter;
 
 import com.linktic.challenge.products.domain.exception.entity.ProductAlreadyExistsException;
+import com.linktic.challenge.products.domain.exception.ProductDomainException;
 import com.linktic.challenge.products.domain.exception.entity.ProductNotFoundException;
+import com.linktic.challenge.products.domain.exception.entity.ProductVersionConflictException;
 import com.linktic.challenge.products.domain.model.Product;
+import com.linktic.challenge.products.domain.model.ProductFacets;
+import com.linktic.challenge.products.domain.model.ProductField;
+import com.linktic.challenge.products.domain.model.ProductFilter;
+import com.linktic.challenge.products.domain.model.ProductPatch;
+import com.linktic.challenge.products.domain.model.ProductProjection;
 import com.linktic.challenge.products.domain.repository.ProductRepository;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidationNotifier;
+import com.linktic.challenge.products.infrastructure.outbox.ProductOutboxWriter;
 import com.linktic.challenge.products.infrastructure.persistence.entity.ProductEntity;
 import com.linktic.challenge.products.infrastructure.persistence.mapper.ProductEntityMapper;
+import com.linktic.challenge.products.infrastructure.persistence.repository.ProductFilterSpecification;
 import com.linktic.challenge.products.infrastructure.persistence.repository.ProductJpaRepository;
+import com.linktic.challenge.products.infrastructure.timing.RequestStage;
+import com.linktic.challenge.products.infrastructure.timing.RequestTimings;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
 public class ProductRepositoryAdapter implements ProductRepository {
     private final ProductJpaRepository productJpaRepository;
     private final ProductEntityMapper productMapper;
+    private final ProductOutboxWriter productOutboxWriter; // cada escritura deja su evento en la misma transacción
+    private final ProductInvalidationNotifier productInvalidationNotifier; // avisa a las demás instancias al confirmar
 
+    // Las lecturas son readOnly: con la réplica habilitada se atienden desde ella
     @Override
+    @Transactional(readOnly = true)
     public Optional<Product> findById(String id) {
         return productJpaRepository.findById(id)
-                .map(productMapper::toDomain);
+                .map(entity -> RequestTimings.time(RequestStage.ENTITY_MAPPING, () -> productMapper.toDomain(entity)));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Product> findAll(Pageable pageable) {
-        return productJpaRepository.findAll(pageable)
-                .map(productMapper::toDomain);
+        Page<ProductEntity> entities = productJpaRepository.findAll(pageable);
+        // incluye la carga diferida de especificaciones que dispara el mapeo
+        return RequestTimings.time(RequestStage.ENTITY_MAPPING, () -> entities.map(productMapper::toDomain));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Page<Product> findAll(ProductFilter filter, Pageable pageable) {
+        Page<ProductEntity> entities = productJpaRepository.findAll(ProductFilterSpecification.matching(filter), pageable);
+        return RequestTimings.time(RequestStage.ENTITY_MAPPING, () -> entities.map(productMapper::toDomain));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ProductProjection> findById(String id, Set<ProductField> fields) {
+        Page<ProductProjection> projected = productJpaRepository.findProjected(
+                (root, query, cb) -> cb.equal(root.get("id"), id), fields, PageRequest.ofSize(1));
+        return projected.stream().findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProductProjection> findAll(ProductFilter filter, Set<ProductField> fields, Pageable pageable) {
+        return productJpaRepository.findProjected(ProductFilterSpecification.matching(filter), fields, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductFacets countFacets(ProductFilter filter) {
+        return productJpaRepository.countFacets(filter);
+    }
+
+    @Override
+    @Transactional
     public Product save(Product product) {
         // ✅ Extraer el valor del Value Object ProductName
         String productNameValue = product.name().value();
@@ -44,16 +97,24 @@ public class ProductRepositoryAdapter implements ProductRepository {
 
         ProductEntity entity = productMapper.toEntity(product);
         ProductEntity savedEntity = productJpaRepository.save(entity);
+        productOutboxWriter.created(savedEntity.getId(), savedEntity.getVersion());
+        productInvalidationNotifier.productChanged(savedEntity.getId());
         return productMapper.toDomain(savedEntity);
     }
 
     @Override
+    @Transactional
     public Product update(Product product) {
         // Validar primero que el ID no sea nulo
         if (product.id() == null) {
             throw new ProductNotFoundException("null");
         }
 
+        // El cliente ya conoce la versión (If-Match): una sola sentencia, sin leer antes
+        if (product.version() != null) {
+            return updateIfVersionMatches(product);
+        }
+
         String productId = product.id().value();
         String productNameValue = product.name().value(); // ✅ Extraer valor
 
@@ -70,20 +131,140 @@ public class ProductRepositoryAdapter implements ProductRepository {
         // Actualizar la entidad existente
         productMapper.updateEntityFromDomain(product, existingEntity);
 
-        // Guardar la entidad actualizada
+        // Guardar la entidad actualizada; el flush incrementa la versión antes de construir la respuesta
         ProductEntity updatedEntity = productJpaRepository.save(existingEntity);
+        productJpaRepository.flush();
+        productOutboxWriter.updated(productId, updatedEntity.getVersion());
+        productInvalidationNotifier.productChanged(productId);
         return productMapper.toDomain(updatedEntity);
     }
 
+    private Product updateIfVersionMatches(Product product) {
+        String productId = product.id().value();
+
+        int updatedRows = productJpaRepository.updateIfVersionMatches(productMapper.toEntity(product));
+        if (updatedRows == 0) {
+            throw resolveUpdateFailure(product);
+        }
+
+        Map<String, String> specs = product.specifications() != null ? product.specifications().specs() : Map.of();
+        String[] keys = specs.keySet().toArray(String[]::new);
+        String[] values = specs.values().toArray(String[]::new);
+
+        productJpaRepository.deleteSpecificationsNotIn(productId, keys);
+        if (keys.length > 0) {
+            productJpaRepository.upsertSpecifications(productId, keys, values);
+        }
+
+        // PUT reemplaza el recurso completo: el resultado es lo enviado con la versión siguiente
+        Long newVersion = product.version() + 1;
+        productOutboxWriter.updated(productId, newVersion);
+        productInvalidationNotifier.productChanged(productId);
+        return product.withVersion(newVersion);
+    }
+
+    // Camino frío: solo se consulta cuando el UPDATE no afectó filas
+    private ProductDomainException resolveUpdateFailure(Product product) {
+        String productId = product.id().value();
+        Optional<Long> currentVersion = productJpaRepository.findVersionById(productId);
+
+        if (currentVersion.isEmpty()) {
+            return new ProductNotFoundException(productId);
+        }
+        if (!currentVersion.get().equals(product.version())) {
+            return new ProductVersionConflictException(productId, product.version(), currentVersion.get());
+        }
+        return new ProductAlreadyExistsException(product.name().value());
+    }
+
+    @Override
+    @Transactional
+    public Product patch(ProductPatch patch) {
+        String productId = patch.id().value();
+
+        // Una sola consulta: producto + especificaciones (necesarias para el diff y la respuesta)
+        ProductEntity existingEntity = productJpaRepository.findWithSpecificationsById(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+
+        // If-Match: la comprobación definitiva la hace @Version en el UPDATE (WHERE version = ?)
+        if (patch.expectedVersion() != null && !patch.expectedVersion().equals(existingEntity.getVersion())) {
+            throw new ProductVersionConflictException(productId, patch.expectedVersion(), existingEntity.getVersion());
+        }
+
+        if (patch.name() != null) {
+            String productNameValue = patch.name().value();
+            if (!existingEntity.getName().equals(productNameValue) &&
+                    productJpaRepository.existsByNameAndIdNot(productNameValue, productId)) {
+                throw new ProductAlreadyExistsException(productNameValue);
+            }
+        }
+
+        // Solo se tocan los campos enviados; @DynamicUpdate limita el UPDATE a las columnas modificadas
+        // y el flush anticipado deja la versión incrementada en la respuesta
+        Long previousVersion = existingEntity.getVersion();
+        productMapper.applyPatch(patch, existingEntity);
+        productJpaRepository.flush();
+
+        // Un patch que no cambia ningún valor no genera UPDATE ni evento
+        if (!Objects.equals(previousVersion, existingEntity.getVersion())) {
+            productOutboxWriter.updated(productId, existingEntity.getVersion());
+            productInvalidationNotifier.productChanged(productId);
+        }
+        return productMapper.toDomain(existingEntity);
+    }
+
     @Override
+    @Transactional
     public void deleteById(String id) {
-        if (!productJpaRepository.existsById(id)) {
+        // Un único DELETE: el conteo de filas detecta el inexistente sin consultar antes
+        if (productJpaRepository.deleteProductById(id) == 0) {
             throw new ProductNotFoundException(id);
         }
-        productJpaRepository.deleteById(id);
+        productOutboxWriter.deleted(id);
+        productInvalidationNotifier.productChanged(id);
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(String id, Long expectedVersion) {
+        if (expectedVersion == null) {
+            deleteById(id);
+            return;
+        }
+
+        // Las especificaciones se eliminan por ON DELETE CASCADE
+        if (productJpaRepository.deleteByIdAndVersion(id, expectedVersion) == 0) {
+            Long currentVersion = productJpaRepository.findVersionById(id)
+                    .orElseThrow(() -> new ProductNotFoundException(id));
+            throw new ProductVersionConflictException(id, expectedVersion, currentVersion);
+        }
+        productOutboxWriter.deleted(id);
+        productInvalidationNotifier.productChanged(id);
+    }
+
+    @Override
+    @Transactional
+    public List<String> deleteAllById(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<String> deletedIds = productJpaRepository.deleteAllByIdReturningIds(ids.toArray(String[]::new));
+        productOutboxWriter.deleted(deletedIds);
+        productInvalidationNotifier.productsChanged(deletedIds);
+        return deletedIds;
+    }
+
+    @Override
+    @Transactional
+    public List<String> deleteByCategory(String category, int limit) {
+        List<String> deletedIds = productJpaRepository.deleteByCategoryReturningIds(category, limit);
+        productOutboxWriter.deleted(deletedIds);
+        productInvalidationNotifier.productsChanged(deletedIds);
+        return deletedIds;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(String id) {
         return productJpaRepository.existsById(id);
     }
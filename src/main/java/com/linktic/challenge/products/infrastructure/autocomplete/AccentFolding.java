@@ -0,0 +1,41 @@
+package com.linktic.challenge.products.infrastructure.autocomplete;
+
+import lombok.experimental.UtilityClass;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalización de texto para el autocompletado: minúsculas y sin tildes ni diéresis
+ * ({@code "Electrónica Pingüino"} → {@code "electronica pinguino"}). La ñ también se pliega a n, igual
+ * que la escribe quien busca sin teclado en español.
+ */
+@UtilityClass
+public class AccentFolding {
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    public static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String withoutMarks = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return SEPARATORS.matcher(withoutMarks.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    /**
+     * Claves por las que se encuentra un texto: el texto plegado a partir del inicio de cada palabra,
+     * para que {@code "gal"} sugiera {@code "Smartphone Galaxy XZ"}.
+     */
+    public static List<String> wordStartKeys(String text) {
+        String folded = fold(text);
+        List<String> keys = new ArrayList<>();
+        for (int index = 0; index < folded.length(); index++) {
+            if (index == 0 || folded.charAt(index - 1) == ' ') {
+                keys.add(folded.substring(index));
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,20 @@
+package com.linktic.challenge.products.infrastructure.autocomplete;
+
+import com.linktic.challenge.products.domain.model.Product;
+
+/**
+ * Campos de un producto que indexa el autocompletado. Se lee como proyección para no cargar
+ * descripciones ni especificaciones al construir el índice.
+ *
+ * @param brand marca del producto, o {@code null} si no tiene
+ */
+public record AutocompleteEntry(String productId, String name, String brand, double rating) {
+
+    public static AutocompleteEntry of(Product product) {
+        return new AutocompleteEntry(
+                product.id().value(),
+                product.name().value(),
+                product.brand() != null ? product.brand().value() : null,
+                product.rating().value());
+    }
+}
@@ -0,0 +1,137 @@
+package com.linktic.challenge.products.infrastructure.autocomplete;
+
+import com.linktic.challenge.products.domain.model.ProductSuggestion;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Índice de autocompletado sobre nombres y marcas. Los nombres se sugieren uno por producto; cada marca
+ * se sugiere una sola vez, con el mayor rating entre sus productos y la grafía del primero que la trajo.
+ *
+ * <p>Las escrituras ({@link #upsert}, {@link #remove}) no son concurrentes entre sí; el llamador las
+ * serializa. {@link #complete} puede llamarse desde cualquier hilo en paralelo con ellas.</p>
+ */
+public class AutocompleteIndex {
+    private final SuggestionTrie trie;
+    private final Map<String, AutocompleteEntry> entries = new HashMap<>();
+    private final Map<String, Brand> brands = new HashMap<>();
+
+    public AutocompleteIndex(int capacity, int maxKeyLength) {
+        this.trie = new SuggestionTrie(capacity, maxKeyLength);
+    }
+
+    public static AutocompleteIndex of(List<AutocompleteEntry> entries, int capacity, int maxKeyLength) {
+        AutocompleteIndex index = new AutocompleteIndex(capacity, maxKeyLength);
+        entries.forEach(index::upsert);
+        return index;
+    }
+
+    public List<ProductSuggestion> complete(String prefix, int limit) {
+        String folded = AccentFolding.fold(prefix);
+        return folded.isEmpty() ? List.of() : trie.complete(folded, limit);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long nodeCount() {
+        return trie.nodeCount();
+    }
+
+    public void upsert(AutocompleteEntry entry) {
+        AutocompleteEntry previous = entries.get(entry.productId());
+        if (entry.equals(previous)) {
+            return;
+        }
+        remove(entry.productId());
+        entries.put(entry.productId(), entry);
+        trie.add(nameSuggestion(entry));
+        if (hasBrand(entry)) {
+            Brand brand = brands.computeIfAbsent(AccentFolding.fold(entry.brand()), key -> new Brand(entry.brand()));
+            ProductSuggestion before = brand.suggestion();
+            brand.add(entry.productId(), entry.rating());
+            replaceBrandSuggestion(before, brand.suggestion());
+        }
+    }
+
+    public void remove(String productId) {
+        AutocompleteEntry previous = entries.remove(productId);
+        if (previous == null) {
+            return;
+        }
+        trie.remove(nameSuggestion(previous));
+        if (hasBrand(previous)) {
+            String key = AccentFolding.fold(previous.brand());
+            Brand brand = brands.get(key);
+            ProductSuggestion before = brand.suggestion();
+            brand.remove(productId);
+            if (brand.isEmpty()) {
+                brands.remove(key);
+            }
+            replaceBrandSuggestion(before, brand.suggestion());
+        }
+    }
+
+    // La sugerencia de una marca solo cambia cuando cambia su mayor rating; si no, el trie no se toca
+    private void replaceBrandSuggestion(ProductSuggestion before, ProductSuggestion after) {
+        if (before != null && before.equals(after)) {
+            return;
+        }
+        if (before != null) {
+            trie.remove(before);
+        }
+        if (after != null) {
+            trie.add(after);
+        }
+    }
+
+    private static ProductSuggestion nameSuggestion(AutocompleteEntry entry) {
+        return new ProductSuggestion(entry.name(), ProductSuggestion.Type.NAME, entry.productId(), entry.rating());
+    }
+
+    // Una marca que se pliega a vacío ("---") no aporta nada que sugerir
+    private static boolean hasBrand(AutocompleteEntry entry) {
+        return entry.brand() != null && !AccentFolding.fold(entry.brand()).isEmpty();
+    }
+
+    /**
+     * Productos de una marca y sus ratings. El mayor sale de un multiconjunto ordenado (rating →
+     * cantidad de productos), así agregar o quitar un producto cuesta O(log k) en lugar de recorrer la marca.
+     */
+    private static final class Brand {
+        private final String text;
+        private final Map<String, Double> ratings = new HashMap<>();
+        private final TreeMap<Double, Integer> ratingCounts = new TreeMap<>();
+
+        private Brand(String text) {
+            this.text = text;
+        }
+
+        private void add(String productId, double rating) {
+            ratings.put(productId, rating);
+            ratingCounts.merge(rating, 1, Integer::sum);
+        }
+
+        private void remove(String productId) {
+            Double rating = ratings.remove(productId);
+            if (rating != null) {
+                ratingCounts.computeIfPresent(rating, (value, count) -> count == 1 ? null : count - 1);
+            }
+        }
+
+        private boolean isEmpty() {
+            return ratings.isEmpty();
+        }
+
+        private ProductSuggestion suggestion() {
+            if (ratingCounts.isEmpty()) {
+                return null;
+            }
+            return new ProductSuggestion(text, ProductSuggestion.Type.BRAND, null, ratingCounts.lastKey());
+        }
+    }
+}
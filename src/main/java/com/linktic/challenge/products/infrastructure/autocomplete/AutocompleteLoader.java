@@ -0,0 +1,42 @@
+package com.linktic.challenge.products.infrastructure.autocomplete;
+
+import com.linktic.challenge.products.infrastructure.persistence.repository.ProductJpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lee de la base los campos que indexa el autocompletado. Cada lote usa su propia transacción de solo
+ * lectura (puede ir a la réplica) para no retener una conexión durante toda la carga.
+ */
+public class AutocompleteLoader {
+    private final ProductJpaRepository productJpaRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public AutocompleteLoader(ProductJpaRepository productJpaRepository, TransactionTemplate readOnlyTransaction) {
+        this.productJpaRepository = productJpaRepository;
+        this.readOnlyTransaction = readOnlyTransaction;
+    }
+
+    public List<AutocompleteEntry> loadAll(int batchSize) {
+        List<AutocompleteEntry> entries = new ArrayList<>();
+        String afterId = "";
+        while (true) {
+            String from = afterId;
+            List<AutocompleteEntry> batch = readOnlyTransaction.execute(status ->
+                    productJpaRepository.findAutocompleteEntriesAfter(from, Limit.of(batchSize)));
+            if (batch.isEmpty()) {
+                return entries;
+            }
+            entries.addAll(batch);
+            afterId = batch.getLast().productId();
+        }
+    }
+
+    public List<AutocompleteEntry> loadByIds(Collection<String> ids) {
+        return readOnlyTransaction.execute(status -> productJpaRepository.findAutocompleteEntriesByIdIn(ids));
+    }
+}
@@ -0,0 +1,24 @@
+package com.linktic.challenge.products.infrastructure.autocomplete;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Autocompletado en memoria sobre nombres y marcas ({@code products.autocomplete.*}).
+ *
+ * @param maxSuggestions  máximo de sugerencias por consulta; también las que guarda cada nodo del trie
+ * @param refreshInterval reconstrucción completa periódica, red de seguridad ante cambios no notificados
+ * @param loadBatchSize   productos leídos por lote al construir el índice
+ * @param maxKeyLength    caracteres indexados por clave en el trie; un prefijo más largo filtra las
+ *                        sugerencias del último nodo
+ */
+@ConfigurationProperties(prefix = "products.autocomplete")
+public record AutocompleteProperties(
+        @DefaultValue("10") int maxSuggestions,
+        @DefaultValue("30m") Duration refreshInterval,
+        @DefaultValue("5000") int loadBatchSize,
+        @DefaultValue("24") int maxKeyLength
+) {
+}
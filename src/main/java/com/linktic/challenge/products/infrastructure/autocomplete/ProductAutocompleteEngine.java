@@ -0,0 +1,221 @@
+package com.linktic.challenge.products.infrastructure.autocomplete;
+
+import com.linktic.challenge.products.application.port.in.ProductAutocompleteUseCase;
+import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
+import com.linktic.challenge.products.domain.model.Product;
+import com.linktic.challenge.products.domain.model.ProductSuggestion;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidation;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidationListener;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductWriteListener;
+import com.linktic.challenge.products.infrastructure.persistence.routing.ReadConsistencyContext;
+import com.linktic.challenge.products.infrastructure.warmup.WarmupProperties;
+import com.linktic.challenge.products.infrastructure.warmup.WarmupTask;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Atiende el autocompletado de nombres y marcas desde un {@link AutocompleteIndex} en memoria.
+ *
+ * <p>Las lecturas no bloquean. El índice se actualiza en sitio, un cambio a la vez bajo
+ * {@code writeMonitor}: los de {@code ProductManagementUseCase} llegan al momento por
+ * {@link ProductWriteListener}; los de otras instancias, por {@link ProductInvalidationListener}, y los
+ * volcados de votos de rating de esta instancia, por el mismo listener tras su commit
+ * ({@code LocalProductInvalidationPublisher}, aunque el aviso entre instancias esté desactivado). La reconstrucción completa periódica arma un índice nuevo y lo
+ * publica al terminar, reaplicando los cambios que llegaron mientras tanto.</p>
+ *
+ * <p>Las sugerencias se ordenan por rating; la popularidad vive solo en la base y no forma parte del
+ * producto de dominio que reciben los listeners.</p>
+ */
+@Slf4j
+public class ProductAutocompleteEngine implements ProductAutocompleteUseCase, ProductInvalidationListener,
+        ProductWriteListener, WarmupTask, SmartLifecycle {
+    private final AutocompleteLoader loader;
+    private final AutocompleteProperties properties;
+
+    private final Object reloadMonitor = new Object();
+    private final Object writeMonitor = new Object();
+    private final List<Change> changesDuringReload = new ArrayList<>();
+    private boolean reloading;
+
+    private volatile AutocompleteIndex index;
+    private volatile ScheduledExecutorService scheduler;
+
+    public ProductAutocompleteEngine(AutocompleteLoader loader, AutocompleteProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.loader = loader;
+        this.properties = properties;
+        Gauge.builder("products.autocomplete.index.size", this, engine -> engine.index != null ? engine.index.size() : 0)
+                .description("Productos en el índice de autocompletado")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<ProductSuggestion> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidProductException("Autocomplete prefix cannot be blank");
+        }
+        if (limit < 1 || limit > properties.maxSuggestions()) {
+            throw new InvalidProductException(
+                    String.format("Limit must be between 1 and %d", properties.maxSuggestions()));
+        }
+        AutocompleteIndex current = index;
+        if (current == null) {
+            ensureLoaded();
+            current = index;
+        }
+        return current.complete(prefix, limit);
+    }
+
+    /**
+     * Aplica cambios ya confirmados en la base. Si hay una recarga en curso, se anotan para
+     * reaplicarlos sobre el índice recién cargado, que pudo leer filas anteriores al cambio.
+     */
+    public void apply(Collection<AutocompleteEntry> upserts, Collection<String> deletedIds) {
+        Change change = new Change(List.copyOf(upserts), Set.copyOf(deletedIds));
+        synchronized (writeMonitor) {
+            if (reloading) {
+                changesDuringReload.add(change);
+            }
+            AutocompleteIndex current = index;
+            if (current != null) {
+                change.applyTo(current);
+            }
+        }
+    }
+
+    @Override
+    public void onProductsWritten(Collection<Product> upserts, Collection<String> deletedIds) {
+        apply(upserts.stream().map(AutocompleteEntry::of).toList(), deletedIds);
+    }
+
+    /**
+     * Reemplaza el índice por uno construido con todo el catálogo.
+     */
+    public void reload() {
+        synchronized (reloadMonitor) {
+            synchronized (writeMonitor) {
+                reloading = true;
+                changesDuringReload.clear();
+            }
+            try {
+                long start = System.nanoTime();
+                AutocompleteIndex loaded = AutocompleteIndex.of(loader.loadAll(properties.loadBatchSize()),
+                        properties.maxSuggestions(), properties.maxKeyLength());
+                synchronized (writeMonitor) {
+                    changesDuringReload.forEach(change -> change.applyTo(loaded));
+                    index = loaded;
+                }
+                log.info("Índice de autocompletado cargado: {} productos, {} nodos en {} ms",
+                        loaded.size(), loaded.nodeCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } finally {
+                synchronized (writeMonitor) {
+                    reloading = false;
+                    changesDuringReload.clear();
+                }
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        synchronized (reloadMonitor) {
+            if (index == null) {
+                reload();
+            }
+        }
+    }
+
+    private void refresh(Set<String> productIds) {
+        // Se lee del primario: la réplica podría no tener aún el cambio que originó el aviso
+        ReadConsistencyContext.requirePrimary();
+        try {
+            List<AutocompleteEntry> entries = loader.loadByIds(productIds);
+            Set<String> deletedIds = new HashSet<>(productIds);
+            entries.forEach(entry -> deletedIds.remove(entry.productId()));
+            apply(entries, deletedIds);
+        } finally {
+            ReadConsistencyContext.clear();
+        }
+    }
+
+    @Override
+    public void onInvalidation(ProductInvalidation invalidation) {
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null) {
+            return;
+        }
+        if (invalidation.all() || invalidation.productIds().isEmpty()) {
+            executor.execute(() -> runSafely("recarga completa", this::reload));
+        } else {
+            executor.execute(() -> runSafely("relectura de productos", () -> refresh(invalidation.productIds())));
+        }
+    }
+
+    @Override
+    public String name() {
+        return "autocomplete";
+    }
+
+    @Override
+    public long warmUp(WarmupProperties warmupProperties) {
+        ensureLoaded();
+        return index.size();
+    }
+
+    private static void runSafely(String operation, Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException ex) {
+            log.warn("Autocompletado: {} fallida, se mantiene el índice anterior: {}",
+                    operation, ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "autocomplete");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.refreshInterval().toMillis();
+        // Si el calentamiento está deshabilitado, la primera carga ocurre aquí en segundo plano
+        executor.execute(() -> runSafely("carga inicial", this::ensureLoaded));
+        executor.scheduleWithFixedDelay(() -> runSafely("recarga periódica", this::reload),
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        scheduler = executor;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private record Change(List<AutocompleteEntry> upserts, Set<String> deletedIds) {
+        void applyTo(AutocompleteIndex target) {
+            deletedIds.forEach(target::remove);
+            upserts.forEach(target::upsert);
+        }
+    }
+}
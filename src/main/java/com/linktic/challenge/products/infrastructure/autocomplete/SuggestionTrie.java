@@ -0,0 +1,285 @@
+package com.linktic.challenge.products.infrastructure.autocomplete;
+
+import com.linktic.challenge.products.domain.model.ProductSuggestion;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Trie de prefijos sobre texto plegado con {@link AccentFolding}. Cada nodo guarda ya calculadas las
+ * mejores {@code capacity} sugerencias de su subárbol, así completar un prefijo es recorrer sus
+ * caracteres y leer una lista.
+ *
+ * <p>Las claves se indexan hasta {@code maxKeyLength} caracteres: quien escribe en el autocompletado
+ * rara vez pasa de ahí y, sin el tope, cada nombre largo agregaría un nodo por carácter. Un prefijo más
+ * largo baja hasta el último nodo y filtra sus sugerencias, que comparten esos caracteres y son pocas.</p>
+ *
+ * <p>Al agregar una sugerencia se inserta en la lista de cada nodo de su camino, de abajo hacia arriba,
+ * y se detiene en el primero donde no entra: si no está entre las mejores de un subárbol, tampoco lo
+ * está en los que lo contienen. Al quitarla solo se recalculan los nodos cuya lista la incluía, a
+ * partir de las mejores sugerencias propias y de las listas de los hijos. Una misma sugerencia puede
+ * colgar de varias claves (una por palabra) y se deduplica.</p>
+ *
+ * <p>Un solo hilo escribe a la vez (el llamador sincroniza). Las lecturas no bloquean: los hijos y las
+ * listas son inmutables y se publican en campos volátiles (un nodo de paso comparte la de su único hijo),
+ * y las sugerencias propias están en un conjunto concurrente que solo se crea en los nodos donde
+ * termina alguna clave.</p>
+ */
+public class SuggestionTrie {
+    static final Comparator<ProductSuggestion> RANKING = Comparator
+            .comparingDouble(ProductSuggestion::rating).reversed()
+            .thenComparing(ProductSuggestion::text)
+            .thenComparing(SuggestionTrie::identity);
+
+    private final int capacity;
+    private final int maxKeyLength;
+    private final Node root = new Node();
+
+    public SuggestionTrie(int capacity, int maxKeyLength) {
+        this.capacity = capacity;
+        this.maxKeyLength = maxKeyLength;
+    }
+
+    /**
+     * Identidad de una sugerencia, independiente de su rating: el producto para los nombres y el texto
+     * plegado para las marcas.
+     */
+    public static String identity(ProductSuggestion suggestion) {
+        return suggestion.type() == ProductSuggestion.Type.NAME
+                ? "name:" + suggestion.productId()
+                : "brand:" + AccentFolding.fold(suggestion.text());
+    }
+
+    public void add(ProductSuggestion suggestion) {
+        for (String key : indexedKeys(suggestion)) {
+            List<Node> path = new ArrayList<>(key.length() + 1);
+            Node node = root;
+            path.add(node);
+            for (int index = 0; index < key.length(); index++) {
+                node = node.childOrCreate(key.charAt(index));
+                path.add(node);
+            }
+            if (!node.addTerminal(suggestion)) {
+                continue;
+            }
+            for (int depth = path.size() - 1; depth >= 0; depth--) {
+                if (!offer(path.get(depth), suggestion)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    public void remove(ProductSuggestion suggestion) {
+        for (String key : indexedKeys(suggestion)) {
+            List<Node> path = new ArrayList<>(key.length() + 1);
+            Node node = root;
+            path.add(node);
+            for (int index = 0; index < key.length() && node != null; index++) {
+                node = node.children.get(key.charAt(index));
+                path.add(node);
+            }
+            if (node == null || !node.removeTerminal(suggestion)) {
+                continue;
+            }
+            int attached = prune(key, path);
+            for (int depth = attached; depth >= 0; depth--) {
+                Node current = path.get(depth);
+                if (!current.top.contains(suggestion)) {
+                    break;
+                }
+                recompute(current);
+            }
+        }
+    }
+
+    public List<ProductSuggestion> complete(String foldedPrefix, int limit) {
+        int walked = Math.min(foldedPrefix.length(), maxKeyLength);
+        Node node = root;
+        for (int index = 0; index < walked && node != null; index++) {
+            node = node.children.get(foldedPrefix.charAt(index));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        if (foldedPrefix.length() > maxKeyLength) {
+            return beyondIndexedDepth(node, foldedPrefix, limit);
+        }
+        List<ProductSuggestion> top = node.top;
+        return top.subList(0, Math.min(limit, top.size()));
+    }
+
+    /**
+     * Nodos del trie; recorre el árbol completo, pensado para diagnóstico y pruebas.
+     */
+    public long nodeCount() {
+        long count = 0;
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            count++;
+            node.children.values().forEach(pending::push);
+        }
+        return count;
+    }
+
+    private Set<String> indexedKeys(ProductSuggestion suggestion) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String key : AccentFolding.wordStartKeys(suggestion.text())) {
+            keys.add(key.length() > maxKeyLength ? key.substring(0, maxKeyLength) : key);
+        }
+        return keys;
+    }
+
+    // El nodo a maxKeyLength no tiene hijos: todas sus sugerencias son propias y ya están ordenadas
+    private static List<ProductSuggestion> beyondIndexedDepth(Node node, String foldedPrefix, int limit) {
+        NavigableSet<ProductSuggestion> terminals = node.terminals;
+        if (terminals == null) {
+            return List.of();
+        }
+        List<ProductSuggestion> matches = new ArrayList<>(limit);
+        for (ProductSuggestion suggestion : terminals) {
+            if (AccentFolding.wordStartKeys(suggestion.text()).stream().anyMatch(key -> key.startsWith(foldedPrefix))) {
+                matches.add(suggestion);
+                if (matches.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    // Inserta la sugerencia en la lista del nodo si está entre las mejores; false si no cambió
+    private boolean offer(Node node, ProductSuggestion suggestion) {
+        List<ProductSuggestion> inherited = node.inheritedTop();
+        if (inherited != null) {
+            boolean changed = inherited != node.top;
+            node.top = inherited;
+            return changed;
+        }
+        List<ProductSuggestion> top = node.top;
+        // Ya llegó por otra clave; quien llama quita la versión anterior antes de agregar la nueva
+        if (top.contains(suggestion)) {
+            return false;
+        }
+        if (top.size() == capacity && RANKING.compare(suggestion, top.getLast()) > 0) {
+            return false;
+        }
+        List<ProductSuggestion> updated = new ArrayList<>(top.size() + 1);
+        updated.addAll(top);
+        int position = 0;
+        while (position < updated.size() && RANKING.compare(updated.get(position), suggestion) < 0) {
+            position++;
+        }
+        updated.add(position, suggestion);
+        if (updated.size() > capacity) {
+            updated.removeLast();
+        }
+        node.top = List.copyOf(updated);
+        return true;
+    }
+
+    // Quita del camino los nodos que quedaron sin sugerencias ni hijos; retorna la profundidad del más
+    // profundo que sigue colgado
+    private static int prune(String key, List<Node> path) {
+        for (int depth = path.size() - 1; depth > 0; depth--) {
+            Node node = path.get(depth);
+            if (node.terminals != null || !node.children.isEmpty()) {
+                return depth;
+            }
+            path.get(depth - 1).removeChild(key.charAt(depth - 1));
+            node.top = List.of();
+        }
+        return 0;
+    }
+
+    private void recompute(Node node) {
+        List<ProductSuggestion> inherited = node.inheritedTop();
+        if (inherited != null) {
+            node.top = inherited;
+            return;
+        }
+        Map<String, ProductSuggestion> candidates = new LinkedHashMap<>();
+        NavigableSet<ProductSuggestion> terminals = node.terminals;
+        if (terminals != null) {
+            for (ProductSuggestion suggestion : terminals) {
+                candidates.putIfAbsent(identity(suggestion), suggestion);
+                if (candidates.size() == capacity) {
+                    break;
+                }
+            }
+        }
+        node.children.values().forEach(child ->
+                child.top.forEach(suggestion -> candidates.putIfAbsent(identity(suggestion), suggestion)));
+        node.top = candidates.values().stream()
+                .sorted(RANKING)
+                .limit(capacity)
+                .toList();
+    }
+
+    private static final class Node {
+        // Inmutables y reemplazados al escribir: la mayoría de los nodos tiene uno o ningún hijo
+        private volatile Map<Character, Node> children = Map.of();
+        private volatile NavigableSet<ProductSuggestion> terminals;
+        private volatile List<ProductSuggestion> top = List.of();
+
+        private Node childOrCreate(char character) {
+            Node child = children.get(character);
+            if (child == null) {
+                child = new Node();
+                if (children.isEmpty()) {
+                    children = Map.of(character, child);
+                } else {
+                    Map<Character, Node> updated = new HashMap<>(children);
+                    updated.put(character, child);
+                    children = Map.copyOf(updated);
+                }
+            }
+            return child;
+        }
+
+        private void removeChild(char character) {
+            Map<Character, Node> updated = new HashMap<>(children);
+            updated.remove(character);
+            children = Map.copyOf(updated);
+        }
+
+        // Un nodo de paso (un solo hijo, sin sugerencias propias) comparte la lista de su hijo
+        private List<ProductSuggestion> inheritedTop() {
+            Map<Character, Node> current = children;
+            if (terminals != null || current.size() != 1) {
+                return null;
+            }
+            return current.values().iterator().next().top;
+        }
+
+        private boolean addTerminal(ProductSuggestion suggestion) {
+            if (terminals == null) {
+                terminals = new ConcurrentSkipListSet<>(RANKING);
+            }
+            return terminals.add(suggestion);
+        }
+
+        private boolean removeTerminal(ProductSuggestion suggestion) {
+            NavigableSet<ProductSuggestion> current = terminals;
+            if (current == null || !current.remove(suggestion)) {
+                return false;
+            }
+            if (current.isEmpty()) {
+                terminals = null;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.linktic.challenge.products.infrastructure.catalog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Diccionario inmutable de valores repetidos (categoría, marca). Solo crece: un valor nuevo produce
+ * un diccionario nuevo y los códigos existentes no cambian, así un snapshot anterior sigue siendo válido.
+ */
+final class CatalogDictionary {
+    static final int NONE = -1;
+
+    private final List<String> values;
+    private final Map<String, Integer> codes;
+
+    private CatalogDictionary(List<String> values, Map<String, Integer> codes) {
+        this.values = values;
+        this.codes = codes;
+    }
+
+    static CatalogDictionary empty() {
+        return new CatalogDictionary(List.of(), Map.of());
+    }
+
+    /**
+     * Retorna este diccionario si ya contiene todos los valores o uno nuevo que los agrega.
+     */
+    CatalogDictionary withAll(Iterable<String> newValues) {
+        List<String> extendedValues = null;
+        Map<String, Integer> extendedCodes = null;
+        for (String value : newValues) {
+            if (value == null || codes.containsKey(value)
+                    || (extendedCodes != null && extendedCodes.containsKey(value))) {
+                continue;
+            }
+            if (extendedValues == null) {
+                extendedValues = new ArrayList<>(values);
+                extendedCodes = new HashMap<>(codes);
+            }
+            extendedCodes.put(value, extendedValues.size());
+            extendedValues.add(value);
+        }
+        return extendedValues == null ? this : new CatalogDictionary(List.copyOf(extendedValues), Map.copyOf(extendedCodes));
+    }
+
+    int code(String value) {
+        return value == null ? NONE : codes.get(value);
+    }
+
+    /**
+     * Código de un valor que puede no estar en el diccionario (por ejemplo, el de un filtro).
+     */
+    int find(String value) {
+        return value == null ? NONE : codes.getOrDefault(value, NONE);
+    }
+
+    String value(int code) {
+        return code == NONE ? null : values.get(code);
+    }
+
+    int size() {
+        return values.size();
+    }
+}
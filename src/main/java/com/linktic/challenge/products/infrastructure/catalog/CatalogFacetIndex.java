@@ -0,0 +1,134 @@
+package com.linktic.challenge.products.infrastructure.catalog;
+
+import com.linktic.challenge.products.domain.model.ProductFacetRanges;
+import com.linktic.challenge.products.domain.model.ProductFacets;
+import com.linktic.challenge.products.domain.model.ProductFilter;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Índice de facetas del snapshot: un bitmap comprimido de filas por categoría, marca, rango de precio
+ * y rango de rating. Un filtro es un OR de bitmaps dentro de cada faceta y un AND entre facetas, y
+ * los conteos por faceta son cardinalidades de intersecciones, sin materializar filas.
+ *
+ * <p>Las filas son las posiciones densas del {@link CatalogSnapshot}; como cada snapshot renumera sus
+ * filas, el índice se construye en la misma pasada que las columnas y es igual de inmutable.</p>
+ */
+final class CatalogFacetIndex {
+    private final int size;
+    private final CatalogDictionary categories;
+    private final CatalogDictionary brands;
+    private final RoaringBitmap[] byCategory;
+    private final RoaringBitmap[] byBrand;
+    private final RoaringBitmap[] byPriceRange;
+    private final RoaringBitmap[] byRatingRange;
+
+    CatalogFacetIndex(CatalogDictionary categories, int[] categoryCodes,
+                      CatalogDictionary brands, int[] brandCodes,
+                      int[] priceRanges, int[] ratingRanges) {
+        this.size = categoryCodes.length;
+        this.categories = categories;
+        this.brands = brands;
+        this.byCategory = bitmaps(categories.size(), categoryCodes);
+        this.byBrand = bitmaps(brands.size(), brandCodes);
+        this.byPriceRange = bitmaps(ProductFacetRanges.PRICE_RANGES.size(), priceRanges);
+        this.byRatingRange = bitmaps(ProductFacetRanges.RATING_RANGES.size(), ratingRanges);
+    }
+
+    private static RoaringBitmap[] bitmaps(int count, int[] codes) {
+        RoaringBitmap[] bitmaps = new RoaringBitmap[count];
+        for (int i = 0; i < count; i++) {
+            bitmaps[i] = new RoaringBitmap();
+        }
+        // Las filas se agregan en orden creciente: cada add es un append al último contenedor
+        for (int row = 0; row < codes.length; row++) {
+            if (codes[row] != CatalogDictionary.NONE) {
+                bitmaps[codes[row]].add(row);
+            }
+        }
+        for (RoaringBitmap bitmap : bitmaps) {
+            bitmap.runOptimize();
+        }
+        return bitmaps;
+    }
+
+    /**
+     * Filas que cumplen el filtro.
+     */
+    RoaringBitmap matching(ProductFilter filter) {
+        return intersect(categoryMatch(filter), brandMatch(filter), priceMatch(filter), ratingMatch(filter));
+    }
+
+    ProductFacets facets(ProductFilter filter) {
+        RoaringBitmap category = categoryMatch(filter);
+        RoaringBitmap brand = brandMatch(filter);
+        RoaringBitmap price = priceMatch(filter);
+        RoaringBitmap rating = ratingMatch(filter);
+
+        return new ProductFacets(
+                intersect(category, brand, price, rating).getLongCardinality(),
+                ProductFacets.byCountDescending(counts(byCategory, intersect(brand, price, rating), categories::value)),
+                ProductFacets.byCountDescending(counts(byBrand, intersect(category, price, rating), brands::value)),
+                counts(byPriceRange, intersect(category, brand, rating), ProductFacetRanges.PRICE_RANGES::get),
+                counts(byRatingRange, intersect(category, brand, price), ProductFacetRanges.RATING_RANGES::get)
+        );
+    }
+
+    // null significa "sin filtro en esta faceta"
+    private RoaringBitmap categoryMatch(ProductFilter filter) {
+        return union(byCategory, filter.categories(), categories::find);
+    }
+
+    private RoaringBitmap brandMatch(ProductFilter filter) {
+        return union(byBrand, filter.brands(), brands::find);
+    }
+
+    private RoaringBitmap priceMatch(ProductFilter filter) {
+        return union(byPriceRange, filter.priceRanges(), ProductFacetRanges::priceRangeIndex);
+    }
+
+    private RoaringBitmap ratingMatch(ProductFilter filter) {
+        return union(byRatingRange, filter.ratingRanges(), ProductFacetRanges::ratingRangeIndex);
+    }
+
+    private static RoaringBitmap union(RoaringBitmap[] bitmaps, Set<String> values,
+                                       ToIntFunction<String> codeOf) {
+        if (values.isEmpty()) {
+            return null;
+        }
+        RoaringBitmap result = new RoaringBitmap();
+        for (String value : values) {
+            int code = codeOf.applyAsInt(value);
+            if (code != CatalogDictionary.NONE) {
+                result.or(bitmaps[code]);
+            }
+        }
+        return result;
+    }
+
+    private RoaringBitmap intersect(RoaringBitmap... parts) {
+        RoaringBitmap result = null;
+        for (RoaringBitmap part : parts) {
+            if (part != null) {
+                result = result == null ? part.clone() : RoaringBitmap.and(result, part);
+            }
+        }
+        return result != null ? result : RoaringBitmap.bitmapOfRange(0, size);
+    }
+
+    private static Map<String, Long> counts(RoaringBitmap[] bitmaps, RoaringBitmap scope, IntFunction<String> label) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int code = 0; code < bitmaps.length; code++) {
+            long count = RoaringBitmap.andCardinality(bitmaps[code], scope);
+            if (count > 0) {
+                counts.put(label.apply(code), count);
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,299 @@
+package com.linktic.challenge.products.infrastructure.catalog;
+
+import com.linktic.challenge.products.domain.model.Product;
+import com.linktic.challenge.products.domain.model.ProductFacetRanges;
+import com.linktic.challenge.products.domain.model.ProductFacets;
+import com.linktic.challenge.products.domain.model.ProductFilter;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Snapshot inmutable y columnar del catálogo.
+ *
+ * <p>Precio (en centavos) y rating se guardan en arreglos primitivos; categoría y marca, codificadas
+ * contra un diccionario. Para cada {@link CatalogSortField} hay una permutación de filas ya ordenada
+ * (con el ID como desempate), así una página ordenada es solo un recorrido de la permutación. Los
+ * {@code null} van al final en orden ascendente y al principio en descendente, como en Postgres.
+ * Los textos se comparan con el orden de Java, que puede diferir de la collation de la base.</p>
+ *
+ * <p>Los filtros por categoría, marca y rangos de precio y rating se resuelven con el
+ * {@link CatalogFacetIndex}, construido junto con las columnas.</p>
+ *
+ * <p>Los cambios producen un snapshot nuevo ({@link #apply}) en O(n + k log k) sin reordenar todo:
+ * las permutaciones anteriores se filtran y se mezclan con las filas nuevas ya ordenadas.</p>
+ */
+public final class CatalogSnapshot {
+    // Con menos de 1 fila coincidente cada 16 se ordenan las coincidencias en vez de recorrer la permutación
+    private static final int SPARSE_FILTER_RATIO = 16;
+
+    private final Product[] rows;
+    private final String[] ids;
+    private final String[] names;
+    private final long[] priceCents;
+    private final double[] ratings;
+    private final int[] categoryCodes;
+    private final int[] brandCodes;
+    private final CatalogDictionary categories;
+    private final CatalogDictionary brands;
+    private final Map<String, Integer> rowById;
+    private final CatalogFacetIndex facets;
+    private final Map<CatalogSortField, int[]> orders = new EnumMap<>(CatalogSortField.class);
+
+    private CatalogSnapshot(List<Product> products, CatalogDictionary categories, CatalogDictionary brands) {
+        int size = products.size();
+        this.rows = products.toArray(Product[]::new);
+        this.ids = new String[size];
+        this.names = new String[size];
+        this.priceCents = new long[size];
+        this.ratings = new double[size];
+        this.categoryCodes = new int[size];
+        this.brandCodes = new int[size];
+        this.categories = categories;
+        this.brands = brands;
+        this.rowById = HashMap.newHashMap(size);
+        int[] priceRanges = new int[size];
+        int[] ratingRanges = new int[size];
+
+        for (int row = 0; row < size; row++) {
+            Product product = rows[row];
+            ids[row] = product.id().value();
+            names[row] = product.name().value();
+            priceCents[row] = product.price().value().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+            ratings[row] = product.rating().value();
+            categoryCodes[row] = categories.code(product.category().value());
+            brandCodes[row] = brands.code(product.brand() != null ? product.brand().value() : null);
+            rowById.put(ids[row], row);
+            priceRanges[row] = ProductFacetRanges.priceRangeIndex(product.price().value());
+            ratingRanges[row] = ProductFacetRanges.ratingRangeIndex(ratings[row]);
+        }
+        this.facets = new CatalogFacetIndex(categories, categoryCodes, brands, brandCodes, priceRanges, ratingRanges);
+    }
+
+    public static CatalogSnapshot empty() {
+        return of(List.of());
+    }
+
+    public static CatalogSnapshot of(Collection<Product> products) {
+        List<Product> rows = List.copyOf(products);
+        CatalogSnapshot snapshot = new CatalogSnapshot(rows,
+                CatalogDictionary.empty().withAll(rows.stream().map(p -> p.category().value()).toList()),
+                CatalogDictionary.empty().withAll(rows.stream().map(CatalogSnapshot::brandOf).toList()));
+        for (CatalogSortField field : CatalogSortField.values()) {
+            int[] order = new int[rows.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            snapshot.orders.put(field, IntSort.sort(order, snapshot.comparator(field)));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Retorna un snapshot nuevo con {@code upserts} agregados o reemplazados y {@code deletedIds}
+     * eliminados; este snapshot no se modifica.
+     */
+    public CatalogSnapshot apply(Collection<Product> upserts, Set<String> deletedIds) {
+        Map<String, Product> changed = new LinkedHashMap<>();
+        upserts.forEach(product -> changed.put(product.id().value(), product));
+        if (changed.isEmpty() && deletedIds.stream().noneMatch(rowById::containsKey)) {
+            return this;
+        }
+
+        List<Product> newRows = new ArrayList<>(rows.length + changed.size());
+        int[] oldToNew = new int[rows.length];
+        for (int row = 0; row < rows.length; row++) {
+            String id = ids[row];
+            if (deletedIds.contains(id) || changed.containsKey(id)) {
+                oldToNew[row] = -1;
+            } else {
+                oldToNew[row] = newRows.size();
+                newRows.add(rows[row]);
+            }
+        }
+        int firstAdded = newRows.size();
+        changed.values().stream().filter(p -> !deletedIds.contains(p.id().value())).forEach(newRows::add);
+
+        CatalogSnapshot next = new CatalogSnapshot(newRows,
+                categories.withAll(changed.values().stream().map(p -> p.category().value()).toList()),
+                brands.withAll(changed.values().stream().map(CatalogSnapshot::brandOf).toList()));
+
+        int[] added = new int[newRows.size() - firstAdded];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = firstAdded + i;
+        }
+        for (CatalogSortField field : CatalogSortField.values()) {
+            IntComparator comparator = next.comparator(field);
+            int[] kept = remap(orders.get(field), oldToNew, firstAdded);
+            next.orders.put(field, IntSort.merge(kept, IntSort.sort(added.clone(), comparator), comparator));
+        }
+        return next;
+    }
+
+    /**
+     * Página de productos en el orden del campo; {@code field} nulo ordena por ID.
+     */
+    public List<Product> page(CatalogSortField field, boolean descending, long offset, int limit) {
+        return collect(orders.get(field != null ? field : CatalogSortField.ID), null, descending, offset, limit);
+    }
+
+    /**
+     * Página de los productos que cumplen el filtro, junto con el total de coincidencias.
+     */
+    public CatalogPage page(ProductFilter filter, CatalogSortField field, boolean descending, long offset, int limit) {
+        if (filter.isEmpty()) {
+            return new CatalogPage(page(field, descending, offset, limit), rows.length);
+        }
+        CatalogSortField sortField = field != null ? field : CatalogSortField.ID;
+        RoaringBitmap matching = facets.matching(filter);
+        int total = matching.getCardinality();
+        if ((long) total * SPARSE_FILTER_RATIO < rows.length) {
+            int[] order = IntSort.sort(matching.toArray(), comparator(sortField));
+            return new CatalogPage(collect(order, null, descending, offset, limit), total);
+        }
+        return new CatalogPage(collect(orders.get(sortField), matching, descending, offset, limit), total);
+    }
+
+    public ProductFacets facets(ProductFilter filter) {
+        return facets.facets(filter);
+    }
+
+    // accepted nulo acepta todas las filas de la permutación
+    private List<Product> collect(int[] order, RoaringBitmap accepted, boolean descending, long offset, int limit) {
+        if (offset >= order.length || limit <= 0) {
+            return List.of();
+        }
+        List<Product> page = new ArrayList<>(Math.min(limit, order.length));
+        // Sin filtro se salta directo al desplazamiento; con filtro hay que contar las coincidencias
+        int start = accepted == null ? (int) offset : 0;
+        long skipped = start;
+        for (int i = start; i < order.length && page.size() < limit; i++) {
+            int row = order[descending ? order.length - 1 - i : i];
+            if (accepted != null && !accepted.contains(row)) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            page.add(rows[row]);
+        }
+        return Collections.unmodifiableList(page);
+    }
+
+    public Product findById(String id) {
+        Integer row = rowById.get(id);
+        return row != null ? rows[row] : null;
+    }
+
+    public int size() {
+        return rows.length;
+    }
+
+    private IntComparator comparator(CatalogSortField field) {
+        IntComparator byField = switch (field) {
+            case ID -> (a, b) -> 0;
+            case NAME -> (a, b) -> names[a].compareTo(names[b]);
+            case PRICE -> (a, b) -> Long.compare(priceCents[a], priceCents[b]);
+            case RATING -> (a, b) -> Double.compare(ratings[a], ratings[b]);
+            case CATEGORY -> (a, b) -> compareNullsLast(categories.value(categoryCodes[a]), categories.value(categoryCodes[b]));
+            case BRAND -> (a, b) -> compareNullsLast(brands.value(brandCodes[a]), brands.value(brandCodes[b]));
+        };
+        return (a, b) -> {
+            int result = byField.compare(a, b);
+            return result != 0 ? result : ids[a].compareTo(ids[b]);
+        };
+    }
+
+    private static int[] remap(int[] order, int[] oldToNew, int keptCount) {
+        int[] kept = new int[keptCount];
+        int next = 0;
+        for (int oldRow : order) {
+            int newRow = oldToNew[oldRow];
+            if (newRow >= 0) {
+                kept[next++] = newRow;
+            }
+        }
+        return kept;
+    }
+
+    private static int compareNullsLast(String a, String b) {
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : 1) : -1;
+        }
+        return a.compareTo(b);
+    }
+
+    private static String brandOf(Product product) {
+        return product.brand() != null ? product.brand().value() : null;
+    }
+
+    public record CatalogPage(List<Product> content, long total) { }
+
+    @FunctionalInterface
+    interface IntComparator {
+        int compare(int a, int b);
+    }
+
+    /** Ordenamiento estable de índices primitivos, sin boxing. */
+    static final class IntSort {
+        private IntSort() { }
+
+        static int[] sort(int[] values, IntComparator comparator) {
+            if (values.length < 2) {
+                return values;
+            }
+            int[] buffer = new int[values.length];
+            mergeSort(values, buffer, 0, values.length, comparator);
+            return values;
+        }
+
+        static int[] merge(int[] left, int[] right, IntComparator comparator) {
+            int[] merged = new int[left.length + right.length];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < left.length && j < right.length) {
+                merged[k++] = comparator.compare(left[i], right[j]) <= 0 ? left[i++] : right[j++];
+            }
+            while (i < left.length) {
+                merged[k++] = left[i++];
+            }
+            while (j < right.length) {
+                merged[k++] = right[j++];
+            }
+            return merged;
+        }
+
+        private static void mergeSort(int[] values, int[] buffer, int from, int to, IntComparator comparator) {
+            if (to - from < 2) {
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            mergeSort(values, buffer, from, middle, comparator);
+            mergeSort(values, buffer, middle, to, comparator);
+            if (comparator.compare(values[middle - 1], values[middle]) <= 0) {
+                return;
+            }
+            System.arraycopy(values, from, buffer, from, to - from);
+            int i = from;
+            int j = middle;
+            for (int k = from; k < to; k++) {
+                if (j >= to || (i < middle && comparator.compare(buffer[i], buffer[j]) <= 0)) {
+                    values[k] = buffer[i++];
+                } else {
+                    values[k] = buffer[j++];
+                }
+            }
+        }
+    }
+}
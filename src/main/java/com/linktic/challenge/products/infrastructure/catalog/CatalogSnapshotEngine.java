@@ -0,0 +1,340 @@
+package com.linktic.challenge.products.infrastructure.catalog;
+
+import com.linktic.challenge.products.domain.model.Product;
+import com.linktic.challenge.products.domain.model.ProductFacets;
+import com.linktic.challenge.products.domain.model.ProductFilter;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidation;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidationListener;
+import com.linktic.challenge.products.infrastructure.persistence.routing.ReadConsistencyContext;
+import com.linktic.challenge.products.infrastructure.warmup.WarmupProperties;
+import com.linktic.challenge.products.infrastructure.warmup.WarmupTask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mantiene el {@link CatalogSnapshot} vigente y atiende los listados desde él.
+ *
+ * <p>Las lecturas toman la referencia volátil sin bloquear. Los cambios locales se encolan tras el
+ * commit y el hilo propio del motor los aplica por lotes con copy-on-write: cada lote cuesta una sola
+ * reconstrucción del snapshot y quien escribe no la espera. Los cambios de otras instancias y los
+ * volcados de votos de rating llegan por {@link ProductInvalidationListener}, se releen de la base en
+ * ese mismo hilo y entran a la misma cola. Una recarga completa periódica corrige cualquier aviso
+ * perdido.</p>
+ *
+ * <p>Mientras un lote espera, el snapshot queda unos milisegundos atrás de la base; quien acaba de
+ * escribir no lo nota porque sus lecturas van al primario durante la ventana de read-your-writes.</p>
+ *
+ * <p>Hasta completar la primera carga, y cuando la petición exige leer del primario o usa un orden
+ * que el snapshot no indexa (más campos que el desempate por ID), {@link #findAll} retorna vacío y
+ * el listado va a la base.</p>
+ */
+@Slf4j
+public class CatalogSnapshotEngine implements ProductInvalidationListener, WarmupTask, SmartLifecycle {
+    private final CatalogSnapshotLoader loader;
+    private final CatalogSnapshotProperties properties;
+    private final Counter hits;
+    private final Counter fallbacks;
+    private final Counter batches;
+
+    private final Object reloadMonitor = new Object();
+    private final Object writeMonitor = new Object();
+    private final List<Change> changesDuringReload = new ArrayList<>();
+    private final List<Change> pendingChanges = new ArrayList<>();
+    private boolean reloading;
+    private boolean drainScheduled;
+
+    private volatile CatalogSnapshot snapshot;
+    private volatile ScheduledExecutorService scheduler;
+
+    public CatalogSnapshotEngine(CatalogSnapshotLoader loader, CatalogSnapshotProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.loader = loader;
+        this.properties = properties;
+        this.hits = queries(meterRegistry, "hit");
+        this.fallbacks = queries(meterRegistry, "fallback");
+        this.batches = Counter.builder("products.catalog.snapshot.batches")
+                .description("Lotes de cambios aplicados al snapshot, uno por reconstrucción")
+                .register(meterRegistry);
+        Gauge.builder("products.catalog.snapshot.size", this, engine -> engine.snapshot != null ? engine.snapshot.size() : 0)
+                .description("Productos en el snapshot en memoria")
+                .register(meterRegistry);
+    }
+
+    private static Counter queries(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("products.catalog.snapshot.queries")
+                .description("Listados y facetas atendidos desde el snapshot (hit) o derivados a la base (fallback)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Página del listado servida desde memoria, o vacío si debe consultarse la base.
+     */
+    public Optional<Page<Product>> findAll(ProductFilter filter, Pageable pageable) {
+        CatalogSnapshot current = servingSnapshot();
+        if (current == null) {
+            return fallback();
+        }
+
+        CatalogSortField field = CatalogSortField.ID;
+        boolean descending = false;
+        Sort sort = pageable.getSort();
+        if (sort.isSorted()) {
+            List<Sort.Order> orders = sort.toList();
+            Sort.Order order = orders.getFirst();
+            Optional<CatalogSortField> sortField = CatalogSortField.fromProperty(order.getProperty());
+            if (sortField.isEmpty() || !isPlain(order) || !hasIdTieBreak(orders, order.getDirection())) {
+                return fallback();
+            }
+            field = sortField.get();
+            descending = order.isDescending();
+        }
+
+        CatalogSnapshot.CatalogPage page = pageable.isPaged()
+                ? current.page(filter, field, descending, pageable.getOffset(), pageable.getPageSize())
+                : current.page(filter, field, descending, 0, current.size());
+        hits.increment();
+        return Optional.of(new PageImpl<>(page.content(), pageable, page.total()));
+    }
+
+    private static boolean isPlain(Sort.Order order) {
+        return !order.isIgnoreCase() && order.getNullHandling() == Sort.NullHandling.NATIVE;
+    }
+
+    // Las permutaciones desempatan por ID en la misma dirección del campo, igual que el planificador del listado
+    private static boolean hasIdTieBreak(List<Sort.Order> orders, Sort.Direction direction) {
+        if (orders.size() == 1) {
+            return true;
+        }
+        Sort.Order tieBreak = orders.get(1);
+        return orders.size() == 2 && tieBreak.getProperty().equals("id")
+                && tieBreak.getDirection() == direction && isPlain(tieBreak);
+    }
+
+    /**
+     * Conteos por faceta calculados sobre el índice de bitmaps, o vacío si debe consultarse la base.
+     */
+    public Optional<ProductFacets> countFacets(ProductFilter filter) {
+        CatalogSnapshot current = servingSnapshot();
+        if (current == null) {
+            fallbacks.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(current.facets(filter));
+    }
+
+    private CatalogSnapshot servingSnapshot() {
+        return ReadConsistencyContext.isPrimaryRequired() ? null : snapshot;
+    }
+
+    private Optional<Page<Product>> fallback() {
+        fallbacks.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Encola cambios ya confirmados en la base y programa su aplicación en el hilo del motor tras
+     * {@code apply-batch-window}; los que llegan mientras tanto se aplican en el mismo lote. Sin el
+     * motor iniciado se aplican en el acto.
+     */
+    public void apply(Collection<Product> upserts, Collection<String> deletedIds) {
+        Change change = new Change(List.copyOf(upserts), Set.copyOf(deletedIds));
+        ScheduledExecutorService executor = scheduler;
+        synchronized (writeMonitor) {
+            pendingChanges.add(change);
+            if (executor != null && drainScheduled) {
+                return;
+            }
+            drainScheduled = executor != null;
+        }
+        if (executor == null) {
+            applyPending();
+            return;
+        }
+        try {
+            executor.schedule(() -> runSafely("aplicación de cambios", this::applyPending),
+                    properties.applyBatchWindow().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            // El motor se detuvo entre la lectura del ejecutor y la programación
+            applyPending();
+        }
+    }
+
+    /**
+     * Aplica de una vez los cambios encolados. Si hay una recarga en curso, se anotan para
+     * reaplicarlos sobre el snapshot recién cargado, que pudo leer filas anteriores al cambio.
+     */
+    private void applyPending() {
+        synchronized (writeMonitor) {
+            drainScheduled = false;
+            if (pendingChanges.isEmpty()) {
+                return;
+            }
+            Change change = Change.merge(pendingChanges);
+            pendingChanges.clear();
+            if (reloading) {
+                changesDuringReload.add(change);
+            }
+            CatalogSnapshot current = snapshot;
+            if (current != null) {
+                snapshot = current.apply(change.upserts(), change.deletedIds());
+                batches.increment();
+            }
+        }
+    }
+
+    /**
+     * Reemplaza el snapshot por uno construido con todo el catálogo.
+     */
+    public void reload() {
+        synchronized (reloadMonitor) {
+            synchronized (writeMonitor) {
+                reloading = true;
+                changesDuringReload.clear();
+            }
+            try {
+                long start = System.nanoTime();
+                CatalogSnapshot loaded = CatalogSnapshot.of(loader.loadAll(properties.loadBatchSize()));
+                synchronized (writeMonitor) {
+                    for (Change change : changesDuringReload) {
+                        loaded = loaded.apply(change.upserts(), change.deletedIds());
+                    }
+                    snapshot = loaded;
+                }
+                log.info("Snapshot del catálogo cargado: {} productos en {} ms",
+                        loaded.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } finally {
+                synchronized (writeMonitor) {
+                    reloading = false;
+                    changesDuringReload.clear();
+                }
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        synchronized (reloadMonitor) {
+            if (snapshot == null) {
+                reload();
+            }
+        }
+    }
+
+    private void refresh(Set<String> productIds) {
+        // Se lee del primario: la réplica podría no tener aún el cambio que originó el aviso
+        ReadConsistencyContext.requirePrimary();
+        try {
+            List<Product> products = loader.loadByIds(productIds);
+            Set<String> deletedIds = new HashSet<>(productIds);
+            products.forEach(product -> deletedIds.remove(product.id().value()));
+            apply(products, deletedIds);
+        } finally {
+            ReadConsistencyContext.clear();
+        }
+    }
+
+    @Override
+    public void onInvalidation(ProductInvalidation invalidation) {
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null) {
+            return;
+        }
+        if (invalidation.all() || invalidation.productIds().isEmpty()) {
+            executor.execute(() -> runSafely("recarga completa", this::reload));
+        } else {
+            executor.execute(() -> runSafely("relectura de productos", () -> refresh(invalidation.productIds())));
+        }
+    }
+
+    @Override
+    public String name() {
+        return "catalog-snapshot";
+    }
+
+    @Override
+    public long warmUp(WarmupProperties warmupProperties) {
+        ensureLoaded();
+        return snapshot.size();
+    }
+
+    private static void runSafely(String operation, Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException ex) {
+            log.warn("Snapshot del catálogo: {} fallida, se mantiene el snapshot anterior: {}",
+                    operation, ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.refreshInterval().toMillis();
+        // Si el calentamiento está deshabilitado, la primera carga ocurre aquí en segundo plano
+        scheduler.execute(() -> runSafely("carga inicial", this::ensureLoaded));
+        scheduler.scheduleWithFixedDelay(() -> runSafely("recarga periódica", this::reload),
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private record Change(Collection<Product> upserts, Set<String> deletedIds) {
+
+        // En orden de llegada: el último cambio de cada producto gana, sea alta, modificación o baja
+        static Change merge(List<Change> changes) {
+            Map<String, Product> upserts = new LinkedHashMap<>();
+            Set<String> deletedIds = new HashSet<>();
+            for (Change change : changes) {
+                for (Product product : change.upserts()) {
+                    String id = product.id().value();
+                    deletedIds.remove(id);
+                    upserts.put(id, product);
+                }
+                for (String id : change.deletedIds()) {
+                    upserts.remove(id);
+                    deletedIds.add(id);
+                }
+            }
+            return new Change(List.copyOf(upserts.values()), Set.copyOf(deletedIds));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.linktic.challenge.products.infrastructure.catalog;
+
+import com.linktic.challenge.products.domain.model.Product;
+import com.linktic.challenge.products.infrastructure.persistence.mapper.ProductEntityMapper;
+import com.linktic.challenge.products.infrastructure.persistence.repository.ProductJpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lee productos con sus especificaciones para construir o actualizar el snapshot. Cada lote usa su
+ * propia transacción de solo lectura (puede ir a la réplica) para no retener una conexión durante
+ * toda la carga.
+ */
+public class CatalogSnapshotLoader {
+    private final ProductJpaRepository productJpaRepository;
+    private final ProductEntityMapper productMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public CatalogSnapshotLoader(ProductJpaRepository productJpaRepository,
+                                 ProductEntityMapper productMapper,
+                                 TransactionTemplate readOnlyTransaction) {
+        this.productJpaRepository = productJpaRepository;
+        this.productMapper = productMapper;
+        this.readOnlyTransaction = readOnlyTransaction;
+    }
+
+    public List<Product> loadAll(int batchSize) {
+        List<Product> products = new ArrayList<>();
+        String afterId = "";
+        while (true) {
+            List<String> ids = productJpaRepository.findIdsAfter(afterId, Limit.of(batchSize));
+            if (ids.isEmpty()) {
+                return products;
+            }
+            products.addAll(loadByIds(ids));
+            afterId = ids.getLast();
+        }
+    }
+
+    public List<Product> loadByIds(Collection<String> ids) {
+        return readOnlyTransaction.execute(status -> productJpaRepository.findWithSpecificationsByIdIn(ids)
+                .stream()
+                .map(productMapper::toDomain)
+                .toList());
+    }
+}
@@ -0,0 +1,22 @@
+package com.linktic.challenge.products.infrastructure.catalog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Snapshot en memoria del catálogo para listados ({@code products.catalog-snapshot.*}).
+ *
+ * @param refreshInterval  recarga completa periódica, red de seguridad ante cambios no notificados
+ * @param loadBatchSize    productos por consulta durante la carga
+ * @param applyBatchWindow espera antes de aplicar un lote de cambios; los que llegan en ella comparten
+ *                         una sola reconstrucción del snapshot
+ */
+@ConfigurationProperties(prefix = "products.catalog-snapshot")
+public record CatalogSnapshotProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10m") Duration refreshInterval,
+        @DefaultValue("5000") int loadBatchSize,
+        @DefaultValue("20ms") Duration applyBatchWindow
+) { }
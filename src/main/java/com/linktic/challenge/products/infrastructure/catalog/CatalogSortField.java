@@ -0,0 +1,27 @@
+package com.linktic.challenge.products.infrastructure.catalog;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Campos por los que el snapshot mantiene un índice de orden precalculado; el nombre es la propiedad
+ * que llega en el {@code Sort} de la petición.
+ */
+public enum CatalogSortField {
+    ID("id"),
+    NAME("name"),
+    PRICE("price"),
+    RATING("rating"),
+    CATEGORY("category"),
+    BRAND("brand");
+
+    private final String property;
+
+    CatalogSortField(String property) {
+        this.property = property;
+    }
+
+    public static Optional<CatalogSortField> fromProperty(String property) {
+        return Arrays.stream(values()).filter(field -> field.property.equals(property)).findFirst();
+    }
+}
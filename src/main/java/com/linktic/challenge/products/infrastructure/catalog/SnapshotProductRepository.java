@@ -0,0 +1,131 @@
+package com.linktic.challenge.products.infrastructure.catalog;
+
+import com.linktic.challenge.products.domain.model.Product;
+import com.linktic.challenge.products.domain.model.ProductFacets;
+import com.linktic.challenge.products.domain.model.ProductField;
+import com.linktic.challenge.products.domain.model.ProductFilter;
+import com.linktic.challenge.products.domain.model.ProductPatch;
+import com.linktic.challenge.products.domain.model.ProductProjection;
+import com.linktic.challenge.products.domain.repository.ProductRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@link ProductRepository} que atiende los listados y las facetas desde el {@link CatalogSnapshotEngine}
+ * y delega el resto en el adaptador JPA. Los listados con {@code fields} se recortan en memoria. Cada
+ * escritura se refleja en el snapshot solo después del commit.
+ */
+public class SnapshotProductRepository implements ProductRepository {
+    private final ProductRepository delegate;
+    private final CatalogSnapshotEngine engine;
+
+    public SnapshotProductRepository(ProductRepository delegate, CatalogSnapshotEngine engine) {
+        this.delegate = delegate;
+        this.engine = engine;
+    }
+
+    @Override
+    public Optional<Product> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Page<Product> findAll(Pageable pageable) {
+        return engine.findAll(ProductFilter.none(), pageable).orElseGet(() -> delegate.findAll(pageable));
+    }
+
+    @Override
+    public Page<Product> findAll(ProductFilter filter, Pageable pageable) {
+        return engine.findAll(filter, pageable).orElseGet(() -> delegate.findAll(filter, pageable));
+    }
+
+    @Override
+    public Optional<ProductProjection> findById(String id, Set<ProductField> fields) {
+        return delegate.findById(id, fields);
+    }
+
+    @Override
+    public Page<ProductProjection> findAll(ProductFilter filter, Set<ProductField> fields, Pageable pageable) {
+        return engine.findAll(filter, pageable)
+                .map(page -> page.map(product -> ProductProjection.of(product, fields)))
+                .orElseGet(() -> delegate.findAll(filter, fields, pageable));
+    }
+
+    @Override
+    public ProductFacets countFacets(ProductFilter filter) {
+        return engine.countFacets(filter).orElseGet(() -> delegate.countFacets(filter));
+    }
+
+    @Override
+    public Product save(Product product) {
+        Product saved = delegate.save(product);
+        afterCommit(List.of(saved), List.of());
+        return saved;
+    }
+
+    @Override
+    public Product update(Product product) {
+        Product updated = delegate.update(product);
+        afterCommit(List.of(updated), List.of());
+        return updated;
+    }
+
+    @Override
+    public Product patch(ProductPatch patch) {
+        Product patched = delegate.patch(patch);
+        afterCommit(List.of(patched), List.of());
+        return patched;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delegate.deleteById(id);
+        afterCommit(List.of(), List.of(id));
+    }
+
+    @Override
+    public void deleteById(String id, Long expectedVersion) {
+        delegate.deleteById(id, expectedVersion);
+        afterCommit(List.of(), List.of(id));
+    }
+
+    @Override
+    public List<String> deleteAllById(Collection<String> ids) {
+        List<String> deletedIds = delegate.deleteAllById(ids);
+        afterCommit(List.of(), deletedIds);
+        return deletedIds;
+    }
+
+    @Override
+    public List<String> deleteByCategory(String category, int limit) {
+        List<String> deletedIds = delegate.deleteByCategory(category, limit);
+        afterCommit(List.of(), deletedIds);
+        return deletedIds;
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return delegate.existsById(id);
+    }
+
+    private void afterCommit(List<Product> upserts, List<String> deletedIds) {
+        // El adaptador confirma su propia transacción; si el llamador abrió una, se espera a su commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    engine.apply(upserts, deletedIds);
+                }
+            });
+        } else {
+            engine.apply(upserts, deletedIds);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.linktic.challenge.products.infrastructure.concurrency;
+
+/**
+ * Límite de concurrencia que se ajusta con la latencia observada (algoritmo de gradiente).
+ *
+ * <p>Se mantiene una latencia de referencia como media móvil larga. Cada muestra produce un gradiente
+ * {@code tolerance * referencia / muestra}, acotado a [0.5, 1]: mientras la latencia no supere la
+ * referencia por más de {@code tolerance} el gradiente es 1 y el límite crece en {@code sqrt(límite)}
+ * (la cola que se admite para sondear capacidad); cuando la base se degrada el gradiente cae y el
+ * límite baja en proporción. Si hay menos de la mitad del límite en curso, la muestra no dice nada
+ * sobre la capacidad y el límite no cambia.</p>
+ *
+ * <p>Tras una mejora notable (la referencia duplica la muestra) la referencia se acerca rápido a la
+ * latencia nueva, así el límite no queda inflado cuando la base vuelve a degradarse.</p>
+ */
+public class AdaptiveConcurrencyLimit {
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final double tolerance;
+    private final double smoothing;
+    private final int baselineWindow;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private double limit;
+    private double baselineNanos;
+
+    public AdaptiveConcurrencyLimit(ConcurrencyLimitProperties.Bounds bounds, double tolerance,
+                                    double smoothing, int baselineWindow) {
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.baselineWindow = baselineWindow;
+        this.minLimit = bounds.min();
+        this.maxLimit = bounds.max();
+        this.limit = bounds.initial();
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    /**
+     * Registra la latencia de una petición completada y retorna el límite resultante.
+     *
+     * @param inFlight peticiones en curso cuando empezó la muestreada, incluida ella
+     */
+    public synchronized int onSample(long latencyNanos, int inFlight) {
+        double sample = Math.max(1, latencyNanos);
+        baselineNanos = baselineNanos == 0 ? sample : baselineNanos + (sample - baselineNanos) / baselineWindow;
+        if (baselineNanos / sample > 2) {
+            baselineNanos *= 0.95;
+        }
+
+        if (inFlight < limit / 2) {
+            return (int) limit;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * baselineNanos / sample));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - smoothing) + target * smoothing));
+        return (int) limit;
+    }
+}
@@ -0,0 +1,21 @@
+package com.linktic.challenge.products.infrastructure.concurrency;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * La petición se rechaza porque su tipo (lectura o escritura) alcanzó el límite de concurrencia.
+ * No captura el stack: se lanza justamente cuando hay sobrecarga y debe ser barata.
+ */
+@Getter
+public class ConcurrencyLimitExceededException extends RuntimeException {
+    private final String limiter;
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitExceededException(String limiter, int limit, Duration retryAfter) {
+        super(String.format("Concurrency limit of %d in-flight %s requests reached", limit, limiter), null, false, false);
+        this.limiter = limiter;
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,45 @@
+package com.linktic.challenge.products.infrastructure.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Límite adaptativo de peticiones simultáneas a {@code ProductController} ({@code products.concurrency-limit.*}).
+ *
+ * @param retryAfter     valor de {@code Retry-After} en las respuestas 503
+ * @param tolerance      cuánto puede crecer la latencia sobre la línea base antes de reducir el límite
+ * @param smoothing      peso de cada ajuste sobre el límite vigente (0-1)
+ * @param baselineWindow muestras que promedia la latencia de referencia
+ * @param read           límites de las lecturas (GET, HEAD)
+ * @param write          límites de las escrituras
+ */
+@ConfigurationProperties(prefix = "products.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1s") Duration retryAfter,
+        @DefaultValue("2.0") double tolerance,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("600") int baselineWindow,
+        Bounds read,
+        Bounds write
+) {
+    public ConcurrencyLimitProperties {
+        read = read != null ? read : new Bounds(20, 4, 200);
+        write = write != null ? write : new Bounds(10, 2, 50);
+    }
+
+    /**
+     * @param initial límite al arrancar
+     * @param min     piso: siempre se admiten al menos estas peticiones simultáneas
+     * @param max     techo del límite
+     */
+    public record Bounds(int initial, int min, int max) {
+        public Bounds {
+            if (min < 1 || min > initial || initial > max) {
+                throw new IllegalArgumentException("Concurrency limit bounds must satisfy 1 <= min <= initial <= max");
+            }
+        }
+    }
+}
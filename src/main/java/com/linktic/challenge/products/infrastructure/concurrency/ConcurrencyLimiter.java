@@ -0,0 +1,76 @@
+package com.linktic.challenge.products.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admite peticiones mientras las que están en curso no superen el {@link AdaptiveConcurrencyLimit}.
+ * Nunca encola: sin cupo se rechaza de inmediato, antes de ocupar un hilo esperando conexión.
+ */
+public class ConcurrencyLimiter {
+    private final String name;
+    private final AdaptiveConcurrencyLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+
+    public ConcurrencyLimiter(String name, AdaptiveConcurrencyLimit limit, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.limit = limit;
+        Gauge.builder("products.concurrency.limit", limit, AdaptiveConcurrencyLimit::limit)
+                .description("Peticiones simultáneas admitidas")
+                .tag("limiter", name)
+                .register(meterRegistry);
+        Gauge.builder("products.concurrency.in_flight", inFlight, AtomicInteger::get)
+                .description("Peticiones en curso")
+                .tag("limiter", name)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("products.concurrency.rejected")
+                .description("Peticiones rechazadas con 503 por superar el límite")
+                .tag("limiter", name)
+                .register(meterRegistry);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int limit() {
+        return limit.limit();
+    }
+
+    public Optional<Permit> tryAcquire() {
+        int current = limit.limit();
+        while (true) {
+            int active = inFlight.get();
+            if (active >= current) {
+                rejected.increment();
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(active, active + 1)) {
+                return Optional.of(new Permit(System.nanoTime(), active + 1));
+            }
+        }
+    }
+
+    /**
+     * Cupo de una petición admitida; debe liberarse exactamente una vez.
+     */
+    public final class Permit {
+        private final long startNanos;
+        private final int inFlightAtStart;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        public void release() {
+            inFlight.decrementAndGet();
+            limit.onSample(System.nanoTime() - startNanos, inFlightAtStart);
+        }
+    }
+}
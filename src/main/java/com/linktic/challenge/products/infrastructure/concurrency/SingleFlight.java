@@ -0,0 +1,94 @@
+package com.linktic.challenge.products.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta una sola carga por clave a la vez: quien llega primero (líder) carga y las peticiones con la
+ * misma clave que llegan mientras tanto reciben su resultado o su excepción.
+ *
+ * <p>No es una caché: la clave se libera al terminar la carga, así que una petición posterior vuelve a
+ * cargar. Si la carga del líder tarda más que {@code timeout}, la petición agrupada deja de esperar y
+ * carga por su cuenta (el límite de concurrencia acota cuántas pueden hacerlo).</p>
+ */
+@Slf4j
+public class SingleFlight<K> {
+    private final ConcurrentMap<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(Duration timeout, MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param operation nombre de la lectura para las métricas
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V execute(String operation, K key, Supplier<V> loader) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        if (existing == null) {
+            count(operation, "leader");
+            return lead(key, created, loader);
+        }
+
+        count(operation, "collapsed");
+        try {
+            return (V) existing.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            count(operation, "timeout");
+            log.debug("Carga en curso de {} superó {}, se carga por separado", key, timeout);
+            return loader.get();
+        } catch (ExecutionException ex) {
+            throw propagate(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight load of " + key, ex);
+        }
+    }
+
+    private <V> V lead(K key, CompletableFuture<Object> created, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            created.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    // Las peticiones agrupadas reciben la misma excepción que el líder (p. ej. ProductNotFoundException)
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private void count(String operation, String result) {
+        Counter.builder("products.singleflight.calls")
+                .description("Lecturas por resultado: cargadas (leader), agrupadas (collapsed) o agrupadas que vencieron (timeout)")
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,84 @@
+package com.linktic.challenge.products.infrastructure.concurrency;
+
+import com.linktic.challenge.products.application.port.in.ProductQueryUseCase;
+import com.linktic.challenge.products.domain.model.Product;
+import com.linktic.challenge.products.domain.model.ProductFacets;
+import com.linktic.challenge.products.domain.model.ProductField;
+import com.linktic.challenge.products.domain.model.ProductFilter;
+import com.linktic.challenge.products.domain.model.ProductProjection;
+import com.linktic.challenge.products.infrastructure.persistence.routing.ReadConsistencyContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Set;
+
+/**
+ * {@link ProductQueryUseCase} que agrupa las lecturas idénticas simultáneas con {@link SingleFlight}:
+ * el mismo ID, o la misma página (número, tamaño, orden, filtro y campos), se carga una sola vez aunque la
+ * pidan muchas peticiones a la vez.
+ *
+ * <p>La clave incluye si la petición exige leer del primario: una lectura read-your-writes no recibe
+ * el resultado de una carga hecha contra la réplica.</p>
+ */
+public class SingleFlightProductQueryUseCase implements ProductQueryUseCase {
+    private final ProductQueryUseCase delegate;
+    private final SingleFlight<ReadKey> singleFlight;
+
+    public SingleFlightProductQueryUseCase(ProductQueryUseCase delegate, SingleFlight<ReadKey> singleFlight) {
+        this.delegate = delegate;
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public Product findById(String id) {
+        return singleFlight.execute("findById", key("findById", id), () -> delegate.findById(id));
+    }
+
+    @Override
+    public Page<Product> findAllProducts(Pageable pageable) {
+        return findAllProducts(ProductFilter.none(), pageable);
+    }
+
+    @Override
+    public Page<Product> findAllProducts(ProductFilter filter, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return delegate.findAllProducts(filter, pageable);
+        }
+        PageRequest page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        return singleFlight.execute("findAllProducts", key("findAllProducts", new PageKey(page, filter)),
+                () -> delegate.findAllProducts(filter, pageable));
+    }
+
+    @Override
+    public ProductProjection findById(String id, Set<ProductField> fields) {
+        return singleFlight.execute("findById", key("findById", new ProjectionKey(id, Set.copyOf(fields))),
+                () -> delegate.findById(id, fields));
+    }
+
+    @Override
+    public Page<ProductProjection> findAllProducts(ProductFilter filter, Set<ProductField> fields, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return delegate.findAllProducts(filter, fields, pageable);
+        }
+        PageRequest page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        return singleFlight.execute("findAllProducts",
+                key("findAllProducts", new ProjectionKey(new PageKey(page, filter), Set.copyOf(fields))),
+                () -> delegate.findAllProducts(filter, fields, pageable));
+    }
+
+    @Override
+    public ProductFacets countFacets(ProductFilter filter) {
+        return singleFlight.execute("countFacets", key("countFacets", filter), () -> delegate.countFacets(filter));
+    }
+
+    private static ReadKey key(String operation, Object argument) {
+        return new ReadKey(operation, argument, ReadConsistencyContext.isPrimaryRequired());
+    }
+
+    public record ReadKey(String operation, Object argument, boolean primaryRequired) { }
+
+    private record PageKey(PageRequest page, ProductFilter filter) { }
+
+    private record ProjectionKey(Object read, Set<ProductField> fields) { }
+}
@@ -0,0 +1,17 @@
+package com.linktic.challenge.products.infrastructure.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Agrupación de lecturas idénticas simultáneas ({@code products.single-flight.*}).
+ *
+ * @param timeout cuánto espera una petición agrupada la carga en curso antes de hacer la suya
+ */
+@ConfigurationProperties(prefix = "products.single-flight")
+public record SingleFlightProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("2s") Duration timeout
+) { }
@@ -0,0 +1,34 @@
+package com.linktic.challenge.products.infrastructure.config;
+
+import com.linktic.challenge.products.infrastructure.autocomplete.AutocompleteLoader;
+import com.linktic.challenge.products.infrastructure.autocomplete.AutocompleteProperties;
+import com.linktic.challenge.products.infrastructure.autocomplete.ProductAutocompleteEngine;
+import com.linktic.challenge.products.infrastructure.persistence.repository.ProductJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Autocompletado en memoria sobre nombres y marcas ({@code products.autocomplete.*}).
+ */
+@Configuration
+@EnableConfigurationProperties(AutocompleteProperties.class)
+public class AutocompleteConfig {
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE + 30) // tras los destacados y antes de repetir peticiones
+    public ProductAutocompleteEngine productAutocompleteEngine(ProductJpaRepository productJpaRepository,
+                                                               PlatformTransactionManager transactionManager,
+                                                               AutocompleteProperties properties,
+                                                               MeterRegistry meterRegistry) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return new ProductAutocompleteEngine(
+                new AutocompleteLoader(productJpaRepository, readOnlyTransaction), properties, meterRegistry);
+    }
+}
@@ -0,0 +1,32 @@
+package com.linktic.challenge.products.infrastructure.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Codificaciones binarias para llamadas entre servicios: {@code application/cbor} y
+ * {@code application/x-jackson-smile}, negociadas con {@code Accept} (y {@code Content-Type} en los cuerpos).
+ *
+ * <p>Spring MVC ya registra estos convertidores cuando las librerías están en el classpath, pero con un
+ * {@code ObjectMapper} propio. Declararlos como beans los reemplaza en la misma posición, detrás del de
+ * JSON (que sigue siendo el formato para {@code Accept: *}{@code /*}), y con el builder de Spring Boot, así
+ * aplican los mismos módulos y opciones {@code spring.jackson.*} que las respuestas JSON.</p>
+ */
+@Configuration
+public class BinaryFormatsConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
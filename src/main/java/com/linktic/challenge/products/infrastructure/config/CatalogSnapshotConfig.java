@@ -0,0 +1,54 @@
+package com.linktic.challenge.products.infrastructure.config;
+
+import com.linktic.challenge.products.infrastructure.adapter.ProductRepositoryAdapter;
+import com.linktic.challenge.products.infrastructure.catalog.CatalogSnapshotEngine;
+import com.linktic.challenge.products.infrastructure.catalog.CatalogSnapshotLoader;
+import com.linktic.challenge.products.infrastructure.catalog.CatalogSnapshotProperties;
+import com.linktic.challenge.products.infrastructure.catalog.SnapshotProductRepository;
+import com.linktic.challenge.products.infrastructure.persistence.mapper.ProductEntityMapper;
+import com.linktic.challenge.products.infrastructure.persistence.repository.ProductJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Snapshot columnar del catálogo en memoria para los listados ({@code products.catalog-snapshot.*}).
+ *
+ * <p>El repositorio decorado se declara {@link Primary}, así el caso de uso lo recibe sin cambios y
+ * el adaptador JPA sigue disponible por su tipo concreto.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(CatalogSnapshotProperties.class)
+@ConditionalOnProperty(prefix = "products.catalog-snapshot", name = "enabled", havingValue = "true")
+public class CatalogSnapshotConfig {
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE + 10) // tras llenar el pool y antes de repetir peticiones
+    public CatalogSnapshotEngine catalogSnapshotEngine(ProductJpaRepository productJpaRepository,
+                                                       ProductEntityMapper productEntityMapper,
+                                                       PlatformTransactionManager transactionManager,
+                                                       CatalogSnapshotProperties properties,
+                                                       MeterRegistry meterRegistry) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return new CatalogSnapshotEngine(
+                new CatalogSnapshotLoader(productJpaRepository, productEntityMapper, readOnlyTransaction),
+                properties,
+                meterRegistry
+        );
+    }
+
+    @Bean
+    @Primary
+    public SnapshotProductRepository snapshotProductRepository(ProductRepositoryAdapter productRepositoryAdapter,
+                                                               CatalogSnapshotEngine catalogSnapshotEngine) {
+        return new SnapshotProductRepository(productRepositoryAdapter, catalogSnapshotEngine);
+    }
+}
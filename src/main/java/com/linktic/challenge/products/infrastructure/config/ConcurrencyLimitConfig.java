@@ -0,0 +1,50 @@
+package com.linktic.challenge.products.infrastructure.config;
+
+import com.linktic.challenge.products.infrastructure.concurrency.AdaptiveConcurrencyLimit;
+import com.linktic.challenge.products.infrastructure.concurrency.ConcurrencyLimitProperties;
+import com.linktic.challenge.products.infrastructure.concurrency.ConcurrencyLimiter;
+import com.linktic.challenge.products.infrastructure.web.ConcurrencyLimitInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Límite adaptativo de concurrencia delante de {@code ProductController} ({@code products.concurrency-limit.*}).
+ *
+ * <p>El interceptor se registra primero: una petición rechazada no llega a abrir la medición de
+ * sentencias ni a pedir una conexión.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(prefix = "products.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ConcurrencyLimitProperties properties;
+
+    public ConcurrencyLimitConfig(ObjectProvider<MeterRegistry> meterRegistry, ConcurrencyLimitProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(
+                        limiter("read", properties.read()),
+                        limiter("write", properties.write()),
+                        properties.retryAfter()))
+                .addPathPatterns("/api/**")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    private ConcurrencyLimiter limiter(String name, ConcurrencyLimitProperties.Bounds bounds) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+                bounds, properties.tolerance(), properties.smoothing(), properties.baselineWindow());
+        return new ConcurrencyLimiter(name, limit, meterRegistry.getObject());
+    }
+}
@@ -0,0 +1,78 @@
+package com.linktic.challenge.products.infrastructure.config;
+
+import com.linktic.challenge.products.infrastructure.persistence.pool.ConnectionLeakDetector;
+import com.linktic.challenge.products.infrastructure.persistence.pool.ConnectionPoolProperties;
+import com.linktic.challenge.products.infrastructure.persistence.pool.LeakTrackingDataSource;
+import com.linktic.challenge.products.infrastructure.persistence.pool.PoolAutoSizer;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Observación y dimensionado de los pools JDBC ({@code products.datasource.pool.*}).
+ *
+ * <p>Los histogramas y gauges de cada pool ({@code hikaricp.connections.*}) los publica Spring Boot; aquí se
+ * añade la detección de fugas por petición y, opcionalmente, el ajuste automático del tamaño.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(ConnectionPoolProperties.class)
+public class ConnectionPoolConfig {
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "products.datasource.pool.leak-detection", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public static class LeakDetectionConfig {
+
+        @Bean
+        public ConnectionLeakDetector connectionLeakDetector(ConnectionPoolProperties properties, MeterRegistry meterRegistry) {
+            return new ConnectionLeakDetector(properties.leakDetection().threshold(), meterRegistry, Clock.systemUTC());
+        }
+
+        /**
+         * Igual que la medición de sentencias, envuelve solo el bean {@code dataSource}.
+         */
+        @Bean
+        public static BeanPostProcessor leakTrackingDataSourcePostProcessor(ObjectProvider<ConnectionLeakDetector> detector) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                            && !(bean instanceof LeakTrackingDataSource)) {
+                        return new LeakTrackingDataSource(dataSource, detector.getObject());
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "products.datasource.pool.auto-size", name = "enabled", havingValue = "true")
+    public PoolAutoSizer poolAutoSizer(DataSource dataSource, ListableBeanFactory beanFactory,
+                                       MeterRegistry meterRegistry, ConnectionPoolProperties properties) {
+        // Con réplica los pools son beans propios; sin ella, el pool está detrás del bean dataSource envuelto
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        beanFactory.getBeansOfType(HikariDataSource.class)
+                .values().forEach(pool -> pools.put(pool.getPoolName(), pool));
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+                pools.putIfAbsent(pool.getPoolName(), pool);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Cannot resolve the Hikari pool behind the dataSource bean", ex);
+        }
+        return new PoolAutoSizer(pools.values(), meterRegistry, properties.autoSize());
+    }
+}
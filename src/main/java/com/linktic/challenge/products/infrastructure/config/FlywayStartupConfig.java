@@ -0,0 +1,58 @@
+package com.linktic.challenge.products.infrastructure.config;
+
+import com.linktic.challenge.products.infrastructure.persistence.migration.Backfill;
+import com.linktic.challenge.products.infrastructure.persistence.migration.BackfillProperties;
+import com.linktic.challenge.products.infrastructure.persistence.migration.BackfillRunner;
+import com.linktic.challenge.products.infrastructure.persistence.migration.MigrationProperties;
+import com.linktic.challenge.products.infrastructure.persistence.migration.RatingVotesBackfill;
+import com.linktic.challenge.products.infrastructure.persistence.migration.SchemaFingerprintMigrationStrategy;
+import com.linktic.challenge.products.infrastructure.persistence.routing.ReplicaLagMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Estrategia de arranque de Flyway, que omite la validación cuando los scripts no cambiaron, y backfills en
+ * segundo plano posteriores a las migraciones ({@code products.migration.backfill.*}).
+ */
+@Configuration
+@EnableConfigurationProperties({MigrationProperties.class, BackfillProperties.class})
+public class FlywayStartupConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(ResourcePatternResolver resourcePatternResolver,
+                                                           MigrationProperties properties) {
+        return new SchemaFingerprintMigrationStrategy(resourcePatternResolver, properties);
+    }
+
+    @Bean
+    public Backfill ratingVotesBackfill() {
+        return new RatingVotesBackfill();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "products.migration.backfill", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public BackfillRunner backfillRunner(ObjectProvider<Backfill> backfills,
+                                         JdbcTemplate jdbcTemplate,
+                                         PlatformTransactionManager transactionManager,
+                                         BackfillProperties properties,
+                                         ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                                         MeterRegistry meterRegistry) {
+        return new BackfillRunner(
+                backfills.orderedStream().toList(),
+                jdbcTemplate,
+                new TransactionTemplate(transactionManager),
+                properties,
+                replicaLagMonitor.getIfAvailable(),
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package com.linktic.challenge.products.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linktic.challenge.products.infrastructure.idempotency.IdempotencyKeyPurger;
+import com.linktic.challenge.products.infrastructure.idempotency.IdempotencyKeyStore;
+import com.linktic.challenge.products.infrastructure.idempotency.IdempotencyProperties;
+import com.linktic.challenge.products.infrastructure.idempotency.IdempotentRequests;
+import com.linktic.challenge.products.infrastructure.persistence.repository.IdempotencyKeyJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Claves de idempotencia de las escrituras ({@code products.idempotency.*}).
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyKeyStore idempotencyKeyStore(IdempotencyKeyJpaRepository idempotencyKeyJpaRepository,
+                                                   PlatformTransactionManager transactionManager,
+                                                   IdempotencyProperties properties) {
+        return new IdempotencyKeyStore(idempotencyKeyJpaRepository, new TransactionTemplate(transactionManager), properties);
+    }
+
+    @Bean
+    public IdempotentRequests idempotentRequests(IdempotencyKeyStore idempotencyKeyStore, ObjectMapper objectMapper,
+                                                 IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        return new IdempotentRequests(idempotencyKeyStore, objectMapper, properties, meterRegistry);
+    }
+
+    @Bean
+    public IdempotencyKeyPurger idempotencyKeyPurger(IdempotencyKeyStore idempotencyKeyStore,
+                                                     IdempotencyProperties properties) {
+        return new IdempotencyKeyPurger(idempotencyKeyStore, properties);
+    }
+}
@@ -0,0 +1,26 @@
+package com.linktic.challenge.products.infrastructure.config;
+
+import com.linktic.challenge.products.domain.repository.ProductPopularityRepository;
+import com.linktic.challenge.products.infrastructure.popularity.PopularityProperties;
+import com.linktic.challenge.products.infrastructure.popularity.ProductViewCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Visitas contadas en memoria y volcadas como popularidad con decaimiento ({@code products.popularity.*}).
+ */
+@Configuration
+@EnableConfigurationProperties(PopularityProperties.class)
+public class PopularityConfig {
+
+    @Bean
+    public ProductViewCounter productViewCounter(ProductPopularityRepository productPopularityRepository,
+                                                 PopularityProperties properties,
+                                                 MeterRegistry meterRegistry) {
+        return new ProductViewCounter(productPopularityRepository, properties, Clock.systemUTC(), meterRegistry);
+    }
+}
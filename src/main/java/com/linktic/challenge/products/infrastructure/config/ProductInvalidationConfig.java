@@ -0,0 +1,48 @@
+package com.linktic.challenge.products.infrastructure.config;
+
+import com.linktic.challenge.products.application.usecase.ProductUseCaseImpl;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidationListener;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidationProperties;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidationSubscriber;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductWriteListener;
+import com.linktic.challenge.products.infrastructure.invalidation.WriteNotifyingProductManagementUseCase;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+/**
+ * Invalidación de cachés entre instancias sobre {@code LISTEN/NOTIFY} ({@code products.invalidation.*}).
+ *
+ * <p>La escucha usa una conexión propia contra el primario, fuera del pool: una conexión en
+ * {@code LISTEN} queda ocupada mientras viva la instancia y las réplicas no reciben avisos.</p>
+ *
+ * <p>Las escrituras de esta instancia llegan además al momento a los {@link ProductWriteListener} por un
+ * decorador {@link Primary} de {@code ProductManagementUseCase}.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(ProductInvalidationProperties.class)
+public class ProductInvalidationConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "products.invalidation", name = "enabled", havingValue = "true")
+    public ProductInvalidationSubscriber productInvalidationSubscriber(DataSourceProperties dataSourceProperties,
+                                                                       ObjectProvider<ProductInvalidationListener> listeners,
+                                                                       ProductInvalidationProperties properties) {
+        SimpleDriverDataSource listenDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(SimpleDriverDataSource.class)
+                .build();
+        return new ProductInvalidationSubscriber(listenDataSource, listeners.orderedStream().toList(), properties);
+    }
+
+    @Bean
+    @Primary
+    public WriteNotifyingProductManagementUseCase writeNotifyingProductManagementUseCase(
+            ProductUseCaseImpl productUseCase, ObjectProvider<ProductWriteListener> listeners) {
+        return new WriteNotifyingProductManagementUseCase(productUseCase, listeners.orderedStream().toList());
+    }
+}
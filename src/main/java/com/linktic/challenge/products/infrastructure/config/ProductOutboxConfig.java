@@ -0,0 +1,56 @@
+package com.linktic.challenge.products.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linktic.challenge.products.infrastructure.outbox.FileProductChangeEventSink;
+import com.linktic.challenge.products.infrastructure.outbox.InProcessProductChangeEventSink;
+import com.linktic.challenge.products.infrastructure.outbox.ProductChangeEventSink;
+import com.linktic.challenge.products.infrastructure.outbox.ProductOutboxProperties;
+import com.linktic.challenge.products.infrastructure.outbox.ProductOutboxRelay;
+import com.linktic.challenge.products.infrastructure.persistence.repository.ProductOutboxJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+/**
+ * Relay del outbox de productos y selección del sink ({@code products.outbox.sink}).
+ *
+ * <p>Para otro destino (broker, webhook) se declara un bean {@link ProductChangeEventSink} propio y se
+ * configura {@code products.outbox.sink=custom} para desactivar los incluidos.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(ProductOutboxProperties.class)
+public class ProductOutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "products.outbox", name = "sink", havingValue = "file")
+    public ProductChangeEventSink fileProductChangeEventSink(ProductOutboxProperties properties, ObjectMapper objectMapper) {
+        return new FileProductChangeEventSink(properties.file(), objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "products.outbox", name = "sink", havingValue = "in-process", matchIfMissing = true)
+    public ProductChangeEventSink inProcessProductChangeEventSink(ApplicationEventPublisher applicationEventPublisher) {
+        return new InProcessProductChangeEventSink(applicationEventPublisher);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "products.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+    public ProductOutboxRelay productOutboxRelay(ProductOutboxJpaRepository productOutboxJpaRepository,
+                                                 ProductChangeEventSink productChangeEventSink,
+                                                 PlatformTransactionManager transactionManager,
+                                                 ProductOutboxProperties properties) {
+        return new ProductOutboxRelay(
+                productOutboxJpaRepository,
+                productChangeEventSink,
+                new TransactionTemplate(transactionManager),
+                properties,
+                Clock.systemUTC()
+        );
+    }
+}
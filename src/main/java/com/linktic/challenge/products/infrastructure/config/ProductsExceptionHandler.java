@@ -3,14 +3,20 @@ package com.linktic.challenge.products.infrastructure.config;
 import com.linktic.challenge.products.domain.exception.ProductDomainException;
 import com.linktic.challenge.products.domain.exception.entity.ProductAlreadyExistsException;
 import com.linktic.challenge.products.domain.exception.entity.ProductNotFoundException;
+import com.linktic.challenge.products.domain.exception.entity.ProductVersionConflictException;
 import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
 import com.linktic.challenge.products.domain.exception.mapper.ProductMapperException;
 import com.linktic.challenge.products.domain.exception.valueobject.*;
+import com.linktic.challenge.products.infrastructure.concurrency.ConcurrencyLimitExceededException;
+import com.linktic.challenge.products.infrastructure.idempotency.IdempotencyConflictException;
 import com.linktic.challenge.products.infrastructure.web.ProductController;
+import com.linktic.challenge.products.infrastructure.web.ProductETags;
 import com.linktic.challenge.shared.response.ErrorDetail;
 import com.linktic.challenge.shared.response.StandardResponse;
 import com.linktic.challenge.shared.util.StandardResponses;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -64,6 +70,50 @@ public class ProductsExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    @ExceptionHandler(ProductVersionConflictException.class)
+    public ResponseEntity<StandardResponse<Object>> handleProductVersionConflictException(ProductVersionConflictException ex) {
+        log.warn("Conflicto de versión de producto: {}", ex.getMessage());
+
+        ErrorDetail errorDetail = StandardResponses.errorDetail(
+                "PRODUCT_VERSION_CONFLICT",
+                "El producto fue modificado por otra solicitud",
+                ex.getMessage()
+        );
+
+        StandardResponse<Object> response = StandardResponses.errorResponse(
+                String.valueOf(HttpStatus.PRECONDITION_FAILED.value()),
+                "La versión indicada en If-Match no coincide con la versión actual del producto",
+                List.of(errorDetail)
+        );
+
+        // Se devuelve el ETag vigente para que el cliente pueda releer y reintentar
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.PRECONDITION_FAILED);
+        String currentETag = ProductETags.format(ex.getCurrentVersion());
+        if (currentETag != null) {
+            builder.eTag(currentETag);
+        }
+        return builder.body(response);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<StandardResponse<Object>> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        log.warn("Modificación concurrente de producto: {}", ex.getMessage());
+
+        ErrorDetail errorDetail = StandardResponses.errorDetail(
+                "PRODUCT_CONCURRENT_MODIFICATION",
+                "Modificación concurrente",
+                "El producto fue modificado por otra solicitud mientras se procesaba la actual"
+        );
+
+        StandardResponse<Object> response = StandardResponses.errorResponse(
+                String.valueOf(HttpStatus.CONFLICT.value()),
+                "No se pudo aplicar el cambio por una modificación concurrente",
+                List.of(errorDetail)
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(InvalidProductException.class)
     public ResponseEntity<StandardResponse<Object>> handleInvalidProductException(InvalidProductException ex) {
         log.warn("Producto inválido: {}", ex.getMessage());
@@ -159,6 +209,57 @@ public class ProductsExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
     }
 
+    // ========== SOBRECARGA ==========
+
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<StandardResponse<Object>> handleConcurrencyLimitExceededException(ConcurrencyLimitExceededException ex) {
+        // debug: bajo sobrecarga se rechazan muchas peticiones y la métrica ya las cuenta
+        log.debug("Petición rechazada por límite de concurrencia: {}", ex.getMessage());
+
+        ErrorDetail errorDetail = StandardResponses.errorDetail(
+                "CONCURRENCY_LIMIT_EXCEEDED",
+                "Servicio saturado",
+                ex.getMessage()
+        );
+
+        StandardResponse<Object> response = StandardResponses.errorResponse(
+                String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.value()),
+                "El servicio está saturado, reintente más tarde",
+                List.of(errorDetail)
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(response);
+    }
+
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<StandardResponse<Object>> handleIdempotencyConflictException(IdempotencyConflictException ex) {
+        log.warn("Conflicto de idempotencia: {}", ex.getMessage());
+
+        boolean inFlight = ex.getReason() == IdempotencyConflictException.Reason.IN_FLIGHT;
+        HttpStatus status = inFlight ? HttpStatus.CONFLICT : HttpStatus.UNPROCESSABLE_ENTITY;
+        ErrorDetail errorDetail = StandardResponses.errorDetail(
+                inFlight ? "IDEMPOTENCY_REQUEST_IN_FLIGHT" : "IDEMPOTENCY_KEY_REUSED",
+                inFlight ? "Petición original en curso" : "Clave de idempotencia reutilizada",
+                ex.getMessage()
+        );
+
+        StandardResponse<Object> response = StandardResponses.errorResponse(
+                String.valueOf(status.value()),
+                inFlight
+                        ? "La petición original con esta clave sigue en curso, reintente más tarde"
+                        : "La clave de idempotencia ya se usó con otro cuerpo",
+                List.of(errorDetail)
+        );
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(status);
+        if (ex.getRetryAfter() != null) {
+            builder.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())));
+        }
+        return builder.body(response);
+    }
+
     // ========== EXCEPCIONES DE VALIDACIÓN DE SPRING ==========
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
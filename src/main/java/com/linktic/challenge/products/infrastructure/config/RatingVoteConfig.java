@@ -0,0 +1,26 @@
+package com.linktic.challenge.products.infrastructure.config;
+
+import com.linktic.challenge.products.domain.repository.ProductRatingRepository;
+import com.linktic.challenge.products.domain.repository.ProductRepository;
+import com.linktic.challenge.products.infrastructure.rating.RatingVoteAggregator;
+import com.linktic.challenge.products.infrastructure.rating.RatingVoteProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Votos de rating agregados en memoria y volcados por lotes ({@code products.rating-votes.*}).
+ */
+@Configuration
+@EnableConfigurationProperties(RatingVoteProperties.class)
+public class RatingVoteConfig {
+
+    @Bean
+    public RatingVoteAggregator ratingVoteAggregator(ProductRepository productRepository,
+                                                     ProductRatingRepository productRatingRepository,
+                                                     RatingVoteProperties properties,
+                                                     MeterRegistry meterRegistry) {
+        return new RatingVoteAggregator(productRepository, productRatingRepository, properties, meterRegistry);
+    }
+}
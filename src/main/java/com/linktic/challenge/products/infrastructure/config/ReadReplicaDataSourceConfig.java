@@ -0,0 +1,93 @@
+package com.linktic.challenge.products.infrastructure.config;
+
+import com.linktic.challenge.products.infrastructure.persistence.routing.ReadReplicaProperties;
+import com.linktic.challenge.products.infrastructure.persistence.routing.ReplicaLagMonitor;
+import com.linktic.challenge.products.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.linktic.challenge.products.infrastructure.web.ReadConsistencyFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+
+/**
+ * Enrutamiento de lecturas a la réplica ({@code products.datasource.replica.enabled=true}).
+ *
+ * <p>El DataSource principal es un {@link LazyConnectionDataSourceProxy}: la conexión física se pide
+ * en la primera sentencia, cuando ya se sabe si la transacción es de solo lectura. Las transacciones
+ * {@code readOnly} (consultas del adaptador) usan {@link ReplicaRoutingDataSource}; el resto, y Flyway,
+ * el primario.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "products.datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaDataSourceConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("products-primary");
+        return dataSource;
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("products.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReadReplicaProperties replicaProperties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replicaProperties.url())
+                .username(replicaProperties.username())
+                .password(replicaProperties.password())
+                .build();
+        dataSource.setPoolName("products-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReadReplicaProperties replicaProperties) {
+        return new ReplicaLagMonitor(
+                replicaDataSource(replicaProperties),
+                replicaProperties.maxLag(),
+                replicaProperties.healthCheckInterval()
+        );
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties,
+                                 ReadReplicaProperties replicaProperties,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        DataSource primary = primaryDataSource(dataSourceProperties);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(
+                primary,
+                replicaDataSource(replicaProperties),
+                replicaLagMonitor
+        ));
+        return dataSource;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadConsistencyFilter> readConsistencyFilter(ReadReplicaProperties replicaProperties) {
+        FilterRegistrationBean<ReadConsistencyFilter> registration = new FilterRegistrationBean<>(
+                new ReadConsistencyFilter(replicaProperties.readYourWritesWindow(), Clock.systemUTC()));
+        registration.addUrlPatterns("/api/v1/products", "/api/v1/products/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
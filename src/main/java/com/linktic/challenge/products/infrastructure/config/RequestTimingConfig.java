@@ -0,0 +1,47 @@
+package com.linktic.challenge.products.infrastructure.config;
+
+import com.linktic.challenge.products.infrastructure.timing.RequestTimingProperties;
+import com.linktic.challenge.products.infrastructure.web.RequestTimingFilter;
+import com.linktic.challenge.products.infrastructure.web.RequestTimingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Desglose de latencia por etapa: un filtro de medición al inicio de la cadena y un interceptor que
+ * acota el handler. {@code ServerTimingResponseAdvice} se registra por escaneo y no hace nada si la medición
+ * está desactivada.
+ */
+@Configuration
+@EnableConfigurationProperties(RequestTimingProperties.class)
+public class RequestTimingConfig implements WebMvcConfigurer {
+
+    private final RequestTimingProperties properties;
+
+    public RequestTimingConfig(RequestTimingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "products.request-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RequestTimingFilter> requestTimingFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestTimingFilter> registration =
+                new FilterRegistrationBean<>(new RequestTimingFilter(meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE); // antes de CorrelationFilter para medirlo
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (properties.enabled()) {
+            registry.addInterceptor(new RequestTimingInterceptor()).addPathPatterns("/api/**");
+        }
+    }
+}
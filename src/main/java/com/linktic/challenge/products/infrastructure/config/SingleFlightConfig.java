@@ -0,0 +1,33 @@
+package com.linktic.challenge.products.infrastructure.config;
+
+import com.linktic.challenge.products.application.usecase.ProductUseCaseImpl;
+import com.linktic.challenge.products.infrastructure.concurrency.SingleFlight;
+import com.linktic.challenge.products.infrastructure.concurrency.SingleFlightProductQueryUseCase;
+import com.linktic.challenge.products.infrastructure.concurrency.SingleFlightProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Agrupación de lecturas idénticas simultáneas ({@code products.single-flight.*}).
+ *
+ * <p>El decorador se declara {@link Primary}: el controlador lo recibe como {@code ProductQueryUseCase}
+ * y las escrituras siguen yendo directo a {@link ProductUseCaseImpl}.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(SingleFlightProperties.class)
+@ConditionalOnProperty(prefix = "products.single-flight", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SingleFlightConfig {
+
+    @Bean
+    @Primary
+    public SingleFlightProductQueryUseCase singleFlightProductQueryUseCase(ProductUseCaseImpl productUseCase,
+                                                                           SingleFlightProperties properties,
+                                                                           MeterRegistry meterRegistry) {
+        return new SingleFlightProductQueryUseCase(productUseCase,
+                new SingleFlight<>(properties.timeout(), meterRegistry));
+    }
+}
@@ -0,0 +1,58 @@
+package com.linktic.challenge.products.infrastructure.config;
+
+import com.linktic.challenge.products.infrastructure.persistence.metrics.SqlMetricsProperties;
+import com.linktic.challenge.products.infrastructure.persistence.metrics.StatementMetricsDataSource;
+import com.linktic.challenge.products.infrastructure.web.SqlStatementMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Instrumentación de sentencias SQL por endpoint. Reemplaza a {@code show_sql}: en lugar de imprimir
+ * cada sentencia, se publican métricas agregadas por handler y un aviso cuando se supera el presupuesto.
+ */
+@Configuration
+@EnableConfigurationProperties(SqlMetricsProperties.class)
+@ConditionalOnProperty(prefix = "products.sql-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementMetricsConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final SqlMetricsProperties properties;
+
+    public SqlStatementMetricsConfig(ObjectProvider<MeterRegistry> meterRegistry, SqlMetricsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    /**
+     * Envuelve solo el bean {@code dataSource}, el que usan JPA y JdbcTemplate; los pools internos de
+     * la réplica conservan su tipo.
+     */
+    @Bean
+    public static BeanPostProcessor statementMetricsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof StatementMetricsDataSource)) {
+                    return new StatementMetricsDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlStatementMetricsInterceptor(meterRegistry.getObject(), properties))
+                .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,37 @@
+package com.linktic.challenge.products.infrastructure.config;
+
+import com.linktic.challenge.products.infrastructure.persistence.mapper.ProductEntityMapper;
+import com.linktic.challenge.products.infrastructure.persistence.repository.ProductJpaRepository;
+import com.linktic.challenge.products.infrastructure.ranking.CategoryTopProductsEngine;
+import com.linktic.challenge.products.infrastructure.ranking.TopProductsLoader;
+import com.linktic.challenge.products.infrastructure.ranking.TopProductsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Destacados por categoría en memoria ({@code products.top-products.*}).
+ */
+@Configuration
+@EnableConfigurationProperties(TopProductsProperties.class)
+public class TopProductsConfig {
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE + 20) // tras el snapshot del catálogo y antes de repetir peticiones
+    public CategoryTopProductsEngine categoryTopProductsEngine(ProductJpaRepository productJpaRepository,
+                                                               ProductEntityMapper productEntityMapper,
+                                                               PlatformTransactionManager transactionManager,
+                                                               TopProductsProperties properties,
+                                                               MeterRegistry meterRegistry) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return new CategoryTopProductsEngine(
+                new TopProductsLoader(productJpaRepository, productEntityMapper, readOnlyTransaction),
+                properties, meterRegistry);
+    }
+}
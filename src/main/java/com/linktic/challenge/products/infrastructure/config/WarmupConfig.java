@@ -0,0 +1,51 @@
+package com.linktic.challenge.products.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linktic.challenge.products.infrastructure.warmup.ConnectionPoolWarmupTask;
+import com.linktic.challenge.products.infrastructure.warmup.EndpointReplayWarmupTask;
+import com.linktic.challenge.products.infrastructure.warmup.WarmupProperties;
+import com.linktic.challenge.products.infrastructure.warmup.WarmupRunner;
+import com.linktic.challenge.products.infrastructure.warmup.WarmupTask;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Calentamiento previo a la readiness: llena los pools de conexiones, repite peticiones sintéticas y
+ * ejecuta las demás {@link WarmupTask} registradas (por ejemplo, precarga de cachés).
+ */
+@Configuration
+@EnableConfigurationProperties(WarmupProperties.class)
+@ConditionalOnProperty(prefix = "products.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupConfig {
+
+    // El pool de la réplica solo existe con products.datasource.replica.enabled=true
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public ConnectionPoolWarmupTask connectionPoolWarmupTask(DataSource dataSource,
+                                                             @Qualifier("replicaDataSource")
+                                                             ObjectProvider<DataSource> replicaDataSource) {
+        return new ConnectionPoolWarmupTask(dataSource, replicaDataSource.getIfAvailable());
+    }
+
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE) // al final: las precargas de caché declaran un @Order menor
+    public EndpointReplayWarmupTask endpointReplayWarmupTask(Environment environment, ObjectMapper objectMapper) {
+        return new EndpointReplayWarmupTask(environment, objectMapper);
+    }
+
+    @Bean
+    public WarmupRunner warmupRunner(ObjectProvider<WarmupTask> tasks, WarmupProperties properties,
+                                     MeterRegistry meterRegistry) {
+        return new WarmupRunner(tasks.orderedStream().toList(), properties, meterRegistry);
+    }
+}
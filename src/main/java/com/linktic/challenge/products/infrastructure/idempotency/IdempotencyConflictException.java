@@ -0,0 +1,28 @@
+package com.linktic.challenge.products.infrastructure.idempotency;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Un {@code Idempotency-Key} no puede atenderse: la petición original sigue en curso, o la clave ya se usó
+ * con otro cuerpo.
+ */
+@Getter
+public class IdempotencyConflictException extends RuntimeException {
+    private final Reason reason;
+    private final Duration retryAfter;
+
+    public IdempotencyConflictException(Reason reason, String idempotencyKey, Duration retryAfter) {
+        super(reason == Reason.IN_FLIGHT
+                ? "A request with Idempotency-Key '" + idempotencyKey + "' is still in progress"
+                : "Idempotency-Key '" + idempotencyKey + "' was already used with a different request body");
+        this.reason = reason;
+        this.retryAfter = retryAfter;
+    }
+
+    public enum Reason {
+        IN_FLIGHT,
+        KEY_REUSED
+    }
+}
@@ -0,0 +1,68 @@
+package com.linktic.challenge.products.infrastructure.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Borra periódicamente, por lotes, las claves de idempotencia vencidas. Varias instancias pueden purgar
+ * a la vez sin conflicto: cada lote solo borra filas ya vencidas.
+ */
+@Slf4j
+public class IdempotencyKeyPurger implements SmartLifecycle {
+    private final IdempotencyKeyStore store;
+    private final IdempotencyProperties properties;
+
+    private ScheduledExecutorService scheduler;
+
+    public IdempotencyKeyPurger(IdempotencyKeyStore store, IdempotencyProperties properties) {
+        this.store = store;
+        this.properties = properties;
+    }
+
+    public void purge() {
+        try {
+            int total = 0;
+            int purged;
+            do {
+                purged = store.purgeExpired();
+                total += purged;
+            } while (purged == properties.purgeBatchSize());
+            if (total > 0) {
+                log.info("Purgadas {} claves de idempotencia vencidas", total);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Error purgando claves de idempotencia, se reintentará: {}", ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idempotency-key-purger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.purgeInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::purge, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+}
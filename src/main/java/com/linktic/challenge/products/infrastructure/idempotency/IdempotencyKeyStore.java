@@ -0,0 +1,93 @@
+package com.linktic.challenge.products.infrastructure.idempotency;
+
+import com.linktic.challenge.products.infrastructure.persistence.repository.IdempotencyKeyJpaRepository;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Acceso a {@code idempotency_keys}. Cada operación confirma su propia transacción de escritura (va al
+ * primario), así una clave tomada es visible de inmediato para los duplicados de otras instancias.
+ *
+ * <p>La escritura de una clave tomada corre en una transacción que también guarda su resultado
+ * ({@link #executeClaimed}): la creación y el registro se confirman o se revierten juntos.</p>
+ */
+public class IdempotencyKeyStore {
+    private final IdempotencyKeyJpaRepository repository;
+    private final TransactionTemplate transaction;
+    private final IdempotencyProperties properties;
+
+    public IdempotencyKeyStore(IdempotencyKeyJpaRepository repository, TransactionTemplate transaction,
+                               IdempotencyProperties properties) {
+        this.repository = repository;
+        this.transaction = transaction;
+        this.properties = properties;
+    }
+
+    /**
+     * @return {@code true} si esta petición tomó la clave y debe ejecutarse
+     */
+    public boolean claim(String operation, String key, String requestHash) {
+        try {
+            Boolean claimed = transaction.execute(status -> {
+                // Retomar una clave vencida espera al commit de la escritura que aún la bloquea; se acota
+                repository.setLocalLockTimeout(properties.inFlightWait().toMillis() + "ms");
+                return !repository.claim(operation, key, requestHash,
+                        seconds(properties.lockTimeout().toMillis()), seconds(properties.retention().toMillis())).isEmpty();
+            });
+            return Boolean.TRUE.equals(claimed);
+        } catch (PessimisticLockingFailureException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Ejecuta la escritura de una clave tomada y guarda su resultado en la misma transacción, con la clave
+     * bloqueada hasta el commit. Si la instancia cae a mitad, no queda ni el producto ni el resultado, y al
+     * vencer {@code lock-timeout} otra petición la ejecuta desde cero; si la escritura tarda más que
+     * {@code lock-timeout}, quien intente retomarla espera al commit y repite la respuesta guardada.
+     *
+     * @param outcome respuesta a guardar a partir del resultado de {@code action}
+     * @return vacío si la clave dejó de ser de esta petición antes de ejecutar; {@code action} no corrió
+     */
+    public <T> Optional<T> executeClaimed(String operation, String key, String requestHash, Supplier<T> action,
+                                          Function<T, IdempotencyRecord> outcome) {
+        return transaction.execute(status -> {
+            if (repository.lockClaim(operation, key, requestHash).isEmpty()) {
+                return Optional.<T>empty();
+            }
+            T result = action.get();
+            IdempotencyRecord record = outcome.apply(result);
+            repository.complete(operation, key, requestHash, record.responseStatus(), record.responseETag(),
+                    record.responseBody());
+            return Optional.of(result);
+        });
+    }
+
+    public Optional<IdempotencyRecord> find(String operation, String key) {
+        return transaction.execute(status -> repository.findByOperationAndIdempotencyKey(operation, key)
+                .map(entity -> new IdempotencyRecord(entity.getRequestHash(), entity.getResponseStatus(),
+                        entity.getResponseETag(), entity.getResponseBody())));
+    }
+
+    public void release(String operation, String key, String requestHash) {
+        transaction.executeWithoutResult(status -> repository.release(operation, key, requestHash));
+    }
+
+    /**
+     * Borra un lote de claves vencidas.
+     *
+     * @return claves borradas
+     */
+    public int purgeExpired() {
+        Integer purged = transaction.execute(status -> repository.deleteExpired(properties.purgeBatchSize()));
+        return purged != null ? purged : 0;
+    }
+
+    private static double seconds(long millis) {
+        return millis / 1000.0;
+    }
+}
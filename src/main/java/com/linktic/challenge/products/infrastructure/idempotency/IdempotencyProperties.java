@@ -0,0 +1,31 @@
+package com.linktic.challenge.products.infrastructure.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Claves de idempotencia de las escrituras ({@code products.idempotency.*}).
+ *
+ * @param retention      tiempo que se conserva el resultado de una clave; un reintento posterior se ejecuta de nuevo
+ * @param lockTimeout    tiempo tras el cual una clave en curso se considera abandonada (instancia caída) y
+ *                       puede tomarla otra petición
+ * @param inFlightWait   espera máxima de un duplicado a que termine la petición original antes de responder 409
+ * @param purgeInterval  cada cuánto se borran las claves vencidas
+ * @param purgeBatchSize claves borradas por sentencia en la purga
+ */
+@ConfigurationProperties(prefix = "products.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("24h") Duration retention,
+        @DefaultValue("30s") Duration lockTimeout,
+        @DefaultValue("2s") Duration inFlightWait,
+        @DefaultValue("10m") Duration purgeInterval,
+        @DefaultValue("1000") int purgeBatchSize
+) {
+    public IdempotencyProperties {
+        if (inFlightWait.compareTo(lockTimeout) >= 0) {
+            throw new IllegalArgumentException("products.idempotency.in-flight-wait must be shorter than lock-timeout");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.linktic.challenge.products.infrastructure.idempotency;
+
+/**
+ * Estado guardado de una clave: el hash de la petición que la tomó y, si ya terminó, su respuesta.
+ *
+ * @param responseStatus {@code null} mientras la petición original sigue en curso
+ */
+public record IdempotencyRecord(String requestHash, Integer responseStatus, String responseETag, String responseBody) {
+
+    public boolean inFlight() {
+        return responseStatus == null;
+    }
+}
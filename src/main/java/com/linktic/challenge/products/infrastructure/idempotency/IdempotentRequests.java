@@ -0,0 +1,184 @@
+package com.linktic.challenge.products.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta una escritura a lo sumo una vez por {@code Idempotency-Key}.
+ *
+ * <p>La primera petición toma la clave con un {@code INSERT ... ON CONFLICT} y guarda el estado, el
+ * {@code ETag} y el cuerpo de su respuesta en la misma transacción que la escritura
+ * ({@link IdempotencyKeyStore#executeClaimed}). Un duplicado recibe esa respuesta sin tocar las
+ * tablas de productos. Si llega mientras la original sigue en curso, espera hasta {@code in-flight-wait} a
+ * que termine y después responde 409. Una clave reutilizada con otro cuerpo responde 422.</p>
+ *
+ * <p>Solo se guardan las respuestas exitosas: si la escritura o el guardado de su resultado fallan, ambos se
+ * revierten, la clave se libera y un reintento la ejecuta de nuevo.</p>
+ */
+@Slf4j
+public class IdempotentRequests {
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final int MAX_KEY_LENGTH = 255;
+    private static final Duration IN_FLIGHT_RETRY_AFTER = Duration.ofSeconds(1);
+    private static final long MAX_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final IdempotencyKeyStore store;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter inFlight;
+    private final Counter keyReused;
+
+    public IdempotentRequests(IdempotencyKeyStore store, ObjectMapper objectMapper, IdempotencyProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.executed = requests(meterRegistry, "executed");
+        this.replayed = requests(meterRegistry, "replayed");
+        this.inFlight = requests(meterRegistry, "in_flight");
+        this.keyReused = requests(meterRegistry, "key_reused");
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("products.idempotency.requests")
+                .description("Escrituras con Idempotency-Key: ejecutadas, repetidas desde lo guardado o rechazadas")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param operation identifica la escritura; la misma clave en operaciones distintas no colisiona
+     * @param request   cuerpo de la petición; su hash detecta una clave reutilizada con otro contenido
+     * @param bodyType  tipo del cuerpo de la respuesta, para reconstruirla al repetirla
+     */
+    public <T> ResponseEntity<T> execute(String operation, String key, Object request, JavaType bodyType,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidProductException(
+                    String.format("%s must be between 1 and %d characters", HEADER, MAX_KEY_LENGTH));
+        }
+        String requestHash = hash(operation, request);
+
+        long deadline = System.nanoTime() + properties.inFlightWait().toNanos();
+        long pauseNanos = TimeUnit.MILLISECONDS.toNanos(10);
+        while (true) {
+            if (store.claim(operation, key, requestHash)) {
+                Optional<ResponseEntity<T>> response = executeClaimed(operation, key, requestHash, action);
+                if (response.isPresent()) {
+                    return response.get();
+                }
+                // Otra petición la retomó y ya la completó: la próxima vuelta repite su respuesta
+                continue;
+            }
+            // Sin registro: se purgó entre ambas sentencias y en la próxima vuelta se toma
+            Optional<IdempotencyRecord> stored = store.find(operation, key);
+            if (stored.isPresent()) {
+                IdempotencyRecord record = stored.get();
+                if (!record.requestHash().equals(requestHash)) {
+                    keyReused.increment();
+                    throw new IdempotencyConflictException(IdempotencyConflictException.Reason.KEY_REUSED, key, null);
+                }
+                if (!record.inFlight()) {
+                    replayed.increment();
+                    return replay(record, bodyType);
+                }
+            }
+            if (System.nanoTime() + pauseNanos > deadline || !pause(pauseNanos)) {
+                inFlight.increment();
+                throw new IdempotencyConflictException(
+                        IdempotencyConflictException.Reason.IN_FLIGHT, key, IN_FLIGHT_RETRY_AFTER);
+            }
+            pauseNanos = Math.min(pauseNanos * 2, MAX_POLL_NANOS);
+        }
+    }
+
+    private <T> Optional<ResponseEntity<T>> executeClaimed(String operation, String key, String requestHash,
+                                                           Supplier<ResponseEntity<T>> action) {
+        Optional<ResponseEntity<T>> response;
+        try {
+            response = store.executeClaimed(operation, key, requestHash, action, result ->
+                    new IdempotencyRecord(requestHash, result.getStatusCode().value(),
+                            result.getHeaders().getETag(), toJson(result.getBody())));
+        } catch (RuntimeException ex) {
+            releaseQuietly(operation, key, requestHash);
+            throw ex;
+        }
+        response.ifPresent(executedResponse -> executed.increment());
+        return response;
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Idempotent response cannot be stored as JSON", ex);
+        }
+    }
+
+    private void releaseQuietly(String operation, String key, String requestHash) {
+        try {
+            store.release(operation, key, requestHash);
+        } catch (RuntimeException ex) {
+            log.warn("No se pudo liberar la clave de idempotencia {} ({}); queda en curso hasta {}: {}",
+                    key, operation, properties.lockTimeout(), ex.getMessage(), ex);
+        }
+    }
+
+    private <T> ResponseEntity<T> replay(IdempotencyRecord record, JavaType bodyType) {
+        T body;
+        try {
+            body = objectMapper.readValue(record.responseBody(), bodyType);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Stored idempotent response cannot be read as " + bodyType, ex);
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(record.responseStatus())
+                .header(REPLAYED_HEADER, "true");
+        if (record.responseETag() != null) {
+            builder.eTag(record.responseETag());
+        }
+        return builder.body(body);
+    }
+
+    // El orden de los mapas se fija para que el mismo cuerpo dé siempre el mismo hash
+    private String hash(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot hash idempotent request", ex);
+        }
+    }
+
+    private static boolean pause(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
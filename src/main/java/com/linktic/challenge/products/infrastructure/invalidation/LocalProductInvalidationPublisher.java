@@ -0,0 +1,53 @@
+package com.linktic.challenge.products.infrastructure.invalidation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Entrega a los {@link ProductInvalidationListener} de esta instancia los cambios que no pasan por
+ * {@code ProductManagementUseCase} (p. ej. el volcado de votos de rating), después del commit y con
+ * independencia de {@code products.invalidation.enabled}: sin esto, con el aviso entre instancias
+ * desactivado las estructuras en memoria solo verían esos cambios en la reconstrucción periódica.
+ *
+ * <p>Con el aviso activado la propia instancia recibe también el {@code NOTIFY} y relee los mismos
+ * productos una segunda vez; la relectura es idempotente.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class LocalProductInvalidationPublisher {
+    private final ObjectProvider<ProductInvalidationListener> listeners;
+
+    public void productsChanged(Collection<String> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        ProductInvalidation invalidation = new ProductInvalidation(Set.copyOf(productIds), true, false);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(invalidation);
+            }
+        });
+    }
+
+    private void dispatch(ProductInvalidation invalidation) {
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onInvalidation(invalidation);
+            } catch (RuntimeException ex) {
+                log.error("Error aplicando invalidación local en {}: {}", listener.getClass().getSimpleName(), ex.getMessage(), ex);
+            }
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package com.linktic.challenge.products.infrastructure.invalidation;
+
+import java.util.Set;
+
+/**
+ * Lote de invalidaciones ya agrupado.
+ *
+ * @param productIds productos cuyo detalle en caché debe descartarse
+ * @param listings   si deben descartarse las páginas de listados
+ * @param all        si debe vaciarse toda la caché (p. ej. tras reconectar y posiblemente perder avisos)
+ */
+public record ProductInvalidation(Set<String> productIds, boolean listings, boolean all) {
+
+    public ProductInvalidation {
+        productIds = Set.copyOf(productIds);
+    }
+
+    public static ProductInvalidation everything() {
+        return new ProductInvalidation(Set.of(), true, true);
+    }
+
+    public boolean affects(String productId) {
+        return all || productIds.contains(productId);
+    }
+}
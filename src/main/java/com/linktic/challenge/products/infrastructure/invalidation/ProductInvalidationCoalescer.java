@@ -0,0 +1,85 @@
+package com.linktic.challenge.products.infrastructure.invalidation;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Agrupa avisos de invalidación durante una ventana corta para entregarlos en un único lote.
+ * Un lote se libera cuando vence la ventana desde el primer aviso o cuando alcanza el tamaño máximo.
+ * No es thread-safe: lo usa solo el hilo del suscriptor.
+ */
+public class ProductInvalidationCoalescer {
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final Set<String> productIds = new HashSet<>();
+    private boolean listings;
+    private boolean all;
+    private long firstPendingAtNanos = -1;
+
+    public ProductInvalidationCoalescer(Duration window, int maxBatchSize) {
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public void addProduct(String productId) {
+        markPending();
+        if (!all) {
+            productIds.add(productId);
+        }
+    }
+
+    public void addListings() {
+        markPending();
+        listings = true;
+    }
+
+    public void addAll() {
+        markPending();
+        all = true;
+        listings = true;
+        productIds.clear(); // una invalidación total cubre a las demás
+    }
+
+    public boolean hasPending() {
+        return firstPendingAtNanos >= 0;
+    }
+
+    /**
+     * Tiempo que puede esperarse por más avisos antes de tener que liberar el lote pendiente.
+     */
+    public Duration remainingWindow(long nowNanos) {
+        if (!hasPending()) {
+            return Duration.ofNanos(windowNanos);
+        }
+        return Duration.ofNanos(Math.max(0, firstPendingAtNanos + windowNanos - nowNanos));
+    }
+
+    /**
+     * Retorna y reinicia el lote si la ventana venció o se alcanzó el tamaño máximo.
+     */
+    public Optional<ProductInvalidation> drainIfDue(long nowNanos) {
+        if (!hasPending()) {
+            return Optional.empty();
+        }
+        boolean windowElapsed = nowNanos - firstPendingAtNanos >= windowNanos;
+        if (!windowElapsed && productIds.size() < maxBatchSize) {
+            return Optional.empty();
+        }
+
+        ProductInvalidation batch = new ProductInvalidation(productIds, listings, all);
+        productIds.clear();
+        listings = false;
+        all = false;
+        firstPendingAtNanos = -1;
+        return Optional.of(batch);
+    }
+
+    private void markPending() {
+        if (firstPendingAtNanos < 0) {
+            firstPendingAtNanos = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.linktic.challenge.products.infrastructure.invalidation;
+
+/**
+ * Receptor de invalidaciones entre instancias. Los beans que implementan esta interfaz (cachés en
+ * memoria de productos o listados) reciben los lotes en el hilo del suscriptor, por lo que deben
+ * procesarlos rápido y sin bloquear.
+ */
+public interface ProductInvalidationListener {
+
+    void onInvalidation(ProductInvalidation invalidation);
+}
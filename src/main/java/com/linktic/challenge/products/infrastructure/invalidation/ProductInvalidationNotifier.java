@@ -0,0 +1,42 @@
+package com.linktic.challenge.products.infrastructure.invalidation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Emite avisos de invalidación con {@code pg_notify}. Debe llamarse dentro de la transacción que aplica
+ * el cambio: Postgres entrega los avisos solo al confirmar, descarta los de transacciones revertidas y
+ * une los duplicados, así ninguna instancia invalida por un cambio que no llegó a existir.
+ *
+ * <p>Todo cambio de producto invalida también los listados, porque puede alterar cualquier página.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class ProductInvalidationNotifier {
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    private static final ResultSetExtractor<Void> IGNORE_RESULT = resultSet -> null;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductInvalidationProperties properties;
+
+    public void productChanged(String productId) {
+        productsChanged(List.of(productId));
+    }
+
+    public void productsChanged(Collection<String> productIds) {
+        if (!properties.enabled() || productIds.isEmpty()) {
+            return;
+        }
+        for (String payload : ProductInvalidationPayload.encode(productIds, true)) {
+            jdbcTemplate.query(NOTIFY_SQL, IGNORE_RESULT, properties.channel(), payload);
+        }
+    }
+}
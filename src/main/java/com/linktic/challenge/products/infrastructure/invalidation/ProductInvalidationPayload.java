@@ -0,0 +1,68 @@
+package com.linktic.challenge.products.infrastructure.invalidation;
+
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Formato de los avisos de {@code NOTIFY}: tokens separados por coma. {@code *} invalida todo,
+ * {@code listings} las páginas de listados y {@code p:<id>} un producto.
+ *
+ * <p>Postgres limita el payload a 8000 bytes, así que los IDs se reparten en varios avisos; por encima
+ * de {@link #MAX_PRODUCT_IDS} se envía directamente una invalidación total.</p>
+ */
+@UtilityClass
+public class ProductInvalidationPayload {
+    public static final String ALL = "*";
+    public static final String LISTINGS = "listings";
+    public static final String PRODUCT_PREFIX = "p:";
+
+    static final int MAX_PAYLOAD_BYTES = 7900;
+    static final int MAX_PRODUCT_IDS = 1000;
+
+    public static List<String> encode(Collection<String> productIds, boolean listings) {
+        if (productIds.size() > MAX_PRODUCT_IDS) {
+            return List.of(ALL);
+        }
+
+        List<String> payloads = new ArrayList<>();
+        StringBuilder current = new StringBuilder(listings ? LISTINGS : "");
+        for (String productId : productIds) {
+            String token = PRODUCT_PREFIX + productId;
+            int tokenBytes = token.getBytes(StandardCharsets.UTF_8).length + 1;
+            if (!current.isEmpty() && current.length() + tokenBytes > MAX_PAYLOAD_BYTES) {
+                payloads.add(current.toString());
+                current.setLength(0);
+            }
+            if (!current.isEmpty()) {
+                current.append(',');
+            }
+            current.append(token);
+        }
+        if (!current.isEmpty()) {
+            payloads.add(current.toString());
+        }
+        return payloads;
+    }
+
+    /**
+     * Acumula en {@code coalescer} los tokens de un aviso recibido; ignora los desconocidos.
+     */
+    public static void decodeInto(String payload, ProductInvalidationCoalescer coalescer) {
+        if (payload == null || payload.isBlank()) {
+            return;
+        }
+        for (String token : payload.split(",")) {
+            if (ALL.equals(token)) {
+                coalescer.addAll();
+            } else if (LISTINGS.equals(token)) {
+                coalescer.addListings();
+            } else if (token.startsWith(PRODUCT_PREFIX) && token.length() > PRODUCT_PREFIX.length()) {
+                coalescer.addProduct(token.substring(PRODUCT_PREFIX.length()));
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.linktic.challenge.products.infrastructure.invalidation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la invalidación de cachés entre instancias ({@code products.invalidation.*}).
+ *
+ * @param channel        canal de {@code LISTEN/NOTIFY} compartido por todas las instancias
+ * @param coalesceWindow tiempo que se agrupan los avisos antes de entregarlos a los receptores
+ * @param maxBatchSize   productos distintos a partir de los cuales el lote se entrega sin esperar la ventana
+ * @param reconnectDelay espera inicial antes de reabrir la conexión de escucha; se duplica hasta 30s
+ */
+@ConfigurationProperties(prefix = "products.invalidation")
+public record ProductInvalidationProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("product_invalidation") String channel,
+        @DefaultValue("50ms") Duration coalesceWindow,
+        @DefaultValue("500") int maxBatchSize,
+        @DefaultValue("1s") Duration reconnectDelay
+) { }
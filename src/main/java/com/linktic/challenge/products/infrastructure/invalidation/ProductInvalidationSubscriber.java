@@ -0,0 +1,140 @@
+package com.linktic.challenge.products.infrastructure.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Escucha el canal de invalidación con una conexión dedicada (fuera del pool) y entrega los avisos
+ * agrupados a los {@link ProductInvalidationListener} registrados.
+ *
+ * <p>Mientras la conexión está caída los avisos se pierden, así que tras cada reconexión se entrega
+ * una invalidación total antes de seguir escuchando.</p>
+ */
+@Slf4j
+public class ProductInvalidationSubscriber implements SmartLifecycle {
+    private static final Duration MAX_RECONNECT_DELAY = Duration.ofSeconds(30);
+    private static final int MAX_POLL_MILLIS = 1000;
+
+    private final DataSource listenDataSource;
+    private final List<ProductInvalidationListener> listeners;
+    private final ProductInvalidationProperties properties;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public ProductInvalidationSubscriber(DataSource listenDataSource,
+                                         List<ProductInvalidationListener> listeners,
+                                         ProductInvalidationProperties properties) {
+        this.listenDataSource = listenDataSource;
+        this.listeners = List.copyOf(listeners);
+        this.properties = properties;
+    }
+
+    private void run() {
+        Duration reconnectDelay = properties.reconnectDelay();
+        boolean reconnecting = false;
+
+        while (running) {
+            try (Connection connection = listenDataSource.getConnection()) {
+                listen(connection);
+                reconnectDelay = properties.reconnectDelay();
+                if (reconnecting) {
+                    log.info("Reconectado al canal de invalidación {}, se invalida toda la caché", properties.channel());
+                    dispatch(ProductInvalidation.everything());
+                }
+                reconnecting = true;
+                receive(connection.unwrap(PGConnection.class));
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Conexión de escucha de invalidaciones perdida, reintento en {}: {}",
+                        reconnectDelay, ex.getMessage());
+                reconnecting = true;
+                sleep(reconnectDelay);
+                reconnectDelay = min(reconnectDelay.multipliedBy(2), MAX_RECONNECT_DELAY);
+            }
+        }
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            // El canal se escapa como identificador; viene de la configuración, no de la petición
+            statement.execute("LISTEN \"" + properties.channel().replace("\"", "\"\"") + "\"");
+        }
+    }
+
+    private void receive(PGConnection connection) throws SQLException {
+        ProductInvalidationCoalescer coalescer = new ProductInvalidationCoalescer(
+                properties.coalesceWindow(), properties.maxBatchSize());
+
+        while (running) {
+            int timeoutMillis = coalescer.hasPending()
+                    ? (int) Math.max(1, coalescer.remainingWindow(System.nanoTime()).toMillis())
+                    : MAX_POLL_MILLIS;
+            PGNotification[] notifications = connection.getNotifications(timeoutMillis);
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    ProductInvalidationPayload.decodeInto(notification.getParameter(), coalescer);
+                }
+            }
+            coalescer.drainIfDue(System.nanoTime()).ifPresent(this::dispatch);
+        }
+    }
+
+    void dispatch(ProductInvalidation invalidation) {
+        for (ProductInvalidationListener listener : listeners) {
+            try {
+                listener.onInvalidation(invalidation);
+            } catch (RuntimeException ex) {
+                log.error("Error aplicando invalidación en {}: {}", listener.getClass().getSimpleName(), ex.getMessage(), ex);
+            }
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "product-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
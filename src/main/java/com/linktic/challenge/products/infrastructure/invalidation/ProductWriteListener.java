@@ -0,0 +1,17 @@
+package com.linktic.challenge.products.infrastructure.invalidation;
+
+import com.linktic.challenge.products.domain.model.Product;
+
+import java.util.Collection;
+
+/**
+ * Receptor de las escrituras confirmadas en esta instancia a través de {@code ProductManagementUseCase}.
+ * Complementa a {@link ProductInvalidationListener}, que trae las de otras instancias: las estructuras
+ * en memoria lo usan para reflejar los cambios propios al momento, sin esperar el aviso.
+ *
+ * <p>Se invoca en el hilo de la petición, así que debe ser rápido y sin bloqueos largos.</p>
+ */
+public interface ProductWriteListener {
+
+    void onProductsWritten(Collection<Product> upserts, Collection<String> deletedIds);
+}
@@ -0,0 +1,92 @@
+package com.linktic.challenge.products.infrastructure.invalidation;
+
+import com.linktic.challenge.products.application.port.in.ProductManagementUseCase;
+import com.linktic.challenge.products.domain.model.Product;
+import com.linktic.challenge.products.domain.model.ProductPatch;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link ProductManagementUseCase} que avisa cada escritura confirmada a los {@link ProductWriteListener}.
+ * El caso de uso no abre transacción: sin una del llamador, al retornar el adaptador ya confirmó la suya.
+ * Si el llamador abrió una (la creación con {@code Idempotency-Key}), el aviso espera a su commit y se
+ * descarta si se revierte.
+ */
+public class WriteNotifyingProductManagementUseCase implements ProductManagementUseCase {
+    private final ProductManagementUseCase delegate;
+    private final List<ProductWriteListener> listeners;
+
+    public WriteNotifyingProductManagementUseCase(ProductManagementUseCase delegate, List<ProductWriteListener> listeners) {
+        this.delegate = delegate;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public Product createProduct(Product product) {
+        return upserted(delegate.createProduct(product));
+    }
+
+    @Override
+    public Product updateProduct(Product product) {
+        return upserted(delegate.updateProduct(product));
+    }
+
+    @Override
+    public Product patchProduct(ProductPatch patch) {
+        return upserted(delegate.patchProduct(patch));
+    }
+
+    @Override
+    public void deleteProduct(String id) {
+        delegate.deleteProduct(id);
+        notifyListeners(List.of(), List.of(id));
+    }
+
+    @Override
+    public void deleteProduct(String id, Long expectedVersion) {
+        delegate.deleteProduct(id, expectedVersion);
+        notifyListeners(List.of(), List.of(id));
+    }
+
+    @Override
+    public List<String> deleteProducts(Collection<String> ids) {
+        return deleted(delegate.deleteProducts(ids));
+    }
+
+    @Override
+    public List<String> deleteProductsByCategory(String category, int limit) {
+        return deleted(delegate.deleteProductsByCategory(category, limit));
+    }
+
+    private Product upserted(Product product) {
+        notifyListeners(List.of(product), List.of());
+        return product;
+    }
+
+    private List<String> deleted(List<String> deletedIds) {
+        if (!deletedIds.isEmpty()) {
+            notifyListeners(List.of(), deletedIds);
+        }
+        return deletedIds;
+    }
+
+    private void notifyListeners(Collection<Product> upserts, Collection<String> deletedIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notifyNow(upserts, deletedIds);
+                }
+            });
+        } else {
+            notifyNow(upserts, deletedIds);
+        }
+    }
+
+    private void notifyNow(Collection<Product> upserts, Collection<String> deletedIds) {
+        listeners.forEach(listener -> listener.onProductsWritten(upserts, deletedIds));
+    }
+}
@@ -0,0 +1,53 @@
+package com.linktic.challenge.products.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Agrega los eventos a un archivo JSON Lines local; el lote se fuerza a disco antes de confirmarlo.
+ */
+@Slf4j
+public class FileProductChangeEventSink implements ProductChangeEventSink {
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileProductChangeEventSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(List<ProductChangeEvent> events) {
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (ProductChangeEvent event : events) {
+                lines.append(objectMapper.writeValueAsString(event)).append('\n');
+            }
+
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not append product change events to " + file, ex);
+        }
+        log.debug("Escritos {} eventos de cambio de producto en {}", events.size(), file);
+    }
+}
@@ -0,0 +1,23 @@
+package com.linktic.challenge.products.infrastructure.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * Publica cada evento como evento de aplicación de Spring para consumidores dentro del mismo proceso
+ * ({@code @EventListener ProductChangeEvent}).
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class InProcessProductChangeEventSink implements ProductChangeEventSink {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(List<ProductChangeEvent> events) {
+        events.forEach(applicationEventPublisher::publishEvent);
+        log.debug("Publicados {} eventos de cambio de producto en proceso", events.size());
+    }
+}
@@ -0,0 +1,17 @@
+package com.linktic.challenge.products.infrastructure.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento compacto de cambio de producto: los consumidores leen el estado actual por ID si lo necesitan.
+ *
+ * @param sequence       posición en el outbox; creciente para un mismo producto
+ * @param productVersion versión del producto tras el cambio ({@code null} en eliminaciones)
+ */
+public record ProductChangeEvent(
+        long sequence,
+        String productId,
+        ProductChangeType type,
+        Long productVersion,
+        LocalDateTime occurredAt
+) { }
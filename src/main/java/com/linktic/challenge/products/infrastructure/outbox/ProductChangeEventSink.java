@@ -0,0 +1,15 @@
+package com.linktic.challenge.products.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Destino de los eventos del outbox.
+ *
+ * <p>Recibe lotes en orden de secuencia. Si lanza una excepción el lote completo se reintenta, por lo
+ * que la entrega es al-menos-una-vez: los consumidores deben tolerar duplicados (la secuencia y la
+ * versión permiten descartarlos).</p>
+ */
+public interface ProductChangeEventSink {
+
+    void publish(List<ProductChangeEvent> events);
+}
@@ -0,0 +1,7 @@
+package com.linktic.challenge.products.infrastructure.outbox;
+
+public enum ProductChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,24 @@
+package com.linktic.challenge.products.infrastructure.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuración del relay del outbox ({@code products.outbox.*}).
+ *
+ * @param sink      {@code in-process} (eventos de aplicación), {@code file} (JSON Lines en {@code file})
+ *                  o {@code custom} (bean {@link ProductChangeEventSink} propio)
+ * @param retention tiempo que se conservan los eventos ya publicados antes de purgarlos
+ */
+@ConfigurationProperties(prefix = "products.outbox")
+public record ProductOutboxProperties(
+        @DefaultValue("true") boolean relayEnabled,
+        @DefaultValue("in-process") String sink,
+        @DefaultValue("product-changes.jsonl") Path file,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("7d") Duration retention
+) { }
@@ -0,0 +1,142 @@
+package com.linktic.challenge.products.infrastructure.outbox;
+
+import com.linktic.challenge.products.infrastructure.persistence.entity.ProductOutboxEntity;
+import com.linktic.challenge.products.infrastructure.persistence.repository.ProductOutboxJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica en lotes los eventos pendientes del outbox.
+ *
+ * <p>Cada lote se lee, se entrega al sink y se marca como publicado en una misma transacción que
+ * además toma un advisory lock: solo una instancia publica a la vez y los eventos salen en orden de
+ * secuencia, lo que mantiene el orden por producto. Si el sink falla no se marca nada y el lote se
+ * reintenta en la siguiente pasada.</p>
+ */
+@Slf4j
+public class ProductOutboxRelay implements SmartLifecycle {
+
+    static final long RELAY_LOCK_KEY = 0x70726f645f6f7574L; // "prod_out"
+
+    private final ProductOutboxJpaRepository productOutboxJpaRepository;
+    private final ProductChangeEventSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductOutboxProperties properties;
+    private final Clock clock;
+
+    private ScheduledExecutorService scheduler;
+    private LocalDateTime lastPurge = LocalDateTime.MIN;
+
+    public ProductOutboxRelay(ProductOutboxJpaRepository productOutboxJpaRepository,
+                              ProductChangeEventSink sink,
+                              TransactionTemplate transactionTemplate,
+                              ProductOutboxProperties properties,
+                              Clock clock) {
+        this.productOutboxJpaRepository = productOutboxJpaRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Publica un lote de eventos pendientes.
+     *
+     * @return cantidad de eventos publicados; 0 si no había pendientes u otra instancia tiene el lock
+     */
+    public int relayBatch() {
+        Integer published = transactionTemplate.execute(status -> {
+            if (!productOutboxJpaRepository.tryAdvisoryXactLock(RELAY_LOCK_KEY)) {
+                return 0;
+            }
+
+            List<ProductOutboxEntity> pending = productOutboxJpaRepository
+                    .findByPublishedAtIsNullOrderByIdAsc(Limit.of(properties.batchSize()));
+            if (pending.isEmpty()) {
+                return 0;
+            }
+
+            sink.publish(pending.stream().map(ProductOutboxRelay::toEvent).toList());
+            productOutboxJpaRepository.markPublished(
+                    pending.stream().map(ProductOutboxEntity::getId).toList(),
+                    LocalDateTime.now(clock)
+            );
+            return pending.size();
+        });
+        return published != null ? published : 0;
+    }
+
+    /**
+     * Publica lotes hasta vaciar el outbox y purga los eventos publicados vencidos.
+     */
+    public void drain() {
+        try {
+            int published;
+            do {
+                published = relayBatch();
+            } while (published == properties.batchSize());
+            purgeIfDue();
+        } catch (RuntimeException ex) {
+            log.error("Error publicando eventos del outbox de productos, se reintentará: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private void purgeIfDue() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (lastPurge.isAfter(now.minusHours(1))) {
+            return;
+        }
+        Integer purged = transactionTemplate.execute(status ->
+                productOutboxJpaRepository.deletePublishedBefore(now.minus(properties.retention())));
+        lastPurge = now;
+        if (purged != null && purged > 0) {
+            log.info("Purgados {} eventos publicados del outbox de productos", purged);
+        }
+    }
+
+    private static ProductChangeEvent toEvent(ProductOutboxEntity entity) {
+        return new ProductChangeEvent(
+                entity.getId(),
+                entity.getProductId(),
+                ProductChangeType.valueOf(entity.getEventType()),
+                entity.getProductVersion(),
+                entity.getCreatedAt()
+        );
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.pollInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::drain, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+}
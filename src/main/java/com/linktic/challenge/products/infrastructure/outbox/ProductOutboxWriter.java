@@ -0,0 +1,50 @@
+package com.linktic.challenge.products.infrastructure.outbox;
+
+import com.linktic.challenge.products.infrastructure.persistence.repository.ProductOutboxJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Registra los cambios de producto en el outbox. Debe llamarse dentro de la transacción que aplica el
+ * cambio: si la transacción se revierte, el evento desaparece con ella.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class ProductOutboxWriter {
+    private final ProductOutboxJpaRepository productOutboxJpaRepository;
+
+    public void created(String productId, Long version) {
+        productOutboxJpaRepository.insertEvent(productId, ProductChangeType.CREATED.name(), version);
+    }
+
+    public void updated(String productId, Long version) {
+        productOutboxJpaRepository.insertEvent(productId, ProductChangeType.UPDATED.name(), version);
+    }
+
+    public void updated(Map<String, Long> versionsByProductId) {
+        if (versionsByProductId.isEmpty()) {
+            return;
+        }
+        productOutboxJpaRepository.insertVersionedEvents(
+                versionsByProductId.keySet().toArray(String[]::new),
+                versionsByProductId.values().toArray(Long[]::new),
+                ProductChangeType.UPDATED.name());
+    }
+
+    public void deleted(String productId) {
+        productOutboxJpaRepository.insertEvent(productId, ProductChangeType.DELETED.name(), null);
+    }
+
+    public void deleted(Collection<String> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        productOutboxJpaRepository.insertEvents(productIds.toArray(String[]::new), ProductChangeType.DELETED.name());
+    }
+}
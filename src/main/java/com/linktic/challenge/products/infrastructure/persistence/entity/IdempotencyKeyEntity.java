@@ -0,0 +1,43 @@
+package com.linktic.challenge.products.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "idempotency_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@IdClass(IdempotencyKeyId.class)
+public class IdempotencyKeyEntity {
+
+    @Id
+    @Column(nullable = false, length = 50)
+    private String operation;
+
+    @Id
+    @Column(name = "idempotency_key", nullable = false)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "response_etag", length = 40)
+    private String responseETag;
+
+    @Column(name = "response_body")
+    private String responseBody;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,15 @@
+package com.linktic.challenge.products.infrastructure.persistence.entity;
+
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class IdempotencyKeyId implements Serializable {
+    private String operation;
+    private String idempotencyKey;
+}
@@ -2,10 +2,12 @@ package com.linktic.challenge.products.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Table(name = "products")
@@ -14,6 +16,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate // El UPDATE solo incluye las columnas modificadas
 public class ProductEntity {
 
     @Id
@@ -37,18 +40,56 @@ public class ProductEntity {
     @Column(nullable = false)
     private Double rating;
 
+    // Votos acumulados del rating; el rating escrito por el cliente cuenta como un voto previo
+    @Column(name = "rating_count", nullable = false)
+    private Long ratingCount;
+
+    @Column(name = "rating_sum", nullable = false, precision = 16, scale = 2)
+    private BigDecimal ratingSum;
+
     @Column(nullable = false, length = 50)
     private String category;
 
     @Column(length = 50)
     private String brand;
 
+    // Escrita solo por el volcado de visitas; se mapea para poder ordenar el listado por ella
+    @Column(insertable = false, updatable = false)
+    private Double popularity;
+
+    @Version // Control de concurrencia optimista; expuesto como ETag
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "created_at", insertable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at", insertable = false, updatable = false)
     private LocalDateTime updatedAt;
 
-    @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<ProductSpecificationEntity> specifications;
+
+    /**
+     * Un rating nuevo escrito por PUT/PATCH reinicia los votos acumulados; si no, el siguiente volcado
+     * de votos recalcularía el promedio desde los contadores anteriores y descartaría el valor enviado.
+     */
+    public void setRating(Double rating) {
+        if (!Objects.equals(this.rating, rating)) {
+            this.rating = rating;
+            seedRatingVotes();
+        }
+    }
+
+    @PrePersist
+    void seedRatingVotesOnInsert() {
+        if (ratingCount == null) {
+            seedRatingVotes();
+        }
+    }
+
+    private void seedRatingVotes() {
+        ratingCount = 1L;
+        ratingSum = rating != null ? BigDecimal.valueOf(rating) : BigDecimal.ZERO;
+    }
 }
\ No newline at end of file
@@ -27,6 +27,7 @@ public interface ProductEntityMapper {
     @Mapping(target = "category", source = "category.value")
     @Mapping(target = "brand", source = "brand.value")
     @Mapping(target = "specifications", source = "specifications", qualifiedByName = "specsToEntities")
+    @Mapping(target = "version", source = "version")
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     ProductEntity toEntity(Product product);
@@ -41,6 +42,7 @@ public interface ProductEntityMapper {
     @Mapping(target = "category", expression = "java(mapCategory(entity.getCategory()))")
     @Mapping(target = "brand", expression = "java(mapBrand(entity.getBrand()))")
     @Mapping(target = "specifications", expression = "java(mapSpecificationsFromEntities(entity.getSpecifications()))")
+    @Mapping(target = "version", source = "version")
     Product toDomain(ProductEntity entity);
 
     // Update entity from domain
@@ -53,11 +55,29 @@ public interface ProductEntityMapper {
     @Mapping(target = "rating", source = "rating.value")
     @Mapping(target = "category", source = "category.value")
     @Mapping(target = "brand", source = "brand.value")
-    @Mapping(target = "specifications", source = "specifications", qualifiedByName = "specsToEntities")
+    @Mapping(target = "specifications", ignore = true) // se sincronizan por diferencias, ver syncSpecificationsFromDomain
+    @Mapping(target = "version", ignore = true) // la administra Hibernate
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     void updateEntityFromDomain(Product product, @MappingTarget ProductEntity entity);
 
+    // Apply partial update (solo los campos enviados en el patch)
+    default void applyPatch(ProductPatch patch, ProductEntity entity) {
+        if (patch.name() != null) entity.setName(patch.name().value());
+        if (patch.imageUrl() != null) entity.setImageUrl(patch.imageUrl().value());
+        if (patch.description() != null) entity.setDescription(patch.description().value());
+        if (patch.price() != null) entity.setPrice(patch.price());
+        if (patch.currency() != null) entity.setCurrency(patch.currency().getCurrencyCode());
+        if (patch.rating() != null) entity.setRating(patch.rating().value());
+        if (patch.category() != null) entity.setCategory(patch.category().value());
+        if (patch.brand() != null) entity.setBrand(patch.brand().value()); // ProductBrand(null) elimina la marca
+
+        if (patch.specifications() != null) {
+            Map<String, String> current = mapSpecificationsFromEntities(entity.getSpecifications()).specs();
+            syncSpecifications(entity, patch.specifications().applyTo(current));
+        }
+    }
+
     // Named method for specifications conversion (Domain -> Entity)
     @Named("specsToEntities")
     default List<ProductSpecificationEntity> specsToEntities(ProductSpecifications specifications) {
@@ -69,7 +89,51 @@ public interface ProductEntityMapper {
                         .key(entry.getKey())
                         .value(entry.getValue())
                         .build())
-                .toList();
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Lleva la colección de especificaciones de la entidad al estado objetivo modificándola en sitio:
+     * las claves que ya no existen se eliminan (DELETE por orphanRemoval), las que cambian de valor
+     * se actualizan (UPDATE) y solo las nuevas se insertan. Las filas sin cambios no generan SQL.
+     */
+    default void syncSpecifications(ProductEntity entity, ProductSpecifications target) {
+        Map<String, String> desired = target != null ? target.specs() : Map.of();
+        if (entity.getSpecifications() == null) {
+            entity.setSpecifications(new ArrayList<>());
+        }
+
+        List<ProductSpecificationEntity> current = entity.getSpecifications();
+        Set<String> kept = new HashSet<>();
+        Iterator<ProductSpecificationEntity> iterator = current.iterator();
+        while (iterator.hasNext()) {
+            ProductSpecificationEntity spec = iterator.next();
+            String desiredValue = spec.getKey() != null ? desired.get(spec.getKey()) : null;
+
+            if (desiredValue == null || !kept.add(spec.getKey())) {
+                iterator.remove();
+            } else if (!desiredValue.equals(spec.getValue())) {
+                spec.setValue(desiredValue);
+            }
+        }
+
+        desired.forEach((key, value) -> {
+            if (!kept.contains(key)) {
+                current.add(ProductSpecificationEntity.builder()
+                        .product(entity)
+                        .key(key)
+                        .value(value)
+                        .build());
+            }
+        });
+    }
+
+    // ✅ AFTER MAPPING: sincroniza especificaciones por diferencias en lugar de reconstruir la colección
+    @AfterMapping
+    default void syncSpecificationsFromDomain(Product product, @MappingTarget ProductEntity productEntity) {
+        if (product != null) {
+            syncSpecifications(productEntity, product.specifications());
+        }
     }
 
     // ✅ AFTER MAPPING QUE SÍ FUNCIONA - usando @Context
@@ -0,0 +1,22 @@
+package com.linktic.challenge.products.infrastructure.persistence.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Instrumentación de sentencias SQL por endpoint ({@code products.sql-metrics.*}).
+ *
+ * @param budgets máximo de sentencias por handler ({@code ProductController.getProductById}); al
+ *                superarlo se registra un aviso y se incrementa {@code products.db.budget.exceeded}
+ */
+@ConfigurationProperties(prefix = "products.sql-metrics")
+public record SqlMetricsProperties(
+        @DefaultValue("true") boolean enabled,
+        Map<String, Integer> budgets
+) {
+    public SqlMetricsProperties {
+        budgets = budgets == null ? Map.of() : Map.copyOf(budgets);
+    }
+}
@@ -0,0 +1,67 @@
+package com.linktic.challenge.products.infrastructure.persistence.metrics;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Optional;
+
+/**
+ * Captura por hilo de las sentencias que ejecuta {@link StatementMetricsDataSource}.
+ *
+ * <p>Las capturas se pueden anidar: al cerrar una interna sus cifras se suman a la externa, así la
+ * métrica de la petición incluye lo medido por un test o por un bloque concreto.</p>
+ */
+@UtilityClass
+public class SqlStatementRecorder {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Abre una captura en el hilo actual y retorna la que estaba activa, que debe pasarse a {@link #end}.
+     */
+    public static SqlStatementStats begin() {
+        SqlStatementStats previous = CURRENT.get();
+        CURRENT.set(new SqlStatementStats());
+        return previous;
+    }
+
+    /**
+     * Cierra la captura actual, restaura {@code previous} y retorna las cifras capturadas.
+     */
+    public static SqlStatementStats end(SqlStatementStats previous) {
+        SqlStatementStats captured = CURRENT.get();
+        if (previous != null) {
+            CURRENT.set(previous);
+            if (captured != null) {
+                previous.add(captured);
+            }
+        } else {
+            CURRENT.remove();
+        }
+        return captured != null ? captured : new SqlStatementStats();
+    }
+
+    /**
+     * Ejecuta {@code action} capturando sus sentencias; pensado para tests de presupuesto de consultas.
+     */
+    public static SqlStatementStats record(Runnable action) {
+        SqlStatementStats previous = begin();
+        SqlStatementStats captured;
+        try {
+            action.run();
+        } finally {
+            captured = end(previous);
+        }
+        return captured;
+    }
+
+    /**
+     * Cifras acumuladas hasta ahora por la captura activa, sin cerrarla.
+     */
+    public static Optional<SqlStatementStats> active() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+}
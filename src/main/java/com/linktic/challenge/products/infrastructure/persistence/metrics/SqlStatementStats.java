@@ -0,0 +1,45 @@
+package com.linktic.challenge.products.infrastructure.persistence.metrics;
+
+import java.time.Duration;
+
+/**
+ * Sentencias SQL, tiempo en base de datos y filas leídas acumulados durante una captura.
+ * Lo actualiza solo el hilo que abrió la captura.
+ */
+public final class SqlStatementStats {
+    private int statements;
+    private long dbNanos;
+    private long rows;
+
+    void recordStatement(long elapsedNanos) {
+        statements++;
+        dbNanos += elapsedNanos;
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    void add(SqlStatementStats other) {
+        statements += other.statements;
+        dbNanos += other.dbNanos;
+        rows += other.rows;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public Duration dbTime() {
+        return Duration.ofNanos(dbNanos);
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    @Override
+    public String toString() {
+        return statements + " sentencias, " + dbTime().toMillis() + " ms, " + rows + " filas";
+    }
+}
@@ -0,0 +1,111 @@
+package com.linktic.challenge.products.infrastructure.persistence.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Envuelve el {@link DataSource} para medir cada sentencia: cuenta ejecuciones (un batch cuenta como
+ * una), acumula el tiempo de ejecución y las filas recorridas en los {@link ResultSet}.
+ *
+ * <p>Las cifras van a la captura activa de {@link SqlStatementRecorder}; fuera de una captura
+ * (Flyway, hilos en segundo plano) las sentencias se ejecutan sin registrar nada.</p>
+ */
+public class StatementMetricsDataSource extends DelegatingDataSource {
+
+    public StatementMetricsDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof CallableStatement statement) {
+                return wrapStatement(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrapStatement(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(Statement.class, statement);
+            }
+            return result;
+        });
+    }
+
+    private static <S extends Statement> S wrapStatement(Class<S> type, S statement) {
+        return proxy(type, statement, (target, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                long start = System.nanoTime();
+                Object result = invoke(target, method, args);
+                SqlStatementStats stats = SqlStatementRecorder.current();
+                if (stats != null) {
+                    stats.recordStatement(System.nanoTime() - start);
+                }
+                return result instanceof ResultSet resultSet ? wrapResultSet(resultSet) : result;
+            }
+            Object result = invoke(target, method, args);
+            return result instanceof ResultSet resultSet ? wrapResultSet(resultSet) : result;
+        });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet) {
+        return proxy(ResultSet.class, resultSet, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                SqlStatementStats stats = SqlStatementRecorder.current();
+                if (stats != null) {
+                    stats.recordRow();
+                }
+            }
+            return result;
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, TargetHandler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+            // unwrap debe llegar al objeto del driver (p. ej. PGConnection para LISTEN/NOTIFY)
+            case "unwrap", "isWrapperFor" -> invoke(target, method, args);
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> handler.handle(target, method, args);
+        };
+        return (T) Proxy.newProxyInstance(StatementMetricsDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, invocationHandler);
+    }
+
+    @FunctionalInterface
+    private interface TargetHandler {
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,44 @@
+package com.linktic.challenge.products.infrastructure.persistence.migration;
+
+/**
+ * Relleno de datos que {@link BackfillRunner} ejecuta en segundo plano, por tramos de claves, tras las
+ * migraciones. Se declara como bean; el orden de ejecución es el de {@link org.springframework.core.annotation.Order}.
+ *
+ * <p>El patrón para una columna nueva en una tabla grande es: la migración agrega la columna nullable (sin
+ * reescribir la tabla), el backfill la rellena por tramos y una migración posterior agrega la restricción
+ * {@code NOT NULL} o el índice ({@code CONCURRENTLY}) cuando el backfill ya terminó.</p>
+ */
+public interface Backfill {
+
+    /**
+     * Nombre estable: identifica el progreso guardado en {@code backfill_progress}. Un backfill completado no
+     * vuelve a ejecutarse; cambiar el nombre lo ejecuta desde el principio.
+     */
+    String name();
+
+    /**
+     * Tabla que se recorre en orden de {@link #keyColumn()}.
+     */
+    String table();
+
+    /**
+     * Columna única e indexada por la que se recorre la tabla.
+     */
+    default String keyColumn() {
+        return "id";
+    }
+
+    /**
+     * Tipo SQL de la clave, para comparar la última clave guardada (como texto) con el orden del índice.
+     */
+    default String keyType() {
+        return "text";
+    }
+
+    /**
+     * Sentencia que procesa un tramo. Recibe la primera y la última clave del tramo, ambas incluidas y como
+     * texto (p. ej. {@code WHERE id BETWEEN ? AND ?}, con {@code CAST} si la clave no es de texto), y retorna
+     * las filas modificadas. Debe ser idempotente: si la instancia cae antes del commit, el tramo se repite.
+     */
+    String chunkSql();
+}
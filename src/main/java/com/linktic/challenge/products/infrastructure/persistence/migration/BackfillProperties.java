@@ -0,0 +1,37 @@
+package com.linktic.challenge.products.infrastructure.persistence.migration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Backfills en segundo plano ({@code products.migration.backfill.*}).
+ *
+ * @param batchSize              claves por tramo; cada tramo es una transacción
+ * @param maxDutyCycle           fracción del tiempo que el backfill puede ocupar la base (0-1]: tras un tramo de
+ *                               {@code t} se pausa {@code t * (1 - maxDutyCycle) / maxDutyCycle}
+ * @param lockTimeout            espera máxima por un lock de fila; al vencer, el tramo se reintenta más tarde en
+ *                               lugar de bloquear a las peticiones que esperan detrás
+ * @param statementTimeout       duración máxima de la sentencia de un tramo
+ * @param retryDelay             pausa tras un tramo fallido o mientras la réplica está atrasada
+ * @param maxConsecutiveFailures tramos fallidos seguidos tras los que el backfill se abandona hasta el próximo arranque
+ * @param progressInterval       cada cuánto se registra el avance en el log
+ */
+@ConfigurationProperties(prefix = "products.migration.backfill")
+public record BackfillProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("0.5") double maxDutyCycle,
+        @DefaultValue("2s") Duration lockTimeout,
+        @DefaultValue("30s") Duration statementTimeout,
+        @DefaultValue("30s") Duration retryDelay,
+        @DefaultValue("5") int maxConsecutiveFailures,
+        @DefaultValue("30s") Duration progressInterval
+) {
+    public BackfillProperties {
+        if (maxDutyCycle <= 0 || maxDutyCycle > 1) {
+            throw new IllegalArgumentException("products.migration.backfill.max-duty-cycle must be in (0, 1]");
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.linktic.challenge.products.infrastructure.persistence.migration;
+
+import com.linktic.challenge.products.infrastructure.persistence.routing.ReplicaLagMonitor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ejecuta los {@link Backfill} pendientes en segundo plano, uno tras otro, por tramos de
+ * {@code batch-size} claves.
+ *
+ * <p>Cada tramo es una transacción corta con {@code lock_timeout} y {@code statement_timeout} propios: bloquea
+ * la fila de {@code backfill_progress} ({@code FOR UPDATE SKIP LOCKED}, así solo una instancia avanza cada
+ * backfill), procesa el tramo siguiente a la última clave guardada y guarda la nueva. Si la instancia cae, el
+ * próximo arranque retoma desde el último tramo confirmado.</p>
+ *
+ * <p>Entre tramos se pausa para no ocupar la base más de {@code max-duty-cycle} del tiempo. Con réplica de
+ * lectura, mientras esté atrasada o caída no se procesan tramos: el backfill no debe agrandar el retraso.</p>
+ */
+@Slf4j
+public class BackfillRunner implements SmartLifecycle {
+    private static final String INSERT_PROGRESS =
+            "INSERT INTO backfill_progress (name) VALUES (?) ON CONFLICT (name) DO NOTHING";
+    private static final String LOCK_PROGRESS =
+            "SELECT last_key, completed_at FROM backfill_progress WHERE name = ? FOR UPDATE SKIP LOCKED";
+    private static final String RECORD_PROGRESS = """
+            UPDATE backfill_progress
+            SET last_key = ?, rows_processed = rows_processed + ?, updated_at = CURRENT_TIMESTAMP
+            WHERE name = ?
+            """;
+    private static final String COMPLETE =
+            "UPDATE backfill_progress SET completed_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP WHERE name = ?";
+    private static final String ESTIMATE_ROWS =
+            "SELECT COALESCE((SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)), -1)";
+
+    private final List<Backfill> backfills;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final BackfillProperties properties;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final MeterRegistry meterRegistry;
+
+    private ExecutorService executor;
+
+    /**
+     * @param replicaLagMonitor {@code null} sin réplica de lectura
+     */
+    public BackfillRunner(List<Backfill> backfills, JdbcTemplate jdbcTemplate, TransactionTemplate transaction,
+                          BackfillProperties properties, ReplicaLagMonitor replicaLagMonitor,
+                          MeterRegistry meterRegistry) {
+        this.backfills = List.copyOf(backfills);
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = transaction;
+        this.properties = properties;
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Procesa el tramo siguiente de {@code backfill} en una transacción.
+     */
+    public ChunkResult runChunk(Backfill backfill) {
+        return transaction.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL lock_timeout = " + properties.lockTimeout().toMillis());
+            jdbcTemplate.execute("SET LOCAL statement_timeout = " + properties.statementTimeout().toMillis());
+
+            List<Map<String, Object>> progress = jdbcTemplate.queryForList(LOCK_PROGRESS, backfill.name());
+            if (progress.isEmpty()) {
+                return ChunkResult.BUSY;
+            }
+            if (progress.getFirst().get("completed_at") != null) {
+                return ChunkResult.COMPLETED;
+            }
+
+            String lastKey = (String) progress.getFirst().get("last_key");
+            Map<String, Object> range = lastKey == null
+                    ? jdbcTemplate.queryForMap(rangeSql(backfill, false), properties.batchSize())
+                    : jdbcTemplate.queryForMap(rangeSql(backfill, true), lastKey, properties.batchSize());
+            String firstKey = (String) range.get("first_key");
+            String chunkLastKey = (String) range.get("last_key");
+            if (chunkLastKey == null) {
+                jdbcTemplate.update(COMPLETE, backfill.name());
+                return ChunkResult.COMPLETED;
+            }
+
+            int rows = jdbcTemplate.update(backfill.chunkSql(), firstKey, chunkLastKey);
+            jdbcTemplate.update(RECORD_PROGRESS, chunkLastKey, rows, backfill.name());
+            return ChunkResult.processed(rows, chunkLastKey);
+        });
+    }
+
+    // Tramo siguiente recorriendo el índice de la clave; las claves viajan como texto y se comparan con su tipo
+    private static String rangeSql(Backfill backfill, boolean afterKey) {
+        String key = backfill.keyColumn();
+        return "SELECT min(" + key + ")::text AS first_key, max(" + key + ")::text AS last_key FROM ("
+                + "SELECT " + key + " FROM " + backfill.table()
+                + (afterKey ? " WHERE " + key + " > CAST(? AS " + backfill.keyType() + ")" : "")
+                + " ORDER BY " + key + " LIMIT ?) chunk";
+    }
+
+    /**
+     * Pausa tras un tramo de {@code elapsed} para que el backfill ocupe a lo sumo {@code maxDutyCycle} del tiempo.
+     */
+    public static Duration pauseAfter(Duration elapsed, double maxDutyCycle) {
+        return Duration.ofNanos((long) (elapsed.toNanos() * (1 - maxDutyCycle) / maxDutyCycle));
+    }
+
+    private void runAll() {
+        for (Backfill backfill : backfills) {
+            try {
+                if (!run(backfill)) {
+                    return;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} si se interrumpió (la aplicación se detiene)
+     */
+    private boolean run(Backfill backfill) throws InterruptedException {
+        transaction.executeWithoutResult(status -> jdbcTemplate.update(INSERT_PROGRESS, backfill.name()));
+        Long estimated = jdbcTemplate.queryForObject(ESTIMATE_ROWS, Long.class, backfill.table());
+        Counter rowsCounter = Counter.builder("products.backfill.rows")
+                .description("Filas modificadas por los backfills en segundo plano")
+                .tag("backfill", backfill.name())
+                .register(meterRegistry);
+
+        long start = System.nanoTime();
+        long lastReport = start;
+        long processed = 0;
+        int failures = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            if (replicaLagMonitor != null && !replicaLagMonitor.isReplicaAvailable()) {
+                log.debug("Backfill {} en pausa: réplica atrasada o no disponible", backfill.name());
+                TimeUnit.MILLISECONDS.sleep(properties.retryDelay().toMillis());
+                continue;
+            }
+
+            long chunkStart = System.nanoTime();
+            ChunkResult result;
+            try {
+                result = runChunk(backfill);
+                failures = 0;
+            } catch (RuntimeException ex) {
+                failures++;
+                if (failures >= properties.maxConsecutiveFailures()) {
+                    log.error("Backfill {} abandonado tras {} tramos fallidos seguidos; se retoma en el próximo arranque: {}",
+                            backfill.name(), failures, ex.getMessage(), ex);
+                    return true;
+                }
+                log.warn("Backfill {}: tramo fallido ({}/{}), se reintenta en {}: {}", backfill.name(), failures,
+                        properties.maxConsecutiveFailures(), properties.retryDelay(), ex.getMessage());
+                TimeUnit.MILLISECONDS.sleep(properties.retryDelay().toMillis());
+                continue;
+            }
+
+            switch (result.status()) {
+                case COMPLETED -> {
+                    if (processed > 0) {
+                        log.info("Backfill {} completado: {} filas en {} s", backfill.name(), processed,
+                                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+                    }
+                    return true;
+                }
+                case BUSY -> {
+                    log.debug("Backfill {} en curso en otra instancia", backfill.name());
+                    TimeUnit.MILLISECONDS.sleep(properties.retryDelay().toMillis());
+                }
+                case PROCESSED -> {
+                    processed += result.rows();
+                    rowsCounter.increment(result.rows());
+                    long now = System.nanoTime();
+                    if (now - lastReport >= properties.progressInterval().toNanos()) {
+                        lastReport = now;
+                        log.info("Backfill {}: {} filas procesadas{}, última clave {}", backfill.name(), processed,
+                                estimated != null && estimated > 0
+                                        ? String.format(" (~%d%% de la tabla)", Math.min(100, processed * 100 / estimated))
+                                        : "",
+                                result.lastKey());
+                    }
+                    Duration pause = pauseAfter(Duration.ofNanos(now - chunkStart), properties.maxDutyCycle());
+                    TimeUnit.NANOSECONDS.sleep(pause.toNanos());
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (executor != null || backfills.isEmpty()) {
+            return;
+        }
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "backfill-runner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::runAll);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor != null) {
+            // Interrumpe la pausa entre tramos; el tramo en curso termina o se revierte con su transacción
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+
+    /**
+     * Resultado de un tramo.
+     *
+     * @param rows    filas modificadas
+     * @param lastKey última clave del tramo
+     */
+    public record ChunkResult(Status status, int rows, String lastKey) {
+        static final ChunkResult BUSY = new ChunkResult(Status.BUSY, 0, null);
+        static final ChunkResult COMPLETED = new ChunkResult(Status.COMPLETED, 0, null);
+
+        static ChunkResult processed(int rows, String lastKey) {
+            return new ChunkResult(Status.PROCESSED, rows, lastKey);
+        }
+
+        public enum Status {
+            /** Se procesó un tramo y quedan más. */
+            PROCESSED,
+            /** Otra instancia está procesando este backfill. */
+            BUSY,
+            /** No quedan claves. */
+            COMPLETED
+        }
+    }
+}
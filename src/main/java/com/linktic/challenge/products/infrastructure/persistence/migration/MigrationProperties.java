@@ -0,0 +1,18 @@
+package com.linktic.challenge.products.infrastructure.persistence.migration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Arranque de Flyway ({@code products.migration.*}).
+ *
+ * @param skipValidationWhenUnchanged omite {@code migrate}/{@code validate} si la huella de los scripts
+ *                                    coincide con la registrada tras la última migración exitosa; solo
+ *                                    se activa en {@code prod}, donde el esquema lo cambian los despliegues
+ * @param scripts                     scripts que forman la huella, incluidos sus {@code .sql.conf}
+ */
+@ConfigurationProperties(prefix = "products.migration")
+public record MigrationProperties(
+        @DefaultValue("false") boolean skipValidationWhenUnchanged,
+        @DefaultValue("classpath*:db/migration/**/*.sql*") String scripts
+) { }
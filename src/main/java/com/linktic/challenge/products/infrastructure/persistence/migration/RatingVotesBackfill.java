@@ -0,0 +1,29 @@
+package com.linktic.challenge.products.infrastructure.persistence.migration;
+
+/**
+ * Siembra los votos de rating de las filas anteriores a V8: el rating vigente pasa a ser un voto previo
+ * ({@code rating_count = 1}, {@code rating_sum = rating}). V8 agrega las columnas con {@code DEFAULT 0}
+ * sin reescribir la tabla y deja este relleno fuera de la migración.
+ *
+ * <p>Solo toca filas con {@code rating_count = 0}, que nunca recibieron un voto ni se crearon o editaron
+ * desde V8; repetir un tramo no cambia nada. No sube {@code version}, así que el trigger de V14 conserva
+ * {@code updated_at}.</p>
+ */
+public class RatingVotesBackfill implements Backfill {
+
+    @Override
+    public String name() {
+        return "products-rating-votes";
+    }
+
+    @Override
+    public String table() {
+        return "products";
+    }
+
+    @Override
+    public String chunkSql() {
+        return "UPDATE products SET rating_count = 1, rating_sum = CAST(rating AS numeric) "
+                + "WHERE id BETWEEN ? AND ? AND rating_count = 0";
+    }
+}
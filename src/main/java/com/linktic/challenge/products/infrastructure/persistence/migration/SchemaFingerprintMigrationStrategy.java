@@ -0,0 +1,113 @@
+package com.linktic.challenge.products.infrastructure.persistence.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Migra solo cuando los scripts cambiaron.
+ *
+ * <p>{@code migrate} valida todo el historial (lee y calcula el checksum de cada script) en cada
+ * arranque. Aquí se compara primero una huella SHA-256 de los scripts con la que se guardó tras la
+ * última migración exitosa; si coinciden, el esquema ya está al día y se omite Flyway. Si no
+ * coinciden, o la tabla aún no existe, se ejecuta {@code migrate} normal y se registra la nueva huella.</p>
+ *
+ * <p>Omitir {@code migrate} omite también sus comprobaciones (migraciones fallidas, fuera de orden o
+ * un historial reparado), así que solo se hace con {@code skip-validation-when-unchanged}, activo en
+ * {@code prod}; en los demás perfiles siempre se ejecuta {@code migrate}.</p>
+ *
+ * <p>En la corrida de entrenamiento de CDS ({@code spring.context.exit=onRefresh}) no se toca la base.</p>
+ */
+@Slf4j
+public class SchemaFingerprintMigrationStrategy implements FlywayMigrationStrategy {
+    private static final String SELECT_FINGERPRINT = "SELECT fingerprint FROM schema_fingerprint WHERE id = 1";
+    private static final String UPSERT_FINGERPRINT = """
+            INSERT INTO schema_fingerprint (id, fingerprint, updated_at) VALUES (1, ?, CURRENT_TIMESTAMP)
+            ON CONFLICT (id) DO UPDATE SET fingerprint = EXCLUDED.fingerprint, updated_at = EXCLUDED.updated_at
+            """;
+
+    private final ResourcePatternResolver resourceResolver;
+    private final MigrationProperties properties;
+
+    public SchemaFingerprintMigrationStrategy(ResourcePatternResolver resourceResolver, MigrationProperties properties) {
+        this.resourceResolver = resourceResolver;
+        this.properties = properties;
+    }
+
+    @Override
+    public void migrate(Flyway flyway) {
+        if ("onRefresh".equals(System.getProperty("spring.context.exit"))) {
+            log.info("Corrida de entrenamiento: se omiten las migraciones");
+            return;
+        }
+        if (!properties.skipValidationWhenUnchanged()) {
+            flyway.migrate();
+            return;
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(flyway.getConfiguration().getDataSource());
+        String fingerprint = fingerprint(scripts());
+        if (fingerprint.equals(storedFingerprint(jdbcTemplate))) {
+            log.info("Scripts de migración sin cambios ({}), se omite la validación de Flyway", fingerprint.substring(0, 12));
+            return;
+        }
+
+        flyway.migrate();
+        jdbcTemplate.update(UPSERT_FINGERPRINT, fingerprint);
+        log.info("Migraciones aplicadas, huella de esquema registrada ({})", fingerprint.substring(0, 12));
+    }
+
+    private static String storedFingerprint(JdbcTemplate jdbcTemplate) {
+        try {
+            List<String> stored = jdbcTemplate.queryForList(SELECT_FINGERPRINT, String.class);
+            return stored.isEmpty() ? null : stored.getFirst();
+        } catch (DataAccessException ex) {
+            return null; // tabla aún no creada: primera migración
+        }
+    }
+
+    private List<Resource> scripts() {
+        try {
+            return Arrays.stream(resourceResolver.getResources(properties.scripts()))
+                    .sorted(Comparator.comparing(resource -> Objects.requireNonNullElse(resource.getFilename(), "")))
+                    .toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot list migration scripts", ex);
+        }
+    }
+
+    public static String fingerprint(List<Resource> scripts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Resource script : scripts) {
+                digest.update(Objects.requireNonNullElse(script.getFilename(), "").getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                try (InputStream in = script.getInputStream()) {
+                    digest.update(in.readAllBytes());
+                }
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot read migration script", ex);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
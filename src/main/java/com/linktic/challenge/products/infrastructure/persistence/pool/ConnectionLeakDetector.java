@@ -0,0 +1,139 @@
+package com.linktic.challenge.products.infrastructure.persistence.pool;
+
+import com.linktic.challenge.shared.constants.CorrelationConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registra qué petición retiene cada conexión y avisa de las que la retienen más de {@code threshold}.
+ *
+ * <p>Solo se siguen las conexiones pedidas dentro de una petición HTTP (con {@code correlationId} en el MDC,
+ * lo pone {@code CorrelationFilter}); las de los procesos en segundo plano, como el listener de
+ * invalidaciones, se retienen a propósito y no se consideran. A diferencia de la detección de Hikari, el
+ * aviso identifica la petición y se puede cruzar con sus logs.</p>
+ */
+@Slf4j
+public class ConnectionLeakDetector implements SmartLifecycle {
+    private final Duration threshold;
+    private final Clock clock;
+    private final Set<Lease> leases = ConcurrentHashMap.newKeySet();
+    private final Counter leaked;
+
+    private ScheduledExecutorService scheduler;
+
+    public ConnectionLeakDetector(Duration threshold, MeterRegistry meterRegistry, Clock clock) {
+        this.threshold = threshold;
+        this.clock = clock;
+        this.leaked = Counter.builder("products.datasource.connections.leaked")
+                .description("Conexiones retenidas por una petición más allá del umbral de fuga")
+                .register(meterRegistry);
+        Gauge.builder("products.datasource.connections.held", leases, Set::size)
+                .description("Conexiones abiertas por peticiones HTTP y aún no devueltas")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return la reserva de la conexión recién obtenida, o {@code null} fuera de una petición HTTP
+     */
+    public Lease acquired() {
+        String correlationId = MDC.get(CorrelationConstants.MDC_KEY);
+        if (correlationId == null) {
+            return null;
+        }
+        Lease lease = new Lease(correlationId, MDC.get(CorrelationConstants.MDC_METHOD),
+                MDC.get(CorrelationConstants.MDC_PATH), Thread.currentThread().getName(), clock.instant());
+        leases.add(lease);
+        return lease;
+    }
+
+    public void released(Lease lease) {
+        if (leases.remove(lease) && lease.reported) {
+            log.info("Conexión devuelta tras {} ms por la petición {} ({} {})",
+                    heldMillis(lease), lease.correlationId, lease.method, lease.path);
+        }
+    }
+
+    /**
+     * Avisa una vez por cada conexión que superó el umbral.
+     *
+     * @return conexiones avisadas en esta pasada
+     */
+    public int scan() {
+        Instant limit = clock.instant().minus(threshold);
+        int reported = 0;
+        for (Lease lease : leases) {
+            if (!lease.reported && lease.acquiredAt.isBefore(limit)) {
+                lease.reported = true;
+                reported++;
+                leaked.increment();
+                log.warn("Posible fuga de conexión: retenida {} ms por la petición {} ({} {}) en el hilo {}",
+                        heldMillis(lease), lease.correlationId, lease.method, lease.path, lease.thread);
+            }
+        }
+        return reported;
+    }
+
+    private long heldMillis(Lease lease) {
+        return Duration.between(lease.acquiredAt, clock.instant()).toMillis();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-leak-detector");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = Math.max(100, threshold.toMillis() / 2);
+        scheduler.scheduleWithFixedDelay(this::scan, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Conexión en manos de una petición. La identidad es la del objeto: cada obtención es una reserva distinta.
+     */
+    public static final class Lease {
+        private final String correlationId;
+        private final String method;
+        private final String path;
+        private final String thread;
+        private final Instant acquiredAt;
+        private volatile boolean reported;
+
+        private Lease(String correlationId, String method, String path, String thread, Instant acquiredAt) {
+            this.correlationId = correlationId;
+            this.method = method;
+            this.path = path;
+            this.thread = thread;
+            this.acquiredAt = acquiredAt;
+        }
+    }
+}
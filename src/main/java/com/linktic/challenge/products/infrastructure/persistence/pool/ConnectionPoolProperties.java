@@ -0,0 +1,52 @@
+package com.linktic.challenge.products.infrastructure.persistence.pool;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Observación y dimensionado de los pools JDBC ({@code products.datasource.pool.*}).
+ *
+ * @param leakDetection avisos de conexiones retenidas por una petición más de lo esperado
+ * @param autoSize      ajuste del tamaño máximo de cada pool según la espera y la latencia medidas
+ */
+@ConfigurationProperties(prefix = "products.datasource.pool")
+public record ConnectionPoolProperties(
+        LeakDetection leakDetection,
+        AutoSize autoSize
+) {
+    public ConnectionPoolProperties {
+        leakDetection = leakDetection != null ? leakDetection : new LeakDetection(true, Duration.ofSeconds(10));
+        autoSize = autoSize != null ? autoSize
+                : new AutoSize(false, 5, 30, Duration.ofSeconds(30), Duration.ofMillis(5), 2.0, 20);
+    }
+
+    /**
+     * @param threshold tiempo que una petición puede retener una conexión antes de registrarse como posible fuga
+     */
+    public record LeakDetection(boolean enabled, Duration threshold) {
+        public LeakDetection {
+            if (threshold == null || threshold.isZero() || threshold.isNegative()) {
+                throw new IllegalArgumentException("products.datasource.pool.leak-detection.threshold must be positive");
+            }
+        }
+    }
+
+    /**
+     * @param min               piso del tamaño máximo del pool
+     * @param max               techo del tamaño máximo del pool
+     * @param interval          cada cuánto se evalúa el ajuste
+     * @param targetAcquireWait espera media por conexión a partir de la cual se amplía el pool
+     * @param latencyTolerance  cuánto puede crecer el tiempo de uso de las conexiones sobre la línea base antes de
+     *                          dejar de ampliar (la base, no el pool, es el cuello de botella)
+     * @param baselineWindow    intervalos que promedia el tiempo de uso de referencia
+     */
+    public record AutoSize(boolean enabled, int min, int max, Duration interval, Duration targetAcquireWait,
+                           double latencyTolerance, int baselineWindow) {
+        public AutoSize {
+            if (min < 1 || min > max) {
+                throw new IllegalArgumentException("Pool auto-size bounds must satisfy 1 <= min <= max");
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.linktic.challenge.products.infrastructure.persistence.pool;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Envuelve el {@link DataSource} para avisar a {@link ConnectionLeakDetector} al obtener y al cerrar cada
+ * conexión. Fuera de una petición HTTP la conexión se retorna sin envolver.
+ */
+public class LeakTrackingDataSource extends DelegatingDataSource {
+    private final ConnectionLeakDetector detector;
+
+    public LeakTrackingDataSource(DataSource targetDataSource, ConnectionLeakDetector detector) {
+        super(targetDataSource);
+        this.detector = detector;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        ConnectionLeakDetector.Lease lease = detector.acquired();
+        if (lease == null) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(LeakTrackingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        // released es idempotente: un segundo close no vuelve a descontar la reserva
+                        detector.released(lease);
+                        yield invoke(connection, method, args);
+                    }
+                    default -> invoke(connection, method, args);
+                });
+    }
+
+    private static Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.linktic.challenge.products.infrastructure.persistence.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ajusta periódicamente el tamaño máximo de cada pool Hikari con {@link PoolSizeController}.
+ *
+ * <p>La espera y el tiempo de uso salen de los timers {@code hikaricp.connections.acquire} y
+ * {@code hikaricp.connections.usage} que Spring Boot registra por pool; cada intervalo toma la diferencia
+ * con la lectura anterior. Al reducir, Hikari no cierra conexiones en uso: las sobrantes se retiran al
+ * vencer su {@code idle-timeout} o {@code max-lifetime}.</p>
+ */
+@Slf4j
+public class PoolAutoSizer implements SmartLifecycle {
+    private final List<ManagedPool> pools;
+    private final MeterRegistry meterRegistry;
+    private final ConnectionPoolProperties.AutoSize properties;
+
+    private ScheduledExecutorService scheduler;
+
+    public PoolAutoSizer(Collection<HikariDataSource> dataSources, MeterRegistry meterRegistry,
+                         ConnectionPoolProperties.AutoSize properties) {
+        this.pools = dataSources.stream()
+                .map(dataSource -> new ManagedPool(dataSource, new PoolSizeController(properties)))
+                .toList();
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    public void adjust() {
+        for (ManagedPool pool : pools) {
+            try {
+                pool.adjust();
+            } catch (RuntimeException ex) {
+                log.warn("No se pudo ajustar el pool {}: {}", pool.dataSource.getPoolName(), ex.getMessage(), ex);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pool-auto-sizer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.interval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::adjust, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private final class ManagedPool {
+        private final HikariDataSource dataSource;
+        private final PoolSizeController controller;
+        private long lastAcquisitions;
+        private double lastAcquireMillis;
+        private long lastUsages;
+        private double lastUsageMillis;
+        private long lastSampleNanos = System.nanoTime();
+
+        ManagedPool(HikariDataSource dataSource, PoolSizeController controller) {
+            this.dataSource = dataSource;
+            this.controller = controller;
+        }
+
+        void adjust() {
+            Timer acquire = timer("hikaricp.connections.acquire");
+            Timer usage = timer("hikaricp.connections.usage");
+            if (acquire == null || usage == null) {
+                log.debug("Pool {} sin métricas de Hikari todavía; se omite el ajuste", dataSource.getPoolName());
+                return;
+            }
+
+            long now = System.nanoTime();
+            long acquisitions = acquire.count() - lastAcquisitions;
+            double acquireMillis = acquire.totalTime(TimeUnit.MILLISECONDS) - lastAcquireMillis;
+            long usages = usage.count() - lastUsages;
+            double usageMillis = usage.totalTime(TimeUnit.MILLISECONDS) - lastUsageMillis;
+            double elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(now - lastSampleNanos));
+
+            lastAcquisitions = acquire.count();
+            lastAcquireMillis = acquire.totalTime(TimeUnit.MILLISECONDS);
+            lastUsages = usage.count();
+            lastUsageMillis = usage.totalTime(TimeUnit.MILLISECONDS);
+            lastSampleNanos = now;
+
+            PoolSizeController.PoolSample sample = new PoolSizeController.PoolSample(
+                    acquisitions,
+                    acquisitions > 0 ? acquireMillis / acquisitions : 0,
+                    usages > 0 ? usageMillis / usages : 0,
+                    usageMillis / elapsedMillis);
+            int current = dataSource.getMaximumPoolSize();
+            int next = controller.nextSize(current, sample);
+            if (next != current) {
+                // minimum-idle por encima del máximo haría que Hikari rellene hasta el máximo anterior
+                if (dataSource.getMinimumIdle() > next) {
+                    dataSource.setMinimumIdle(next);
+                }
+                dataSource.setMaximumPoolSize(next);
+                log.info("Pool {}: tamaño máximo {} -> {} (espera media {} ms, uso medio {} ms, ocupadas {})",
+                        dataSource.getPoolName(), current, next,
+                        String.format("%.2f", sample.averageAcquireWaitMillis()),
+                        String.format("%.2f", sample.averageUsageMillis()),
+                        String.format("%.1f", sample.busyConnections()));
+            }
+        }
+
+        private Timer timer(String name) {
+            return meterRegistry.find(name).tag("pool", dataSource.getPoolName()).timer();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.linktic.challenge.products.infrastructure.persistence.pool;
+
+/**
+ * Decide el tamaño máximo de un pool a partir de lo medido en el último intervalo.
+ *
+ * <ul>
+ *   <li>Si la espera media por conexión supera el objetivo, el pool crece en {@code sqrt(tamaño)}, salvo que
+ *   el tiempo de uso de las conexiones haya crecido más de {@code latencyTolerance} sobre su referencia: en
+ *   ese caso la base ya está saturada y más conexiones solo le sumarían carga.</li>
+ *   <li>Si no hay espera y las conexiones ocupadas en promedio (tiempo de uso total / intervalo, ley de
+ *   Little) no llegan a la mitad del pool, se reduce en una.</li>
+ * </ul>
+ *
+ * <p>El tiempo de uso de referencia es una media móvil larga que solo se actualiza mientras no hay espera,
+ * así la degradación que motiva ampliar no se incorpora a la línea base.</p>
+ */
+public class PoolSizeController {
+    private final int minSize;
+    private final int maxSize;
+    private final double targetWaitMillis;
+    private final double latencyTolerance;
+    private final int baselineWindow;
+
+    private double baselineUsageMillis;
+
+    public PoolSizeController(ConnectionPoolProperties.AutoSize properties) {
+        this.minSize = properties.min();
+        this.maxSize = properties.max();
+        this.targetWaitMillis = properties.targetAcquireWait().toNanos() / 1_000_000.0;
+        this.latencyTolerance = properties.latencyTolerance();
+        this.baselineWindow = properties.baselineWindow();
+    }
+
+    /**
+     * @param currentSize tamaño máximo vigente del pool
+     * @return tamaño máximo para el próximo intervalo
+     */
+    public synchronized int nextSize(int currentSize, PoolSample sample) {
+        int current = Math.max(minSize, Math.min(maxSize, currentSize));
+        if (sample.acquisitions() == 0) {
+            return current > minSize ? current - 1 : current;
+        }
+
+        boolean waiting = sample.averageAcquireWaitMillis() > targetWaitMillis;
+        double usage = sample.averageUsageMillis();
+        if (!waiting && usage > 0) {
+            baselineUsageMillis = baselineUsageMillis == 0
+                    ? usage
+                    : baselineUsageMillis + (usage - baselineUsageMillis) / baselineWindow;
+        }
+
+        if (waiting) {
+            if (databaseDegraded(usage)) {
+                return current;
+            }
+            return Math.min(maxSize, current + Math.max(1, (int) Math.sqrt(current)));
+        }
+        if (sample.busyConnections() < current / 2.0 && current > minSize) {
+            return current - 1;
+        }
+        return current;
+    }
+
+    private boolean databaseDegraded(double usageMillis) {
+        return baselineUsageMillis > 0 && usageMillis > latencyTolerance * baselineUsageMillis;
+    }
+
+    /**
+     * Cifras de un pool en un intervalo.
+     *
+     * @param acquisitions             conexiones entregadas en el intervalo
+     * @param averageAcquireWaitMillis espera media por una conexión
+     * @param averageUsageMillis       tiempo medio que se retuvo cada conexión
+     * @param busyConnections          conexiones ocupadas en promedio durante el intervalo
+     */
+    public record PoolSample(long acquisitions, double averageAcquireWaitMillis, double averageUsageMillis,
+                             double busyConnections) { }
+}
@@ -0,0 +1,90 @@
+package com.linktic.challenge.products.infrastructure.persistence.repository;
+
+import com.linktic.challenge.products.infrastructure.persistence.entity.IdempotencyKeyEntity;
+import com.linktic.challenge.products.infrastructure.persistence.entity.IdempotencyKeyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyKeyJpaRepository extends JpaRepository<IdempotencyKeyEntity, IdempotencyKeyId> {
+
+    // ✅ Toma la clave si es nueva, si venció o si quedó en curso de una instancia caída; todo con el
+    //    reloj de la base para no depender del de cada instancia. Sin filas retornadas, la clave es de otro
+    @Query(value = """
+            INSERT INTO idempotency_keys (operation, idempotency_key, request_hash, locked_until, expires_at)
+            VALUES (:operation, :idempotencyKey, :requestHash,
+                    now() + make_interval(secs => :lockSeconds), now() + make_interval(secs => :retentionSeconds))
+            ON CONFLICT (operation, idempotency_key) DO UPDATE
+                SET request_hash = EXCLUDED.request_hash,
+                    response_status = NULL,
+                    response_etag = NULL,
+                    response_body = NULL,
+                    locked_until = EXCLUDED.locked_until,
+                    expires_at = EXCLUDED.expires_at
+                WHERE idempotency_keys.expires_at < now()
+                   OR (idempotency_keys.response_status IS NULL AND idempotency_keys.locked_until < now())
+            RETURNING idempotency_key
+            """, nativeQuery = true)
+    List<String> claim(@Param("operation") String operation,
+                       @Param("idempotencyKey") String idempotencyKey,
+                       @Param("requestHash") String requestHash,
+                       @Param("lockSeconds") double lockSeconds,
+                       @Param("retentionSeconds") double retentionSeconds);
+
+    // ✅ Bloquea la clave mientras corre la escritura: quien intente retomarla por vencimiento espera al
+    //    commit y entonces ya la encuentra completada. Sin filas retornadas, la clave ya no es de esta petición
+    @Query(value = """
+            SELECT idempotency_key FROM idempotency_keys
+            WHERE operation = :operation AND idempotency_key = :idempotencyKey
+              AND request_hash = :requestHash AND response_status IS NULL
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<String> lockClaim(@Param("operation") String operation,
+                           @Param("idempotencyKey") String idempotencyKey,
+                           @Param("requestHash") String requestHash);
+
+    // ✅ Espera máxima por el bloqueo de una clave, solo para la transacción en curso
+    @Query(value = "SELECT set_config('lock_timeout', :lockTimeout, true)", nativeQuery = true)
+    String setLocalLockTimeout(@Param("lockTimeout") String lockTimeout);
+
+    // ✅ Solo si la clave sigue siendo de esta petición (mismo hash y aún en curso)
+    @Modifying
+    @Query(value = """
+            UPDATE idempotency_keys
+            SET response_status = :responseStatus, response_etag = :responseETag, response_body = :responseBody
+            WHERE operation = :operation AND idempotency_key = :idempotencyKey
+              AND request_hash = :requestHash AND response_status IS NULL
+            """, nativeQuery = true)
+    int complete(@Param("operation") String operation,
+                 @Param("idempotencyKey") String idempotencyKey,
+                 @Param("requestHash") String requestHash,
+                 @Param("responseStatus") int responseStatus,
+                 @Param("responseETag") String responseETag,
+                 @Param("responseBody") String responseBody);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM idempotency_keys
+            WHERE operation = :operation AND idempotency_key = :idempotencyKey
+              AND request_hash = :requestHash AND response_status IS NULL
+            """, nativeQuery = true)
+    int release(@Param("operation") String operation,
+                @Param("idempotencyKey") String idempotencyKey,
+                @Param("requestHash") String requestHash);
+
+    Optional<IdempotencyKeyEntity> findByOperationAndIdempotencyKey(String operation, String idempotencyKey);
+
+    // ✅ Purga por lotes para no mantener un DELETE largo sobre la tabla
+    @Modifying
+    @Query(value = """
+            DELETE FROM idempotency_keys
+            WHERE ctid IN (SELECT ctid FROM idempotency_keys WHERE expires_at < now() LIMIT :batchSize)
+            """, nativeQuery = true)
+    int deleteExpired(@Param("batchSize") int batchSize);
+}
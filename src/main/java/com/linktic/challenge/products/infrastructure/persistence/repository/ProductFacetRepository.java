@@ -0,0 +1,12 @@
+package com.linktic.challenge.products.infrastructure.persistence.repository;
+
+import com.linktic.challenge.products.domain.model.ProductFacets;
+import com.linktic.challenge.products.domain.model.ProductFilter;
+
+/**
+ * Fragmento de {@link ProductJpaRepository} con los conteos por faceta calculados en la base.
+ */
+public interface ProductFacetRepository {
+
+    ProductFacets countFacets(ProductFilter filter);
+}
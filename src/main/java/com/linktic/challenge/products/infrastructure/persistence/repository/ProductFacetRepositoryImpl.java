@@ -0,0 +1,106 @@
+package com.linktic.challenge.products.infrastructure.persistence.repository;
+
+import com.linktic.challenge.products.domain.model.ProductFacetRanges;
+import com.linktic.challenge.products.domain.model.ProductFacets;
+import com.linktic.challenge.products.domain.model.ProductFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Conteos por faceta con una consulta {@code GROUP BY} por faceta, cada una con el filtro de las
+ * demás. Los rangos se calculan en SQL con los mismos límites de {@link ProductFacetRanges}:
+ * {@code width_bucket} para el precio y el piso del rating para el rating.
+ */
+public class ProductFacetRepositoryImpl implements ProductFacetRepository {
+    private static final String PRICE_RANGE = "width_bucket(price, CAST(ARRAY["
+            + ProductFacetRanges.PRICE_BOUNDS.stream().map(BigDecimal::toPlainString).collect(Collectors.joining(","))
+            + "] AS numeric[]))";
+    private static final String RATING_RANGE = "LEAST(CAST(FLOOR(rating) AS integer), "
+            + (ProductFacetRanges.RATING_RANGES.size() - 1) + ")";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public ProductFacets countFacets(ProductFilter filter) {
+        Query total = nativeQuery("SELECT count(*) FROM products", filter, "");
+        return new ProductFacets(
+                ((Number) total.getSingleResult()).longValue(),
+                ProductFacets.byCountDescending(asStrings(countBy("category", filter.withoutCategories()))),
+                ProductFacets.byCountDescending(asStrings(countBy("brand", filter.withoutBrands(), "brand IS NOT NULL"))),
+                labeled(countBy(PRICE_RANGE, filter.withoutPriceRanges()), ProductFacetRanges.PRICE_RANGES),
+                labeled(countBy(RATING_RANGE, filter.withoutRatingRanges()), ProductFacetRanges.RATING_RANGES)
+        );
+    }
+
+    private Map<Object, Long> countBy(String key, ProductFilter filter, String... conditions) {
+        Query query = nativeQuery("SELECT " + key + ", count(*) FROM products", filter, " GROUP BY 1", conditions);
+        Map<Object, Long> counts = new HashMap<>();
+        for (Object row : query.getResultList()) {
+            Object[] columns = (Object[]) row;
+            // Los rangos llegan como índice numérico; categorías y marcas, como texto
+            Object groupKey = columns[0] instanceof Number number ? Integer.valueOf(number.intValue()) : columns[0];
+            counts.put(groupKey, ((Number) columns[1]).longValue());
+        }
+        return counts;
+    }
+
+    // El SQL solo se arma con fragmentos fijos e índices de rango validados; los valores van como parámetros
+    private Query nativeQuery(String select, ProductFilter filter, String suffix, String... extraConditions) {
+        List<String> conditions = new ArrayList<>(List.of(extraConditions));
+        Map<String, Object> parameters = new HashMap<>();
+        if (!filter.categories().isEmpty()) {
+            conditions.add("category = ANY(CAST(:categories AS text[]))");
+            parameters.put("categories", filter.categories().toArray(String[]::new));
+        }
+        if (!filter.brands().isEmpty()) {
+            conditions.add("brand = ANY(CAST(:brands AS text[]))");
+            parameters.put("brands", filter.brands().toArray(String[]::new));
+        }
+        if (!filter.priceRanges().isEmpty()) {
+            conditions.add(PRICE_RANGE + " IN (" + indexes(filter.priceRanges(), ProductFacetRanges::priceRangeIndex) + ")");
+        }
+        if (!filter.ratingRanges().isEmpty()) {
+            conditions.add(RATING_RANGE + " IN (" + indexes(filter.ratingRanges(), ProductFacetRanges::ratingRangeIndex) + ")");
+        }
+
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        Query query = entityManager.createNativeQuery(select + where + suffix);
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    private static String indexes(Set<String> labels, ToIntFunction<String> indexOf) {
+        return labels.stream()
+                .map(label -> String.valueOf(indexOf.applyAsInt(label)))
+                .collect(Collectors.joining(","));
+    }
+
+    private static Map<String, Long> labeled(Map<Object, Long> countsByIndex, List<String> labels) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int index = 0; index < labels.size(); index++) {
+            Long count = countsByIndex.get(index);
+            if (count != null && count > 0) {
+                counts.put(labels.get(index), count);
+            }
+        }
+        return counts;
+    }
+
+    private static Map<String, Long> asStrings(Map<Object, Long> counts) {
+        Map<String, Long> result = new HashMap<>();
+        counts.forEach((key, value) -> result.put((String) key, value));
+        return result;
+    }
+}
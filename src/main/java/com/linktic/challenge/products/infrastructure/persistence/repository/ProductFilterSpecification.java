@@ -0,0 +1,69 @@
+package com.linktic.challenge.products.infrastructure.persistence.repository;
+
+import com.linktic.challenge.products.domain.model.ProductFacetRanges;
+import com.linktic.challenge.products.domain.model.ProductFilter;
+import com.linktic.challenge.products.infrastructure.persistence.entity.ProductEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Traduce un {@link ProductFilter} a un {@link Specification} para el listado filtrado contra la base.
+ * Los límites de los rangos son los de {@link ProductFacetRanges}, los mismos del índice en memoria.
+ */
+@UtilityClass
+public class ProductFilterSpecification {
+
+    public static Specification<ProductEntity> matching(ProductFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (!filter.categories().isEmpty()) {
+                predicates.add(root.get("category").in(filter.categories()));
+            }
+            if (!filter.brands().isEmpty()) {
+                predicates.add(root.get("brand").in(filter.brands()));
+            }
+            if (!filter.priceRanges().isEmpty()) {
+                predicates.add(cb.or(filter.priceRanges().stream()
+                        .map(label -> priceRange(root, cb, ProductFacetRanges.priceRangeIndex(label)))
+                        .toArray(Predicate[]::new)));
+            }
+            if (!filter.ratingRanges().isEmpty()) {
+                predicates.add(cb.or(filter.ratingRanges().stream()
+                        .map(label -> ratingRange(root, cb, ProductFacetRanges.ratingRangeIndex(label)))
+                        .toArray(Predicate[]::new)));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static Predicate priceRange(Root<ProductEntity> root, CriteriaBuilder cb, int index) {
+        Path<BigDecimal> price = root.get("price");
+        List<BigDecimal> bounds = ProductFacetRanges.PRICE_BOUNDS;
+        List<Predicate> limits = new ArrayList<>(2);
+        if (index > 0) {
+            limits.add(cb.greaterThanOrEqualTo(price, bounds.get(index - 1)));
+        }
+        if (index < bounds.size()) {
+            limits.add(cb.lessThan(price, bounds.get(index)));
+        }
+        return cb.and(limits.toArray(Predicate[]::new));
+    }
+
+    private static Predicate ratingRange(Root<ProductEntity> root, CriteriaBuilder cb, int index) {
+        Path<Double> rating = root.get("rating");
+        Predicate lower = cb.greaterThanOrEqualTo(rating, (double) index);
+        // El último rango incluye el rating máximo
+        if (index == ProductFacetRanges.RATING_RANGES.size() - 1) {
+            return lower;
+        }
+        return cb.and(lower, cb.lessThan(rating, (double) index + 1));
+    }
+}
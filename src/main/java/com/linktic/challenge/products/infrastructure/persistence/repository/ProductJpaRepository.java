@@ -1,14 +1,24 @@
 package com.linktic.challenge.products.infrastructure.persistence.repository;
 
+import com.linktic.challenge.products.infrastructure.autocomplete.AutocompleteEntry;
 import com.linktic.challenge.products.infrastructure.persistence.entity.ProductEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface ProductJpaRepository extends JpaRepository<ProductEntity, String> {
+public interface ProductJpaRepository extends JpaRepository<ProductEntity, String>,
+        JpaSpecificationExecutor<ProductEntity>, ProductFacetRepository, ProductProjectionRepository {
 
     // ✅ Método para verificar si existe un producto con el mismo nombre
     boolean existsByName(String name);
@@ -16,9 +26,173 @@ public interface ProductJpaRepository extends JpaRepository<ProductEntity, Strin
     // ✅ Método para verificar si existe un producto con el mismo nombre pero diferente ID
     boolean existsByNameAndIdNot(String name, String id);
 
-    // Método para eliminar en lote (opcional, para mejor performance)
+    // ✅ Carga el producto junto con sus especificaciones en una sola consulta
+    @EntityGraph(attributePaths = "specifications")
+    Optional<ProductEntity> findWithSpecificationsById(String id);
+
+    // ✅ Carga por lotes con sus especificaciones (snapshot del catálogo)
+    @EntityGraph(attributePaths = "specifications")
+    List<ProductEntity> findWithSpecificationsByIdIn(Collection<String> ids);
+
+    // ✅ Recorrido por keyset de los IDs, sin OFFSET
+    @Query("SELECT p.id FROM ProductEntity p WHERE p.id > :afterId ORDER BY p.id")
+    List<String> findIdsAfter(@Param("afterId") String afterId, Limit limit);
+
+    // ✅ Recorrido por keyset de los campos que indexa el autocompletado, sin cargar entidades
+    @Query("""
+            SELECT new com.linktic.challenge.products.infrastructure.autocomplete.AutocompleteEntry(p.id, p.name, p.brand, p.rating)
+            FROM ProductEntity p WHERE p.id > :afterId ORDER BY p.id
+            """)
+    List<AutocompleteEntry> findAutocompleteEntriesAfter(@Param("afterId") String afterId, Limit limit);
+
+    @Query("""
+            SELECT new com.linktic.challenge.products.infrastructure.autocomplete.AutocompleteEntry(p.id, p.name, p.brand, p.rating)
+            FROM ProductEntity p WHERE p.id IN :ids
+            """)
+    List<AutocompleteEntry> findAutocompleteEntriesByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * IDs de los primeros {@code capacity} productos de cada categoría por rating y por precio
+     * (destacados por categoría); con {@code category} se limita a esa categoría.
+     *
+     * <p>Las categorías se recorren saltando por el índice ({@code min(category) > anterior}) y cada una
+     * se lee con dos {@code LATERAL ... LIMIT} sobre los índices (category, rating DESC, id DESC) y
+     * (category, price, id) de V12 y V13: el costo crece con categorías × capacidad, no con el catálogo.</p>
+     */
+    @Query(value = """
+            WITH RECURSIVE categories(category) AS (
+                SELECT COALESCE(CAST(:category AS text), (SELECT min(category) FROM products))
+                UNION ALL
+                SELECT (SELECT min(p.category) FROM products p WHERE p.category > c.category)
+                FROM categories c
+                WHERE c.category IS NOT NULL AND CAST(:category AS text) IS NULL
+            )
+            SELECT top.id
+            FROM categories c
+            CROSS JOIN LATERAL (
+                (SELECT p.id FROM products p WHERE p.category = c.category
+                 ORDER BY p.rating DESC, p.id DESC LIMIT :capacity)
+                UNION
+                (SELECT p.id FROM products p WHERE p.category = c.category
+                 ORDER BY p.price ASC, p.id ASC LIMIT :capacity)
+            ) top
+            WHERE c.category IS NOT NULL
+            """, nativeQuery = true)
+    List<String> findTopRankedIds(@Param("category") String category, @Param("capacity") int capacity);
+
+    // ✅ Versión actual sin cargar la entidad (diagnóstico de conflictos y precondiciones)
+    @Query("SELECT p.version FROM ProductEntity p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") String id);
+
+    /**
+     * Reemplaza las columnas del producto en una sola sentencia si la versión coincide y el nombre
+     * no lo usa otro producto. Retorna 0 si el producto no existe, la versión no coincide o el
+     * nombre está duplicado; el llamador distingue el caso con {@link #findVersionById(String)}.
+     * Si el rating cambia, los votos acumulados se reinician con el nuevo valor como voto previo.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE ProductEntity p SET
+                p.name = :#{#product.name},
+                p.imageUrl = :#{#product.imageUrl},
+                p.description = :#{#product.description},
+                p.price = :#{#product.price},
+                p.currency = :#{#product.currency},
+                p.rating = :#{#product.rating},
+                p.ratingCount = CASE WHEN p.rating = :#{#product.rating} THEN p.ratingCount ELSE 1L END,
+                p.ratingSum = CASE WHEN p.rating = :#{#product.rating} THEN p.ratingSum
+                                   ELSE CAST(:#{#product.rating} AS BigDecimal) END,
+                p.category = :#{#product.category},
+                p.brand = :#{#product.brand},
+                p.version = p.version + 1
+            WHERE p.id = :#{#product.id}
+              AND p.version = :#{#product.version}
+              AND NOT EXISTS (
+                  SELECT 1 FROM ProductEntity other
+                  WHERE other.name = :#{#product.name} AND other.id <> :#{#product.id}
+              )
+            """)
+    int updateIfVersionMatches(@Param("product") ProductEntity product);
+
+    @Modifying
+    @Query("DELETE FROM ProductEntity p WHERE p.id = :id AND p.version = :version")
+    int deleteByIdAndVersion(@Param("id") String id, @Param("version") Long version);
+
+    // ✅ Elimina las especificaciones cuyas claves ya no están en el conjunto enviado
+    @Modifying
+    @Query(value = """
+            DELETE FROM product_specifications
+            WHERE product_id = :productId
+              AND spec_key <> ALL(CAST(:keys AS text[]))
+            """, nativeQuery = true)
+    int deleteSpecificationsNotIn(@Param("productId") String productId, @Param("keys") String[] keys);
+
+    // ✅ Inserta las especificaciones nuevas y solo reescribe las que cambiaron de valor
+    @Modifying
+    @Query(value = """
+            INSERT INTO product_specifications (product_id, spec_key, spec_value)
+            SELECT :productId, spec.spec_key, spec.spec_value
+            FROM unnest(CAST(:keys AS text[]), CAST(:values AS text[])) AS spec(spec_key, spec_value)
+            ON CONFLICT (product_id, spec_key) DO UPDATE SET spec_value = EXCLUDED.spec_value
+            WHERE product_specifications.spec_value IS DISTINCT FROM EXCLUDED.spec_value
+            """, nativeQuery = true)
+    int upsertSpecifications(@Param("productId") String productId,
+                             @Param("keys") String[] keys,
+                             @Param("values") String[] values);
+
+    /**
+     * Suma los votos de rating de varios productos en una sola sentencia y recalcula el promedio.
+     * Los contadores parten del rating vigente como un voto previo ({@link ProductEntity} y
+     * {@code RatingVotesBackfill}), así que el primer voto se promedia con él en lugar de reemplazarlo.
+     * Una fila que el backfill aún no sembró ({@code rating_count = 0}) se trata igual.
+     * La versión sube porque el rating forma parte de la representación (ETag).
+     */
+    @Query(value = """
+            UPDATE products p SET
+                rating_count = GREATEST(p.rating_count, 1) + v.votes,
+                rating_sum = CASE WHEN p.rating_count = 0 THEN CAST(p.rating AS numeric) ELSE p.rating_sum END + v.total,
+                rating = ROUND((CASE WHEN p.rating_count = 0 THEN CAST(p.rating AS numeric) ELSE p.rating_sum END + v.total)
+                               / (GREATEST(p.rating_count, 1) + v.votes), 2),
+                version = p.version + 1
+            FROM unnest(CAST(:ids AS text[]), CAST(:votes AS bigint[]), CAST(:totals AS numeric[])) AS v(id, votes, total)
+            WHERE p.id = v.id
+            RETURNING p.id, p.version
+            """, nativeQuery = true)
+    List<Object[]> applyRatingVotesReturningVersions(@Param("ids") String[] ids,
+                                                     @Param("votes") Long[] votes,
+                                                     @Param("totals") BigDecimal[] totals);
+
+    /**
+     * Suma visitas a la popularidad de varios productos en una sola sentencia. Ambos valores están en
+     * escala logarítmica, así que la suma es un log-sum-exp; si la diferencia supera 40 el término
+     * menor no cambia el resultado en precisión doble (y se evita el underflow de {@code exp}).
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE products p SET
+                popularity = GREATEST(p.popularity, v.score)
+                    + CASE WHEN abs(p.popularity - v.score) > 40 THEN 0
+                           ELSE ln(1 + exp(-abs(p.popularity - v.score))) END
+            FROM unnest(CAST(:ids AS text[]), CAST(:scores AS float8[])) AS v(id, score)
+            WHERE p.id = v.id
+            """, nativeQuery = true)
+    int addPopularity(@Param("ids") String[] ids, @Param("scores") Double[] scores);
+
+    // ✅ Eliminación en una sola sentencia; las especificaciones se eliminan por ON DELETE CASCADE
     @Modifying
     @Query("DELETE FROM ProductEntity p WHERE p.id = :id")
-    void deleteProductById(@Param("id") String id);
+    int deleteProductById(@Param("id") String id);
+
+    // ✅ Eliminación masiva por IDs; RETURNING informa cuáles existían realmente
+    @Query(value = "DELETE FROM products WHERE id = ANY(CAST(:ids AS text[])) RETURNING id", nativeQuery = true)
+    List<String> deleteAllByIdReturningIds(@Param("ids") String[] ids);
+
+    // ✅ Eliminación masiva por categoría, hasta :limit productos por sentencia (usa idx_products_category_id)
+    @Query(value = """
+            DELETE FROM products
+            WHERE id IN (SELECT id FROM products WHERE category = :category ORDER BY id LIMIT :limit)
+            RETURNING id
+            """, nativeQuery = true)
+    List<String> deleteByCategoryReturningIds(@Param("category") String category, @Param("limit") int limit);
 
 }
@@ -0,0 +1,60 @@
+package com.linktic.challenge.products.infrastructure.persistence.repository;
+
+import com.linktic.challenge.products.infrastructure.persistence.entity.ProductOutboxEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProductOutboxJpaRepository extends JpaRepository<ProductOutboxEntity, Long> {
+
+    // ✅ Inserción directa: no hace falta gestionar la entidad en el contexto de persistencia
+    @Modifying
+    @Query(value = """
+            INSERT INTO product_outbox (product_id, event_type, product_version)
+            VALUES (:productId, :eventType, :productVersion)
+            """, nativeQuery = true)
+    void insertEvent(@Param("productId") String productId,
+                     @Param("eventType") String eventType,
+                     @Param("productVersion") Long productVersion);
+
+    // ✅ Un evento por producto en una sola sentencia (eliminaciones masivas)
+    @Modifying
+    @Query(value = """
+            INSERT INTO product_outbox (product_id, event_type)
+            SELECT product_id, :eventType FROM unnest(CAST(:productIds AS text[])) AS product_id
+            """, nativeQuery = true)
+    void insertEvents(@Param("productIds") String[] productIds, @Param("eventType") String eventType);
+
+    // ✅ Un evento versionado por producto en una sola sentencia (volcado de votos de rating)
+    @Modifying
+    @Query(value = """
+            INSERT INTO product_outbox (product_id, event_type, product_version)
+            SELECT event.product_id, :eventType, event.product_version
+            FROM unnest(CAST(:productIds AS text[]), CAST(:productVersions AS bigint[])) AS event(product_id, product_version)
+            """, nativeQuery = true)
+    void insertVersionedEvents(@Param("productIds") String[] productIds,
+                               @Param("productVersions") Long[] productVersions,
+                               @Param("eventType") String eventType);
+
+    List<ProductOutboxEntity> findByPublishedAtIsNullOrderByIdAsc(Limit limit);
+
+    @Modifying
+    @Query("UPDATE ProductOutboxEntity e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("DELETE FROM ProductOutboxEntity e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+
+    // ✅ Un solo relay activo entre instancias; el lock se libera al terminar la transacción
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
+}
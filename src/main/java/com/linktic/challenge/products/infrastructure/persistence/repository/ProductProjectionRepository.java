@@ -0,0 +1,20 @@
+package com.linktic.challenge.products.infrastructure.persistence.repository;
+
+import com.linktic.challenge.products.domain.model.ProductField;
+import com.linktic.challenge.products.domain.model.ProductProjection;
+import com.linktic.challenge.products.infrastructure.persistence.entity.ProductEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Set;
+
+/**
+ * Fragmento de {@link ProductJpaRepository} con las lecturas proyectadas: el {@code SELECT} incluye solo
+ * las columnas de los campos pedidos y las especificaciones se consultan únicamente si se piden.
+ */
+public interface ProductProjectionRepository {
+
+    Page<ProductProjection> findProjected(Specification<ProductEntity> specification, Set<ProductField> fields,
+                                          Pageable pageable);
+}
@@ -0,0 +1,130 @@
+package com.linktic.challenge.products.infrastructure.persistence.repository;
+
+import com.linktic.challenge.products.domain.model.ProductField;
+import com.linktic.challenge.products.domain.model.ProductProjection;
+import com.linktic.challenge.products.infrastructure.persistence.entity.ProductEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Lecturas proyectadas con Criteria sobre {@link ProductEntity}: el mismo filtro y el mismo orden que el
+ * listado completo, pero sin hidratar entidades. El ID y la versión se seleccionan siempre; el resto de
+ * columnas, solo si su campo está en {@code fields}. Las especificaciones, si se piden, llegan en una
+ * segunda consulta por los IDs de la página.
+ */
+public class ProductProjectionRepositoryImpl implements ProductProjectionRepository {
+    private static final String VERSION = "version";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ProductProjection> findProjected(Specification<ProductEntity> specification, Set<ProductField> fields,
+                                                 Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ProductEntity> root = query.from(ProductEntity.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get(ProductField.ID.fieldName()).alias(ProductField.ID.fieldName()));
+        selections.add(root.get(VERSION).alias(VERSION));
+        for (ProductField field : fields) {
+            if (field != ProductField.ID && field != ProductField.SPECIFICATIONS) {
+                selections.add(root.get(field.fieldName()).alias(field.fieldName()));
+            }
+        }
+        query.multiselect(selections);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Tuple> rows = typedQuery.getResultList();
+
+        Map<String, Map<String, String>> specifications = fields.contains(ProductField.SPECIFICATIONS)
+                ? findSpecifications(rows.stream().map(row -> row.get(ProductField.ID.fieldName(), String.class)).toList())
+                : Map.of();
+        List<ProductProjection> content = rows.stream()
+                .map(row -> toProjection(row, fields, specifications))
+                .toList();
+        // Como en el listado completo, el conteo se omite si la página ya permite deducir el total
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    private Map<String, Map<String, String>> findSpecifications(List<String> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Object[]> rows = entityManager.createQuery("""
+                        SELECT s.product.id, s.key, s.value FROM ProductSpecificationEntity s
+                        WHERE s.product.id IN :ids
+                        """, Object[].class)
+                .setParameter("ids", productIds)
+                .getResultList();
+        Map<String, Map<String, String>> specifications = new HashMap<>();
+        for (Object[] row : rows) {
+            specifications.computeIfAbsent((String) row[0], id -> new TreeMap<>()).put((String) row[1], (String) row[2]);
+        }
+        return specifications;
+    }
+
+    private long count(Specification<ProductEntity> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<ProductEntity> root = query.from(ProductEntity.class);
+        query.select(cb.count(root));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static ProductProjection toProjection(Tuple row, Set<ProductField> fields,
+                                                  Map<String, Map<String, String>> specifications) {
+        String id = row.get(ProductField.ID.fieldName(), String.class);
+        return new ProductProjection(
+                fields,
+                id,
+                column(row, fields, ProductField.NAME, String.class),
+                column(row, fields, ProductField.IMAGE_URL, String.class),
+                column(row, fields, ProductField.DESCRIPTION, String.class),
+                column(row, fields, ProductField.PRICE, BigDecimal.class),
+                column(row, fields, ProductField.CURRENCY, String.class),
+                column(row, fields, ProductField.RATING, Double.class),
+                column(row, fields, ProductField.CATEGORY, String.class),
+                column(row, fields, ProductField.BRAND, String.class),
+                fields.contains(ProductField.SPECIFICATIONS) ? specifications.getOrDefault(id, Map.of()) : null,
+                row.get(VERSION, Long.class));
+    }
+
+    private static <T> T column(Tuple row, Set<ProductField> fields, ProductField field, Class<T> type) {
+        return fields.contains(field) ? row.get(field.fieldName(), type) : null;
+    }
+}
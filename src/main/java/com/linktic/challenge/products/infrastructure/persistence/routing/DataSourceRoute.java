@@ -0,0 +1,6 @@
+package com.linktic.challenge.products.infrastructure.persistence.routing;
+
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
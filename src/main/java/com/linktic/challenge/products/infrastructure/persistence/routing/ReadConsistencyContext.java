@@ -0,0 +1,25 @@
+package com.linktic.challenge.products.infrastructure.persistence.routing;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Indica, para el hilo de la petición actual, si las lecturas deben ir al primario
+ * (read-your-writes) aunque la réplica esté disponible.
+ */
+@UtilityClass
+public class ReadConsistencyContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+}
@@ -0,0 +1,24 @@
+package com.linktic.challenge.products.infrastructure.persistence.routing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la réplica de lectura ({@code products.datasource.replica.*}).
+ *
+ * @param maxLag                 retraso máximo tolerado antes de enviar las lecturas al primario
+ * @param healthCheckInterval    frecuencia con la que se mide el retraso de la réplica
+ * @param readYourWritesWindow   tiempo durante el cual un cliente que escribió lee del primario
+ */
+@ConfigurationProperties(prefix = "products.datasource.replica")
+public record ReadReplicaProperties(
+        boolean enabled,
+        String url,
+        String username,
+        String password,
+        @DefaultValue("5s") Duration maxLag,
+        @DefaultValue("2s") Duration healthCheckInterval,
+        @DefaultValue("5s") Duration readYourWritesWindow
+) { }
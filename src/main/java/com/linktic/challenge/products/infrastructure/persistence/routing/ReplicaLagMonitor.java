@@ -0,0 +1,115 @@
+package com.linktic.challenge.products.infrastructure.persistence.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide periódicamente el retraso de replicación y decide si la réplica puede atender lecturas.
+ *
+ * <p>Una réplica sin WAL pendiente de aplicar se considera al día aunque el primario lleve tiempo
+ * sin escribir; en otro caso el retraso es la antigüedad de la última transacción aplicada.</p>
+ */
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+
+    private final DataSource replicaDataSource;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+
+    private volatile boolean available;
+    private volatile Duration lastLag;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, Duration checkInterval) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+    }
+
+    public boolean isReplicaAvailable() {
+        return available;
+    }
+
+    public Duration getLastLag() {
+        return lastLag;
+    }
+
+    /**
+     * Mide el retraso una vez y actualiza la disponibilidad.
+     */
+    public void refresh() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            Duration lag = Duration.ofMillis(Math.round(resultSet.getDouble(1) * 1000));
+            lastLag = lag;
+            updateAvailability(lag.compareTo(maxLag) <= 0, "retraso de " + lag.toMillis() + " ms");
+        } catch (SQLException | RuntimeException ex) {
+            updateAvailability(false, ex.getMessage());
+        }
+    }
+
+    /**
+     * Marca la réplica como no disponible hasta la próxima medición exitosa.
+     */
+    public void markUnavailable(Throwable cause) {
+        updateAvailability(false, cause.getMessage());
+    }
+
+    private void updateAvailability(boolean nowAvailable, String reason) {
+        boolean wasAvailable = available;
+        available = nowAvailable;
+        if (wasAvailable && !nowAvailable) {
+            log.warn("Réplica de lectura fuera de servicio, las lecturas van al primario: {}", reason);
+        } else if (!wasAvailable && nowAvailable) {
+            log.info("Réplica de lectura disponible ({})", reason);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        refresh();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = checkInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+}
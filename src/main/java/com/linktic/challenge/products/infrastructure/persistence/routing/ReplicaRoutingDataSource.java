@@ -0,0 +1,61 @@
+package com.linktic.challenge.products.infrastructure.persistence.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * DataSource para conexiones de solo lectura: usa la réplica salvo que esté atrasada o caída,
+ * o que la petición exija leer del primario (read-your-writes).
+ *
+ * <p>Si la réplica falla al entregar una conexión, la petición se atiende con el primario y la
+ * réplica queda fuera de servicio hasta la siguiente medición del {@link ReplicaLagMonitor}.</p>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final DataSource primaryDataSource;
+    private final DataSource replicaDataSource;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primaryDataSource,
+                                    DataSource replicaDataSource,
+                                    ReplicaLagMonitor replicaLagMonitor) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSource = replicaDataSource;
+        this.replicaLagMonitor = replicaLagMonitor;
+        setTargetDataSources(Map.of(
+                DataSourceRoute.PRIMARY, primaryDataSource,
+                DataSourceRoute.REPLICA, replicaDataSource
+        ));
+        setDefaultTargetDataSource(primaryDataSource);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReadConsistencyContext.isPrimaryRequired() || !replicaLagMonitor.isReplicaAvailable()) {
+            return DataSourceRoute.PRIMARY;
+        }
+        return DataSourceRoute.REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == DataSourceRoute.PRIMARY) {
+            return primaryDataSource.getConnection();
+        }
+        try {
+            return replicaDataSource.getConnection();
+        } catch (SQLException ex) {
+            log.warn("No se pudo obtener conexión de la réplica, se usa el primario: {}", ex.getMessage());
+            replicaLagMonitor.markUnavailable(ex);
+            return primaryDataSource.getConnection();
+        }
+    }
+}
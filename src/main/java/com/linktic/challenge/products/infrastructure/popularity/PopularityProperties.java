@@ -0,0 +1,22 @@
+package com.linktic.challenge.products.infrastructure.popularity;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Conteo de visitas y popularidad con decaimiento ({@code products.popularity.*}).
+ *
+ * @param flushInterval       cada cuánto se vuelcan las visitas acumuladas a {@code products.popularity}
+ * @param halfLife            tiempo en que el peso de una visita se reduce a la mitad
+ * @param maxTrackedProducts  productos distintos con visitas pendientes que se mantienen en memoria
+ * @param flushBatchSize      productos por sentencia {@code UPDATE} en cada volcado
+ */
+@ConfigurationProperties(prefix = "products.popularity")
+public record PopularityProperties(
+        @DefaultValue("10s") Duration flushInterval,
+        @DefaultValue("7d") Duration halfLife,
+        @DefaultValue("100000") int maxTrackedProducts,
+        @DefaultValue("1000") int flushBatchSize
+) { }
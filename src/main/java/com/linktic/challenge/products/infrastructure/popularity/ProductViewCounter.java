@@ -0,0 +1,184 @@
+package com.linktic.challenge.products.infrastructure.popularity;
+
+import com.linktic.challenge.products.application.port.in.ProductPopularityUseCase;
+import com.linktic.challenge.products.domain.repository.ProductPopularityRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cuenta visitas de productos en memoria y las vuelca por lotes a la columna de popularidad.
+ *
+ * <p>Cada producto visitado tiene un {@link LongAdder}: registrar una visita no bloquea ni escribe en
+ * la base. El volcado retira los contadores del mapa, de modo que la memoria solo guarda los productos
+ * visitados desde el último volcado y nunca más de {@code maxTrackedProducts}. Al llegar al límite se
+ * adelanta el volcado y, mientras tanto, las visitas a productos nuevos se descartan. Es un conteo
+ * aproximado: una visita que llega justo mientras se retira su contador puede perderse.</p>
+ *
+ * <p>El decaimiento usa forward decay: una visita en el instante {@code t} pesa
+ * {@code 2^((t - EPOCH) / halfLife)}, y la popularidad guardada es el logaritmo natural de la suma de
+ * pesos. Ordenar por ese valor equivale a ordenar por visitas con decaimiento exponencial, sin tener que
+ * reescribir las filas no visitadas. Cambiar {@code halfLife} mezcla escalas: las posiciones se
+ * estabilizan a medida que llegan visitas nuevas.</p>
+ */
+@Slf4j
+public class ProductViewCounter implements ProductPopularityUseCase, SmartLifecycle {
+    private static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+    private static final double LN_2 = Math.log(2);
+
+    private final ConcurrentMap<String, LongAdder> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean earlyFlushRequested = new AtomicBoolean();
+    private final ProductPopularityRepository productPopularityRepository;
+    private final PopularityProperties properties;
+    private final Clock clock;
+    private final Counter recorded;
+    private final Counter flushed;
+    private final Counter dropped;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public ProductViewCounter(ProductPopularityRepository productPopularityRepository, PopularityProperties properties,
+                              Clock clock, MeterRegistry meterRegistry) {
+        this.productPopularityRepository = productPopularityRepository;
+        this.properties = properties;
+        this.clock = clock;
+        this.recorded = views(meterRegistry, "recorded");
+        this.flushed = views(meterRegistry, "flushed");
+        this.dropped = views(meterRegistry, "dropped");
+    }
+
+    private static Counter views(MeterRegistry meterRegistry, String stage) {
+        return Counter.builder("products.popularity.views")
+                .description("Visitas registradas (recorded), volcadas a la base (flushed) o descartadas por el límite de memoria (dropped)")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordView(String productId) {
+        LongAdder views = pending.get(productId);
+        if (views == null) {
+            if (pending.size() >= properties.maxTrackedProducts()) {
+                dropped.increment();
+                requestEarlyFlush();
+                return;
+            }
+            views = pending.computeIfAbsent(productId, id -> new LongAdder());
+        }
+        views.increment();
+        recorded.increment();
+    }
+
+    /**
+     * Vuelca las visitas pendientes. Si un lote falla, sus visitas y las de los lotes restantes vuelven
+     * al mapa para el siguiente volcado.
+     */
+    public synchronized void flush() {
+        double decayedWeight = logWeight(clock.instant());
+        Map<String, Long> drained = new LinkedHashMap<>();
+        for (String productId : pending.keySet()) {
+            LongAdder views = pending.remove(productId);
+            long count = views != null ? views.sum() : 0;
+            if (count > 0) {
+                drained.put(productId, count);
+            }
+        }
+
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(drained.entrySet());
+        for (int from = 0; from < entries.size(); from += properties.flushBatchSize()) {
+            List<Map.Entry<String, Long>> batch = entries.subList(from, Math.min(from + properties.flushBatchSize(), entries.size()));
+            Map<String, Double> scores = new LinkedHashMap<>();
+            long views = 0;
+            for (Map.Entry<String, Long> entry : batch) {
+                scores.put(entry.getKey(), Math.log(entry.getValue()) + decayedWeight);
+                views += entry.getValue();
+            }
+            try {
+                productPopularityRepository.addPopularity(scores);
+            } catch (RuntimeException ex) {
+                entries.subList(from, entries.size()).forEach(entry ->
+                        pending.computeIfAbsent(entry.getKey(), id -> new LongAdder()).add(entry.getValue()));
+                throw ex;
+            }
+            flushed.increment(views);
+        }
+    }
+
+    // Logaritmo natural del peso de una visita ocurrida en el instante indicado
+    private double logWeight(Instant instant) {
+        Duration age = Duration.between(EPOCH, instant);
+        return (double) age.toMillis() / properties.halfLife().toMillis() * LN_2;
+    }
+
+    // Sin bloquear: el hilo de la petición solo encola el volcado, y una sola vez hasta que se ejecute
+    private void requestEarlyFlush() {
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null || !earlyFlushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                earlyFlushRequested.set(false);
+                flushSafely();
+            });
+        } catch (RejectedExecutionException ex) {
+            earlyFlushRequested.set(false); // la instancia se está deteniendo; stop() hace el último volcado
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-views");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.flushInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        synchronized (this) {
+            if (scheduler == null) {
+                return;
+            }
+            scheduler.shutdown();
+            scheduler = null;
+        }
+        flushSafely();
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Volcado de visitas fallido, se reintentará en el siguiente ciclo: {}", ex.getMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.linktic.challenge.products.infrastructure.ranking;
+
+import com.linktic.challenge.products.application.port.in.ProductRankingUseCase;
+import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
+import com.linktic.challenge.products.domain.model.CategoryTopProducts;
+import com.linktic.challenge.products.domain.model.Product;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidation;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidationListener;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductWriteListener;
+import com.linktic.challenge.products.infrastructure.persistence.routing.ReadConsistencyContext;
+import com.linktic.challenge.products.infrastructure.warmup.WarmupProperties;
+import com.linktic.challenge.products.infrastructure.warmup.WarmupTask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Mantiene en memoria los primeros productos de cada categoría por rating y por precio.
+ *
+ * <p>Cada categoría retiene hasta {@code capacity} productos por orden en un {@link RankedProducts}
+ * inmutable. Las lecturas toman la referencia volátil sin bloquear. Los cambios hechos por
+ * {@code ProductManagementUseCase} llegan al momento por {@link ProductWriteListener}; los de otras
+ * instancias, por {@link ProductInvalidationListener}; los volcados de votos de rating de esta instancia
+ * llegan por el mismo listener tras su commit, aunque el aviso entre instancias esté desactivado
+ * ({@code LocalProductInvalidationPublisher}). Cuando una categoría pierde tantos
+ * productos que ya no puede servir {@code maxLimit}, se recarga solo esa categoría; una reconstrucción
+ * completa periódica corrige cualquier aviso perdido.</p>
+ */
+@Slf4j
+public class CategoryTopProductsEngine implements ProductRankingUseCase, ProductInvalidationListener,
+        ProductWriteListener, WarmupTask, SmartLifecycle {
+    private final TopProductsLoader loader;
+    private final TopProductsProperties properties;
+    private final Counter refills;
+
+    private final Object reloadMonitor = new Object();
+    private final Object writeMonitor = new Object();
+    private final List<Change> changesDuringReload = new ArrayList<>();
+    private final Set<String> queuedRefills = ConcurrentHashMap.newKeySet();
+    private boolean reloading;
+
+    private volatile Map<String, CategoryRankings> rankings;
+    private volatile ScheduledExecutorService scheduler;
+
+    public CategoryTopProductsEngine(TopProductsLoader loader, TopProductsProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.loader = loader;
+        this.properties = properties;
+        this.refills = Counter.builder("products.top_products.refills")
+                .description("Recargas de una categoría que se quedó sin productos suficientes en memoria")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public SortedMap<String, CategoryTopProducts> topProductsByCategory(int limit) {
+        if (limit < 1 || limit > properties.maxLimit()) {
+            throw new InvalidProductException(
+                    String.format("Limit must be between 1 and %d", properties.maxLimit()));
+        }
+        Map<String, CategoryRankings> current = rankings;
+        if (current == null) {
+            ensureLoaded();
+            current = rankings;
+        }
+
+        SortedMap<String, CategoryTopProducts> result = new TreeMap<>();
+        current.forEach((category, ranking) -> result.put(category,
+                new CategoryTopProducts(ranking.byRating().first(limit), ranking.byPrice().first(limit))));
+        return result;
+    }
+
+    /**
+     * Aplica cambios ya confirmados en la base. Si hay una recarga en curso, se anotan para
+     * reaplicarlos sobre lo recién cargado, que pudo leer filas anteriores al cambio.
+     */
+    public void apply(Collection<Product> upserts, Collection<String> deletedIds) {
+        Change change = new Change(List.copyOf(upserts), Set.copyOf(deletedIds));
+        synchronized (writeMonitor) {
+            if (reloading) {
+                changesDuringReload.add(change);
+            }
+            Map<String, CategoryRankings> current = rankings;
+            if (current != null) {
+                rankings = change.applyTo(current, properties.capacity());
+                queueRefills(rankings);
+            }
+        }
+    }
+
+    @Override
+    public void onProductsWritten(Collection<Product> upserts, Collection<String> deletedIds) {
+        apply(upserts, deletedIds);
+    }
+
+    /**
+     * Reconstruye los destacados de todas las categorías, o solo de {@code category} si no es {@code null}.
+     */
+    public void reload(String category) {
+        synchronized (reloadMonitor) {
+            synchronized (writeMonitor) {
+                reloading = true;
+                changesDuringReload.clear();
+            }
+            try {
+                Map<String, CategoryRankings> loaded = build(loader.loadTopRanked(category, properties.capacity()));
+                synchronized (writeMonitor) {
+                    Map<String, CategoryRankings> updated = new HashMap<>();
+                    if (category != null && rankings != null) {
+                        updated.putAll(rankings);
+                        updated.remove(category);
+                    }
+                    updated.putAll(loaded);
+                    Map<String, CategoryRankings> result = Map.copyOf(updated);
+                    for (Change change : changesDuringReload) {
+                        result = change.applyTo(result, properties.capacity());
+                    }
+                    rankings = result;
+                    queueRefills(result);
+                }
+                if (category == null) {
+                    log.info("Destacados por categoría cargados: {} categorías", loaded.size());
+                }
+            } finally {
+                synchronized (writeMonitor) {
+                    reloading = false;
+                    changesDuringReload.clear();
+                }
+            }
+        }
+    }
+
+    private Map<String, CategoryRankings> build(List<Product> candidates) {
+        int capacity = properties.capacity();
+        Map<String, List<Product>> byCategory = candidates.stream()
+                .collect(Collectors.groupingBy(product -> product.category().value()));
+        Map<String, CategoryRankings> built = new HashMap<>();
+        byCategory.forEach((category, products) -> {
+            // La consulta trae todos los productos de las categorías con menos de capacity productos
+            boolean complete = products.size() < capacity;
+            built.put(category, new CategoryRankings(
+                    RankedProducts.of(RankingOrder.RATING, capacity, products, complete),
+                    RankedProducts.of(RankingOrder.PRICE, capacity, products, complete)));
+        });
+        return built;
+    }
+
+    private void queueRefills(Map<String, CategoryRankings> current) {
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null) {
+            return;
+        }
+        current.forEach((category, ranking) -> {
+            if (ranking.needsRefill(properties.maxLimit()) && queuedRefills.add(category)) {
+                refills.increment();
+                executor.execute(() -> {
+                    queuedRefills.remove(category);
+                    runSafely("recarga de la categoría " + category, () -> reload(category));
+                });
+            }
+        });
+    }
+
+    private void ensureLoaded() {
+        synchronized (reloadMonitor) {
+            if (rankings == null) {
+                reload(null);
+            }
+        }
+    }
+
+    private void refresh(Set<String> productIds) {
+        // Se lee del primario: la réplica podría no tener aún el cambio que originó el aviso
+        ReadConsistencyContext.requirePrimary();
+        try {
+            List<Product> products = loader.loadByIds(productIds);
+            Set<String> deletedIds = new HashSet<>(productIds);
+            products.forEach(product -> deletedIds.remove(product.id().value()));
+            apply(products, deletedIds);
+        } finally {
+            ReadConsistencyContext.clear();
+        }
+    }
+
+    @Override
+    public void onInvalidation(ProductInvalidation invalidation) {
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null) {
+            return;
+        }
+        if (invalidation.all() || invalidation.productIds().isEmpty()) {
+            executor.execute(() -> runSafely("reconstrucción completa", () -> reload(null)));
+        } else {
+            executor.execute(() -> runSafely("relectura de productos", () -> refresh(invalidation.productIds())));
+        }
+    }
+
+    @Override
+    public String name() {
+        return "top-products";
+    }
+
+    @Override
+    public long warmUp(WarmupProperties warmupProperties) {
+        ensureLoaded();
+        return rankings.size();
+    }
+
+    private static void runSafely(String operation, Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException ex) {
+            log.warn("Destacados por categoría: {} fallida, se mantienen los anteriores: {}",
+                    operation, ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "top-products");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.refreshInterval().toMillis();
+        // Si el calentamiento está deshabilitado, la primera carga ocurre aquí en segundo plano
+        executor.execute(() -> runSafely("carga inicial", this::ensureLoaded));
+        executor.scheduleWithFixedDelay(() -> runSafely("reconstrucción periódica", () -> reload(null)),
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        scheduler = executor;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private record CategoryRankings(RankedProducts byRating, RankedProducts byPrice) {
+        static CategoryRankings empty(int capacity) {
+            return new CategoryRankings(RankedProducts.empty(RankingOrder.RATING, capacity),
+                    RankedProducts.empty(RankingOrder.PRICE, capacity));
+        }
+
+        CategoryRankings without(String productId) {
+            return new CategoryRankings(byRating.without(productId), byPrice.without(productId));
+        }
+
+        CategoryRankings offer(Product product) {
+            return new CategoryRankings(byRating.offer(product), byPrice.offer(product));
+        }
+
+        boolean needsRefill(int served) {
+            return byRating.needsRefill(served) || byPrice.needsRefill(served);
+        }
+
+        boolean isEmpty() {
+            return byRating.complete() && byRating.products().isEmpty();
+        }
+    }
+
+    private record Change(List<Product> upserts, Set<String> deletedIds) {
+        /**
+         * Un producto actualizado sale de todas las categorías (pudo cambiar de categoría) y se ofrece
+         * de nuevo a la suya. Una categoría ausente no tiene productos: empieza completa y vacía.
+         */
+        Map<String, CategoryRankings> applyTo(Map<String, CategoryRankings> current, int capacity) {
+            Set<String> removedIds = new HashSet<>(deletedIds);
+            upserts.forEach(product -> removedIds.add(product.id().value()));
+
+            Map<String, CategoryRankings> updated = new HashMap<>();
+            current.forEach((category, ranking) -> {
+                CategoryRankings remaining = ranking;
+                for (String productId : removedIds) {
+                    remaining = remaining.without(productId);
+                }
+                updated.put(category, remaining);
+            });
+            for (Product product : upserts) {
+                updated.merge(product.category().value(), CategoryRankings.empty(capacity).offer(product),
+                        (existing, ignored) -> existing.offer(product));
+            }
+            updated.values().removeIf(CategoryRankings::isEmpty);
+            return Map.copyOf(updated);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.linktic.challenge.products.infrastructure.ranking;
+
+import com.linktic.challenge.products.domain.model.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Los primeros productos de una categoría en un {@link RankingOrder}, como máximo {@code capacity}.
+ * Inmutable: cada cambio retorna una instancia nueva.
+ *
+ * <p>Invariante: todo producto de la categoría que no está en la lista va detrás del último de la
+ * lista. {@code complete} indica además que no hay productos fuera de ella. Una lista incompleta que
+ * pierde elementos no puede saber cuál era el siguiente; cuando queda por debajo de lo que se sirve,
+ * {@link #needsRefill(int)} pide recargarla de la base.</p>
+ */
+public record RankedProducts(RankingOrder order, int capacity, List<Product> products, boolean complete) {
+
+    public RankedProducts {
+        products = List.copyOf(products);
+    }
+
+    /**
+     * Construye la lista a partir de los primeros productos de la categoría, ya sea la categoría
+     * completa o los primeros {@code capacity} según el orden.
+     *
+     * @param complete si {@code candidates} incluye todos los productos de la categoría
+     */
+    public static RankedProducts of(RankingOrder order, int capacity, List<Product> candidates, boolean complete) {
+        List<Product> sorted = new ArrayList<>(candidates);
+        sorted.sort(order.comparator());
+        boolean truncated = sorted.size() > capacity;
+        return new RankedProducts(order, capacity, truncated ? sorted.subList(0, capacity) : sorted,
+                complete && !truncated);
+    }
+
+    public static RankedProducts empty(RankingOrder order, int capacity) {
+        return new RankedProducts(order, capacity, List.of(), true);
+    }
+
+    public RankedProducts without(String productId) {
+        List<Product> remaining = products.stream()
+                .filter(product -> !product.id().value().equals(productId))
+                .toList();
+        return remaining.size() == products.size() ? this : new RankedProducts(order, capacity, remaining, complete);
+    }
+
+    /**
+     * Incorpora un producto que no está en la lista. Solo entra si va delante del último o si la lista
+     * ya tenía toda la categoría; si queda afuera, la lista deja de estar completa.
+     */
+    public RankedProducts offer(Product product) {
+        int index = 0;
+        while (index < products.size() && order.comparator().compare(products.get(index), product) < 0) {
+            index++;
+        }
+        if (index == products.size() && !complete) {
+            return this;
+        }
+
+        List<Product> updated = new ArrayList<>(products);
+        updated.add(index, product);
+        if (updated.size() > capacity) {
+            updated.removeLast();
+            return new RankedProducts(order, capacity, updated, false);
+        }
+        return new RankedProducts(order, capacity, updated, complete);
+    }
+
+    public boolean needsRefill(int served) {
+        return !complete && products.size() < served;
+    }
+
+    public List<Product> first(int limit) {
+        return products.subList(0, Math.min(limit, products.size()));
+    }
+}
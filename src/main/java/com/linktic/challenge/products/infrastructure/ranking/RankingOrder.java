@@ -0,0 +1,27 @@
+package com.linktic.challenge.products.infrastructure.ranking;
+
+import com.linktic.challenge.products.domain.model.Product;
+
+import java.util.Comparator;
+
+/**
+ * Órdenes de los destacados por categoría. Desempatan por ID igual que el listado (misma dirección
+ * que el campo), así el resultado coincide con {@code sortBy} sobre la categoría.
+ */
+public enum RankingOrder {
+    RATING(Comparator.comparing((Product product) -> product.rating().value())
+            .thenComparing(product -> product.id().value())
+            .reversed()),
+    PRICE(Comparator.comparing((Product product) -> product.price().value())
+            .thenComparing(product -> product.id().value()));
+
+    private final Comparator<Product> comparator;
+
+    RankingOrder(Comparator<Product> comparator) {
+        this.comparator = comparator;
+    }
+
+    public Comparator<Product> comparator() {
+        return comparator;
+    }
+}
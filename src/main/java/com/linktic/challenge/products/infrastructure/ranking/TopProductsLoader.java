@@ -0,0 +1,48 @@
+package com.linktic.challenge.products.infrastructure.ranking;
+
+import com.linktic.challenge.products.domain.model.Product;
+import com.linktic.challenge.products.infrastructure.persistence.mapper.ProductEntityMapper;
+import com.linktic.challenge.products.infrastructure.persistence.repository.ProductJpaRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lee de la base los candidatos a destacados con recorridos de índice limitados por categoría, en una
+ * transacción de solo lectura (puede ir a la réplica).
+ */
+public class TopProductsLoader {
+    private final ProductJpaRepository productJpaRepository;
+    private final ProductEntityMapper productMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TopProductsLoader(ProductJpaRepository productJpaRepository,
+                             ProductEntityMapper productMapper,
+                             TransactionTemplate readOnlyTransaction) {
+        this.productJpaRepository = productJpaRepository;
+        this.productMapper = productMapper;
+        this.readOnlyTransaction = readOnlyTransaction;
+    }
+
+    /**
+     * Los primeros {@code capacity} productos por rating y por precio de cada categoría, o solo de
+     * {@code category} si no es {@code null}.
+     */
+    public List<Product> loadTopRanked(String category, int capacity) {
+        return readOnlyTransaction.execute(status -> toDomain(productJpaRepository.findTopRankedIds(category, capacity)));
+    }
+
+    public List<Product> loadByIds(Collection<String> ids) {
+        return readOnlyTransaction.execute(status -> toDomain(ids));
+    }
+
+    private List<Product> toDomain(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return productJpaRepository.findWithSpecificationsByIdIn(ids).stream()
+                .map(productMapper::toDomain)
+                .toList();
+    }
+}
@@ -0,0 +1,27 @@
+package com.linktic.challenge.products.infrastructure.ranking;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Destacados por categoría en memoria ({@code products.top-products.*}).
+ *
+ * @param maxLimit        máximo de productos por categoría y orden que se pueden pedir
+ * @param capacity        productos retenidos por categoría y orden; el margen sobre {@code maxLimit}
+ *                        absorbe eliminaciones y bajadas de rating sin recargar de la base
+ * @param refreshInterval reconstrucción completa periódica, red de seguridad ante cambios no notificados
+ */
+@ConfigurationProperties(prefix = "products.top-products")
+public record TopProductsProperties(
+        @DefaultValue("10") int maxLimit,
+        @DefaultValue("20") int capacity,
+        @DefaultValue("10m") Duration refreshInterval
+) {
+    public TopProductsProperties {
+        if (capacity < maxLimit) {
+            throw new IllegalArgumentException("products.top-products.capacity must be at least max-limit");
+        }
+    }
+}
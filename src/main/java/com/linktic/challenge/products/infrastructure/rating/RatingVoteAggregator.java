@@ -0,0 +1,204 @@
+package com.linktic.challenge.products.infrastructure.rating;
+
+import com.linktic.challenge.products.application.port.in.ProductRatingUseCase;
+import com.linktic.challenge.products.domain.exception.entity.ProductNotFoundException;
+import com.linktic.challenge.products.domain.model.ProductRating;
+import com.linktic.challenge.products.domain.model.ProductRatingVotes;
+import com.linktic.challenge.products.domain.repository.ProductRatingRepository;
+import com.linktic.challenge.products.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acumula los votos de rating en memoria y los vuelca periódicamente a la base.
+ *
+ * <p>Cada producto tiene un {@link LongAdder} que empaqueta en un solo {@code long} la cantidad de
+ * votos (32 bits altos) y la suma de puntuaciones en centésimas (32 bits bajos). Votar es un
+ * {@code add} sin bloqueo ni contención entre hilos, y cantidad y suma se leen siempre juntas.</p>
+ *
+ * <p>El volcado lee cada acumulador, aplica los votos en un {@code UPDATE} por lote y solo después
+ * descuenta exactamente lo leído: los votos que llegan mientras tanto se conservan y, si el volcado
+ * falla, se reintentan en el siguiente. Los votos pendientes se pierden si la instancia termina
+ * abruptamente; al detenerse de forma ordenada se hace un último volcado.</p>
+ *
+ * <p>Al terminar el volcado se quitan los acumuladores que quedaron en cero, así el mapa solo guarda los
+ * productos con votos recientes (y no los eliminados). Para no perder un voto que llega a un acumulador
+ * que se está quitando, el volcado lo marca como retirado antes de comprobar que está vacío, y quien vota
+ * comprueba la marca después de sumar: si lo ve retirado, deshace su suma y vota en el acumulador vigente.
+ * Como ambos accesos son volátiles, al menos uno ve el del otro.</p>
+ */
+@Slf4j
+public class RatingVoteAggregator implements ProductRatingUseCase, SmartLifecycle {
+    private static final int COUNT_SHIFT = 32;
+    private static final long SUM_MASK = (1L << COUNT_SHIFT) - 1;
+    private static final long ONE_VOTE = 1L << COUNT_SHIFT;
+
+    private final ConcurrentMap<String, Tally> pending = new ConcurrentHashMap<>();
+    private final ProductRepository productRepository;
+    private final ProductRatingRepository productRatingRepository;
+    private final RatingVoteProperties properties;
+    private final Counter submitted;
+    private final Counter flushed;
+    private final Counter discarded;
+
+    private ScheduledExecutorService scheduler;
+
+    public RatingVoteAggregator(ProductRepository productRepository, ProductRatingRepository productRatingRepository,
+                                RatingVoteProperties properties, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.productRatingRepository = productRatingRepository;
+        this.properties = properties;
+        this.submitted = votes(meterRegistry, "submitted");
+        this.flushed = votes(meterRegistry, "flushed");
+        this.discarded = votes(meterRegistry, "discarded");
+    }
+
+    private static Counter votes(MeterRegistry meterRegistry, String stage) {
+        return Counter.builder("products.rating.votes")
+                .description("Votos de rating recibidos (submitted), volcados a la base (flushed) o descartados por producto inexistente (discarded)")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void submitVote(String productId, ProductRating score) {
+        long vote = ONE_VOTE | Math.round(score.value() * 100);
+        Tally tally = pending.get(productId);
+        if (tally == null) {
+            // Solo el primer voto de un producto en cada intervalo consulta la base; los siguientes no salen de memoria
+            if (!productRepository.existsById(productId)) {
+                throw new ProductNotFoundException(productId);
+            }
+        }
+        while (true) {
+            if (tally == null) {
+                tally = pending.computeIfAbsent(productId, id -> new Tally());
+            }
+            tally.add(vote);
+            if (!tally.retired) {
+                break;
+            }
+            // El volcado lo está quitando por vacío: el voto va al acumulador que lo reemplace
+            tally.add(-vote);
+            tally = null;
+            Thread.onSpinWait();
+        }
+        submitted.increment();
+    }
+
+    /**
+     * Vuelca los votos acumulados. Con un volcado cada pocos segundos la suma de un producto no se
+     * acerca al límite de 32 bits (más de 8 millones de votos de 5.0 por intervalo).
+     */
+    public synchronized void flush() {
+        List<Drained> drained = new ArrayList<>();
+        pending.forEach((productId, tally) -> {
+            long packed = tally.sum();
+            if (packed != 0) {
+                drained.add(new Drained(productId, tally, packed));
+            }
+        });
+
+        for (int from = 0; from < drained.size(); from += properties.flushBatchSize()) {
+            List<Drained> batch = drained.subList(from, Math.min(from + properties.flushBatchSize(), drained.size()));
+            Set<String> updatedIds = new HashSet<>(productRatingRepository.applyVotes(
+                    batch.stream().map(Drained::toVotes).toList()));
+
+            for (Drained entry : batch) {
+                if (updatedIds.contains(entry.productId())) {
+                    entry.tally().add(-entry.packed());
+                    flushed.increment(entry.count());
+                } else {
+                    // El producto se eliminó después de recibir votos
+                    pending.remove(entry.productId(), entry.tally());
+                    discarded.increment(entry.count());
+                }
+            }
+        }
+        pending.forEach(this::removeIfEmpty);
+    }
+
+    /**
+     * Productos con un acumulador en memoria; pensado para diagnóstico y pruebas.
+     */
+    public int pendingProducts() {
+        return pending.size();
+    }
+
+    private void removeIfEmpty(String productId, Tally tally) {
+        tally.retired = true;
+        if (tally.sum() == 0) {
+            pending.remove(productId, tally);
+        } else {
+            tally.retired = false;
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rating-votes");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.flushInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        synchronized (this) {
+            if (scheduler == null) {
+                return;
+            }
+            scheduler.shutdown();
+            scheduler = null;
+        }
+        flushSafely();
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Volcado de votos de rating fallido, se reintentará en el siguiente ciclo: {}", ex.getMessage(), ex);
+        }
+    }
+
+    // Acumulador que el volcado puede retirar del mapa; ver la clase
+    private static final class Tally extends LongAdder {
+        private volatile boolean retired;
+    }
+
+    private record Drained(String productId, Tally tally, long packed) {
+        long count() {
+            return packed >>> COUNT_SHIFT;
+        }
+
+        ProductRatingVotes toVotes() {
+            return new ProductRatingVotes(productId, count(), BigDecimal.valueOf(packed & SUM_MASK, 2));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.linktic.challenge.products.infrastructure.rating;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Agregación en memoria de votos de rating ({@code products.rating-votes.*}).
+ *
+ * @param flushInterval cada cuánto se vuelcan los votos acumulados a {@code products.rating}
+ * @param flushBatchSize productos por sentencia {@code UPDATE} en cada volcado
+ */
+@ConfigurationProperties(prefix = "products.rating-votes")
+public record RatingVoteProperties(
+        @DefaultValue("5s") Duration flushInterval,
+        @DefaultValue("1000") int flushBatchSize
+) { }
@@ -0,0 +1,27 @@
+package com.linktic.challenge.products.infrastructure.timing;
+
+/**
+ * Etapas medidas en cada petición. Las duraciones son inclusivas: {@code usecase} contiene a
+ * {@code db} y a {@code entity-mapping}; {@code filters} es el tiempo total fuera del handler
+ * (filtros como {@code CorrelationFilter} y despacho de Spring MVC).
+ */
+public enum RequestStage {
+    FILTERS("filters"),
+    USE_CASE("usecase"),
+    DB("db"),
+    ENTITY_MAPPING("entity-mapping"),
+    DTO_MAPPING("dto-mapping"),
+    RESPONSE("response"),
+    SERIALIZATION("serialization"),
+    TOTAL("total");
+
+    private final String tag;
+
+    RequestStage(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
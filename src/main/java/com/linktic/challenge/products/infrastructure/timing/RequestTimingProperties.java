@@ -0,0 +1,16 @@
+package com.linktic.challenge.products.infrastructure.timing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Desglose de latencia por etapa ({@code products.request-timing.*}).
+ *
+ * @param serverTimingHeader agrega la cabecera {@code Server-Timing} a las respuestas; expone tiempos
+ *                           internos, por eso está desactivada por defecto
+ */
+@ConfigurationProperties(prefix = "products.request-timing")
+public record RequestTimingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("false") boolean serverTimingHeader
+) { }
@@ -0,0 +1,125 @@
+package com.linktic.challenge.products.infrastructure.timing;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * Duración por etapa de la petición en curso, ligada al hilo que la atiende.
+ *
+ * <p>Fuera de una petición (tests, hilos en segundo plano) {@link #time} solo ejecuta la acción.</p>
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final Map<RequestStage, Long> stageNanos = new EnumMap<>(RequestStage.class);
+    private String handler;
+    private long handlerStartNanos = -1;
+    private long handlerNanos;
+    private long bodyWriteStartNanos = -1;
+
+    private RequestTimings() { }
+
+    public static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static <T> T time(RequestStage stage, Supplier<T> action) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return action.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            timings.add(stage, System.nanoTime() - start);
+        }
+    }
+
+    public static void record(RequestStage stage, Duration duration) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.add(stage, duration.toNanos());
+        }
+    }
+
+    void add(RequestStage stage, long nanos) {
+        stageNanos.merge(stage, nanos, Long::sum);
+    }
+
+    public void markHandlerStart(String handler) {
+        this.handler = handler;
+        this.handlerStartNanos = System.nanoTime();
+    }
+
+    /** Inicio de la escritura del cuerpo; desde aquí hasta el fin del handler es serialización. */
+    public void markBodyWrite() {
+        if (bodyWriteStartNanos < 0) {
+            bodyWriteStartNanos = System.nanoTime();
+        }
+    }
+
+    public void markHandlerEnd() {
+        if (handlerStartNanos < 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        handlerNanos = now - handlerStartNanos;
+        if (bodyWriteStartNanos >= 0) {
+            add(RequestStage.SERIALIZATION, now - bodyWriteStartNanos);
+        }
+    }
+
+    /**
+     * Cierra la medición: calcula el total y el tiempo fuera del handler.
+     */
+    public Map<RequestStage, Duration> complete() {
+        long total = System.nanoTime() - startNanos;
+        add(RequestStage.TOTAL, total);
+        if (handler != null) {
+            add(RequestStage.FILTERS, Math.max(0, total - handlerNanos));
+        }
+        Map<RequestStage, Duration> durations = new EnumMap<>(RequestStage.class);
+        stageNanos.forEach((stage, nanos) -> durations.put(stage, Duration.ofNanos(nanos)));
+        return durations;
+    }
+
+    public String handler() {
+        return handler;
+    }
+
+    /**
+     * Valor de {@code Server-Timing} con las etapas medidas hasta ahora más {@code app}, el tiempo
+     * transcurrido desde el primer filtro. La serialización no se incluye: ocurre después de enviar
+     * las cabeceras.
+     */
+    public String toServerTiming(Duration dbTime) {
+        StringJoiner joiner = new StringJoiner(", ");
+        stageNanos.forEach((stage, nanos) -> joiner.add(entry(stage.tag(), nanos)));
+        if (dbTime != null && !stageNanos.containsKey(RequestStage.DB)) {
+            joiner.add(entry(RequestStage.DB.tag(), dbTime.toNanos()));
+        }
+        joiner.add(entry("app", System.nanoTime() - startNanos));
+        return joiner.toString();
+    }
+
+    private static String entry(String name, long nanos) {
+        return String.format(Locale.ROOT, "%s;dur=%.2f", name, nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,74 @@
+package com.linktic.challenge.products.infrastructure.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Abre a la vez las conexiones configuradas y las devuelve al pool, para que las primeras peticiones
+ * no paguen el establecimiento de conexión. Ejecuta una consulta en cada una porque el proxy perezoso
+ * de la réplica no abre la conexión real hasta el primer uso; por ese proxy, fuera de una transacción
+ * de solo lectura, las conexiones son del primario.
+ *
+ * <p>Con réplica de lectura, su pool se llena aparte y directamente: las lecturas irán a él en cuanto la
+ * readiness pase a {@code UP}. Si la réplica no responde, el calentamiento sigue con el primario.</p>
+ */
+@Slf4j
+public class ConnectionPoolWarmupTask implements WarmupTask {
+    private final DataSource dataSource;
+    private final DataSource replicaDataSource;
+
+    /**
+     * @param replicaDataSource pool de la réplica, o {@code null} sin réplica de lectura
+     */
+    public ConnectionPoolWarmupTask(DataSource dataSource, DataSource replicaDataSource) {
+        this.dataSource = dataSource;
+        this.replicaDataSource = replicaDataSource;
+    }
+
+    @Override
+    public String name() {
+        return "connection-pool";
+    }
+
+    @Override
+    public long warmUp(WarmupProperties properties) {
+        long opened = fill("primario", dataSource, properties.poolConnections());
+        if (replicaDataSource != null) {
+            opened += fill("réplica", replicaDataSource, properties.poolConnections());
+        }
+        return opened;
+    }
+
+    private static int fill(String pool, DataSource pooledDataSource, int poolConnections) {
+        List<Connection> connections = new ArrayList<>(poolConnections);
+        try {
+            for (int i = 0; i < poolConnections; i++) {
+                Connection connection = pooledDataSource.getConnection();
+                connections.add(connection);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+            }
+        } catch (SQLException ex) {
+            log.warn("No se pudo abrir la conexión {} del pool del {} durante el calentamiento: {}",
+                    connections.size() + 1, pool, ex.getMessage());
+        } finally {
+            connections.forEach(ConnectionPoolWarmupTask::closeQuietly);
+        }
+        return connections.size();
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            log.debug("Error devolviendo conexión al pool: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.linktic.challenge.products.infrastructure.warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Repite una mezcla sintética de llamadas a {@code ProductController} contra el propio servidor por
+ * loopback, recorriendo la cadena completa (filtros, validación, mappers, Jackson) para que el JIT
+ * compile esas rutas antes del tráfico real. Solo hace lecturas y peticiones inválidas que se
+ * rechazan en validación: nunca modifica datos.
+ */
+@Slf4j
+public class EndpointReplayWarmupTask implements WarmupTask {
+    /** Marca las peticiones de calentamiento para que no cuenten como visitas de producto. */
+    public static final String WARMUP_HEADER = "X-Warmup";
+
+    private static final String PRODUCTS_PATH = "/api/v1/products";
+    private static final List<String> SORT_FIELDS = List.of("name", "price", "rating");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Environment environment;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+    private final List<String> knownIds = new CopyOnWriteArrayList<>();
+
+    public EndpointReplayWarmupTask(Environment environment, ObjectMapper objectMapper) {
+        this.environment = environment;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return "endpoint-replay";
+    }
+
+    @Override
+    public long warmUp(WarmupProperties properties) {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null) {
+            log.debug("Sin servidor web embebido, se omite la repetición de peticiones");
+            return 0;
+        }
+        URI baseUri = URI.create("http://localhost:" + port);
+        long deadline = System.nanoTime() + properties.duration().toNanos();
+        AtomicLong sent = new AtomicLong();
+
+        ExecutorService workers = Executors.newFixedThreadPool(properties.concurrency(), runnable -> {
+            Thread thread = new Thread(runnable, "product-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < properties.concurrency(); i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline && sent.incrementAndGet() <= properties.maxRequests()) {
+                    replayOne(baseUri);
+                }
+            });
+        }
+        workers.shutdown();
+        try {
+            workers.awaitTermination(properties.duration().toMillis() + REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        workers.shutdownNow();
+        return Math.min(sent.get(), properties.maxRequests());
+    }
+
+    private void replayOne(URI baseUri) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            switch (random.nextInt(10)) {
+                case 0, 1, 2 -> list(baseUri, random);
+                case 3, 4, 5, 6 -> get(baseUri, knownIds.isEmpty() ? "warmup-missing"
+                        : knownIds.get(random.nextInt(knownIds.size())));
+                case 7 -> get(baseUri, "warmup-missing-" + random.nextInt(1000));
+                default -> send(HttpRequest.newBuilder(baseUri.resolve(PRODUCTS_PATH))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"\",\"price\":-1}")));
+            }
+        } catch (Exception ex) {
+            log.debug("Petición de calentamiento fallida: {}", ex.getMessage());
+        }
+    }
+
+    private void list(URI baseUri, ThreadLocalRandom random) throws Exception {
+        String query = "?page=" + random.nextInt(5) + "&size=" + (10 + random.nextInt(20))
+                + "&sortBy=" + SORT_FIELDS.get(random.nextInt(SORT_FIELDS.size()))
+                + "&sortDirection=" + (random.nextBoolean() ? "asc" : "desc");
+        HttpResponse<String> response = send(HttpRequest.newBuilder(baseUri.resolve(PRODUCTS_PATH + query)).GET());
+        if (response.statusCode() == 200 && knownIds.size() < 500) {
+            JsonNode content = objectMapper.readTree(response.body()).path("data").path("content");
+            List<String> ids = new ArrayList<>();
+            content.forEach(product -> ids.add(product.path("id").asText()));
+            knownIds.addAll(ids);
+        }
+    }
+
+    private void get(URI baseUri, String id) throws Exception {
+        send(HttpRequest.newBuilder(baseUri.resolve(PRODUCTS_PATH + "/" + id)).GET());
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return httpClient.send(request.header(WARMUP_HEADER, "true").timeout(REQUEST_TIMEOUT).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,23 @@
+package com.linktic.challenge.products.infrastructure.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Calentamiento previo a la readiness ({@code products.warmup.*}).
+ *
+ * @param duration        tiempo máximo de repetición de peticiones sintéticas
+ * @param maxRequests     peticiones sintéticas a partir de las cuales se da por calentado
+ * @param concurrency     hilos que repiten peticiones en paralelo
+ * @param poolConnections conexiones que se abren a la vez para llenar cada pool (primario y réplica)
+ */
+@ConfigurationProperties(prefix = "products.warmup")
+public record WarmupProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10s") Duration duration,
+        @DefaultValue("2000") int maxRequests,
+        @DefaultValue("4") int concurrency,
+        @DefaultValue("10") int poolConnections
+) { }
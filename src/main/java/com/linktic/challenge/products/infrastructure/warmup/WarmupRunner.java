@@ -0,0 +1,65 @@
+package com.linktic.challenge.products.infrastructure.warmup;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Ejecuta las {@link WarmupTask} al recibir {@link ApplicationReadyEvent}. Spring Boot publica
+ * {@code ReadinessState.ACCEPTING_TRAFFIC} justo después de que terminan los listeners de ese evento,
+ * así que mientras dura el calentamiento la sonda de readiness responde {@code OUT_OF_SERVICE}.
+ *
+ * <p>Un fallo en una tarea se registra y no impide que la instancia quede lista.</p>
+ */
+@Slf4j
+public class WarmupRunner implements ApplicationListener<ApplicationReadyEvent> {
+    private final List<WarmupTask> tasks;
+    private final WarmupProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public WarmupRunner(List<WarmupTask> tasks, WarmupProperties properties, MeterRegistry meterRegistry) {
+        this.tasks = List.copyOf(tasks);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        long start = System.nanoTime();
+        for (WarmupTask task : tasks) {
+            runTask(task);
+        }
+        log.info("Calentamiento completado en {} ms, la instancia pasa a aceptar tráfico",
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    private void runTask(WarmupTask task) {
+        long start = System.nanoTime();
+        long warmed;
+        try {
+            warmed = task.warmUp(properties);
+        } catch (RuntimeException ex) {
+            log.warn("Tarea de calentamiento {} fallida: {}", task.name(), ex.getMessage(), ex);
+            return;
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        Timer.builder("products.warmup.duration")
+                .description("Duración de cada tarea de calentamiento")
+                .tag("task", task.name())
+                .register(meterRegistry)
+                .record(elapsed);
+        Counter.builder("products.warmup.items")
+                .description("Elementos calentados por tarea (peticiones, conexiones, entradas de caché)")
+                .tag("task", task.name())
+                .register(meterRegistry)
+                .increment(warmed);
+        log.info("Calentamiento {}: {} elementos en {} ms", task.name(), warmed, elapsed.toMillis());
+    }
+}
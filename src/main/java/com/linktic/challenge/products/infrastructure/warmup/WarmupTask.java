@@ -0,0 +1,15 @@
+package com.linktic.challenge.products.infrastructure.warmup;
+
+/**
+ * Tarea que se ejecuta antes de que la instancia acepte tráfico. Las cachés en memoria pueden
+ * implementarla para precargar los productos más consultados.
+ */
+public interface WarmupTask {
+
+    String name();
+
+    /**
+     * Ejecuta el calentamiento y retorna cuántos elementos calentó (peticiones, conexiones, entradas).
+     */
+    long warmUp(WarmupProperties properties);
+}
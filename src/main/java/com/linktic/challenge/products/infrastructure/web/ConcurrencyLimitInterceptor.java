@@ -0,0 +1,58 @@
+package com.linktic.challenge.products.infrastructure.web;
+
+import com.linktic.challenge.products.infrastructure.concurrency.ConcurrencyLimitExceededException;
+import com.linktic.challenge.products.infrastructure.concurrency.ConcurrencyLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Aplica el límite de concurrencia antes de los handlers de {@link ProductController}: lecturas y
+ * escrituras tienen límites separados para que una ráfaga de una no deje sin cupo a la otra. El
+ * rechazo se lanza como {@link ConcurrencyLimitExceededException} y lo responde
+ * {@code ProductsExceptionHandler} con 503 y {@code Retry-After}.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+    private static final String PERMIT = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final ConcurrencyLimiter readLimiter;
+    private final ConcurrencyLimiter writeLimiter;
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitInterceptor(ConcurrencyLimiter readLimiter, ConcurrencyLimiter writeLimiter,
+                                       Duration retryAfter) {
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !ProductController.class.isAssignableFrom(handlerMethod.getBeanType())) {
+            return true;
+        }
+        ConcurrencyLimiter limiter = isRead(request) ? readLimiter : writeLimiter;
+        ConcurrencyLimiter.Permit permit = limiter.tryAcquire()
+                .orElseThrow(() -> new ConcurrencyLimitExceededException(limiter.name(), limiter.limit(), retryAfter));
+        request.setAttribute(PERMIT, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT) instanceof ConcurrencyLimiter.Permit permit) {
+            request.removeAttribute(PERMIT);
+            permit.release();
+        }
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+}
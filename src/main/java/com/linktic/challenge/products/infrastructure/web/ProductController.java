@@ -1,12 +1,36 @@
 package com.linktic.challenge.products.infrastructure.web;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.linktic.challenge.products.application.dto.BulkDeleteProductsDto;
+import com.linktic.challenge.products.application.dto.BulkDeleteResultDto;
+import com.linktic.challenge.products.application.dto.CategoryTopProductsDto;
 import com.linktic.challenge.products.application.dto.CreateProductDto;
 import com.linktic.challenge.products.application.dto.ProductDto;
+import com.linktic.challenge.products.application.dto.ProductFacetsDto;
+import com.linktic.challenge.products.application.dto.ProductSuggestionDto;
+import com.linktic.challenge.products.application.dto.RatingVoteDto;
 import com.linktic.challenge.products.application.dto.UpdateProductDto;
 import com.linktic.challenge.products.application.mapper.ProductMapper;
+import com.linktic.challenge.products.application.port.in.ProductAutocompleteUseCase;
 import com.linktic.challenge.products.application.port.in.ProductManagementUseCase;
+import com.linktic.challenge.products.application.port.in.ProductPopularityUseCase;
 import com.linktic.challenge.products.application.port.in.ProductQueryUseCase;
+import com.linktic.challenge.products.application.port.in.ProductRankingUseCase;
+import com.linktic.challenge.products.application.port.in.ProductRatingUseCase;
+import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
 import com.linktic.challenge.products.domain.model.Product;
+import com.linktic.challenge.products.domain.model.ProductFacets;
+import com.linktic.challenge.products.domain.model.ProductField;
+import com.linktic.challenge.products.domain.model.ProductFilter;
+import com.linktic.challenge.products.domain.model.ProductPatch;
+import com.linktic.challenge.products.domain.model.ProductProjection;
+import com.linktic.challenge.products.domain.model.ProductRating;
+import com.linktic.challenge.products.infrastructure.idempotency.IdempotentRequests;
+import com.linktic.challenge.products.infrastructure.timing.RequestStage;
+import com.linktic.challenge.products.infrastructure.timing.RequestTimings;
+import com.linktic.challenge.products.infrastructure.warmup.EndpointReplayWarmupTask;
 import com.linktic.challenge.shared.response.StandardResponse;
 import com.linktic.challenge.shared.util.StandardResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,66 +38,224 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @RestController
 @RequestMapping("/api/v1/products")
 @RequiredArgsConstructor
 @Validated
 @Tag(name = "Productos", description = "API para gestión de productos - Catálogo completo")
 public class ProductController {
+    static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+    private static final String CREATE_PRODUCT_OPERATION = "create-product";
+    private static final JavaType PRODUCT_RESPONSE_TYPE = TypeFactory.defaultInstance()
+            .constructParametricType(StandardResponse.class, ProductDto.class);
+
     private final ProductManagementUseCase productManagementUseCase;
     private final ProductQueryUseCase productQueryUseCase;
+    private final ProductRatingUseCase productRatingUseCase;
+    private final ProductPopularityUseCase productPopularityUseCase;
+    private final ProductRankingUseCase productRankingUseCase;
+    private final ProductAutocompleteUseCase productAutocompleteUseCase;
     private final ProductMapper productMapper;
+    private final IdempotentRequests idempotentRequests;
 
+    // Con fields solo se leen de la base las columnas pedidas (el ID siempre se incluye)
     @GetMapping("/{id}")
-    public StandardResponse<ProductDto> getProductById(@PathVariable String id) {
-        Product product = productQueryUseCase.findById(id);
-        ProductDto productDto = productMapper.toDto(product);
-        return StandardResponses.retrieved(productDto, "Producto encontrado exitosamente");
+    public ResponseEntity<? extends StandardResponse<?>> getProductById(
+            @PathVariable String id,
+            @RequestHeader(value = EndpointReplayWarmupTask.WARMUP_HEADER, required = false) String warmup,
+            @RequestParam(required = false) Set<String> fields) {
+        if (fields != null) {
+            Set<ProductField> selected = ProductField.parse(fields);
+            ProductProjection projection = RequestTimings.time(RequestStage.USE_CASE,
+                    () -> productQueryUseCase.findById(id, selected));
+            recordView(id, warmup);
+            Map<String, Object> productDto = RequestTimings.time(RequestStage.DTO_MAPPING,
+                    () -> productMapper.toSparseDto(projection));
+            return withETag(projection.version(), RequestTimings.time(RequestStage.RESPONSE,
+                    () -> StandardResponses.retrieved(productDto, "Producto encontrado exitosamente")));
+        }
+
+        Product product = RequestTimings.time(RequestStage.USE_CASE, () -> productQueryUseCase.findById(id));
+        recordView(id, warmup);
+        ProductDto productDto = RequestTimings.time(RequestStage.DTO_MAPPING, () -> productMapper.toDto(product));
+        return withETag(product, RequestTimings.time(RequestStage.RESPONSE,
+                () -> StandardResponses.retrieved(productDto, "Producto encontrado exitosamente")));
+    }
+
+    // Solo cuentan las visitas a productos existentes, y no las del calentamiento
+    private void recordView(String id, String warmup) {
+        if (warmup == null) {
+            productPopularityUseCase.recordView(id);
+        }
     }
 
     @GetMapping
-    public StandardResponse<PageResponse<ProductDto>> getAllProducts(
+    public StandardResponse<? extends PageResponse<?>> getAllProducts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "name") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDirection) {
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) Set<String> category,
+            @RequestParam(required = false) Set<String> brand,
+            @RequestParam(required = false) Set<String> priceRange,
+            @RequestParam(required = false) Set<String> ratingRange,
+            @RequestParam(required = false) Set<String> fields) {
+
+        ProductFilter filter = new ProductFilter(category, brand, priceRange, ratingRange);
+        Pageable pageable = PageRequest.of(page, size, ProductSortPlanner.plan(sortBy, sortDirection));
+        if (fields != null) {
+            Set<ProductField> selected = ProductField.parse(fields);
+            Page<ProductProjection> projections = RequestTimings.time(RequestStage.USE_CASE,
+                    () -> productQueryUseCase.findAllProducts(filter, selected, pageable));
+            Page<Map<String, Object>> productDtos = RequestTimings.time(RequestStage.DTO_MAPPING,
+                    () -> projections.map(productMapper::toSparseDto));
+            return RequestTimings.time(RequestStage.RESPONSE, () -> StandardResponses.retrieved(
+                    PageResponse.of(productDtos), "Lista de productos obtenida exitosamente"));
+        }
 
-        Sort sort = sortDirection.equalsIgnoreCase("desc")
-                ? Sort.by(sortBy).descending()
-                : Sort.by(sortBy).ascending();
+        Page<Product> products = RequestTimings.time(RequestStage.USE_CASE,
+                () -> productQueryUseCase.findAllProducts(filter, pageable));
 
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Product> products = productQueryUseCase.findAllProducts(pageable);
+        Page<ProductDto> productDtos = RequestTimings.time(RequestStage.DTO_MAPPING,
+                () -> products.map(productMapper::toDto));
 
-        Page<ProductDto> productDtos = products.map(productMapper::toDto);
-        PageResponse<ProductDto> response = PageResponse.of(productDtos);
+        return RequestTimings.time(RequestStage.RESPONSE, () -> StandardResponses.retrieved(
+                PageResponse.of(productDtos), "Lista de productos obtenida exitosamente"));
+    }
 
-        return StandardResponses.retrieved(response, "Lista de productos obtenida exitosamente");
+    // Los valores repetidos de un parámetro se combinan con OR; parámetros distintos, con AND
+    @GetMapping("/facets")
+    public StandardResponse<ProductFacetsDto> getProductFacets(
+            @RequestParam(required = false) Set<String> category,
+            @RequestParam(required = false) Set<String> brand,
+            @RequestParam(required = false) Set<String> priceRange,
+            @RequestParam(required = false) Set<String> ratingRange) {
+        ProductFilter filter = new ProductFilter(category, brand, priceRange, ratingRange);
+        ProductFacets facets = productQueryUseCase.countFacets(filter);
+        return StandardResponses.retrieved(productMapper.toFacetsDto(facets), "Facetas obtenidas exitosamente");
+    }
+
+    // Servido desde memoria: una sola llamada en lugar de dos consultas ordenadas por categoría
+    @GetMapping("/top-by-category")
+    public StandardResponse<Map<String, CategoryTopProductsDto>> getTopProductsByCategory(
+            @RequestParam(defaultValue = "10") int limit) {
+        Map<String, CategoryTopProductsDto> topProducts = new LinkedHashMap<>();
+        productRankingUseCase.topProductsByCategory(limit)
+                .forEach((category, products) -> topProducts.put(category, productMapper.toTopProductsDto(products)));
+        return StandardResponses.retrieved(topProducts, "Destacados por categoría obtenidos exitosamente");
+    }
+
+    // Servido desde memoria: q se compara sin tildes contra el inicio de cada palabra del nombre o la marca
+    @GetMapping("/autocomplete")
+    public StandardResponse<List<ProductSuggestionDto>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<ProductSuggestionDto> suggestions = productAutocompleteUseCase.suggest(q, limit).stream()
+                .map(productMapper::toSuggestionDto)
+                .toList();
+        return StandardResponses.retrieved(suggestions, "Sugerencias obtenidas exitosamente");
     }
 
     @PostMapping
-    public StandardResponse<ProductDto> createProduct(@RequestBody @Validated CreateProductDto createProductDto) {
+    public ResponseEntity<StandardResponse<ProductDto>> createProduct(
+            @RequestHeader(value = IdempotentRequests.HEADER, required = false) String idempotencyKey,
+            @RequestBody @Validated CreateProductDto createProductDto) {
+        if (idempotencyKey == null) {
+            return create(createProductDto);
+        }
+        return idempotentRequests.execute(CREATE_PRODUCT_OPERATION, idempotencyKey, createProductDto,
+                PRODUCT_RESPONSE_TYPE, () -> create(createProductDto));
+    }
+
+    private ResponseEntity<StandardResponse<ProductDto>> create(CreateProductDto createProductDto) {
         Product product = productMapper.toDomain(createProductDto);
         Product createdProduct = productManagementUseCase.createProduct(product);
         ProductDto createdProductDto = productMapper.toDto(createdProduct);
-        return StandardResponses.created(createdProductDto, "Producto creado exitosamente");
+        return withETag(createdProduct, StandardResponses.created(createdProductDto, "Producto creado exitosamente"));
     }
 
     @PutMapping("/{id}")
-    public StandardResponse<ProductDto> updateProduct(@PathVariable String id, @RequestBody @Validated UpdateProductDto updateProductDto) {
-        Product product = productMapper.toDomain(id, updateProductDto);
+    public ResponseEntity<StandardResponse<ProductDto>> updateProduct(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody @Validated UpdateProductDto updateProductDto) {
+        Product product = productMapper.toDomain(id, updateProductDto)
+                .withVersion(ProductETags.parseIfMatch(id, ifMatch));
         Product updatedProduct = productManagementUseCase.updateProduct(product);
         ProductDto updatedProductDto = productMapper.toDto(updatedProduct);
-        return StandardResponses.updated(updatedProductDto, "Producto actualizado exitosamente");
+        return withETag(updatedProduct, StandardResponses.updated(updatedProductDto, "Producto actualizado exitosamente"));
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<StandardResponse<ProductDto>> patchProduct(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode mergePatch) {
+        ProductPatch patch = productMapper.toPatch(id, mergePatch)
+                .withExpectedVersion(ProductETags.parseIfMatch(id, ifMatch));
+        Product patchedProduct = productManagementUseCase.patchProduct(patch);
+        ProductDto patchedProductDto = productMapper.toDto(patchedProduct);
+        return withETag(patchedProduct, StandardResponses.updated(patchedProductDto, "Producto actualizado parcialmente"));
+    }
+
+    // El voto se acumula en memoria y el rating se recalcula en el siguiente volcado: 202 Accepted
+    @PostMapping("/{id}/ratings")
+    public ResponseEntity<StandardResponse<String>> submitRatingVote(
+            @PathVariable String id,
+            @RequestBody @Validated RatingVoteDto ratingVoteDto) {
+        productRatingUseCase.submitVote(id, ProductRating.of(ratingVoteDto.score()));
+        return ResponseEntity.accepted().body(StandardResponses.ok(id, "Voto registrado exitosamente"));
     }
 
     @DeleteMapping("/{id}")
-    public StandardResponse<String> deleteProduct(@PathVariable String id) {
-        productManagementUseCase.deleteProduct(id);
+    public StandardResponse<String> deleteProduct(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        productManagementUseCase.deleteProduct(id, ProductETags.parseIfMatch(id, ifMatch));
         return StandardResponses.deleted("Producto eliminado exitosamente", "Producto eliminado del catálogo");
     }
+
+    @PostMapping("/bulk-delete")
+    public StandardResponse<BulkDeleteResultDto> deleteProducts(@RequestBody @Validated BulkDeleteProductsDto bulkDeleteProductsDto) {
+        boolean hasIds = bulkDeleteProductsDto.ids() != null && !bulkDeleteProductsDto.ids().isEmpty();
+        boolean hasCategory = bulkDeleteProductsDto.category() != null;
+        if (hasIds == hasCategory) {
+            throw new InvalidProductException("Bulk delete requires either ids or category, but not both");
+        }
+
+        // Por categoría se eliminan hasta MAX_IDS por petición: respuesta y outbox acotados, como con ids
+        List<String> deletedIds = hasIds
+                ? productManagementUseCase.deleteProducts(bulkDeleteProductsDto.ids())
+                : productManagementUseCase.deleteProductsByCategory(bulkDeleteProductsDto.category(),
+                        BulkDeleteProductsDto.MAX_IDS);
+        boolean moreRemaining = hasCategory && deletedIds.size() == BulkDeleteProductsDto.MAX_IDS;
+
+        BulkDeleteResultDto result = productMapper.toBulkDeleteResult(bulkDeleteProductsDto.ids(), deletedIds,
+                moreRemaining);
+        return StandardResponses.deleted(result, "Eliminación masiva completada");
+    }
+
+    private static <T> ResponseEntity<StandardResponse<T>> withETag(Product product, StandardResponse<T> body) {
+        return withETag(product.version(), body);
+    }
+
+    private static <T> ResponseEntity<StandardResponse<T>> withETag(Long version, StandardResponse<T> body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        String eTag = ProductETags.format(version);
+        if (eTag != null) {
+            builder.eTag(eTag);
+        }
+        return builder.body(body);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.linktic.challenge.products.infrastructure.web;
+
+import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
+import com.linktic.challenge.products.domain.exception.entity.ProductVersionConflictException;
+import lombok.experimental.UtilityClass;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Conversión entre la versión de un producto y su ETag ({@code "<version>"}).
+ *
+ * <p>{@code If-Match} usa comparación fuerte (RFC 9110, 13.1.1): un ETag débil {@code W/"<version>"}
+ * nunca coincide, así que se responde 412 en lugar de aplicar el cambio. {@code *} o la ausencia de
+ * cabecera significan "cualquier versión".</p>
+ */
+@UtilityClass
+public class ProductETags {
+
+    private static final Pattern ENTITY_TAG = Pattern.compile("^(W/)?\"(\\d{1,18})\"$");
+
+    public static String format(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * @return la versión esperada, o {@code null} si el cliente no impone precondición
+     * @throws InvalidProductException si la cabecera no contiene exactamente un ETag de producto
+     * @throws ProductVersionConflictException si el ETag es débil
+     */
+    public static Long parseIfMatch(String productId, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        Matcher matcher = ENTITY_TAG.matcher(ifMatch.trim());
+        if (!matcher.matches()) {
+            throw new InvalidProductException("Invalid If-Match header: " + ifMatch);
+        }
+        if (matcher.group(1) != null) {
+            throw new ProductVersionConflictException(productId,
+                    "Product " + productId + " If-Match requires a strong ETag but got " + ifMatch.trim());
+        }
+        return Long.parseLong(matcher.group(2));
+    }
+}
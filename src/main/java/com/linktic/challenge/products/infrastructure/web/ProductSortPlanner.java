@@ -0,0 +1,38 @@
+package com.linktic.challenge.products.infrastructure.web;
+
+import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Traduce {@code sortBy}/{@code sortDirection} del listado a un {@link Sort} respaldado por índice.
+ *
+ * <p>Solo se aceptan los campos con índice compuesto {@code (columna, id)} (migraciones V7_1 a V7_5 y V9_1), y el ID se
+ * agrega como desempate en la misma dirección: el orden es total y estable entre páginas y Postgres lo
+ * resuelve recorriendo el índice, hacia atrás en orden descendente, sin ordenar la tabla.</p>
+ */
+@UtilityClass
+public class ProductSortPlanner {
+
+    static final String TIE_BREAKER = "id";
+
+    static final List<String> SORTABLE_FIELDS = List.of("id", "name", "price", "rating", "category", "brand", "popularity");
+
+    public static Sort plan(String sortBy, String sortDirection) {
+        Sort.Direction direction = switch (sortDirection.toLowerCase(Locale.ROOT)) {
+            case "asc" -> Sort.Direction.ASC;
+            case "desc" -> Sort.Direction.DESC;
+            default -> throw new InvalidProductException("Sort direction must be 'asc' or 'desc'");
+        };
+        if (!SORTABLE_FIELDS.contains(sortBy)) {
+            throw new InvalidProductException(
+                    String.format("Cannot sort by '%s', sortable fields are %s", sortBy, SORTABLE_FIELDS));
+        }
+
+        Sort sort = Sort.by(direction, sortBy);
+        return TIE_BREAKER.equals(sortBy) ? sort : sort.and(Sort.by(direction, TIE_BREAKER));
+    }
+}
@@ -0,0 +1,84 @@
+package com.linktic.challenge.products.infrastructure.web;
+
+import com.linktic.challenge.products.infrastructure.persistence.routing.ReadConsistencyContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Read-your-writes para la réplica de lectura.
+ *
+ * <p>Las lecturas van al primario cuando el cliente lo pide con {@code X-Read-Consistency: strong}
+ * o cuando escribió hace menos de la ventana configurada; esto último se recuerda con una cookie
+ * que se emite en cada petición de escritura.</p>
+ */
+public class ReadConsistencyFilter extends OncePerRequestFilter {
+    public static final String HEADER = "X-Read-Consistency";
+    public static final String STRONG = "strong";
+    public static final String COOKIE = "products-read-primary-until";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration readYourWritesWindow;
+    private final Clock clock;
+
+    public ReadConsistencyFilter(Duration readYourWritesWindow, Clock clock) {
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.clock = clock;
+    }
+
+    @Override
+    public void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        long now = clock.millis();
+        boolean write = !READ_METHODS.contains(req.getMethod());
+
+        if (write) {
+            // Se emite antes de procesar la petición: la respuesta puede quedar confirmada al escribir el cuerpo
+            res.addCookie(primaryUntilCookie(now + readYourWritesWindow.toMillis()));
+        }
+
+        if (write || STRONG.equalsIgnoreCase(req.getHeader(HEADER)) || primaryUntil(req) > now) {
+            ReadConsistencyContext.requirePrimary();
+        }
+
+        try { chain.doFilter(req, res); }
+        finally { ReadConsistencyContext.clear(); }
+    }
+
+    private Cookie primaryUntilCookie(long untilMillis) {
+        Cookie cookie = new Cookie(COOKIE, Long.toString(untilMillis));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, readYourWritesWindow.toSeconds()));
+        return cookie;
+    }
+
+    private long primaryUntil(HttpServletRequest req) {
+        if (req.getCookies() == null) {
+            return 0L;
+        }
+        return Arrays.stream(req.getCookies())
+                .filter(cookie -> COOKIE.equals(cookie.getName()))
+                .mapToLong(cookie -> parseMillis(cookie.getValue()))
+                .max()
+                .orElse(0L);
+    }
+
+    private static long parseMillis(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            return 0L;
+        }
+    }
+}
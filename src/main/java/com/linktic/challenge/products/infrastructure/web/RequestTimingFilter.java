@@ -0,0 +1,57 @@
+package com.linktic.challenge.products.infrastructure.web;
+
+import com.linktic.challenge.products.infrastructure.timing.RequestStage;
+import com.linktic.challenge.products.infrastructure.timing.RequestTimings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Primer filtro de la cadena: abre la medición por etapas de la petición y, al terminar, publica
+ * {@code products.request.stage} (tags {@code stage} y {@code handler}) con histograma de percentiles.
+ * Las peticiones que no llegan a un handler de controlador no se publican.
+ */
+public class RequestTimingFilter extends OncePerRequestFilter {
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestTimingFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.begin();
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            RequestTimings.end();
+            publish(timings);
+        }
+    }
+
+    private void publish(RequestTimings timings) {
+        Map<RequestStage, Duration> durations = timings.complete();
+        if (timings.handler() == null) {
+            return;
+        }
+        durations.forEach((stage, duration) -> Timer.builder("products.request.stage")
+                .description("Duración de cada etapa de la petición")
+                .tag("stage", stage.tag())
+                .tag("handler", timings.handler())
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(duration));
+    }
+}
@@ -0,0 +1,30 @@
+package com.linktic.challenge.products.infrastructure.web;
+
+import com.linktic.challenge.products.infrastructure.timing.RequestTimings;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Marca el inicio y el fin del handler para separar el tiempo de filtros del de la aplicación.
+ */
+public class RequestTimingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null && handler instanceof HandlerMethod handlerMethod) {
+            timings.markHandlerStart(SqlStatementMetricsInterceptor.handlerTag(handlerMethod));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.markHandlerEnd();
+        }
+    }
+}
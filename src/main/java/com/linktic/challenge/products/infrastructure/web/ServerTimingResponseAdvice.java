@@ -0,0 +1,49 @@
+package com.linktic.challenge.products.infrastructure.web;
+
+import com.linktic.challenge.products.infrastructure.persistence.metrics.SqlStatementRecorder;
+import com.linktic.challenge.products.infrastructure.persistence.metrics.SqlStatementStats;
+import com.linktic.challenge.products.infrastructure.timing.RequestTimingProperties;
+import com.linktic.challenge.products.infrastructure.timing.RequestTimings;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marca el inicio de la serialización y, si está habilitado, agrega {@code Server-Timing} justo antes
+ * de escribir el cuerpo, el último momento en que aún se pueden enviar cabeceras.
+ */
+@ControllerAdvice
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+    public static final String HEADER = "Server-Timing";
+
+    private final RequestTimingProperties properties;
+
+    public ServerTimingResponseAdvice(RequestTimingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            return body;
+        }
+        if (properties.serverTimingHeader()) {
+            response.getHeaders().add(HEADER, timings.toServerTiming(
+                    SqlStatementRecorder.active().map(SqlStatementStats::dbTime).orElse(null)));
+        }
+        timings.markBodyWrite();
+        return body;
+    }
+}
@@ -0,0 +1,89 @@
+package com.linktic.challenge.products.infrastructure.web;
+
+import com.linktic.challenge.products.infrastructure.persistence.metrics.SqlMetricsProperties;
+import com.linktic.challenge.products.infrastructure.persistence.metrics.SqlStatementRecorder;
+import com.linktic.challenge.products.infrastructure.persistence.metrics.SqlStatementStats;
+import com.linktic.challenge.products.infrastructure.timing.RequestStage;
+import com.linktic.challenge.products.infrastructure.timing.RequestTimings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Publica por handler de controlador las sentencias SQL, el tiempo en base de datos y las filas
+ * leídas de cada petición ({@code products.db.*}, tag {@code handler}).
+ */
+@Slf4j
+public class SqlStatementMetricsInterceptor implements HandlerInterceptor {
+    private static final String PREVIOUS_CAPTURE = SqlStatementMetricsInterceptor.class.getName() + ".previous";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlMetricsProperties properties;
+
+    public SqlStatementMetricsInterceptor(MeterRegistry meterRegistry, SqlMetricsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(PREVIOUS_CAPTURE, new PreviousCapture(SqlStatementRecorder.begin()));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !(request.getAttribute(PREVIOUS_CAPTURE) instanceof PreviousCapture previous)) {
+            return;
+        }
+        SqlStatementStats stats = SqlStatementRecorder.end(previous.stats());
+        String handlerTag = handlerTag(handlerMethod);
+        RequestTimings.record(RequestStage.DB, stats.dbTime());
+
+        DistributionSummary.builder("products.db.statements")
+                .description("Sentencias SQL por petición")
+                .baseUnit("statements")
+                .tag("handler", handlerTag)
+                .register(meterRegistry)
+                .record(stats.statements());
+        Timer.builder("products.db.time")
+                .description("Tiempo en base de datos por petición")
+                .tag("handler", handlerTag)
+                .register(meterRegistry)
+                .record(stats.dbTime());
+        DistributionSummary.builder("products.db.rows")
+                .description("Filas leídas por petición")
+                .baseUnit("rows")
+                .tag("handler", handlerTag)
+                .register(meterRegistry)
+                .record(stats.rows());
+
+        Integer budget = properties.budgets().get(handlerTag);
+        if (budget != null && stats.statements() > budget) {
+            Counter.builder("products.db.budget.exceeded")
+                    .description("Peticiones que superaron su presupuesto de sentencias")
+                    .tag("handler", handlerTag)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} superó su presupuesto de {} sentencias: {}", handlerTag, budget, stats);
+        } else {
+            log.debug("{}: {}", handlerTag, stats);
+        }
+    }
+
+    public static String handlerTag(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+    }
+
+    /** Envoltorio para distinguir "sin captura previa" (null) de "atributo ausente". */
+    private record PreviousCapture(SqlStatementStats stats) { }
+}
@@ -0,0 +1,15 @@
+-- Resultado de las escrituras con Idempotency-Key: un reintento con la misma clave recibe la respuesta guardada
+CREATE TABLE idempotency_keys (
+                                  operation VARCHAR(50) NOT NULL,
+                                  idempotency_key VARCHAR(255) NOT NULL,
+                                  request_hash CHAR(64) NOT NULL,
+                                  response_status SMALLINT, -- NULL mientras la primera petición está en curso
+                                  response_etag VARCHAR(40),
+                                  response_body TEXT,
+                                  locked_until TIMESTAMP NOT NULL,
+                                  expires_at TIMESTAMP NOT NULL,
+                                  PRIMARY KEY (operation, idempotency_key)
+);
+
+-- Purga de claves vencidas
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
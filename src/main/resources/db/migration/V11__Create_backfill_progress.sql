@@ -0,0 +1,10 @@
+-- Progreso de los backfills en segundo plano (BackfillRunner): cada tramo confirma sus cambios y la última
+-- clave procesada en la misma transacción, así un reinicio retoma desde el último tramo completo
+CREATE TABLE backfill_progress (
+                                   name VARCHAR(100) PRIMARY KEY,
+                                   last_key TEXT,
+                                   rows_processed BIGINT NOT NULL DEFAULT 0,
+                                   started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                   updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                   completed_at TIMESTAMP
+);
@@ -0,0 +1,5 @@
+-- Destacados por categoría (mayor rating): cada categoría se lee con un recorrido del índice limitado
+-- a la capacidad del ranking, sin ordenar la tabla completa
+SET lock_timeout = '5s';
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_category_rating_id; -- restos INVALID de un intento fallido
+CREATE INDEX CONCURRENTLY idx_products_category_rating_id ON products(category, rating DESC, id DESC);
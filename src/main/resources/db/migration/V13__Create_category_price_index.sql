@@ -0,0 +1,4 @@
+-- Destacados por categoría (menor precio), ver V12
+SET lock_timeout = '5s';
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_category_price_id; -- restos INVALID de un intento fallido
+CREATE INDEX CONCURRENTLY idx_products_category_price_id ON products(category, price, id);
@@ -0,0 +1,14 @@
+-- updated_at es la fecha de la última modificación visible del producto, y toda modificación visible sube
+-- version (JPA @Version, PUT, PATCH y votos de rating). Un UPDATE que no la sube es mantenimiento interno:
+-- popularidad, la siembra de votos de RatingVotesBackfill o un backfill futuro. Esos cambios conservan
+-- updated_at; V9 solo exceptuaba los que cambiaban la popularidad.
+CREATE OR REPLACE FUNCTION update_updated_at_column()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.version = OLD.version THEN
+        RETURN NEW;
+    END IF;
+    NEW.updated_at = CURRENT_TIMESTAMP;
+RETURN NEW;
+END;
+$$ language 'plpgsql';
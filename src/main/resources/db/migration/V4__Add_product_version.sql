@@ -0,0 +1,2 @@
+-- Versión del producto para control de concurrencia optimista (ETag / If-Match)
+ALTER TABLE products ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- Outbox transaccional de cambios de producto: se escribe en la misma transacción que el cambio
+CREATE TABLE product_outbox (
+                                id BIGSERIAL PRIMARY KEY,
+                                product_id VARCHAR(50) NOT NULL,
+                                event_type VARCHAR(20) NOT NULL,
+                                product_version BIGINT,
+                                created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                published_at TIMESTAMP
+);
+
+-- El relay solo recorre los eventos pendientes, en orden de inserción
+CREATE INDEX idx_product_outbox_pending ON product_outbox(id) WHERE published_at IS NULL;
+
+-- Purga de eventos ya publicados
+CREATE INDEX idx_product_outbox_published_at ON product_outbox(published_at) WHERE published_at IS NOT NULL;
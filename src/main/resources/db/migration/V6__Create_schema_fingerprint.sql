@@ -0,0 +1,6 @@
+-- Huella de los scripts de migración aplicados: si coincide al arrancar se omite la validación de Flyway
+CREATE TABLE schema_fingerprint (
+                                    id SMALLINT PRIMARY KEY DEFAULT 1 CHECK (id = 1),
+                                    fingerprint VARCHAR(64) NOT NULL,
+                                    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,6 @@
+-- Índices compuestos (columna, id) para los órdenes permitidos del listado, uno por script (V7_1 a V7_5).
+-- El listado ordena por la columna y desempata por id en la misma dirección, así la página sale de
+-- un recorrido del índice (hacia atrás en orden descendente) sin ordenar la tabla completa.
+SET lock_timeout = '5s';
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_name_id; -- restos INVALID de un intento fallido
+CREATE INDEX CONCURRENTLY idx_products_name_id ON products(name, id);
@@ -0,0 +1,4 @@
+-- Orden del listado por precio (ver V7_1)
+SET lock_timeout = '5s';
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_price_id; -- restos INVALID de un intento fallido
+CREATE INDEX CONCURRENTLY idx_products_price_id ON products(price, id);
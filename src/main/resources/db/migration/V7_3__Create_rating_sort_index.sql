@@ -0,0 +1,4 @@
+-- Orden del listado por rating (ver V7_1)
+SET lock_timeout = '5s';
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_rating_id; -- restos INVALID de un intento fallido
+CREATE INDEX CONCURRENTLY idx_products_rating_id ON products(rating, id);
@@ -0,0 +1,4 @@
+-- Orden del listado por categoría (ver V7_1)
+SET lock_timeout = '5s';
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_category_id; -- restos INVALID de un intento fallido
+CREATE INDEX CONCURRENTLY idx_products_category_id ON products(category, id);
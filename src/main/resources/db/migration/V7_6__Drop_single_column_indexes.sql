@@ -0,0 +1,7 @@
+-- Los índices de una sola columna quedan cubiertos como prefijo por los compuestos de V7_2 a V7_5.
+-- Cada DROP es idempotente: si el script falla a mitad, se repite completo tras flyway repair.
+SET lock_timeout = '5s';
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_price;
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_rating;
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_category;
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_brand;
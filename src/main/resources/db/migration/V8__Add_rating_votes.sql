@@ -0,0 +1,10 @@
+-- Votos de rating acumulados: el promedio en products.rating se recalcula a partir de estas columnas
+-- (desde Postgres 11 agregar columnas con DEFAULT constante no reescribe la tabla)
+ALTER TABLE products
+    ADD COLUMN rating_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN rating_sum NUMERIC(16,2) NOT NULL DEFAULT 0;
+
+-- El rating vigente cuenta como un voto previo; sin él, el primer voto reemplazaría el promedio.
+-- Las filas existentes quedan con rating_count = 0 y las siembra por tramos el backfill
+-- products-rating-votes (RatingVotesBackfill) en lugar de un UPDATE de toda la tabla; mientras tanto,
+-- el volcado de votos trata rating_count = 0 como ese voto previo.
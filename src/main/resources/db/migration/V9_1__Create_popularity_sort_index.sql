@@ -0,0 +1,4 @@
+-- Orden del listado por popularidad: mismo esquema (columna, id) que los demás órdenes (V7_1 a V7_5)
+SET lock_timeout = '5s';
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_popularity_id; -- restos INVALID de un intento fallido
+CREATE INDEX CONCURRENTLY idx_products_popularity_id ON products(popularity, id);
@@ -0,0 +1,19 @@
+-- Popularidad con decaimiento exponencial para ordenar el listado.
+-- Se guarda en escala logarítmica respecto de una fecha fija (forward decay): un volcado de visitas solo
+-- toca las filas visitadas, nunca hace falta decaer toda la tabla y el valor no se desborda.
+ALTER TABLE products ADD COLUMN popularity DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+-- El índice (popularity, id) del listado se construye en V9_1, fuera de transacción
+
+-- Las visitas no modifican el producto: un UPDATE que solo cambia la popularidad, sin nueva versión,
+-- conserva updated_at
+CREATE OR REPLACE FUNCTION update_updated_at_column()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.version = OLD.version AND NEW.popularity IS DISTINCT FROM OLD.popularity THEN
+        RETURN NEW;
+    END IF;
+    NEW.updated_at = CURRENT_TIMESTAMP;
+RETURN NEW;
+END;
+$$ language 'plpgsql';
@@ -0,0 +1,142 @@
+package com.linktic.challenge.products.integration.idempotency;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linktic.challenge.products.domain.model.*;
+import com.linktic.challenge.products.infrastructure.adapter.ProductRepositoryAdapter;
+import com.linktic.challenge.products.infrastructure.idempotency.IdempotencyConflictException;
+import com.linktic.challenge.products.infrastructure.idempotency.IdempotentRequests;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Creación con {@code Idempotency-Key} contra Postgres real (Testcontainers): el producto y el resultado de
+ * la clave se confirman o se revierten juntos. {@code lock-timeout} se acorta para que la primera petición
+ * pueda tardar más que él.
+ */
+@SpringBootTest(properties = {
+        "products.idempotency.lock-timeout=1s",
+        "products.idempotency.in-flight-wait=300ms"
+})
+@ActiveProfiles("test")
+class IdempotentCreationIntegrationTest {
+    private static final String OPERATION = "create-product";
+
+    @Autowired
+    private IdempotentRequests idempotentRequests;
+
+    @Autowired
+    private ProductRepositoryAdapter productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Dada una creación más lenta que lock-timeout, cuando llega un duplicado, entonces no debe crear otro producto y luego debe repetir la respuesta")
+    void givenCreationSlowerThanLockTimeout_whenDuplicateArrives_thenShouldNotCreateTwiceAndReplayLater() throws Exception {
+        // Given
+        String key = "slow-" + System.nanoTime();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch created = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<Map<String, Object>>> first = CompletableFuture.supplyAsync(() ->
+                execute(key, "idem-slow", () -> {
+                    executions.incrementAndGet();
+                    productRepository.save(product("idem-slow"));
+                    created.countDown();
+                    sleep(2_000);
+                }));
+        assertThat(created.await(10, TimeUnit.SECONDS)).isTrue();
+        sleep(1_200);
+
+        // When
+        assertThatThrownBy(() -> execute(key, "idem-slow", executions::incrementAndGet))
+                .isInstanceOf(IdempotencyConflictException.class)
+                .extracting("reason").isEqualTo(IdempotencyConflictException.Reason.IN_FLIGHT);
+        ResponseEntity<Map<String, Object>> original = first.get(10, TimeUnit.SECONDS);
+        ResponseEntity<Map<String, Object>> replayed = execute(key, "idem-slow", executions::incrementAndGet);
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(original.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(replayed.getHeaders().getFirst(IdempotentRequests.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(replayed.getBody()).isEqualTo(original.getBody());
+        assertThat(productCount("idem-slow")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Dada una creación que falla después de insertar, cuando se reintenta, entonces no debe quedar el producto y la clave debe ejecutarse de nuevo")
+    void givenCreationFailingAfterInsert_whenRetried_thenShouldRollBackAndExecuteAgain() {
+        // Given
+        String key = "failing-" + System.nanoTime();
+        assertThatThrownBy(() -> execute(key, "idem-failing", () -> {
+            productRepository.save(product("idem-failing"));
+            throw new IllegalStateException("fallo tras insertar");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // When
+        assertThat(productCount("idem-failing")).isZero();
+        ResponseEntity<Map<String, Object>> retried = execute(key, "idem-failing",
+                () -> productRepository.save(product("idem-failing")));
+
+        // Then
+        assertThat(retried.getHeaders().getFirst(IdempotentRequests.REPLAYED_HEADER)).isNull();
+        assertThat(productCount("idem-failing")).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT response_status FROM idempotency_keys WHERE operation = ? AND idempotency_key = ?",
+                Integer.class, OPERATION, key)).isEqualTo(201);
+    }
+
+    private ResponseEntity<Map<String, Object>> execute(String key, String productId, Runnable write) {
+        JavaType bodyType = objectMapper.constructType(Map.class);
+        return idempotentRequests.execute(OPERATION, key, Map.of("id", productId), bodyType, () -> {
+            write.run();
+            return ResponseEntity.status(HttpStatus.CREATED).eTag("\"0\"").body(Map.of("id", productId));
+        });
+    }
+
+    private Long productCount(String productId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM products WHERE id = ?", Long.class, productId);
+    }
+
+    private static Product product(String id) {
+        return new Product(
+                new ProductId(id),
+                new ProductName("Producto " + id),
+                new ProductImageUrl("https://example.com/" + id + ".jpg"),
+                new ProductDescription("Producto para probar la creación idempotente"),
+                new ProductPrice(new BigDecimal("10.00"), Currency.getInstance("USD")),
+                new ProductRating(4.0),
+                new ProductCategory("Idempotencia"),
+                new ProductBrand("Marca A"),
+                new ProductSpecifications(Map.of())
+        );
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.linktic.challenge.products.integration.invalidation;
+
+import com.linktic.challenge.products.LinkticProductChallengeApplication;
+import com.linktic.challenge.products.domain.model.*;
+import com.linktic.challenge.products.infrastructure.adapter.ProductRepositoryAdapter;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidation;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidationListener;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Currency;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Dos instancias de la aplicación sobre el mismo Postgres (Testcontainers) con la invalidación por
+ * {@code LISTEN/NOTIFY} activada. Cada una registra un listener que anota los avisos que recibe.
+ */
+@Testcontainers
+class ProductInvalidationBroadcastIntegrationTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(15);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15");
+
+    private static final RecordingListener WRITER_LISTENER = new RecordingListener();
+    private static final RecordingListener READER_LISTENER = new RecordingListener();
+
+    private static ConfigurableApplicationContext writer;
+    private static ConfigurableApplicationContext reader;
+
+    @BeforeAll
+    static void startInstances() {
+        writer = start("instance-writer", WRITER_LISTENER);
+        reader = start("instance-reader", READER_LISTENER);
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        if (reader != null) {
+            reader.close();
+        }
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        WRITER_LISTENER.received.clear();
+        READER_LISTENER.received.clear();
+    }
+
+    @Test
+    @DisplayName("Dadas dos instancias, cuando una crea un producto, entonces la otra debe recibir el aviso del producto y de los listados")
+    void givenTwoInstances_whenOneCreatesProduct_thenOtherShouldReceiveProductAndListingsInvalidation() throws InterruptedException {
+        // Given
+        ProductRepositoryAdapter repository = writer.getBean(ProductRepositoryAdapter.class);
+
+        // When
+        repository.save(product("broadcast-001"));
+
+        // Then
+        ProductInvalidation invalidation = READER_LISTENER.await(received -> received.productIds().contains("broadcast-001"));
+        assertThat(invalidation).isNotNull();
+        assertThat(invalidation.listings()).isTrue();
+        assertThat(invalidation.all()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Dada una escritura revertida, cuando otra instancia escucha, entonces no debe recibir ningún aviso")
+    void givenRolledBackWrite_whenOtherInstanceListens_thenShouldNotReceiveInvalidation() throws InterruptedException {
+        // Given
+        JdbcTemplate jdbcTemplate = writer.getBean(JdbcTemplate.class);
+        TransactionTemplate transaction = new TransactionTemplate(writer.getBean(PlatformTransactionManager.class));
+
+        // When
+        transaction.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT pg_notify('product_invalidation', 'listings,p:broadcast-rollback')");
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(READER_LISTENER.await(received -> received.productIds().contains("broadcast-rollback"),
+                Duration.ofSeconds(2))).isNull();
+    }
+
+    @Test
+    @DisplayName("Dada la conexión de escucha cortada, cuando la instancia se reconecta, entonces debe recibir una invalidación total")
+    void givenListenConnectionTerminated_whenInstanceReconnects_thenShouldReceiveFullInvalidation() throws InterruptedException {
+        // Given
+        JdbcTemplate jdbcTemplate = writer.getBean(JdbcTemplate.class);
+
+        // When
+        Integer terminated = jdbcTemplate.queryForObject("""
+                SELECT count(pg_terminate_backend(pid)) FROM pg_stat_activity
+                WHERE application_name = 'instance-reader' AND query LIKE 'LISTEN%'
+                """, Integer.class);
+
+        // Then
+        assertThat(terminated).isEqualTo(1);
+        ProductInvalidation invalidation = READER_LISTENER.await(ProductInvalidation::all);
+        assertThat(invalidation).isNotNull();
+        assertThat(WRITER_LISTENER.received).noneMatch(ProductInvalidation::all);
+    }
+
+    private static ConfigurableApplicationContext start(String instanceName, RecordingListener listener) {
+        return new SpringApplicationBuilder(LinkticProductChallengeApplication.class)
+                .profiles("test")
+                .initializers(context -> context.getBeanFactory().registerSingleton("recordingListener", listener))
+                .run(
+                        "--spring.datasource.url=" + POSTGRES.getJdbcUrl() + "&ApplicationName=" + instanceName,
+                        "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                        "--spring.datasource.username=" + POSTGRES.getUsername(),
+                        "--spring.datasource.password=" + POSTGRES.getPassword(),
+                        "--server.port=0",
+                        "--products.invalidation.enabled=true",
+                        "--products.invalidation.reconnect-delay=200ms"
+                );
+    }
+
+    private static Product product(String id) {
+        return new Product(
+                new ProductId(id),
+                new ProductName("Producto " + id),
+                new ProductImageUrl("https://example.com/" + id + ".jpg"),
+                new ProductDescription("Producto para probar la invalidación entre instancias"),
+                new ProductPrice(new BigDecimal("10.00"), Currency.getInstance("USD")),
+                new ProductRating(4.0),
+                new ProductCategory("Invalidación"),
+                new ProductBrand("Marca A"),
+                new ProductSpecifications(Map.of())
+        );
+    }
+
+    private static final class RecordingListener implements ProductInvalidationListener {
+        private final BlockingQueue<ProductInvalidation> received = new LinkedBlockingQueue<>();
+
+        @Override
+        public void onInvalidation(ProductInvalidation invalidation) {
+            received.add(invalidation);
+        }
+
+        ProductInvalidation await(Predicate<ProductInvalidation> matching) throws InterruptedException {
+            return await(matching, TIMEOUT);
+        }
+
+        // Retorna el primer aviso que cumple la condición, o null si no llega a tiempo
+        ProductInvalidation await(Predicate<ProductInvalidation> matching, Duration timeout) throws InterruptedException {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                ProductInvalidation invalidation = received.poll(remaining, TimeUnit.NANOSECONDS);
+                if (invalidation != null && matching.test(invalidation)) {
+                    return invalidation;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.linktic.challenge.products.integration.migration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Migraciones de índices fuera de transacción ({@code CREATE INDEX CONCURRENTLY}) aplicadas por Flyway
+ * contra Postgres real (Testcontainers).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OnlineIndexMigrationIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Dadas las migraciones concurrentes, cuando arranca la aplicación, entonces los índices de orden deben quedar válidos")
+    void givenConcurrentMigrations_whenStarting_thenSortIndexesShouldBeValid() {
+        // When
+        List<String> validIndexes = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid
+                WHERE i.indrelid = 'products'::regclass AND i.indisvalid
+                """, String.class);
+
+        // Then
+        assertThat(validIndexes).contains(
+                "idx_products_name_id", "idx_products_price_id", "idx_products_rating_id",
+                "idx_products_category_id", "idx_products_brand_id", "idx_products_popularity_id");
+        assertThat(validIndexes).doesNotContain(
+                "idx_products_price", "idx_products_rating", "idx_products_category", "idx_products_brand");
+    }
+
+    @Test
+    @DisplayName("Dadas las migraciones concurrentes, cuando arranca la aplicación, entonces Flyway debe registrarlas como exitosas")
+    void givenConcurrentMigrations_whenStarting_thenFlywayShouldRecordThemAsSuccessful() {
+        // When
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE version LIKE '%.%' AND success ORDER BY installed_rank",
+                String.class);
+
+        // Then
+        assertThat(versions).containsExactly("7.1", "7.2", "7.3", "7.4", "7.5", "7.6", "9.1");
+    }
+}
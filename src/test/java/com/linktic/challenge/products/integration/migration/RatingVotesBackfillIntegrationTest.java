@@ -0,0 +1,113 @@
+package com.linktic.challenge.products.integration.migration;
+
+import com.linktic.challenge.products.infrastructure.persistence.migration.RatingVotesBackfill;
+import com.linktic.challenge.products.infrastructure.persistence.repository.ProductJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Siembra de los votos de rating por backfill contra Postgres real (Testcontainers). Las filas sin sembrar
+ * ({@code rating_count = 0}) se insertan en cada prueba y se revierten al terminar.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RatingVotesBackfillIntegrationTest {
+    // Anterior a la transacción de la prueba: CURRENT_TIMESTAMP no puede coincidir con ella
+    private static final LocalDateTime LAST_MODIFIED = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Dadas filas sin sembrar, cuando se procesa un tramo, entonces el rating vigente debe quedar como voto previo sin tocar updated_at ni version")
+    void givenUnseededRows_whenRunningChunk_thenShouldSeedCurrentRatingAsVote() {
+        // Given
+        insertUnseeded("backfill-a", 3.5);
+        insertUnseeded("backfill-b", 4.25);
+        String chunkSql = new RatingVotesBackfill().chunkSql();
+
+        // When
+        int rows = jdbcTemplate.update(chunkSql, "backfill-a", "backfill-b");
+        int repeated = jdbcTemplate.update(chunkSql, "backfill-a", "backfill-b");
+
+        // Then
+        assertThat(rows).isEqualTo(2);
+        assertThat(repeated).isZero();
+        Map<String, Object> row = votes("backfill-b");
+        assertThat(row.get("rating_count")).isEqualTo(1L);
+        assertThat((BigDecimal) row.get("rating_sum")).isEqualByComparingTo("4.25");
+        assertThat(row.get("updated_at")).isEqualTo(Timestamp.valueOf(LAST_MODIFIED));
+        assertThat(row.get("version")).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("Dada una fila aún sin sembrar, cuando llega un voto, entonces el promedio debe incluir el rating vigente")
+    void givenUnseededRow_whenVoteApplied_thenShouldAverageWithCurrentRating() {
+        // Given
+        insertUnseeded("backfill-c", 4.0);
+
+        // When
+        productJpaRepository.applyRatingVotesReturningVersions(
+                new String[]{"backfill-c"}, new Long[]{1L}, new BigDecimal[]{new BigDecimal("2")});
+
+        // Then
+        Map<String, Object> row = votes("backfill-c");
+        assertThat(row.get("rating")).isEqualTo(3.0);
+        assertThat(row.get("rating_count")).isEqualTo(2L);
+        assertThat((BigDecimal) row.get("rating_sum")).isEqualByComparingTo("6");
+        assertThat(row.get("version")).isEqualTo(1L);
+        assertThat(row.get("updated_at")).isNotEqualTo(Timestamp.valueOf(LAST_MODIFIED));
+    }
+
+    @Test
+    @DisplayName("Dado el arranque de la aplicación, cuando corre el backfill registrado, entonces debe completar los productos sembrados")
+    void givenStartup_whenRegisteredBackfillRuns_thenShouldCompleteSeededProducts() throws InterruptedException {
+        // When
+        long deadline = System.currentTimeMillis() + 30_000;
+        List<Object> completedAt = List.of();
+        while (System.currentTimeMillis() < deadline) {
+            completedAt = jdbcTemplate.queryForList(
+                    "SELECT completed_at FROM backfill_progress WHERE name = ? AND completed_at IS NOT NULL",
+                    Object.class, "products-rating-votes");
+            if (!completedAt.isEmpty()) {
+                break;
+            }
+            Thread.sleep(200);
+        }
+
+        // Then
+        assertThat(completedAt).hasSize(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM products WHERE id LIKE 'prod0%' AND rating_count = 0", Long.class)).isZero();
+    }
+
+    private void insertUnseeded(String id, double rating) {
+        jdbcTemplate.update("""
+                INSERT INTO products (id, name, description, price, currency, rating, category, rating_count, rating_sum,
+                                      updated_at)
+                VALUES (?, ?, 'Producto sin sembrar', 10.00, 'USD', ?, 'Backfill', 0, 0, ?)
+                """, id, "Producto " + id, rating, Timestamp.valueOf(LAST_MODIFIED));
+    }
+
+    private Map<String, Object> votes(String id) {
+        return jdbcTemplate.queryForMap(
+                "SELECT rating, rating_count, rating_sum, version, updated_at FROM products WHERE id = ?", id);
+    }
+}
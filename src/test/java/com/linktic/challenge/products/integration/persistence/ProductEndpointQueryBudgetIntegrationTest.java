@@ -0,0 +1,148 @@
+package com.linktic.challenge.products.integration.persistence;
+
+import com.linktic.challenge.products.domain.model.*;
+import com.linktic.challenge.products.infrastructure.adapter.ProductRepositoryAdapter;
+import com.linktic.challenge.products.infrastructure.persistence.metrics.SqlStatementStats;
+import com.linktic.challenge.products.support.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Presupuesto de sentencias SQL por endpoint contra Postgres real (Testcontainers). Cada caso compara una
+ * petición pequeña con una grande: si el número de sentencias crece con las filas, hay un N+1.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductEndpointQueryBudgetIntegrationTest {
+    private static final int PRODUCTS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepositoryAdapter productRepository;
+
+    private String category;
+    private final List<String> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void seedCategory() {
+        category = "Presupuesto" + System.nanoTime();
+        for (int index = 0; index < PRODUCTS; index++) {
+            String id = category + "-" + index;
+            productRepository.save(product(id, category));
+            productIds.add(id);
+        }
+    }
+
+    @Test
+    @DisplayName("Dado un listado filtrado, cuando se piden 5 o 25 productos, entonces debe ejecutar las mismas sentencias y a lo sumo 3")
+    void givenFilteredListing_whenPageGrows_thenStatementsShouldNotGrow() {
+        // Given
+        RequestBuilder small = get("/api/v1/products").param("category", category).param("size", "5");
+        RequestBuilder large = get("/api/v1/products").param("category", category).param("size", "25");
+
+        // When
+        SqlStatementStats smallStats = QueryBudget.assertStatementsAtMost(3, () -> perform(small));
+        SqlStatementStats largeStats = QueryBudget.assertStatementsAtMost(3, () -> perform(large));
+
+        // Then
+        assertThat(largeStats.statements()).isEqualTo(smallStats.statements());
+    }
+
+    @Test
+    @DisplayName("Dado un listado con fields, cuando se piden 25 productos, entonces debe bastar con la página y el conteo")
+    void givenSparseListing_whenPageIsLarge_thenShouldUseAtMostTwoStatements() {
+        // Given
+        RequestBuilder request = get("/api/v1/products").param("category", category).param("size", "25")
+                .param("fields", "id,name,price");
+
+        // When / Then
+        QueryBudget.assertStatementsAtMost(2, () -> perform(request));
+    }
+
+    @Test
+    @DisplayName("Dado un producto con especificaciones, cuando se consulta por ID, entonces debe ejecutar a lo sumo 2 sentencias")
+    void givenProductWithSpecifications_whenFetchedById_thenShouldUseAtMostTwoStatements() {
+        // Given
+        RequestBuilder request = get("/api/v1/products/{id}", productIds.getFirst());
+
+        // When / Then
+        QueryBudget.assertStatementsAtMost(2, () -> perform(request));
+    }
+
+    @Test
+    @DisplayName("Dadas las facetas de una categoría, cuando se cuentan, entonces debe ejecutar una sentencia por faceta y el total")
+    void givenCategoryFacets_whenCounted_thenShouldUseOneStatementPerFacet() {
+        // Given
+        RequestBuilder request = get("/api/v1/products/facets").param("category", category);
+
+        // When / Then
+        QueryBudget.assertStatementsAtMost(5, () -> perform(request));
+    }
+
+    @Test
+    @DisplayName("Dada una eliminación masiva, cuando se eliminan 2 o 20 IDs, entonces debe ejecutar las mismas sentencias")
+    void givenBulkDelete_whenIdsGrow_thenStatementsShouldNotGrow() {
+        // Given
+        RequestBuilder small = bulkDelete(productIds.subList(0, 2));
+        RequestBuilder large = bulkDelete(productIds.subList(2, 22));
+
+        // When
+        SqlStatementStats smallStats = QueryBudget.assertStatementsAtMost(4, () -> perform(small));
+        SqlStatementStats largeStats = QueryBudget.assertStatementsAtMost(4, () -> perform(large));
+
+        // Then
+        assertThat(largeStats.statements()).isEqualTo(smallStats.statements());
+    }
+
+    private void perform(RequestBuilder request) {
+        try {
+            mockMvc.perform(request).andExpect(status().isOk());
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static RequestBuilder bulkDelete(List<String> ids) {
+        String body = ids.stream().map(id -> "\"" + id + "\"")
+                .reduce((left, right) -> left + "," + right)
+                .map(joined -> "{\"ids\":[" + joined + "]}")
+                .orElseThrow();
+        return post("/api/v1/products/bulk-delete").contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+
+    private static Product product(String id, String category) {
+        return new Product(
+                new ProductId(id),
+                new ProductName("Producto " + id),
+                new ProductImageUrl("https://example.com/" + id + ".jpg"),
+                new ProductDescription("Producto para medir el presupuesto de consultas"),
+                new ProductPrice(new BigDecimal("10.00"), Currency.getInstance("USD")),
+                new ProductRating(4.0),
+                new ProductCategory(category),
+                new ProductBrand("Marca A"),
+                new ProductSpecifications(Map.of("color", "rojo", "peso", "1kg"))
+        );
+    }
+}
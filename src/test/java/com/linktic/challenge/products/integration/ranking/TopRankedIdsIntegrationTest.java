@@ -0,0 +1,90 @@
+package com.linktic.challenge.products.integration.ranking;
+
+import com.linktic.challenge.products.infrastructure.persistence.repository.ProductJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Consulta de destacados por categoría contra Postgres real (Testcontainers): recorrido de categorías
+ * por el índice y dos {@code LATERAL ... LIMIT} por categoría. Cada prueba revierte sus inserciones.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TopRankedIdsIntegrationTest {
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        insert("rank-best", 5.0, "300.00");
+        insert("rank-cheap", 1.0, "10.00");
+        insert("rank-middle", 3.0, "100.00");
+    }
+
+    @Test
+    @DisplayName("Dada una categoría, cuando se leen los destacados, entonces debe retornar el mejor rating y el menor precio")
+    void givenCategory_whenLoadingTopRanked_thenShouldReturnBestRatedAndCheapest() {
+        // When
+        List<String> ids = productJpaRepository.findTopRankedIds("Ranking", 1);
+
+        // Then
+        assertThat(ids).containsExactlyInAnyOrder("rank-best", "rank-cheap");
+    }
+
+    @Test
+    @DisplayName("Dada una capacidad que cubre la categoría, cuando se leen los destacados, entonces no debe repetir IDs")
+    void givenCapacityCoveringCategory_whenLoadingTopRanked_thenShouldNotRepeatIds() {
+        // When
+        List<String> ids = productJpaRepository.findTopRankedIds("Ranking", 10);
+
+        // Then
+        assertThat(ids).containsExactlyInAnyOrder("rank-best", "rank-cheap", "rank-middle");
+    }
+
+    @Test
+    @DisplayName("Dado el catálogo completo, cuando se leen los destacados, entonces debe cubrir cada categoría")
+    void givenWholeCatalog_whenLoadingTopRanked_thenShouldCoverEveryCategory() {
+        // Given
+        List<String> categories = jdbcTemplate.queryForList("SELECT DISTINCT category FROM products", String.class);
+
+        // When
+        List<String> ids = productJpaRepository.findTopRankedIds(null, 1);
+
+        // Then
+        List<String> rankedCategories = jdbcTemplate.queryForList(
+                "SELECT DISTINCT category FROM products WHERE id = ANY(?)", String.class,
+                (Object) ids.toArray(String[]::new));
+        assertThat(rankedCategories).containsExactlyInAnyOrderElementsOf(categories);
+        assertThat(ids).contains("rank-best", "rank-cheap").doesNotContain("rank-middle");
+    }
+
+    @Test
+    @DisplayName("Dada una categoría inexistente, cuando se leen los destacados, entonces debe retornar vacío")
+    void givenUnknownCategory_whenLoadingTopRanked_thenShouldReturnEmpty() {
+        // When & Then
+        assertThat(productJpaRepository.findTopRankedIds("Inexistente", 5)).isEmpty();
+    }
+
+    private void insert(String id, double rating, String price) {
+        jdbcTemplate.update("""
+                INSERT INTO products (id, name, description, price, currency, rating, category, rating_count, rating_sum)
+                VALUES (?, ?, 'Producto de ranking', ?, 'USD', ?, 'Ranking', 1, ?)
+                """, id, "Producto " + id, new BigDecimal(price), rating, rating);
+    }
+}
@@ -0,0 +1,116 @@
+package com.linktic.challenge.products.integration.rating;
+
+import com.linktic.challenge.products.domain.model.Product;
+import com.linktic.challenge.products.domain.model.ProductId;
+import com.linktic.challenge.products.domain.model.ProductPatch;
+import com.linktic.challenge.products.domain.model.ProductRating;
+import com.linktic.challenge.products.domain.model.ProductRatingVotes;
+import com.linktic.challenge.products.infrastructure.adapter.ProductRatingRepositoryAdapter;
+import com.linktic.challenge.products.infrastructure.adapter.ProductRepositoryAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Votos de rating contra Postgres real (Testcontainers): el rating vigente cuenta como un voto previo,
+ * tanto en los productos sembrados por las migraciones como en los creados o editados por la API.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RatingVotesIntegrationTest {
+
+    @Autowired
+    private ProductRatingRepositoryAdapter ratingRepository;
+
+    @Autowired
+    private ProductRepositoryAdapter productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Dado un producto sembrado con rating 4.8, cuando llega un voto de 2, entonces el promedio debe incluir el rating previo")
+    void givenSeededRating_whenFirstVoteApplied_thenShouldAverageWithExistingRating() {
+        // Given
+        String productId = "prod003";
+
+        // When
+        ratingRepository.applyVotes(List.of(new ProductRatingVotes(productId, 1, new BigDecimal("2"))));
+
+        // Then
+        Map<String, Object> row = ratingRow(productId);
+        assertThat(row.get("rating")).isEqualTo(3.4);
+        assertThat(row.get("rating_count")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Dado un PATCH del rating, cuando llega un voto, entonces el promedio debe partir del rating enviado")
+    void givenPatchedRating_whenVoteApplied_thenShouldAverageFromPatchedRating() {
+        // Given
+        String productId = "prod008";
+        productRepository.patch(new ProductPatch(new ProductId(productId), null, null, null, null, null,
+                new ProductRating(3.0), null, null, null));
+
+        // When
+        ratingRepository.applyVotes(List.of(new ProductRatingVotes(productId, 1, new BigDecimal("5"))));
+
+        // Then
+        Map<String, Object> row = ratingRow(productId);
+        assertThat(row.get("rating")).isEqualTo(4.0);
+        assertThat(row.get("rating_count")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Dado un PUT con If-Match que cambia el rating, cuando llega un voto, entonces el promedio debe partir del rating enviado")
+    void givenVersionedPutChangingRating_whenVoteApplied_thenShouldAverageFromPutRating() {
+        // Given
+        String productId = "prod010";
+        ratingRepository.applyVotes(List.of(new ProductRatingVotes(productId, 3, new BigDecimal("15"))));
+        Product current = productRepository.findById(productId).orElseThrow();
+        productRepository.update(new Product(current.id(), current.name(), current.imageUrl(),
+                current.description(), current.price(), new ProductRating(1.0), current.category(),
+                current.brand(), current.specifications(), current.version()));
+
+        // When
+        ratingRepository.applyVotes(List.of(new ProductRatingVotes(productId, 1, new BigDecimal("3"))));
+
+        // Then
+        Map<String, Object> row = ratingRow(productId);
+        assertThat(row.get("rating")).isEqualTo(2.0);
+        assertThat(row.get("rating_count")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Dado un PUT que conserva el rating, cuando llega un voto, entonces debe conservar los votos acumulados")
+    void givenPutKeepingRating_whenVoteApplied_thenShouldKeepAccumulatedVotes() {
+        // Given
+        String productId = "prod005";
+        ratingRepository.applyVotes(List.of(new ProductRatingVotes(productId, 1, new BigDecimal("2.6"))));
+        Product current = productRepository.findById(productId).orElseThrow();
+        productRepository.update(new Product(current.id(), current.name(), current.imageUrl(),
+                current.description(), current.price(), current.rating(), current.category(),
+                current.brand(), current.specifications(), current.version()));
+
+        // When
+        ratingRepository.applyVotes(List.of(new ProductRatingVotes(productId, 1, new BigDecimal("3.6"))));
+
+        // Then
+        Map<String, Object> row = ratingRow(productId);
+        assertThat(row.get("rating")).isEqualTo(3.6);
+        assertThat(row.get("rating_count")).isEqualTo(3L);
+    }
+
+    private Map<String, Object> ratingRow(String productId) {
+        return jdbcTemplate.queryForMap(
+                "SELECT rating, rating_count, rating_sum FROM products WHERE id = ?", productId);
+    }
+}
@@ -0,0 +1,166 @@
+package com.linktic.challenge.products.integration.routing;
+
+import com.linktic.challenge.products.LinkticProductChallengeApplication;
+import com.linktic.challenge.products.domain.model.*;
+import com.linktic.challenge.products.infrastructure.adapter.ProductRepositoryAdapter;
+import com.linktic.challenge.products.infrastructure.persistence.routing.ReadConsistencyContext;
+import com.linktic.challenge.products.infrastructure.persistence.routing.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Currency;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Enrutamiento de lecturas con dos Postgres independientes (Testcontainers) en el papel de primario y
+ * réplica. La réplica recibe el mismo esquema y un producto que solo existe en ella: encontrarlo prueba
+ * que la lectura fue a la réplica. La última prueba detiene la réplica.
+ */
+@Testcontainers
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReadReplicaRoutingIntegrationTest {
+    private static final String REPLICA_ONLY_ID = "replica-only";
+
+    @Container
+    private static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:15");
+
+    @Container
+    private static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:15");
+
+    private static ConfigurableApplicationContext context;
+    private static ProductRepositoryAdapter repository;
+
+    @BeforeAll
+    static void startInstance() {
+        Flyway.configure()
+                .dataSource(REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword())
+                .locations("classpath:db/migration")
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load()
+                .migrate();
+        jdbcTemplate(REPLICA).update("""
+                INSERT INTO products (id, name, description, price, currency, rating, category, rating_count, rating_sum)
+                VALUES (?, 'Producto solo en la réplica', 'Marca de enrutamiento', 10.00, 'USD', 4.0, 'Réplica', 1, 4.0)
+                """, REPLICA_ONLY_ID);
+
+        context = new SpringApplicationBuilder(LinkticProductChallengeApplication.class)
+                .profiles("test")
+                .run(
+                        "--spring.datasource.url=" + PRIMARY.getJdbcUrl(),
+                        "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                        "--spring.datasource.username=" + PRIMARY.getUsername(),
+                        "--spring.datasource.password=" + PRIMARY.getPassword(),
+                        "--server.port=0",
+                        "--products.datasource.replica.enabled=true",
+                        "--products.datasource.replica.url=" + REPLICA.getJdbcUrl(),
+                        "--products.datasource.replica.username=" + REPLICA.getUsername(),
+                        "--products.datasource.replica.password=" + REPLICA.getPassword(),
+                        // Sin mediciones periódicas: la caída se detecta al pedir la conexión, con el
+                        // connection-timeout de application.yml
+                        "--products.datasource.replica.health-check-interval=1h"
+                );
+        repository = context.getBean(ProductRepositoryAdapter.class);
+    }
+
+    @AfterAll
+    static void stopInstance() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    private static Long count(PostgreSQLContainer<?> database, String productId) {
+        return jdbcTemplate(database).queryForObject("SELECT count(*) FROM products WHERE id = ?", Long.class, productId);
+    }
+
+    private static JdbcTemplate jdbcTemplate(PostgreSQLContainer<?> database) {
+        return new JdbcTemplate(new DriverManagerDataSource(database.getJdbcUrl(), database.getUsername(), database.getPassword()));
+    }
+
+    @AfterEach
+    void clearReadConsistency() {
+        ReadConsistencyContext.clear();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Dada una réplica al día, cuando se lee en una transacción de solo lectura, entonces debe atenderse desde la réplica")
+    void givenHealthyReplica_whenReadingReadOnly_thenShouldReadFromReplica() {
+        // When & Then
+        assertThat(context.getBean(ReplicaLagMonitor.class).isReplicaAvailable()).isTrue();
+        assertThat(repository.findById(REPLICA_ONLY_ID)).isPresent();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Dada una petición que exige el primario, cuando se lee, entonces no debe usar la réplica")
+    void givenPrimaryRequired_whenReading_thenShouldReadFromPrimary() {
+        // Given
+        ReadConsistencyContext.requirePrimary();
+
+        // When & Then
+        assertThat(repository.findById(REPLICA_ONLY_ID)).isEmpty();
+        assertThat(repository.findById("prod001")).isPresent();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Dada una escritura, cuando se confirma, entonces debe ir al primario aunque la réplica esté disponible")
+    void givenWrite_whenCommitted_thenShouldGoToPrimary() {
+        // When
+        repository.save(new Product(
+                new ProductId("routing-write"),
+                new ProductName("Producto escrito en el primario"),
+                new ProductImageUrl("https://example.com/routing-write.jpg"),
+                new ProductDescription("Producto para probar el enrutamiento de escrituras"),
+                new ProductPrice(new BigDecimal("10.00"), Currency.getInstance("USD")),
+                new ProductRating(4.0),
+                new ProductCategory("Réplica"),
+                new ProductBrand("Marca A"),
+                new ProductSpecifications(Map.of())
+        ));
+
+        // Then
+        assertThat(count(PRIMARY, "routing-write")).isEqualTo(1L);
+        assertThat(count(REPLICA, "routing-write")).isZero();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Dada la réplica detenida, cuando se lee en una transacción de solo lectura, entonces debe volver al primario sin esperar el timeout por defecto de Hikari")
+    void givenReplicaStopped_whenReadingReadOnly_thenShouldFallBackToPrimaryQuickly() {
+        // Given
+        REPLICA.stop();
+        HikariDataSource replicaPool = context.getBean("replicaDataSource", HikariDataSource.class);
+
+        // When
+        long startedAt = System.nanoTime();
+        assertThat(repository.findById("prod001")).isPresent();
+        Duration fallback = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // Then
+        assertThat(replicaPool.getConnectionTimeout()).isEqualTo(500L);
+        assertThat(fallback).isLessThan(Duration.ofSeconds(5));
+        assertThat(repository.findById(REPLICA_ONLY_ID)).isEmpty();
+        assertThat(context.getBean(ReplicaLagMonitor.class).isReplicaAvailable()).isFalse();
+    }
+}
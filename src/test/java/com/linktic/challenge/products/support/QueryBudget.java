@@ -0,0 +1,25 @@
+package com.linktic.challenge.products.support;
+
+import com.linktic.challenge.products.infrastructure.persistence.metrics.SqlStatementRecorder;
+import com.linktic.challenge.products.infrastructure.persistence.metrics.SqlStatementStats;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Aserciones de presupuesto de consultas para tests: fallan si el bloque ejecuta más sentencias SQL
+ * de las permitidas a través del {@code DataSource} instrumentado.
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static SqlStatementStats assertStatementsAtMost(int maxStatements, Runnable action) {
+        SqlStatementStats stats = SqlStatementRecorder.record(action);
+        if (stats.statements() > maxStatements) {
+            fail("Expected at most " + maxStatements + " SQL statements but got " + stats.statements()
+                    + " (" + stats + ")");
+        }
+        return stats;
+    }
+}
@@ -1,10 +1,18 @@
 package com.linktic.challenge.products.unit.application.mapper;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linktic.challenge.products.application.dto.BulkDeleteResultDto;
 import com.linktic.challenge.products.application.dto.CreateProductDto;
 import com.linktic.challenge.products.application.dto.ProductDto;
 import com.linktic.challenge.products.application.dto.UpdateProductDto;
 import com.linktic.challenge.products.application.mapper.ProductMapper;
+import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
 import com.linktic.challenge.products.domain.exception.mapper.ProductMapperException;
+import com.linktic.challenge.products.domain.exception.valueobject.InvalidCategoryException;
+import com.linktic.challenge.products.domain.exception.valueobject.InvalidPriceException;
+import com.linktic.challenge.products.domain.exception.valueobject.InvalidProductNameException;
+import com.linktic.challenge.products.domain.exception.valueobject.InvalidRatingException;
 import com.linktic.challenge.products.domain.model.*;
 import com.linktic.challenge.products.objectmother.ProductObjectMother;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,7 +21,9 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.util.Currency;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -591,4 +601,164 @@ class ProductMapperTest {
         assertEquals("Intel Core i7", dto.specifications().get("procesador"));
         assertEquals("16GB RAM", dto.specifications().get("memoria"));
     }
+
+    // ========== JSON MERGE PATCH ==========
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private JsonNode json(String content) throws Exception {
+        return objectMapper.readTree(content);
+    }
+
+    @Test
+    @DisplayName("Dado un merge patch solo con precio, cuando se mapea, entonces solo el precio debe estar presente")
+    void givenPriceOnlyMergePatch_whenMappedToPatch_thenOnlyPriceIsPresent() throws Exception {
+        // When
+        ProductPatch patch = productMapper.toPatch("prod001", json("{\"price\": 799.99}"));
+
+        // Then
+        assertEquals("prod001", patch.id().value());
+        assertEquals(new BigDecimal("799.99"), patch.price());
+        assertNull(patch.name());
+        assertNull(patch.currency());
+        assertNull(patch.specifications());
+        assertFalse(patch.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dado un merge patch vacío, cuando se mapea, entonces el patch debe estar vacío")
+    void givenEmptyMergePatch_whenMappedToPatch_thenPatchIsEmpty() throws Exception {
+        // When
+        ProductPatch patch = productMapper.toPatch("prod001", json("{}"));
+
+        // Then
+        assertTrue(patch.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dado un merge patch con marca nula, cuando se mapea, entonces debe eliminar la marca")
+    void givenMergePatchWithNullBrand_whenMappedToPatch_thenBrandIsCleared() throws Exception {
+        // When
+        ProductPatch patch = productMapper.toPatch("prod001", json("{\"brand\": null}"));
+
+        // Then
+        assertNotNull(patch.brand());
+        assertNull(patch.brand().value());
+    }
+
+    @Test
+    @DisplayName("Dado un merge patch con especificaciones, cuando se mapea, entonces los nulos deben marcar eliminación")
+    void givenMergePatchWithSpecifications_whenMappedToPatch_thenNullsMarkRemoval() throws Exception {
+        // When
+        ProductPatch patch = productMapper.toPatch("prod001",
+                json("{\"specifications\": {\"memoria\": \"512GB\", \"bateria\": null}}"));
+
+        // Then
+        assertNotNull(patch.specifications());
+        assertFalse(patch.specifications().replaceAll());
+        assertEquals("512GB", patch.specifications().changes().get("memoria"));
+        assertTrue(patch.specifications().changes().containsKey("bateria"));
+        assertNull(patch.specifications().changes().get("bateria"));
+    }
+
+    @Test
+    @DisplayName("Dado un merge patch con especificaciones nulas, cuando se mapea, entonces debe eliminarlas todas")
+    void givenMergePatchWithNullSpecifications_whenMappedToPatch_thenRemovesAll() throws Exception {
+        // When
+        ProductPatch patch = productMapper.toPatch("prod001", json("{\"specifications\": null}"));
+
+        // Then
+        assertTrue(patch.specifications().replaceAll());
+        assertTrue(patch.specifications().changes().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dado un merge patch con campo no permitido, cuando se mapea, entonces debe lanzar InvalidProductException")
+    void givenMergePatchWithUnsupportedField_whenMappedToPatch_thenThrowsInvalidProductException() throws Exception {
+        // Given
+        JsonNode mergePatch = json("{\"id\": \"other\"}");
+
+        // When & Then
+        assertThrows(InvalidProductException.class, () -> productMapper.toPatch("prod001", mergePatch));
+    }
+
+    @Test
+    @DisplayName("Dado un documento que no es objeto, cuando se mapea, entonces debe lanzar InvalidProductException")
+    void givenNonObjectDocument_whenMappedToPatch_thenThrowsInvalidProductException() throws Exception {
+        // Given
+        JsonNode mergePatch = json("[1, 2]");
+
+        // When & Then
+        assertThrows(InvalidProductException.class, () -> productMapper.toPatch("prod001", mergePatch));
+    }
+
+    @Test
+    @DisplayName("Dado un merge patch con campos obligatorios nulos, cuando se mapea, entonces debe lanzar la excepción del value object")
+    void givenMergePatchWithRequiredFieldsNull_whenMappedToPatch_thenThrowsValueObjectException() throws Exception {
+        // Given
+        JsonNode nullName = json("{\"name\": null}");
+        JsonNode nullPrice = json("{\"price\": null}");
+        JsonNode nullCategory = json("{\"category\": null}");
+        JsonNode nullRating = json("{\"rating\": null}");
+
+        // When & Then
+        assertThrows(InvalidProductNameException.class, () -> productMapper.toPatch("prod001", nullName));
+        assertThrows(InvalidPriceException.class, () -> productMapper.toPatch("prod001", nullPrice));
+        assertThrows(InvalidCategoryException.class, () -> productMapper.toPatch("prod001", nullCategory));
+        InvalidRatingException ratingException = assertThrows(InvalidRatingException.class,
+                () -> productMapper.toPatch("prod001", nullRating));
+        assertTrue(ratingException.getMessage().contains("Cannot be removed"));
+    }
+
+    @Test
+    @DisplayName("Dado un merge patch con tipo incorrecto, cuando se mapea, entonces debe lanzar InvalidProductException")
+    void givenMergePatchWithWrongType_whenMappedToPatch_thenThrowsInvalidProductException() throws Exception {
+        // Given
+        JsonNode mergePatch = json("{\"name\": 42}");
+
+        // When & Then
+        assertThrows(InvalidProductException.class, () -> productMapper.toPatch("prod001", mergePatch));
+    }
+
+    @Test
+    @DisplayName("Dado IDs solicitados y eliminados, cuando se arma el resultado masivo, entonces debe informar los no encontrados")
+    void givenRequestedAndDeletedIds_whenMappedToBulkDeleteResult_thenShouldReportNotFoundIds() {
+        // When
+        BulkDeleteResultDto result = productMapper.toBulkDeleteResult(
+                List.of("prod001", "prod404", "prod001"), List.of("prod001"));
+
+        // Then
+        assertEquals(1, result.deletedCount());
+        assertEquals(List.of("prod001"), result.deletedIds());
+        assertEquals(List.of("prod404"), result.notFoundIds());
+    }
+
+    @Test
+    @DisplayName("Dado una eliminación por categoría, cuando se arma el resultado masivo, entonces no debe haber IDs no encontrados")
+    void givenCategoryDeletion_whenMappedToBulkDeleteResult_thenNotFoundIdsIsEmpty() {
+        // When
+        BulkDeleteResultDto result = productMapper.toBulkDeleteResult(null, List.of("prod001", "prod002"), true);
+
+        // Then
+        assertEquals(2, result.deletedCount());
+        assertTrue(result.notFoundIds().isEmpty());
+        assertTrue(result.moreRemaining());
+    }
+
+    @Test
+    @DisplayName("Dado un producto proyectado a algunos campos, cuando se mapea al DTO parcial, entonces debe incluir solo esos campos en orden")
+    void givenProjectedProduct_whenMappedToSparseDto_thenShouldContainOnlySelectedFieldsInOrder() {
+        // Given
+        Set<ProductField> fields = ProductField.parse(List.of("price", "name", "currency"));
+        ProductProjection projection = ProductProjection.of(ProductObjectMother.smartphoneGalaxyXZ(), fields);
+
+        // When
+        Map<String, Object> dto = productMapper.toSparseDto(projection);
+
+        // Then
+        assertEquals(List.of("id", "name", "price", "currency"), List.copyOf(dto.keySet()));
+        assertEquals(new BigDecimal("899.99"), dto.get("price"));
+        assertNull(projection.description());
+        assertNull(projection.specifications());
+    }
 }
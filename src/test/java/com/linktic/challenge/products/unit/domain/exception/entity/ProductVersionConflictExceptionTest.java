@@ -0,0 +1,36 @@
+package com.linktic.challenge.products.unit.domain.exception.entity;
+
+import com.linktic.challenge.products.domain.exception.entity.ProductEntityException;
+import com.linktic.challenge.products.domain.exception.entity.ProductVersionConflictException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductVersionConflictExceptionTest {
+
+    @Test
+    @DisplayName("Dado un conflicto de versión, cuando se crea ProductVersionConflictException, entonces debe contener el ID, ambas versiones y el mensaje correcto")
+    void givenVersionConflict_whenCreatingException_thenShouldContainIdVersionsAndMessage() {
+        // When
+        ProductVersionConflictException exception = new ProductVersionConflictException("prod001", 3L, 5L);
+
+        // Then
+        assertEquals("prod001", exception.getProductId());
+        assertEquals(3L, exception.getExpectedVersion());
+        assertEquals(5L, exception.getCurrentVersion());
+        assertEquals("Product prod001 version mismatch: expected 3 but was 5", exception.getMessage());
+        assertNull(exception.getCause());
+    }
+
+    @Test
+    @DisplayName("Dado una ProductVersionConflictException, cuando se verifica la herencia, entonces debe ser instancia de ProductEntityException")
+    void givenProductVersionConflictException_whenCheckingInheritance_thenShouldBeProductEntityException() {
+        // When
+        ProductVersionConflictException exception = new ProductVersionConflictException("prod001", 1L, 2L);
+
+        // Then
+        assertInstanceOf(ProductEntityException.class, exception);
+        assertInstanceOf(RuntimeException.class, exception);
+    }
+}
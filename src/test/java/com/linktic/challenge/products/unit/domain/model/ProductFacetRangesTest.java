@@ -0,0 +1,39 @@
+package com.linktic.challenge.products.unit.domain.model;
+
+import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
+import com.linktic.challenge.products.domain.model.ProductFacetRanges;
+import com.linktic.challenge.products.domain.model.ProductFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductFacetRangesTest {
+
+    @Test
+    @DisplayName("Dado un precio en un umbral, cuando se calcula su rango, entonces debe caer en el rango superior")
+    void givenPriceOnBound_whenComputingRange_thenShouldFallInUpperRange() {
+        assertEquals("0-50", ProductFacetRanges.PRICE_RANGES.get(ProductFacetRanges.priceRangeIndex(new BigDecimal("49.99"))));
+        assertEquals("50-100", ProductFacetRanges.PRICE_RANGES.get(ProductFacetRanges.priceRangeIndex(new BigDecimal("50.00"))));
+        assertEquals("1000+", ProductFacetRanges.PRICE_RANGES.get(ProductFacetRanges.priceRangeIndex(new BigDecimal("2500"))));
+    }
+
+    @Test
+    @DisplayName("Dado el rating máximo, cuando se calcula su rango, entonces debe caer en el último rango")
+    void givenMaximumRating_whenComputingRange_thenShouldFallInLastRange() {
+        assertEquals(4, ProductFacetRanges.ratingRangeIndex(5.0));
+        assertEquals(3, ProductFacetRanges.ratingRangeIndex(3.99));
+        assertEquals(0, ProductFacetRanges.ratingRangeIndex(0.0));
+    }
+
+    @Test
+    @DisplayName("Dado un rango desconocido, cuando se crea el filtro, entonces debe lanzar InvalidProductException")
+    void givenUnknownRange_whenCreatingFilter_thenShouldThrowInvalidProductException() {
+        Set<String> priceRanges = Set.of("10-20");
+
+        assertThrows(InvalidProductException.class, () -> new ProductFilter(null, null, priceRanges, null));
+    }
+}
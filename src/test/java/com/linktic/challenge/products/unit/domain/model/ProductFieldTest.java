@@ -0,0 +1,30 @@
+package com.linktic.challenge.products.unit.domain.model;
+
+import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
+import com.linktic.challenge.products.domain.model.ProductField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductFieldTest {
+
+    @Test
+    @DisplayName("Dados nombres de campos, cuando se interpretan, entonces debe incluir siempre el ID")
+    void givenFieldNames_whenParsed_thenShouldAlwaysIncludeId() {
+        assertEquals(Set.of(ProductField.ID, ProductField.NAME, ProductField.IMAGE_URL),
+                ProductField.parse(List.of(" name", "imageUrl", "")));
+        assertEquals(Set.of(ProductField.ID), ProductField.parse(List.of()));
+    }
+
+    @Test
+    @DisplayName("Dado un campo desconocido, cuando se interpreta, entonces debe lanzar InvalidProductException")
+    void givenUnknownField_whenParsed_thenShouldThrowInvalidProductException() {
+        List<String> names = List.of("name", "version");
+
+        assertThrows(InvalidProductException.class, () -> ProductField.parse(names));
+    }
+}
@@ -0,0 +1,56 @@
+package com.linktic.challenge.products.unit.domain.model;
+
+import com.linktic.challenge.products.domain.exception.valueobject.InvalidPriceException;
+import com.linktic.challenge.products.domain.exception.valueobject.InvalidProductIdException;
+import com.linktic.challenge.products.domain.model.ProductId;
+import com.linktic.challenge.products.domain.model.ProductPatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductPatchTest {
+
+    @Test
+    @DisplayName("Dado un patch sin campos, cuando se consulta isEmpty, entonces debe retornar true")
+    void givenPatchWithoutFields_whenIsEmpty_thenShouldReturnTrue() {
+        // Given
+        ProductPatch patch = new ProductPatch(new ProductId("prod001"),
+                null, null, null, null, null, null, null, null, null);
+
+        // When & Then
+        assertTrue(patch.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dado un patch solo con precio, cuando se consulta isEmpty, entonces debe retornar false")
+    void givenPriceOnlyPatch_whenIsEmpty_thenShouldReturnFalse() {
+        // Given
+        ProductPatch patch = new ProductPatch(new ProductId("prod001"),
+                null, null, null, new BigDecimal("10.00"), null, null, null, null, null);
+
+        // When & Then
+        assertFalse(patch.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dado un precio negativo, cuando se crea el patch, entonces debe lanzar InvalidPriceException")
+    void givenNegativePrice_whenCreatingPatch_thenShouldThrowInvalidPriceException() {
+        // Given
+        ProductId id = new ProductId("prod001");
+        BigDecimal negativePrice = new BigDecimal("-1.00");
+
+        // When & Then
+        assertThrows(InvalidPriceException.class, () -> new ProductPatch(id,
+                null, null, null, negativePrice, null, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("Dado un ID nulo, cuando se crea el patch, entonces debe lanzar InvalidProductIdException")
+    void givenNullId_whenCreatingPatch_thenShouldThrowInvalidProductIdException() {
+        assertThrows(InvalidProductIdException.class, () -> new ProductPatch(null,
+                null, null, null, null, null, null, null, null, null));
+    }
+}
@@ -0,0 +1,140 @@
+package com.linktic.challenge.products.unit.domain.model;
+
+import com.linktic.challenge.products.domain.exception.valueobject.InvalidSpecificationsException;
+import com.linktic.challenge.products.domain.model.ProductSpecifications;
+import com.linktic.challenge.products.domain.model.ProductSpecificationsPatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductSpecificationsPatchTest {
+
+    @Test
+    @DisplayName("Dado un merge con claves nuevas y existentes, cuando se aplica, entonces debe crear y reemplazar valores")
+    void givenMergeWithNewAndExistingKeys_whenApplied_thenShouldUpsertValues() {
+        // Given
+        ProductSpecificationsPatch patch = ProductSpecificationsPatch.merge(Map.of(
+                "memoria", "512GB",
+                "color", "Negro"
+        ));
+
+        // When
+        ProductSpecifications result = patch.applyTo(Map.of("memoria", "256GB", "bateria", "4800mAh"));
+
+        // Then
+        assertEquals(3, result.specs().size());
+        assertEquals("512GB", result.specs().get("memoria"));
+        assertEquals("Negro", result.specs().get("color"));
+        assertEquals("4800mAh", result.specs().get("bateria"));
+    }
+
+    @Test
+    @DisplayName("Dado un merge con valor nulo, cuando se aplica, entonces debe eliminar la especificación")
+    void givenMergeWithNullValue_whenApplied_thenShouldRemoveSpecification() {
+        // Given
+        Map<String, String> changes = new HashMap<>();
+        changes.put("bateria", null);
+        ProductSpecificationsPatch patch = ProductSpecificationsPatch.merge(changes);
+
+        // When
+        ProductSpecifications result = patch.applyTo(Map.of("memoria", "256GB", "bateria", "4800mAh"));
+
+        // Then
+        assertEquals(Map.of("memoria", "256GB"), result.specs());
+    }
+
+    @Test
+    @DisplayName("Dado removeAll, cuando se aplica, entonces debe dejar las especificaciones vacías")
+    void givenRemoveAll_whenApplied_thenShouldReturnEmptySpecifications() {
+        // When
+        ProductSpecifications result = ProductSpecificationsPatch.removeAll().applyTo(Map.of("memoria", "256GB"));
+
+        // Then
+        assertTrue(result.specs().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dado replaceWith, cuando se aplica, entonces debe descartar las especificaciones actuales")
+    void givenReplaceWith_whenApplied_thenShouldDiscardCurrentSpecifications() {
+        // When
+        ProductSpecifications result = ProductSpecificationsPatch.replaceWith(Map.of("color", "Rojo"))
+                .applyTo(Map.of("memoria", "256GB"));
+
+        // Then
+        assertEquals(Map.of("color", "Rojo"), result.specs());
+    }
+
+    @Test
+    @DisplayName("Dado claves con espacios, cuando se crea el patch, entonces deben normalizarse")
+    void givenKeysWithSpaces_whenCreatingPatch_thenShouldTrimKeysAndValues() {
+        // When
+        ProductSpecificationsPatch patch = ProductSpecificationsPatch.merge(Map.of("  color ", " Azul "));
+
+        // Then
+        assertEquals(Map.of("color", "Azul"), patch.changes());
+    }
+
+    @Test
+    @DisplayName("Dada una clave con espacios que solo es válida recortada, cuando se crea el patch, entonces debe aceptarla recortada")
+    void givenKeyValidOnlyAfterTrimming_whenCreatingPatch_thenShouldAcceptTrimmedKey() {
+        // Given
+        String paddedKey = " " + "k".repeat(50) + " ";
+
+        // When
+        ProductSpecificationsPatch patch = ProductSpecificationsPatch.merge(Map.of(paddedKey, " valor "));
+
+        // Then
+        assertEquals(Map.of("k".repeat(50), "valor"), patch.changes());
+    }
+
+    @Test
+    @DisplayName("Dadas dos claves iguales al recortarlas, cuando se crea el patch, entonces debe lanzar InvalidSpecificationsException")
+    void givenKeysEqualAfterTrimming_whenCreatingPatch_thenShouldThrowInvalidSpecificationsException() {
+        // Given
+        Map<String, String> changes = new HashMap<>();
+        changes.put("color", "Azul");
+        changes.put(" color ", null);
+
+        // When & Then
+        assertThrows(InvalidSpecificationsException.class, () -> ProductSpecificationsPatch.merge(changes));
+    }
+
+    @Test
+    @DisplayName("Dada una clave vacía al recortarla, cuando se elimina, entonces debe lanzar InvalidSpecificationsException")
+    void givenBlankKeyRemoval_whenCreatingPatch_thenShouldThrowInvalidSpecificationsException() {
+        // Given
+        Map<String, String> changes = new HashMap<>();
+        changes.put("   ", null);
+
+        // When & Then
+        assertThrows(InvalidSpecificationsException.class, () -> ProductSpecificationsPatch.merge(changes));
+    }
+
+    @Test
+    @DisplayName("Dado un valor demasiado largo, cuando se crea el patch, entonces debe lanzar InvalidSpecificationsException")
+    void givenTooLongValue_whenCreatingPatch_thenShouldThrowInvalidSpecificationsException() {
+        // Given
+        Map<String, String> changes = Map.of("descripcion", "x".repeat(81));
+
+        // When & Then
+        assertThrows(InvalidSpecificationsException.class, () -> ProductSpecificationsPatch.merge(changes));
+    }
+
+    @Test
+    @DisplayName("Dado un merge que supera el máximo, cuando se aplica, entonces debe lanzar InvalidSpecificationsException")
+    void givenMergeExceedingMaximum_whenApplied_thenShouldThrowInvalidSpecificationsException() {
+        // Given
+        Map<String, String> current = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            current.put("spec" + i, "valor" + i);
+        }
+        ProductSpecificationsPatch patch = ProductSpecificationsPatch.merge(Map.of("extra", "valor"));
+
+        // When & Then
+        assertThrows(InvalidSpecificationsException.class, () -> patch.applyTo(current));
+    }
+}
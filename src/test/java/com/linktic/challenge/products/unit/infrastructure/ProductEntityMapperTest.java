@@ -363,6 +363,35 @@ class ProductEntityMapperTest {
         assertEquals(new BigDecimal("799.99"), product.price().value());
     }
 
+    @Test
+    @DisplayName("Dado un ProductEntity con versión, cuando se mapea a dominio, entonces debe conservar la versión")
+    void givenProductEntityWithVersion_whenMappedToDomain_thenVersionIsPreserved() {
+        // Given
+        ProductEntity entity = createSmartphoneEntity();
+        entity.setVersion(7L);
+
+        // When
+        Product product = mapper.toDomain(entity);
+
+        // Then
+        assertEquals(7L, product.version());
+    }
+
+    @Test
+    @DisplayName("Dado un Product con versión, cuando se actualiza una entidad existente, entonces no debe sobrescribir la versión administrada")
+    void givenProductWithVersion_whenUpdatingEntity_thenManagedVersionIsNotOverwritten() {
+        // Given
+        ProductEntity entity = createSmartphoneEntity();
+        entity.setVersion(7L);
+        Product product = ProductObjectMother.smartphoneGalaxyXZ().withVersion(2L);
+
+        // When
+        mapper.updateEntityFromDomain(product, entity);
+
+        // Then
+        assertEquals(7L, entity.getVersion());
+    }
+
     // Método helper para crear una ProductEntity de ejemplo
     private ProductEntity createSmartphoneEntity() {
         return ProductEntity.builder()
@@ -1034,4 +1063,95 @@ class ProductEntityMapperTest {
         // Then
         entity.getSpecifications().forEach(spec -> assertEquals(entity, spec.getProduct()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Dado un patch solo con precio, cuando se aplica, entonces solo debe cambiar el precio")
+    void givenPriceOnlyPatch_whenApplied_thenOnlyPriceChanges() {
+        // Given
+        ProductEntity entity = createSmartphoneEntity();
+        List<ProductSpecificationEntity> originalSpecs = entity.getSpecifications();
+        ProductPatch patch = new ProductPatch(new ProductId("prod001"),
+                null, null, null, new BigDecimal("799.99"), null, null, null, null, null);
+
+        // When
+        mapper.applyPatch(patch, entity);
+
+        // Then
+        assertEquals(new BigDecimal("799.99"), entity.getPrice());
+        assertEquals("USD", entity.getCurrency());
+        assertEquals("Smartphone Galaxy XZ", entity.getName());
+        assertEquals("TechNova", entity.getBrand());
+        assertSame(originalSpecs, entity.getSpecifications());
+        assertEquals(5, entity.getSpecifications().size());
+    }
+
+    @Test
+    @DisplayName("Dado un patch con marca nula, cuando se aplica, entonces debe eliminar la marca")
+    void givenPatchWithClearedBrand_whenApplied_thenBrandIsRemoved() {
+        // Given
+        ProductEntity entity = createSmartphoneEntity();
+        ProductPatch patch = new ProductPatch(new ProductId("prod001"),
+                null, null, null, null, null, null, null, new ProductBrand(null), null);
+
+        // When
+        mapper.applyPatch(patch, entity);
+
+        // Then
+        assertNull(entity.getBrand());
+    }
+
+    @Test
+    @DisplayName("Dado un patch de especificaciones, cuando se aplica, entonces debe actualizar, eliminar e insertar por clave")
+    void givenSpecificationsPatch_whenApplied_thenDiffIsAppliedInPlace() {
+        // Given
+        ProductEntity entity = createSmartphoneEntity();
+        ProductSpecificationEntity memoria = entity.getSpecifications().stream()
+                .filter(spec -> spec.getKey().equals("memoria"))
+                .findFirst()
+                .orElseThrow();
+        ProductSpecificationEntity pantalla = entity.getSpecifications().stream()
+                .filter(spec -> spec.getKey().equals("pantalla"))
+                .findFirst()
+                .orElseThrow();
+
+        Map<String, String> changes = new java.util.HashMap<>();
+        changes.put("memoria", "512GB");
+        changes.put("bateria", null);
+        changes.put("color", "Negro");
+        ProductPatch patch = new ProductPatch(new ProductId("prod001"),
+                null, null, null, null, null, null, null, null, ProductSpecificationsPatch.merge(changes));
+
+        // When
+        mapper.applyPatch(patch, entity);
+
+        // Then
+        Map<String, String> specs = mapper.mapSpecificationsFromEntities(entity.getSpecifications()).specs();
+        assertEquals(5, specs.size());
+        assertEquals("512GB", specs.get("memoria"));
+        assertEquals("Negro", specs.get("color"));
+        assertFalse(specs.containsKey("bateria"));
+
+        // Las filas existentes se reutilizan (UPDATE en sitio / sin cambios)
+        assertTrue(entity.getSpecifications().contains(memoria));
+        assertTrue(entity.getSpecifications().contains(pantalla));
+        assertEquals("512GB", memoria.getValue());
+        entity.getSpecifications().stream()
+                .filter(spec -> spec.getKey().equals("color"))
+                .forEach(spec -> assertEquals(entity, spec.getProduct()));
+    }
+
+    @Test
+    @DisplayName("Dado especificaciones sin cambios, cuando se sincronizan, entonces no debe modificar la colección")
+    void givenUnchangedSpecifications_whenSynced_thenCollectionIsUntouched() {
+        // Given
+        ProductEntity entity = createSmartphoneEntity();
+        List<ProductSpecificationEntity> before = new ArrayList<>(entity.getSpecifications());
+        ProductSpecifications same = mapper.mapSpecificationsFromEntities(entity.getSpecifications());
+
+        // When
+        mapper.syncSpecifications(entity, same);
+
+        // Then
+        assertEquals(before, entity.getSpecifications());
+    }
+}
@@ -0,0 +1,62 @@
+package com.linktic.challenge.products.unit.infrastructure.autocomplete;
+
+import com.linktic.challenge.products.infrastructure.autocomplete.AutocompleteEntry;
+import com.linktic.challenge.products.infrastructure.autocomplete.AutocompleteIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tamaño y tiempo de construcción del índice con un catálogo de 100.000 productos. Los umbrales son
+ * holgados para no depender de la máquina, pero el trie anterior (un nodo por carácter sin tope,
+ * recálculo completo de cada nodo del camino) tardaba minutos en construir este catálogo.
+ */
+class AutocompleteIndexScaleTest {
+    private static final int CATALOG_SIZE = 100_000;
+    private static final List<String> KINDS = List.of("Smartphone", "Laptop", "Auriculares", "Televisor",
+            "Zapatillas", "Cámara", "Tablet", "Reloj", "Consola", "Mochila", "Nevera", "Lavadora");
+    private static final List<String> LINES = List.of("Galaxy", "UltraBook", "NoiseFree", "Running",
+            "Mirrorless", "Pro", "FitPro", "NextGen", "Urbana", "Inteligente", "Compacta", "Plus", "Lite");
+    private static final List<String> BRANDS = List.of("TechNova", "NeoTech", "Soundify", "VisionPlus",
+            "RunMax", "FotoPro", "iTech", "FitTech", "GameMax", "Pingüino");
+
+    @Test
+    @DisplayName("Dado un catálogo de 100.000 productos, cuando se construye el índice, entonces debe acotar nodos y tiempo")
+    void givenCatalogScale_whenBuildingIndex_thenShouldBoundNodesAndBuildTime() {
+        // Given
+        List<AutocompleteEntry> entries = catalog(new Random(42));
+
+        // When
+        long start = System.nanoTime();
+        AutocompleteIndex index = AutocompleteIndex.of(entries, 10, 24);
+        Duration buildTime = Duration.ofNanos(System.nanoTime() - start);
+
+        // Then
+        assertEquals(CATALOG_SIZE, index.size());
+        assertTrue(index.nodeCount() <= 25L * CATALOG_SIZE,
+                () -> "Trie nodes per product above budget: " + index.nodeCount() / CATALOG_SIZE);
+        assertTrue(buildTime.compareTo(Duration.ofSeconds(60)) < 0, () -> "Index build took " + buildTime);
+        assertEquals(10, index.complete("gal", 10).size());
+        assertFalse(index.complete(entries.getFirst().name(), 10).isEmpty());
+    }
+
+    private static List<AutocompleteEntry> catalog(Random random) {
+        List<AutocompleteEntry> entries = new ArrayList<>(CATALOG_SIZE);
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            String name = KINDS.get(random.nextInt(KINDS.size())) + " "
+                    + LINES.get(random.nextInt(LINES.size())) + " "
+                    + LINES.get(random.nextInt(LINES.size())) + " "
+                    + Integer.toString(random.nextInt(1 << 30), 36).toUpperCase() + " "
+                    + (100 + random.nextInt(900));
+            entries.add(new AutocompleteEntry("p" + i, name, BRANDS.get(random.nextInt(BRANDS.size())),
+                    Math.round(random.nextDouble() * 50) / 10.0));
+        }
+        return entries;
+    }
+}
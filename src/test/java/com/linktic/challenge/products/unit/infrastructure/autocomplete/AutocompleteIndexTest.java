@@ -0,0 +1,156 @@
+package com.linktic.challenge.products.unit.infrastructure.autocomplete;
+
+import com.linktic.challenge.products.domain.model.ProductSuggestion;
+import com.linktic.challenge.products.infrastructure.autocomplete.AutocompleteEntry;
+import com.linktic.challenge.products.infrastructure.autocomplete.AutocompleteIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutocompleteIndexTest {
+
+    @Test
+    @DisplayName("Dado un prefijo sin tildes, cuando se completa, entonces debe encontrar nombres y marcas con tildes")
+    void givenPrefixWithoutAccents_whenCompleting_thenShouldMatchAccentedNamesAndBrands() {
+        // Given
+        AutocompleteIndex index = AutocompleteIndex.of(List.of(
+                new AutocompleteEntry("p1", "Cámara Réflex", "Pingüino", 4.0)
+        ), 10, 24);
+
+        // When & Then
+        assertEquals(List.of("Cámara Réflex"), texts(index.complete("CAMA", 10)));
+        assertEquals(List.of("Pingüino"), texts(index.complete("pingui", 10)));
+    }
+
+    @Test
+    @DisplayName("Dado un prefijo de una palabra intermedia, cuando se completa, entonces debe sugerir el nombre completo")
+    void givenPrefixOfInnerWord_whenCompleting_thenShouldSuggestFullName() {
+        // Given
+        AutocompleteIndex index = AutocompleteIndex.of(List.of(
+                new AutocompleteEntry("p1", "Smartphone Galaxy XZ", null, 4.0)
+        ), 10, 24);
+
+        // When & Then
+        assertEquals(List.of("Smartphone Galaxy XZ"), texts(index.complete("gal", 10)));
+        assertTrue(index.complete("alaxy", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dados varios productos, cuando se completa con límite, entonces debe retornar los de mayor rating")
+    void givenSeveralProducts_whenCompletingWithLimit_thenShouldReturnHighestRated() {
+        // Given
+        AutocompleteIndex index = AutocompleteIndex.of(List.of(
+                new AutocompleteEntry("p1", "Televisor A", null, 3.0),
+                new AutocompleteEntry("p2", "Televisor B", null, 5.0),
+                new AutocompleteEntry("p3", "Teclado", null, 4.0)
+        ), 10, 24);
+
+        // When
+        List<ProductSuggestion> suggestions = index.complete("te", 2);
+
+        // Then
+        assertEquals(List.of("Televisor B", "Teclado"), texts(suggestions));
+        assertEquals("p2", suggestions.getFirst().productId());
+    }
+
+    @Test
+    @DisplayName("Dado un producto renombrado, cuando se completa, entonces debe sugerir solo el nombre nuevo")
+    void givenRenamedProduct_whenCompleting_thenShouldSuggestOnlyNewName() {
+        // Given
+        AutocompleteIndex index = AutocompleteIndex.of(List.of(
+                new AutocompleteEntry("p1", "Audífonos", null, 4.0)
+        ), 10, 24);
+
+        // When
+        index.upsert(new AutocompleteEntry("p1", "Parlante", null, 4.0));
+
+        // Then
+        assertTrue(index.complete("audi", 10).isEmpty());
+        assertEquals(List.of("Parlante"), texts(index.complete("par", 10)));
+    }
+
+    @Test
+    @DisplayName("Dada una marca con varios productos, cuando se eliminan, entonces debe sugerirse una vez hasta quitar el último")
+    void givenBrandWithSeveralProducts_whenRemoving_thenShouldSuggestOnceUntilLastIsRemoved() {
+        // Given
+        AutocompleteIndex index = AutocompleteIndex.of(List.of(
+                new AutocompleteEntry("p1", "Nevera", "Samsung", 3.0),
+                new AutocompleteEntry("p2", "Lavadora", "SAMSUNG", 5.0)
+        ), 10, 24);
+
+        // When
+        List<ProductSuggestion> before = index.complete("sam", 10);
+        index.remove("p2");
+        List<ProductSuggestion> afterFirstRemoval = index.complete("sam", 10);
+        index.remove("p1");
+
+        // Then
+        assertEquals(1, before.size());
+        assertEquals(ProductSuggestion.Type.BRAND, before.getFirst().type());
+        assertEquals(5.0, before.getFirst().rating());
+        assertEquals(3.0, afterFirstRemoval.getFirst().rating());
+        assertTrue(index.complete("sam", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("Dado un prefijo más largo que las claves indexadas, cuando se completa, entonces debe filtrar por el prefijo completo")
+    void givenPrefixLongerThanIndexedKeys_whenCompleting_thenShouldFilterByFullPrefix() {
+        // Given
+        AutocompleteIndex index = AutocompleteIndex.of(List.of(
+                new AutocompleteEntry("p1", "Smartphone Galaxy XZ", null, 4.0),
+                new AutocompleteEntry("p2", "Smartphone Galáctico", null, 5.0)
+        ), 10, 8);
+
+        // When & Then
+        assertEquals(List.of("Smartphone Galaxy XZ"), texts(index.complete("smartphone galax", 10)));
+        assertEquals(List.of("Smartphone Galáctico", "Smartphone Galaxy XZ"), texts(index.complete("smartphone gal", 10)));
+        assertTrue(index.complete("smartphone galaxy xy", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dada una marca, cuando cambia el rating de sus productos, entonces debe sugerirse con el mayor vigente")
+    void givenBrand_whenProductRatingsChange_thenShouldSuggestCurrentHighestRating() {
+        // Given
+        AutocompleteIndex index = AutocompleteIndex.of(List.of(
+                new AutocompleteEntry("p1", "Nevera", "Samsung", 3.0),
+                new AutocompleteEntry("p2", "Lavadora", "Samsung", 5.0)
+        ), 10, 24);
+
+        // When
+        index.upsert(new AutocompleteEntry("p2", "Lavadora", "Samsung", 2.0));
+        double afterLowering = index.complete("sam", 10).getFirst().rating();
+        index.upsert(new AutocompleteEntry("p1", "Nevera", "Samsung", 4.5));
+
+        // Then
+        assertEquals(3.0, afterLowering);
+        List<ProductSuggestion> suggestions = index.complete("sam", 10);
+        assertEquals(1, suggestions.size());
+        assertEquals(4.5, suggestions.getFirst().rating());
+    }
+
+    @Test
+    @DisplayName("Dado un nodo lleno, cuando se quita una de sus mejores sugerencias, entonces debe completarse con la siguiente")
+    void givenFullNode_whenRemovingTopSuggestion_thenShouldRefillWithNextBest() {
+        // Given
+        AutocompleteIndex index = AutocompleteIndex.of(List.of(
+                new AutocompleteEntry("p1", "Televisor A", null, 3.0),
+                new AutocompleteEntry("p2", "Televisor B", null, 5.0),
+                new AutocompleteEntry("p3", "Teclado", null, 4.0)
+        ), 2, 24);
+
+        // When
+        index.remove("p2");
+
+        // Then
+        assertEquals(List.of("Teclado", "Televisor A"), texts(index.complete("te", 2)));
+        assertEquals(List.of("Televisor A"), texts(index.complete("telev", 2)));
+    }
+
+    private static List<String> texts(List<ProductSuggestion> suggestions) {
+        return suggestions.stream().map(ProductSuggestion::text).toList();
+    }
+}
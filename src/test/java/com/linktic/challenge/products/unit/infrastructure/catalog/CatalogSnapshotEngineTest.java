@@ -0,0 +1,124 @@
+package com.linktic.challenge.products.unit.infrastructure.catalog;
+
+import com.linktic.challenge.products.domain.model.*;
+import com.linktic.challenge.products.infrastructure.catalog.CatalogSnapshotEngine;
+import com.linktic.challenge.products.infrastructure.catalog.CatalogSnapshotLoader;
+import com.linktic.challenge.products.infrastructure.catalog.CatalogSnapshotProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CatalogSnapshotEngineTest {
+    private MeterRegistry meterRegistry;
+    private CatalogSnapshotEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        CatalogSnapshotLoader loader = mock(CatalogSnapshotLoader.class);
+        when(loader.loadAll(anyInt())).thenReturn(List.of(product("p1", "10.00"), product("p2", "20.00")));
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new CatalogSnapshotEngine(loader,
+                new CatalogSnapshotProperties(true, Duration.ofMinutes(10), 100, Duration.ofMillis(200)),
+                meterRegistry);
+        engine.warmUp(null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.stop();
+    }
+
+    @Test
+    @DisplayName("Dado el motor iniciado, cuando llegan varios cambios seguidos, entonces debe aplicarlos en un solo lote en su hilo")
+    void applyBatchesChangesOnEngineThread() throws InterruptedException {
+        // Given
+        engine.start();
+
+        // When
+        engine.apply(List.of(product("p3", "30.00")), List.of());
+        engine.apply(List.of(product("p4", "40.00")), List.of("p1"));
+        engine.apply(List.of(), List.of("p3"));
+
+        // Then
+        assertEquals(List.of("p1", "p2"), listedIds());
+        awaitBatches(1);
+        assertEquals(List.of("p2", "p4"), listedIds());
+        assertEquals(1.0, batches());
+    }
+
+    @Test
+    @DisplayName("Dado un producto eliminado y recreado en el mismo lote, cuando se aplica, entonces debe prevalecer el último cambio")
+    void applyKeepsLastChangePerProduct() throws InterruptedException {
+        // Given
+        engine.start();
+
+        // When
+        engine.apply(List.of(), List.of("p2"));
+        engine.apply(List.of(product("p2", "25.00")), List.of());
+
+        // Then
+        awaitBatches(1);
+        assertEquals(List.of("p1", "p2"), listedIds());
+        assertEquals(0, new BigDecimal("25.00").compareTo(
+                engine.findAll(ProductFilter.none(), Pageable.unpaged()).orElseThrow().getContent().get(1).price().value()));
+    }
+
+    @Test
+    @DisplayName("Dado el motor sin iniciar, cuando se aplica un cambio, entonces debe reflejarse en el acto")
+    void applyWithoutEngineThreadIsSynchronous() {
+        // When
+        engine.apply(List.of(product("p3", "30.00")), List.of("p1"));
+
+        // Then
+        assertEquals(List.of("p2", "p3"), listedIds());
+        assertEquals(1.0, batches());
+    }
+
+    private List<String> listedIds() {
+        return engine.findAll(ProductFilter.none(), Pageable.unpaged())
+                .orElseThrow()
+                .getContent().stream()
+                .map(product -> product.id().value())
+                .toList();
+    }
+
+    private double batches() {
+        return meterRegistry.get("products.catalog.snapshot.batches").counter().count();
+    }
+
+    private void awaitBatches(double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (batches() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private static Product product(String id, String price) {
+        return new Product(
+                new ProductId(id),
+                new ProductName("Producto " + id),
+                new ProductImageUrl("https://example.com/" + id + ".jpg"),
+                new ProductDescription("Descripción del producto " + id),
+                new ProductPrice(new BigDecimal(price), Currency.getInstance("USD")),
+                new ProductRating(4.0),
+                new ProductCategory("Audio"),
+                new ProductBrand("Marca A"),
+                new ProductSpecifications(Map.of())
+        );
+    }
+}
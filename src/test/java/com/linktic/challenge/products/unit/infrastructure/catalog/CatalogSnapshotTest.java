@@ -0,0 +1,165 @@
+package com.linktic.challenge.products.unit.infrastructure.catalog;
+
+import com.linktic.challenge.products.domain.model.*;
+import com.linktic.challenge.products.infrastructure.catalog.CatalogSnapshot;
+import com.linktic.challenge.products.infrastructure.catalog.CatalogSortField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSnapshotTest {
+
+    @Test
+    @DisplayName("Dado un catálogo, cuando se pagina por precio, entonces debe respetar el orden y el desempate por ID")
+    void givenCatalog_whenPagingByPrice_thenShouldFollowOrderWithIdTieBreak() {
+        // Given
+        CatalogSnapshot snapshot = CatalogSnapshot.of(List.of(
+                product("p3", "Producto C", "30.00", 4.0, "Hogar", null),
+                product("p2", "Producto B", "10.00", 3.0, "Hogar", "Marca B"),
+                product("p1", "Producto A", "10.00", 5.0, "Audio", "Marca A")
+        ));
+
+        // When
+        List<String> ascending = ids(snapshot.page(CatalogSortField.PRICE, false, 0, 10));
+        List<String> secondPage = ids(snapshot.page(CatalogSortField.PRICE, false, 2, 2));
+
+        // Then
+        assertEquals(List.of("p1", "p2", "p3"), ascending);
+        assertEquals(List.of("p3"), secondPage);
+    }
+
+    @Test
+    @DisplayName("Dado marcas nulas, cuando se ordena por marca, entonces los nulos deben ir al final en ascendente y al inicio en descendente")
+    void givenNullBrands_whenSortingByBrand_thenNullsShouldBeLastAscendingAndFirstDescending() {
+        // Given
+        CatalogSnapshot snapshot = CatalogSnapshot.of(List.of(
+                product("p1", "Producto A", "10.00", 5.0, "Audio", null),
+                product("p2", "Producto B", "20.00", 3.0, "Hogar", "Marca B"),
+                product("p3", "Producto C", "30.00", 4.0, "Hogar", "Marca A")
+        ));
+
+        // When & Then
+        assertEquals(List.of("p3", "p2", "p1"), ids(snapshot.page(CatalogSortField.BRAND, false, 0, 10)));
+        assertEquals(List.of("p1", "p2", "p3"), ids(snapshot.page(CatalogSortField.BRAND, true, 0, 10)));
+    }
+
+    @Test
+    @DisplayName("Dado un snapshot, cuando se aplican altas, cambios y bajas, entonces debe retornar uno nuevo sin modificar el original")
+    void givenSnapshot_whenApplyingChanges_thenShouldReturnNewSnapshotWithoutTouchingOriginal() {
+        // Given
+        CatalogSnapshot original = CatalogSnapshot.of(List.of(
+                product("p1", "Producto A", "10.00", 5.0, "Audio", "Marca A"),
+                product("p2", "Producto B", "20.00", 3.0, "Hogar", "Marca B"),
+                product("p3", "Producto C", "30.00", 4.0, "Hogar", "Marca A")
+        ));
+
+        // When
+        CatalogSnapshot next = original.apply(List.of(
+                product("p2", "Producto B", "40.00", 3.0, "Hogar", "Marca B"),
+                product("p4", "Producto D", "5.00", 1.0, "Jardín", "Marca C")
+        ), Set.of("p3"));
+
+        // Then
+        assertEquals(List.of("p4", "p1", "p2"), ids(next.page(CatalogSortField.PRICE, false, 0, 10)));
+        assertEquals(List.of("p4", "p2", "p1"), ids(next.page(CatalogSortField.RATING, false, 0, 10)));
+        assertEquals(List.of("p1", "p2", "p4"), ids(next.page(CatalogSortField.CATEGORY, false, 0, 10)));
+        assertNull(next.findById("p3"));
+        assertEquals(3, next.size());
+        assertEquals(List.of("p1", "p2", "p3"), ids(original.page(CatalogSortField.PRICE, false, 0, 10)));
+    }
+
+    @Test
+    @DisplayName("Dado un desplazamiento fuera de rango, cuando se pagina, entonces debe retornar una página vacía")
+    void givenOffsetOutOfRange_whenPaging_thenShouldReturnEmptyPage() {
+        // Given
+        CatalogSnapshot snapshot = CatalogSnapshot.of(List.of(product("p1", "Producto A", "10.00", 5.0, "Audio", null)));
+
+        // When & Then
+        assertTrue(snapshot.page(CatalogSortField.NAME, false, 5, 10).isEmpty());
+        assertTrue(CatalogSnapshot.empty().page(CatalogSortField.ID, false, 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dado un filtro por varias facetas, cuando se pagina, entonces debe retornar solo las coincidencias y su total")
+    void givenMultiFacetFilter_whenPaging_thenShouldReturnMatchesAndTotal() {
+        // Given
+        CatalogSnapshot snapshot = catalog();
+        ProductFilter filter = new ProductFilter(Set.of("Hogar", "Audio"), Set.of(), Set.of("0-50", "50-100"), Set.of());
+
+        // When
+        CatalogSnapshot.CatalogPage page = snapshot.page(filter, CatalogSortField.PRICE, true, 1, 10);
+
+        // Then
+        assertEquals(3, page.total());
+        assertEquals(List.of("p3", "p1"), ids(page.content()));
+    }
+
+    @Test
+    @DisplayName("Dado un filtro, cuando se cuentan las facetas, entonces cada faceta debe ignorar su propio filtro")
+    void givenFilter_whenCountingFacets_thenEachFacetShouldIgnoreItsOwnFilter() {
+        // Given
+        CatalogSnapshot snapshot = catalog();
+        ProductFilter filter = new ProductFilter(Set.of("Hogar"), Set.of("Marca A"), Set.of(), Set.of());
+
+        // When
+        ProductFacets facets = snapshot.facets(filter);
+
+        // Then
+        assertEquals(2, facets.total());
+        assertEquals(Map.of("Hogar", 2L, "Audio", 1L), facets.categories());
+        assertEquals(Map.of("Marca A", 2L, "Marca B", 1L), facets.brands());
+        assertEquals(List.of("50-100", "1000+"), List.copyOf(facets.priceRanges().keySet()));
+        assertEquals(Map.of("4-5", 1L, "3-4", 1L), facets.ratingRanges());
+    }
+
+    @Test
+    @DisplayName("Dado un snapshot con cambios aplicados, cuando se cuentan las facetas, entonces deben reflejar los cambios")
+    void givenAppliedChanges_whenCountingFacets_thenShouldReflectChanges() {
+        // Given
+        CatalogSnapshot snapshot = catalog().apply(
+                List.of(product("p5", "Producto E", "20.00", 2.0, "Jardín", "Marca C")), Set.of("p4"));
+
+        // When
+        ProductFacets facets = snapshot.facets(new ProductFilter(Set.of(), Set.of("Marca C"), Set.of(), Set.of()));
+
+        // Then
+        assertEquals(1, facets.total());
+        assertEquals(Map.of("Jardín", 1L), facets.categories());
+        assertEquals(Map.of("0-50", 1L), facets.priceRanges());
+    }
+
+    // p1 Audio/Marca A 10, p2 Hogar/Marca A 60, p3 Hogar/Marca B 40, p4 Hogar/Marca A 1500
+    private static CatalogSnapshot catalog() {
+        return CatalogSnapshot.of(List.of(
+                product("p1", "Producto A", "10.00", 4.5, "Audio", "Marca A"),
+                product("p2", "Producto B", "60.00", 5.0, "Hogar", "Marca A"),
+                product("p3", "Producto C", "40.00", 3.0, "Hogar", "Marca B"),
+                product("p4", "Producto D", "1500.00", 3.9, "Hogar", "Marca A")
+        ));
+    }
+
+    private static List<String> ids(List<Product> products) {
+        return products.stream().map(product -> product.id().value()).toList();
+    }
+
+    private static Product product(String id, String name, String price, double rating, String category, String brand) {
+        return new Product(
+                new ProductId(id),
+                new ProductName(name),
+                new ProductImageUrl("https://example.com/" + id + ".jpg"),
+                new ProductDescription("Descripción del producto " + id),
+                new ProductPrice(new BigDecimal(price), Currency.getInstance("USD")),
+                new ProductRating(rating),
+                new ProductCategory(category),
+                new ProductBrand(brand),
+                new ProductSpecifications(Map.of())
+        );
+    }
+}
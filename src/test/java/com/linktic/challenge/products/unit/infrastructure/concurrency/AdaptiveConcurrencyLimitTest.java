@@ -0,0 +1,88 @@
+package com.linktic.challenge.products.unit.infrastructure.concurrency;
+
+import com.linktic.challenge.products.infrastructure.concurrency.AdaptiveConcurrencyLimit;
+import com.linktic.challenge.products.infrastructure.concurrency.ConcurrencyLimitProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofMillis(100).toNanos();
+
+    @Test
+    @DisplayName("Dada latencia estable con el límite ocupado, cuando llegan muestras, entonces el límite debe crecer hasta el máximo")
+    void givenStableLatencyAtFullUtilization_whenSampling_thenLimitShouldGrowUpToMax() {
+        // Given
+        AdaptiveConcurrencyLimit limit = newLimit();
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(FAST, limit.limit());
+        }
+
+        // Then
+        assertEquals(50, limit.limit());
+    }
+
+    @Test
+    @DisplayName("Dada una degradación de la latencia, cuando llegan muestras, entonces el límite debe bajar")
+    void givenLatencyDegradation_whenSampling_thenLimitShouldDrop() {
+        // Given
+        AdaptiveConcurrencyLimit limit = newLimit();
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(FAST, limit.limit());
+        }
+        int before = limit.limit();
+
+        // When
+        limit.onSample(SLOW, limit.limit());
+        int afterFirstSlowSample = limit.limit();
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(SLOW, limit.limit());
+        }
+
+        // Then
+        assertTrue(afterFirstSlowSample < before);
+        assertTrue(limit.limit() <= before / 2, "límite " + limit.limit() + " con " + before + " antes de degradarse");
+    }
+
+    @Test
+    @DisplayName("Dada una degradación sostenida, cuando llegan muestras, entonces el límite no debe bajar del mínimo")
+    void givenSustainedDegradation_whenSampling_thenLimitShouldNotGoBelowMin() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+                new ConcurrencyLimitProperties.Bounds(10, 8, 50), 2.0, 0.2, 100);
+        limit.onSample(FAST, 10);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(SLOW, limit.limit());
+        }
+
+        // Then
+        assertEquals(8, limit.limit());
+    }
+
+    @Test
+    @DisplayName("Dadas pocas peticiones en curso, cuando llegan muestras, entonces el límite no debe cambiar")
+    void givenLowUtilization_whenSampling_thenLimitShouldNotChange() {
+        // Given
+        AdaptiveConcurrencyLimit limit = newLimit();
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(i % 2 == 0 ? FAST : SLOW, 1);
+        }
+
+        // Then
+        assertEquals(10, limit.limit());
+    }
+
+    private static AdaptiveConcurrencyLimit newLimit() {
+        return new AdaptiveConcurrencyLimit(new ConcurrencyLimitProperties.Bounds(10, 2, 50), 2.0, 0.2, 100);
+    }
+}
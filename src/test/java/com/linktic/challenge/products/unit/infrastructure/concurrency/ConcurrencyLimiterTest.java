@@ -0,0 +1,54 @@
+package com.linktic.challenge.products.unit.infrastructure.concurrency;
+
+import com.linktic.challenge.products.infrastructure.concurrency.AdaptiveConcurrencyLimit;
+import com.linktic.challenge.products.infrastructure.concurrency.ConcurrencyLimitProperties;
+import com.linktic.challenge.products.infrastructure.concurrency.ConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("Dado el límite ocupado, cuando llega otra petición, entonces debe rechazarse y contarse")
+    void givenLimitReached_whenAcquiring_thenShouldRejectAndCount() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ConcurrencyLimiter limiter = newLimiter(meterRegistry);
+        limiter.tryAcquire().orElseThrow();
+        limiter.tryAcquire().orElseThrow();
+
+        // When
+        Optional<ConcurrencyLimiter.Permit> rejected = limiter.tryAcquire();
+
+        // Then
+        assertTrue(rejected.isEmpty());
+        assertEquals(1.0, meterRegistry.get("products.concurrency.rejected").tag("limiter", "read").counter().count());
+        assertEquals(2.0, meterRegistry.get("products.concurrency.in_flight").tag("limiter", "read").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Dado un cupo liberado, cuando llega otra petición, entonces debe admitirse")
+    void givenReleasedPermit_whenAcquiring_thenShouldAdmit() {
+        // Given
+        ConcurrencyLimiter limiter = newLimiter(new SimpleMeterRegistry());
+        ConcurrencyLimiter.Permit first = limiter.tryAcquire().orElseThrow();
+        limiter.tryAcquire().orElseThrow();
+
+        // When
+        first.release();
+
+        // Then
+        assertTrue(limiter.tryAcquire().isPresent());
+    }
+
+    private static ConcurrencyLimiter newLimiter(SimpleMeterRegistry meterRegistry) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+                new ConcurrencyLimitProperties.Bounds(2, 1, 2), 2.0, 0.2, 100);
+        return new ConcurrencyLimiter("read", limit, meterRegistry);
+    }
+}
@@ -0,0 +1,140 @@
+package com.linktic.challenge.products.unit.infrastructure.concurrency;
+
+import com.linktic.challenge.products.domain.exception.entity.ProductNotFoundException;
+import com.linktic.challenge.products.infrastructure.concurrency.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Dada una carga en curso, cuando llega otra lectura con la misma clave, entonces debe recibir el mismo resultado sin cargar de nuevo")
+    void givenLoadInFlight_whenSameKeyRequested_thenShouldShareResultWithoutLoadingAgain() throws Exception {
+        // Given
+        SingleFlight<String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Future<String> leader = executor.submit(() -> singleFlight.execute("findById", "prod001", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "producto";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // When
+        Future<String> follower = executor.submit(() -> singleFlight.execute("findById", "prod001", () -> {
+            loads.incrementAndGet();
+            return "otra carga";
+        }));
+        waitForCollapsed();
+        release.countDown();
+
+        // Then
+        assertEquals("producto", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("producto", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Dado un líder que falla, cuando hay lecturas agrupadas, entonces deben recibir la misma excepción")
+    void givenLeaderFails_whenRequestsAreCollapsed_thenShouldPropagateSameException() throws Exception {
+        // Given
+        SingleFlight<String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ProductNotFoundException notFound = new ProductNotFoundException("prod404");
+        Future<String> leader = executor.submit(() -> singleFlight.<String>execute("findById", "prod404", () -> {
+            loading.countDown();
+            await(release);
+            throw notFound;
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // When
+        Future<String> follower = executor.submit(() -> singleFlight.execute("findById", "prod404", () -> "no debe cargar"));
+        waitForCollapsed();
+        release.countDown();
+
+        // Then
+        ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerError = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertSame(notFound, leaderError.getCause());
+        assertSame(notFound, followerError.getCause());
+    }
+
+    @Test
+    @DisplayName("Dada una carga que supera el timeout, cuando espera una lectura agrupada, entonces debe cargar por su cuenta")
+    void givenLoadExceedingTimeout_whenCollapsedRequestWaits_thenShouldLoadOnItsOwn() throws Exception {
+        // Given
+        SingleFlight<String> singleFlight = new SingleFlight<>(Duration.ofMillis(50), meterRegistry);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> singleFlight.execute("findById", "prod001", () -> {
+            loading.countDown();
+            await(release);
+            return "lento";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // When
+        String result = singleFlight.execute("findById", "prod001", () -> "propia");
+        release.countDown();
+
+        // Then
+        assertEquals("propia", result);
+        assertEquals(1.0, meterRegistry.get("products.singleflight.calls").tag("result", "timeout").counter().count());
+    }
+
+    @Test
+    @DisplayName("Dada una carga terminada, cuando llega otra lectura con la misma clave, entonces debe volver a cargar")
+    void givenCompletedLoad_whenSameKeyRequestedAgain_thenShouldLoadAgain() {
+        // Given
+        SingleFlight<String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5), meterRegistry);
+        singleFlight.execute("findById", "prod001", () -> "primera");
+
+        // When
+        String result = singleFlight.execute("findById", "prod001", () -> "segunda");
+
+        // Then
+        assertEquals("segunda", result);
+        assertEquals(2.0, meterRegistry.get("products.singleflight.calls").tag("result", "leader").counter().count());
+    }
+
+    private void waitForCollapsed() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.find("products.singleflight.calls").tag("result", "collapsed").counter() == null
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
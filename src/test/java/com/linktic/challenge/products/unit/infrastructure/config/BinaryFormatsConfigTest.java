@@ -0,0 +1,96 @@
+package com.linktic.challenge.products.unit.infrastructure.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linktic.challenge.products.application.dto.ProductDto;
+import com.linktic.challenge.products.infrastructure.config.BinaryFormatsConfig;
+import com.linktic.challenge.products.infrastructure.web.PageResponse;
+import com.linktic.challenge.shared.response.StandardResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryFormatsConfigTest {
+    private static final TypeReference<StandardResponse<PageResponse<ProductDto>>> PAGE_TYPE = new TypeReference<>() { };
+
+    private final BinaryFormatsConfig config = new BinaryFormatsConfig();
+
+    @Test
+    @DisplayName("Dada una página de productos, cuando se escribe en CBOR, entonces debe leerse igual y ocupar menos que en JSON")
+    void givenProductPage_whenWrittenAsCbor_thenShouldRoundTripAndBeSmallerThanJson() throws IOException {
+        // Given
+        AbstractJackson2HttpMessageConverter converter = config.cborHttpMessageConverter(new Jackson2ObjectMapperBuilder());
+        StandardResponse<PageResponse<ProductDto>> response = page();
+
+        // When
+        byte[] cbor = write(converter, response, MediaType.parseMediaType("application/cbor"));
+        StandardResponse<PageResponse<ProductDto>> read = converter.getObjectMapper().readValue(cbor, PAGE_TYPE);
+
+        // Then
+        assertEquals(response, read);
+        assertEquals(new BigDecimal("899.90"), read.getData().content().getFirst().price());
+        assertTrue(cbor.length < new ObjectMapper().writeValueAsBytes(response).length);
+    }
+
+    @Test
+    @DisplayName("Dada una página de productos, cuando se escribe en Smile, entonces debe leerse igual")
+    void givenProductPage_whenWrittenAsSmile_thenShouldRoundTrip() throws IOException {
+        // Given
+        AbstractJackson2HttpMessageConverter converter = config.smileHttpMessageConverter(new Jackson2ObjectMapperBuilder());
+        StandardResponse<PageResponse<ProductDto>> response = page();
+
+        // When
+        byte[] smile = write(converter, response, MediaType.parseMediaType("application/x-jackson-smile"));
+
+        // Then
+        assertEquals(response, converter.getObjectMapper().readValue(smile, PAGE_TYPE));
+    }
+
+    @Test
+    @DisplayName("Dados los convertidores binarios, cuando se consulta si escriben JSON, entonces no deben aceptarlo")
+    void givenBinaryConverters_whenAskedForJson_thenShouldNotWriteIt() {
+        // Given
+        AbstractJackson2HttpMessageConverter cbor = config.cborHttpMessageConverter(new Jackson2ObjectMapperBuilder());
+        AbstractJackson2HttpMessageConverter smile = config.smileHttpMessageConverter(new Jackson2ObjectMapperBuilder());
+
+        // When & Then
+        assertFalse(cbor.canWrite(StandardResponse.class, MediaType.APPLICATION_JSON));
+        assertFalse(smile.canWrite(StandardResponse.class, MediaType.APPLICATION_JSON));
+        assertTrue(cbor.canWrite(StandardResponse.class, MediaType.parseMediaType("application/cbor")));
+    }
+
+    private static byte[] write(AbstractJackson2HttpMessageConverter converter, Object body, MediaType mediaType)
+            throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(body, mediaType, message);
+        return message.getBodyAsBytes();
+    }
+
+    private static StandardResponse<PageResponse<ProductDto>> page() {
+        List<ProductDto> products = List.of(
+                new ProductDto("prod001", "Smartphone Galaxy XZ", "https://example.com/images/xz.jpg",
+                        "Teléfono inteligente de gama alta", new BigDecimal("899.90"), "USD", 4.7,
+                        "Electrónica", "TechNova", Map.of("memoria", "256GB", "color", "Negro")),
+                new ProductDto("prod002", "Lavadora", "https://example.com/images/lavadora.jpg",
+                        "Carga frontal", new BigDecimal("1299.00"), "USD", 4.1,
+                        "Hogar", "CasaViva", Map.of("capacidad", "12kg")));
+        return StandardResponse.<PageResponse<ProductDto>>builder()
+                .success(true)
+                .code("200")
+                .message("Lista de productos obtenida exitosamente")
+                .data(new PageResponse<>(products, 0, 10, 2, 1, true, true, false))
+                .correlationId("123e4567-e89b-12d3-a456-426614174000")
+                .timestamp("2025-01-01T00:00:00Z")
+                .build();
+    }
+}
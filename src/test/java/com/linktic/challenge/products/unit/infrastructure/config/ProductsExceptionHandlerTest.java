@@ -3,6 +3,7 @@ package com.linktic.challenge.products.unit.infrastructure.config;
 import com.linktic.challenge.products.domain.exception.ProductDomainException;
 import com.linktic.challenge.products.domain.exception.entity.ProductAlreadyExistsException;
 import com.linktic.challenge.products.domain.exception.entity.ProductNotFoundException;
+import com.linktic.challenge.products.domain.exception.entity.ProductVersionConflictException;
 import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
 import com.linktic.challenge.products.domain.exception.mapper.ProductMapperException;
 import com.linktic.challenge.products.domain.exception.valueobject.*;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -100,6 +102,43 @@ class ProductsExceptionHandlerTest {
                 "El mensaje debería contener el prefijo de la excepción");
     }
 
+    @Test
+    @DisplayName("Deberia manejar ProductVersionConflictException con 412 y el ETag vigente")
+    void shouldHandleProductVersionConflictException() {
+        // Given
+        ProductVersionConflictException exception = new ProductVersionConflictException("prod001", 3L, 5L);
+
+        // When
+        ResponseEntity<StandardResponse<Object>> response = exceptionHandler.handleProductVersionConflictException(exception);
+
+        // Then
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertEquals("\"5\"", response.getHeaders().getETag());
+
+        StandardResponse<Object> responseBody = response.getBody();
+        assertNotNull(responseBody);
+        assertEquals("412", responseBody.getCode());
+        assertEquals("PRODUCT_VERSION_CONFLICT", responseBody.getErrors().getFirst().getCode());
+    }
+
+    @Test
+    @DisplayName("Deberia manejar OptimisticLockingFailureException con 409")
+    void shouldHandleOptimisticLockingFailureException() {
+        // Given
+        OptimisticLockingFailureException exception = new OptimisticLockingFailureException("Row was updated or deleted");
+
+        // When
+        ResponseEntity<StandardResponse<Object>> response = exceptionHandler.handleOptimisticLockingFailureException(exception);
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+
+        StandardResponse<Object> responseBody = response.getBody();
+        assertNotNull(responseBody);
+        assertEquals("409", responseBody.getCode());
+        assertEquals("PRODUCT_CONCURRENT_MODIFICATION", responseBody.getErrors().getFirst().getCode());
+    }
+
     @Test
     @DisplayName("Deberia manejar InvalidProductException correctamente")
     void shouldHandleInvalidProductException() {
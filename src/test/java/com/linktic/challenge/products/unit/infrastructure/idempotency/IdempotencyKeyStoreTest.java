@@ -0,0 +1,133 @@
+package com.linktic.challenge.products.unit.infrastructure.idempotency;
+
+import com.linktic.challenge.products.application.port.in.ProductManagementUseCase;
+import com.linktic.challenge.products.domain.model.*;
+import com.linktic.challenge.products.infrastructure.idempotency.IdempotencyKeyStore;
+import com.linktic.challenge.products.infrastructure.idempotency.IdempotencyProperties;
+import com.linktic.challenge.products.infrastructure.idempotency.IdempotencyRecord;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductWriteListener;
+import com.linktic.challenge.products.infrastructure.invalidation.WriteNotifyingProductManagementUseCase;
+import com.linktic.challenge.products.infrastructure.persistence.repository.IdempotencyKeyJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyStoreTest {
+
+    private static final String OPERATION = "create-product";
+    private static final String KEY = "8f14e45f-ceea-467f-a8b4-5c1f0e2a9b11";
+    private static final String HASH = "hash";
+
+    @Mock
+    private IdempotencyKeyJpaRepository repository;
+
+    @Mock
+    private ProductManagementUseCase delegate;
+
+    @Mock
+    private ProductWriteListener listener;
+
+    private IdempotencyKeyStore store;
+    private ProductManagementUseCase productManagementUseCase;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties(Duration.ofHours(24), Duration.ofSeconds(30),
+                Duration.ofMillis(50), Duration.ofMinutes(10), 1000);
+        store = new IdempotencyKeyStore(repository, new TransactionTemplate(new NoOpTransactionManager()), properties);
+        productManagementUseCase = new WriteNotifyingProductManagementUseCase(delegate, List.of(listener));
+        when(repository.lockClaim(OPERATION, KEY, HASH)).thenReturn(List.of(KEY));
+    }
+
+    @Test
+    @DisplayName("Dada una creación con clave tomada, cuando se confirma, entonces debe avisar a los listeners después del commit")
+    void givenClaimedCreation_whenCommitted_thenShouldNotifyListenersAfterCommit() {
+        // Given
+        Product product = product();
+        when(delegate.createProduct(product)).thenReturn(product);
+
+        // When
+        Optional<Product> result = store.executeClaimed(OPERATION, KEY, HASH, () -> {
+            Product created = productManagementUseCase.createProduct(product);
+            verifyNoInteractions(listener);
+            return created;
+        }, created -> new IdempotencyRecord(HASH, 201, "\"0\"", "{}"));
+
+        // Then
+        assertEquals(Optional.of(product), result);
+        verify(listener).onProductsWritten(List.of(product), List.of());
+    }
+
+    @Test
+    @DisplayName("Dada una creación con clave tomada, cuando falla al guardar el resultado, entonces no debe avisar a los listeners")
+    void givenClaimedCreation_whenCompleteFails_thenShouldNotNotifyListeners() {
+        // Given
+        Product product = product();
+        when(delegate.createProduct(product)).thenReturn(product);
+        when(repository.complete(eq(OPERATION), eq(KEY), eq(HASH), anyInt(), any(), any()))
+                .thenThrow(new QueryTimeoutException("complete"));
+
+        // When
+        assertThrows(QueryTimeoutException.class, () -> store.executeClaimed(OPERATION, KEY, HASH,
+                () -> productManagementUseCase.createProduct(product),
+                created -> new IdempotencyRecord(HASH, 201, "\"0\"", "{}")));
+
+        // Then
+        verify(delegate).createProduct(product);
+        verifyNoInteractions(listener);
+    }
+
+    private static Product product() {
+        return new Product(
+                new ProductId("prod001"),
+                new ProductName("Laptop"),
+                new ProductImageUrl("https://example.com/laptop.jpg"),
+                new ProductDescription("Laptop para probar la creación idempotente"),
+                new ProductPrice(new BigDecimal("10.00"), Currency.getInstance("USD")),
+                new ProductRating(4.0),
+                new ProductCategory("Electrónica"),
+                new ProductBrand("Marca A"),
+                new ProductSpecifications(Map.of())
+        );
+    }
+
+    // Sin base de datos: solo abre y cierra la sincronización de transacciones como lo haría JPA
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.linktic.challenge.products.unit.infrastructure.idempotency;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
+import com.linktic.challenge.products.infrastructure.idempotency.IdempotencyConflictException;
+import com.linktic.challenge.products.infrastructure.idempotency.IdempotencyKeyStore;
+import com.linktic.challenge.products.infrastructure.idempotency.IdempotencyProperties;
+import com.linktic.challenge.products.infrastructure.idempotency.IdempotencyRecord;
+import com.linktic.challenge.products.infrastructure.idempotency.IdempotentRequests;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentRequestsTest {
+
+    private static final String OPERATION = "create-product";
+    private static final String KEY = "8f14e45f-ceea-467f-a8b4-5c1f0e2a9b11";
+
+    @Mock
+    private IdempotencyKeyStore store;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JavaType bodyType = objectMapper.constructType(Map.class);
+    private final AtomicInteger executions = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotentRequests idempotentRequests;
+
+    private final List<IdempotencyRecord> stored = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        IdempotencyProperties properties = new IdempotencyProperties(Duration.ofHours(24), Duration.ofSeconds(30),
+                Duration.ofMillis(50), Duration.ofMinutes(10), 1000);
+        idempotentRequests = new IdempotentRequests(store, objectMapper, properties, meterRegistry);
+        // Ejecuta la escritura y anota el resultado que se guardaría en su transacción
+        lenient().when(store.executeClaimed(eq(OPERATION), eq(KEY), anyString(), any(), any())).thenAnswer(invocation -> {
+            Object result = invocation.<Supplier<?>>getArgument(3).get();
+            stored.add(invocation.<Function<Object, IdempotencyRecord>>getArgument(4).apply(result));
+            return Optional.of(result);
+        });
+    }
+
+    @Test
+    @DisplayName("Dado una clave nueva, cuando se ejecuta, entonces debe ejecutar la escritura y guardar su respuesta")
+    void givenNewKey_whenExecute_thenShouldRunActionAndStoreResponse() {
+        // Given
+        when(store.claim(eq(OPERATION), eq(KEY), anyString())).thenReturn(true);
+
+        // When
+        ResponseEntity<Map<String, Object>> response = execute(Map.of("name", "Monitor"));
+
+        // Then
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(1, executions.get());
+        assertEquals(1, stored.size());
+        assertEquals(201, stored.getFirst().responseStatus());
+        assertEquals("\"1\"", stored.getFirst().responseETag());
+        assertEquals("{\"id\":\"prod001\"}", stored.getFirst().responseBody());
+        assertEquals(1.0, count("executed"));
+    }
+
+    @Test
+    @DisplayName("Dado una clave ya completada con el mismo cuerpo, cuando se ejecuta, entonces debe repetir la respuesta guardada sin ejecutar")
+    void givenCompletedKeyWithSameBody_whenExecute_thenShouldReplayStoredResponse() {
+        // Given
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        when(store.claim(eq(OPERATION), eq(KEY), hash.capture())).thenReturn(false);
+        when(store.find(OPERATION, KEY)).thenAnswer(invocation -> Optional.of(
+                new IdempotencyRecord(hash.getValue(), 201, "\"1\"", "{\"id\":\"prod001\"}")));
+
+        // When
+        ResponseEntity<Map<String, Object>> response = execute(Map.of("name", "Monitor"));
+
+        // Then
+        assertEquals(0, executions.get());
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals("\"1\"", response.getHeaders().getETag());
+        assertEquals("true", response.getHeaders().getFirst(IdempotentRequests.REPLAYED_HEADER));
+        assertEquals(Map.of("id", "prod001"), response.getBody());
+        assertEquals(1.0, count("replayed"));
+    }
+
+    @Test
+    @DisplayName("Dado mapas con distinto orden de claves, cuando se calcula el hash, entonces debe ser el mismo")
+    void givenMapsWithDifferentKeyOrder_whenExecute_thenShouldProduceSameHash() {
+        // Given
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        when(store.claim(eq(OPERATION), eq(KEY), hash.capture())).thenReturn(true);
+
+        // When
+        execute(Map.of("name", "Monitor", "brand", "TechNova"));
+        execute(Map.of("brand", "TechNova", "name", "Monitor"));
+
+        // Then
+        assertEquals(hash.getAllValues().get(0), hash.getAllValues().get(1));
+    }
+
+    @Test
+    @DisplayName("Dado una clave usada con otro cuerpo, cuando se ejecuta, entonces debe lanzar KEY_REUSED sin ejecutar")
+    void givenKeyUsedWithDifferentBody_whenExecute_thenShouldThrowKeyReused() {
+        // Given
+        when(store.claim(eq(OPERATION), eq(KEY), anyString())).thenReturn(false);
+        when(store.find(OPERATION, KEY)).thenReturn(Optional.of(new IdempotencyRecord("otro-hash", 201, null, "{}")));
+
+        // When
+        IdempotencyConflictException ex = assertThrows(IdempotencyConflictException.class,
+                () -> execute(Map.of("name", "Monitor")));
+
+        // Then
+        assertEquals(IdempotencyConflictException.Reason.KEY_REUSED, ex.getReason());
+        assertEquals(0, executions.get());
+        assertEquals(1.0, count("key_reused"));
+    }
+
+    @Test
+    @DisplayName("Dado la petición original aún en curso, cuando vence la espera, entonces debe lanzar IN_FLIGHT con Retry-After")
+    void givenOriginalStillInFlight_whenWaitExpires_thenShouldThrowInFlight() {
+        // Given
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        when(store.claim(eq(OPERATION), eq(KEY), hash.capture())).thenReturn(false);
+        when(store.find(OPERATION, KEY)).thenAnswer(invocation -> Optional.of(
+                new IdempotencyRecord(hash.getValue(), null, null, null)));
+
+        // When
+        IdempotencyConflictException ex = assertThrows(IdempotencyConflictException.class,
+                () -> execute(Map.of("name", "Monitor")));
+
+        // Then
+        assertEquals(IdempotencyConflictException.Reason.IN_FLIGHT, ex.getReason());
+        assertNotNull(ex.getRetryAfter());
+        assertEquals(0, executions.get());
+        assertEquals(1.0, count("in_flight"));
+    }
+
+    @Test
+    @DisplayName("Dado la original en curso que termina durante la espera, cuando se ejecuta, entonces debe repetir su respuesta")
+    void givenOriginalCompletesDuringWait_whenExecute_thenShouldReplayResponse() {
+        // Given
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        when(store.claim(eq(OPERATION), eq(KEY), hash.capture())).thenReturn(false);
+        when(store.find(OPERATION, KEY))
+                .thenAnswer(invocation -> Optional.of(new IdempotencyRecord(hash.getValue(), null, null, null)))
+                .thenAnswer(invocation -> Optional.of(
+                        new IdempotencyRecord(hash.getValue(), 201, null, "{\"id\":\"prod001\"}")));
+
+        // When
+        ResponseEntity<Map<String, Object>> response = execute(Map.of("name", "Monitor"));
+
+        // Then
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    @DisplayName("Dado una escritura que falla, cuando se ejecuta, entonces debe liberar la clave y propagar el error")
+    void givenFailingAction_whenExecute_thenShouldReleaseKeyAndRethrow() {
+        // Given
+        when(store.claim(eq(OPERATION), eq(KEY), anyString())).thenReturn(true);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> idempotentRequests.<Map<String, Object>>execute(
+                OPERATION, KEY, Map.of("name", "Monitor"), bodyType, () -> {
+                    throw new IllegalStateException("fallo");
+                }));
+
+        // Then
+        verify(store).release(eq(OPERATION), eq(KEY), anyString());
+        assertTrue(stored.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dado una clave retomada y completada por otra petición antes de ejecutar, cuando se ejecuta, entonces debe repetir esa respuesta")
+    void givenClaimTakenOverBeforeExecuting_whenExecute_thenShouldReplayStoredResponse() {
+        // Given
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        when(store.claim(eq(OPERATION), eq(KEY), hash.capture())).thenReturn(true, false);
+        doReturn(Optional.empty()).when(store).executeClaimed(eq(OPERATION), eq(KEY), anyString(), any(), any());
+        when(store.find(OPERATION, KEY)).thenAnswer(invocation -> Optional.of(
+                new IdempotencyRecord(hash.getValue(), 201, null, "{\"id\":\"prod001\"}")));
+
+        // When
+        ResponseEntity<Map<String, Object>> response = execute(Map.of("name", "Monitor"));
+
+        // Then
+        assertEquals(0, executions.get());
+        assertEquals("true", response.getHeaders().getFirst(IdempotentRequests.REPLAYED_HEADER));
+        assertEquals(0.0, count("executed"));
+        assertEquals(1.0, count("replayed"));
+    }
+
+    @Test
+    @DisplayName("Dado una clave en blanco, cuando se ejecuta, entonces debe lanzar InvalidProductException")
+    void givenBlankKey_whenExecute_thenShouldThrowInvalidProductException() {
+        assertThrows(InvalidProductException.class, () -> idempotentRequests.<Map<String, Object>>execute(
+                OPERATION, " ", Map.of(), bodyType, () -> ResponseEntity.ok(Map.of())));
+        verifyNoInteractions(store);
+    }
+
+    private ResponseEntity<Map<String, Object>> execute(Map<String, Object> request) {
+        return idempotentRequests.execute(OPERATION, KEY, request, bodyType, () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.CREATED).eTag("\"1\"").body(Map.of("id", "prod001"));
+        });
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("products.idempotency.requests").tag("result", result).counter().count();
+    }
+}
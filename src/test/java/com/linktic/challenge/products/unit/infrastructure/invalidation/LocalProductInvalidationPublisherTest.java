@@ -0,0 +1,94 @@
+package com.linktic.challenge.products.unit.infrastructure.invalidation;
+
+import com.linktic.challenge.products.infrastructure.invalidation.LocalProductInvalidationPublisher;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidation;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidationListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocalProductInvalidationPublisherTest {
+
+    @Mock
+    private ObjectProvider<ProductInvalidationListener> listenerProvider;
+
+    @Mock
+    private ProductInvalidationListener failingListener;
+
+    @Mock
+    private ProductInvalidationListener listener;
+
+    private LocalProductInvalidationPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+        publisher = new LocalProductInvalidationPublisher(listenerProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("Dados productos cambiados en una transacción, cuando confirma, entonces cada listener local debe recibir los IDs aunque otro falle")
+    void givenChangedProducts_whenTransactionCommits_thenShouldDispatchToEveryLocalListener() {
+        // Given
+        when(listenerProvider.orderedStream()).thenReturn(Stream.of(failingListener, listener));
+        doThrow(new IllegalStateException("boom")).when(failingListener).onInvalidation(any());
+        publisher.productsChanged(List.of("prod001", "prod002"));
+        verifyNoInteractions(listener);
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        ArgumentCaptor<ProductInvalidation> captor = ArgumentCaptor.forClass(ProductInvalidation.class);
+        verify(listener).onInvalidation(captor.capture());
+        assertEquals(Set.of("prod001", "prod002"), captor.getValue().productIds());
+        assertTrue(captor.getValue().listings());
+        assertFalse(captor.getValue().all());
+    }
+
+    @Test
+    @DisplayName("Dada una transacción revertida, cuando termina, entonces no debe entregar nada")
+    void givenRolledBackTransaction_whenCompleted_thenShouldNotDispatch() {
+        // Given
+        publisher.productsChanged(List.of("prod001"));
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        verifyNoInteractions(listenerProvider);
+    }
+
+    @Test
+    @DisplayName("Dada una lista vacía, cuando se publica, entonces no debe registrar nada")
+    void givenNoProducts_whenPublished_thenShouldNotRegisterSynchronization() {
+        // When
+        publisher.productsChanged(List.of());
+
+        // Then
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+    }
+}
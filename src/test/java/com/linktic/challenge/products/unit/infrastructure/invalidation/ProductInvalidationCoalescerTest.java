@@ -0,0 +1,66 @@
+package com.linktic.challenge.products.unit.infrastructure.invalidation;
+
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidation;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidationCoalescer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductInvalidationCoalescerTest {
+
+    @Test
+    @DisplayName("Dados avisos dentro de la ventana, cuando vence, entonces debe entregarse un único lote sin duplicados")
+    void givenNotificationsWithinWindow_whenWindowElapses_thenShouldDrainSingleBatch() {
+        // Given
+        ProductInvalidationCoalescer coalescer = new ProductInvalidationCoalescer(Duration.ofSeconds(1), 100);
+        coalescer.addProduct("prod001");
+        coalescer.addProduct("prod002");
+        coalescer.addProduct("prod001");
+        coalescer.addListings();
+
+        // When
+        long now = System.nanoTime();
+        boolean drainedEarly = coalescer.drainIfDue(now).isPresent();
+        ProductInvalidation batch = coalescer.drainIfDue(now + Duration.ofSeconds(2).toNanos()).orElseThrow();
+
+        // Then
+        assertFalse(drainedEarly);
+        assertEquals(Set.of("prod001", "prod002"), batch.productIds());
+        assertTrue(batch.listings());
+        assertFalse(coalescer.hasPending());
+    }
+
+    @Test
+    @DisplayName("Dado un lote que alcanza el máximo, cuando se consulta, entonces debe entregarse sin esperar la ventana")
+    void givenFullBatch_whenDraining_thenShouldNotWaitForWindow() {
+        // Given
+        ProductInvalidationCoalescer coalescer = new ProductInvalidationCoalescer(Duration.ofMinutes(1), 2);
+        coalescer.addProduct("prod001");
+        coalescer.addProduct("prod002");
+
+        // When & Then
+        assertTrue(coalescer.drainIfDue(System.nanoTime()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Dada una invalidación total, cuando se agrupa con IDs, entonces debe cubrirlos a todos")
+    void givenFullFlush_whenCoalescedWithIds_thenShouldCoverEverything() {
+        // Given
+        ProductInvalidationCoalescer coalescer = new ProductInvalidationCoalescer(Duration.ZERO, 100);
+        coalescer.addProduct("prod001");
+        coalescer.addAll();
+        coalescer.addProduct("prod002");
+
+        // When
+        ProductInvalidation batch = coalescer.drainIfDue(System.nanoTime()).orElseThrow();
+
+        // Then
+        assertTrue(batch.all());
+        assertTrue(batch.productIds().isEmpty());
+        assertTrue(batch.affects("prod999"));
+    }
+}
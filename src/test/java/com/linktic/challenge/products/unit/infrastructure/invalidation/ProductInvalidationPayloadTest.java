@@ -0,0 +1,74 @@
+package com.linktic.challenge.products.unit.infrastructure.invalidation;
+
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidation;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidationCoalescer;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidationPayload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductInvalidationPayloadTest {
+
+    @Test
+    @DisplayName("Dado un producto modificado, cuando se codifica, entonces debe incluir listados y el ID")
+    void givenSingleProduct_whenEncoding_thenShouldIncludeListingsAndId() {
+        // When
+        List<String> payloads = ProductInvalidationPayload.encode(List.of("prod001"), true);
+
+        // Then
+        assertEquals(List.of("listings,p:prod001"), payloads);
+    }
+
+    @Test
+    @DisplayName("Dados muchos IDs, cuando se codifican, entonces cada aviso debe respetar el límite de Postgres")
+    void givenManyIds_whenEncoding_thenEachPayloadShouldFitPostgresLimit() {
+        // Given
+        List<String> ids = IntStream.range(0, 900).mapToObj(i -> "producto-con-id-largo-" + i).toList();
+
+        // When
+        List<String> payloads = ProductInvalidationPayload.encode(ids, true);
+
+        // Then
+        assertTrue(payloads.size() > 1);
+        payloads.forEach(payload -> assertTrue(payload.getBytes(StandardCharsets.UTF_8).length < 8000));
+
+        ProductInvalidationCoalescer coalescer = new ProductInvalidationCoalescer(Duration.ZERO, Integer.MAX_VALUE);
+        payloads.forEach(payload -> ProductInvalidationPayload.decodeInto(payload, coalescer));
+        ProductInvalidation invalidation = coalescer.drainIfDue(System.nanoTime()).orElseThrow();
+        assertEquals(Set.copyOf(ids), invalidation.productIds());
+        assertTrue(invalidation.listings());
+    }
+
+    @Test
+    @DisplayName("Dados más IDs que el máximo, cuando se codifican, entonces debe enviarse una invalidación total")
+    void givenTooManyIds_whenEncoding_thenShouldSendFullFlush() {
+        // Given
+        List<String> ids = IntStream.range(0, 1001).mapToObj(i -> "prod" + i).toList();
+
+        // When & Then
+        assertEquals(List.of(ProductInvalidationPayload.ALL), ProductInvalidationPayload.encode(ids, true));
+    }
+
+    @Test
+    @DisplayName("Dado un aviso con tokens desconocidos, cuando se decodifica, entonces deben ignorarse")
+    void givenUnknownTokens_whenDecoding_thenShouldIgnoreThem() {
+        // Given
+        ProductInvalidationCoalescer coalescer = new ProductInvalidationCoalescer(Duration.ZERO, 10);
+
+        // When
+        ProductInvalidationPayload.decodeInto("otro,p:,p:prod001", coalescer);
+
+        // Then
+        ProductInvalidation invalidation = coalescer.drainIfDue(System.nanoTime()).orElseThrow();
+        assertEquals(Set.of("prod001"), invalidation.productIds());
+        assertFalse(invalidation.listings());
+        assertFalse(invalidation.all());
+    }
+}
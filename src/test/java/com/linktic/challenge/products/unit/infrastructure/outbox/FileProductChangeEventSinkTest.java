@@ -0,0 +1,45 @@
+package com.linktic.challenge.products.unit.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linktic.challenge.products.infrastructure.outbox.FileProductChangeEventSink;
+import com.linktic.challenge.products.infrastructure.outbox.ProductChangeEvent;
+import com.linktic.challenge.products.infrastructure.outbox.ProductChangeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileProductChangeEventSinkTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Dado dos lotes, cuando se publican, entonces deben agregarse como líneas JSON en orden")
+    void givenTwoBatches_whenPublished_thenShouldAppendJsonLinesInOrder() throws Exception {
+        // Given
+        Path file = tempDir.resolve("outbox/product-changes.jsonl");
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        FileProductChangeEventSink sink = new FileProductChangeEventSink(file, objectMapper);
+        LocalDateTime occurredAt = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+        // When
+        sink.publish(List.of(new ProductChangeEvent(1L, "prod001", ProductChangeType.CREATED, 0L, occurredAt)));
+        sink.publish(List.of(
+                new ProductChangeEvent(2L, "prod001", ProductChangeType.UPDATED, 1L, occurredAt),
+                new ProductChangeEvent(3L, "prod002", ProductChangeType.DELETED, null, occurredAt)
+        ));
+
+        // Then
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3, lines.size());
+        assertEquals(2L, objectMapper.readTree(lines.get(1)).get("sequence").asLong());
+        assertEquals("DELETED", objectMapper.readTree(lines.get(2)).get("type").asText());
+    }
+}
@@ -0,0 +1,141 @@
+package com.linktic.challenge.products.unit.infrastructure.outbox;
+
+import com.linktic.challenge.products.infrastructure.outbox.ProductChangeEvent;
+import com.linktic.challenge.products.infrastructure.outbox.ProductChangeEventSink;
+import com.linktic.challenge.products.infrastructure.outbox.ProductChangeType;
+import com.linktic.challenge.products.infrastructure.outbox.ProductOutboxProperties;
+import com.linktic.challenge.products.infrastructure.outbox.ProductOutboxRelay;
+import com.linktic.challenge.products.infrastructure.persistence.entity.ProductOutboxEntity;
+import com.linktic.challenge.products.infrastructure.persistence.repository.ProductOutboxJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductOutboxRelayTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T10:00:00Z");
+
+    @Mock
+    private ProductOutboxJpaRepository productOutboxJpaRepository;
+
+    @Mock
+    private ProductChangeEventSink sink;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ProductOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        ProductOutboxProperties properties = new ProductOutboxProperties(
+                true, "in-process", Path.of("unused.jsonl"), 2, Duration.ofSeconds(1), Duration.ofDays(7));
+        relay = new ProductOutboxRelay(productOutboxJpaRepository, sink, transactionTemplate, properties,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // Ejecuta el callback directamente, sin transacción real
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Dado eventos pendientes, cuando se publica un lote, entonces debe entregarlos en orden y marcarlos publicados")
+    void givenPendingEvents_whenRelayBatch_thenShouldPublishInOrderAndMarkPublished() {
+        // Given
+        when(productOutboxJpaRepository.tryAdvisoryXactLock(anyLong())).thenReturn(true);
+        when(productOutboxJpaRepository.findByPublishedAtIsNullOrderByIdAsc(Limit.of(2))).thenReturn(List.of(
+                outboxEntry(10L, "prod001", "UPDATED", 3L),
+                outboxEntry(11L, "prod002", "DELETED", null)
+        ));
+
+        // When
+        int published = relay.relayBatch();
+
+        // Then
+        assertEquals(2, published);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProductChangeEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(sink).publish(events.capture());
+        assertEquals(List.of(10L, 11L), events.getValue().stream().map(ProductChangeEvent::sequence).toList());
+        assertEquals(ProductChangeType.DELETED, events.getValue().get(1).type());
+
+        verify(productOutboxJpaRepository).markPublished(List.of(10L, 11L), LocalDateTime.ofInstant(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Dado que otra instancia tiene el lock, cuando se publica un lote, entonces no debe leer ni publicar")
+    void givenLockHeldByOtherInstance_whenRelayBatch_thenShouldSkip() {
+        // Given
+        when(productOutboxJpaRepository.tryAdvisoryXactLock(anyLong())).thenReturn(false);
+
+        // When
+        int published = relay.relayBatch();
+
+        // Then
+        assertEquals(0, published);
+        verify(productOutboxJpaRepository, never()).findByPublishedAtIsNullOrderByIdAsc(any());
+        verifyNoInteractions(sink);
+    }
+
+    @Test
+    @DisplayName("Dado un sink que falla, cuando se publica un lote, entonces no debe marcar eventos como publicados")
+    void givenFailingSink_whenRelayBatch_thenShouldNotMarkPublished() {
+        // Given
+        when(productOutboxJpaRepository.tryAdvisoryXactLock(anyLong())).thenReturn(true);
+        when(productOutboxJpaRepository.findByPublishedAtIsNullOrderByIdAsc(Limit.of(2)))
+                .thenReturn(List.of(outboxEntry(10L, "prod001", "CREATED", 0L)));
+        doThrow(new IllegalStateException("sink down")).when(sink).publish(anyList());
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> relay.relayBatch());
+        verify(productOutboxJpaRepository, never()).markPublished(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("Dado lotes completos, cuando se drena, entonces debe seguir publicando hasta un lote incompleto")
+    void givenFullBatches_whenDrain_thenShouldKeepRelayingUntilPartialBatch() {
+        // Given
+        when(productOutboxJpaRepository.tryAdvisoryXactLock(anyLong())).thenReturn(true);
+        when(productOutboxJpaRepository.findByPublishedAtIsNullOrderByIdAsc(Limit.of(2)))
+                .thenReturn(List.of(outboxEntry(1L, "prod001", "CREATED", 0L), outboxEntry(2L, "prod002", "CREATED", 0L)))
+                .thenReturn(List.of(outboxEntry(3L, "prod003", "CREATED", 0L)));
+
+        // When
+        relay.drain();
+
+        // Then
+        verify(sink, times(2)).publish(anyList());
+        verify(productOutboxJpaRepository).deletePublishedBefore(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).minusDays(7));
+    }
+
+    private ProductOutboxEntity outboxEntry(Long id, String productId, String type, Long version) {
+        return ProductOutboxEntity.builder()
+                .id(id)
+                .productId(productId)
+                .eventType(type)
+                .productVersion(version)
+                .createdAt(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC))
+                .build();
+    }
+}
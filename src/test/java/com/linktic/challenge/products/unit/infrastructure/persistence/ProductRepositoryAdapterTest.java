@@ -2,9 +2,13 @@ package com.linktic.challenge.products.unit.infrastructure.persistence;
 
 import com.linktic.challenge.products.domain.exception.entity.ProductAlreadyExistsException;
 import com.linktic.challenge.products.domain.exception.entity.ProductNotFoundException;
+import com.linktic.challenge.products.domain.exception.entity.ProductVersionConflictException;
 import com.linktic.challenge.products.domain.model.Product;
 import com.linktic.challenge.products.domain.model.ProductName;
+import com.linktic.challenge.products.domain.model.ProductPatch;
 import com.linktic.challenge.products.infrastructure.adapter.ProductRepositoryAdapter;
+import com.linktic.challenge.products.infrastructure.invalidation.ProductInvalidationNotifier;
+import com.linktic.challenge.products.infrastructure.outbox.ProductOutboxWriter;
 import com.linktic.challenge.products.infrastructure.persistence.entity.ProductEntity;
 import com.linktic.challenge.products.infrastructure.persistence.mapper.ProductEntityMapper;
 import com.linktic.challenge.products.infrastructure.persistence.repository.ProductJpaRepository;
@@ -21,12 +25,14 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +44,12 @@ class ProductRepositoryAdapterTest {
     @Mock
     private ProductEntityMapper productMapper;
 
+    @Mock
+    private ProductOutboxWriter productOutboxWriter;
+
+    @Mock
+    private ProductInvalidationNotifier productInvalidationNotifier;
+
     @InjectMocks
     private ProductRepositoryAdapter productRepositoryAdapter;
 
@@ -129,6 +141,8 @@ class ProductRepositoryAdapterTest {
         verify(productMapper).toEntity(product);
         verify(productJpaRepository).save(productEntity);
         verify(productMapper).toDomain(savedEntity);
+        verify(productOutboxWriter).created("prod001", savedEntity.getVersion());
+        verify(productInvalidationNotifier).productChanged("prod001");
     }
 
     @Test
@@ -146,6 +160,7 @@ class ProductRepositoryAdapterTest {
         verify(productJpaRepository).existsByName(productNameValue);
         verify(productJpaRepository, never()).save(any());
         verify(productMapper, never()).toEntity(any());
+        verifyNoInteractions(productOutboxWriter, productInvalidationNotifier);
     }
 
     @Test
@@ -271,14 +286,17 @@ class ProductRepositoryAdapterTest {
     void givenExistingId_whenDeleteById_thenShouldDeleteProduct() {
         // Given
         String productId = "prod001";
-        when(productJpaRepository.existsById(productId)).thenReturn(true);
+        when(productJpaRepository.deleteProductById(productId)).thenReturn(1);
 
         // When
         productRepositoryAdapter.deleteById(productId);
 
         // Then
-        verify(productJpaRepository).existsById(productId);
-        verify(productJpaRepository).deleteById(productId);
+        verify(productJpaRepository).deleteProductById(productId);
+        verify(productJpaRepository, never()).existsById(anyString());
+        verify(productJpaRepository, never()).deleteById(anyString());
+        verify(productOutboxWriter).deleted(productId);
+        verify(productInvalidationNotifier).productChanged(productId);
     }
 
     @Test
@@ -286,15 +304,55 @@ class ProductRepositoryAdapterTest {
     void givenNonExistingId_whenDeleteById_thenShouldThrowProductNotFoundException() {
         // Given
         String productId = "non-existing";
-        when(productJpaRepository.existsById(productId)).thenReturn(false);
+        when(productJpaRepository.deleteProductById(productId)).thenReturn(0);
 
         // When & Then
         ProductNotFoundException exception = assertThrows(ProductNotFoundException.class,
                 () -> productRepositoryAdapter.deleteById(productId));
 
         assertEquals("Product not found with ID: " + productId, exception.getMessage());
-        verify(productJpaRepository).existsById(productId);
-        verify(productJpaRepository, never()).deleteById(anyString());
+        verify(productJpaRepository).deleteProductById(productId);
+        verifyNoInteractions(productOutboxWriter, productInvalidationNotifier);
+    }
+
+    @Test
+    @DisplayName("Dado una lista de IDs, cuando se eliminan en lote, entonces debe retornar los IDs eliminados por la sentencia")
+    void givenIds_whenDeleteAllById_thenShouldReturnDeletedIds() {
+        // Given
+        when(productJpaRepository.deleteAllByIdReturningIds(new String[]{"prod001", "prod404"}))
+                .thenReturn(List.of("prod001"));
+
+        // When
+        List<String> deletedIds = productRepositoryAdapter.deleteAllById(List.of("prod001", "prod404"));
+
+        // Then
+        assertEquals(List.of("prod001"), deletedIds);
+        verify(productOutboxWriter).deleted(List.of("prod001"));
+    }
+
+    @Test
+    @DisplayName("Dado una lista vacía de IDs, cuando se eliminan en lote, entonces no debe ejecutar ninguna sentencia")
+    void givenEmptyIds_whenDeleteAllById_thenShouldNotHitDatabase() {
+        // When
+        List<String> deletedIds = productRepositoryAdapter.deleteAllById(List.of());
+
+        // Then
+        assertTrue(deletedIds.isEmpty());
+        verifyNoInteractions(productJpaRepository, productOutboxWriter);
+    }
+
+    @Test
+    @DisplayName("Dado una categoría, cuando se eliminan en lote, entonces debe retornar los IDs eliminados")
+    void givenCategory_whenDeleteByCategory_thenShouldReturnDeletedIds() {
+        // Given
+        when(productJpaRepository.deleteByCategoryReturningIds("Electrónica", 500))
+                .thenReturn(List.of("prod001", "prod003"));
+
+        // When
+        List<String> deletedIds = productRepositoryAdapter.deleteByCategory("Electrónica", 500);
+
+        // Then
+        assertEquals(List.of("prod001", "prod003"), deletedIds);
     }
 
     @Test
@@ -464,6 +522,162 @@ class ProductRepositoryAdapterTest {
         verify(productMapper, never()).toDomain(any());
     }
 
+    @Test
+    @DisplayName("Dado un patch solo con precio, cuando se aplica, entonces no debe validar el nombre y debe aplicar el patch sobre la entidad")
+    void givenPriceOnlyPatch_whenPatch_thenShouldApplyPatchWithoutNameCheck() {
+        // Given
+        String productId = product.id().value();
+        ProductPatch patch = new ProductPatch(product.id(),
+                null, null, null, new BigDecimal("799.99"), null, null, null, null, null);
+        when(productJpaRepository.findWithSpecificationsById(productId)).thenReturn(Optional.of(productEntity));
+        when(productMapper.toDomain(productEntity)).thenReturn(product);
+
+        // When
+        Product result = productRepositoryAdapter.patch(patch);
+
+        // Then
+        assertEquals(product, result);
+        verify(productJpaRepository).findWithSpecificationsById(productId);
+        verify(productJpaRepository, never()).existsByNameAndIdNot(anyString(), anyString());
+        verify(productMapper).applyPatch(patch, productEntity);
+        verify(productJpaRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Dado un patch con nombre de otro producto, cuando se aplica, entonces debe lanzar ProductAlreadyExistsException")
+    void givenPatchWithExistingName_whenPatch_thenShouldThrowProductAlreadyExistsException() {
+        // Given
+        String productId = product.id().value();
+        String existingName = "Existing Product Name";
+        ProductPatch patch = new ProductPatch(product.id(),
+                new ProductName(existingName), null, null, null, null, null, null, null, null);
+        when(productJpaRepository.findWithSpecificationsById(productId)).thenReturn(Optional.of(productEntity));
+        when(productJpaRepository.existsByNameAndIdNot(existingName, productId)).thenReturn(true);
+
+        // When & Then
+        assertThrows(ProductAlreadyExistsException.class, () -> productRepositoryAdapter.patch(patch));
+        verify(productMapper, never()).applyPatch(any(), any());
+    }
+
+    @Test
+    @DisplayName("Dado un patch sobre un producto inexistente, cuando se aplica, entonces debe lanzar ProductNotFoundException")
+    void givenPatchForMissingProduct_whenPatch_thenShouldThrowProductNotFoundException() {
+        // Given
+        ProductPatch patch = new ProductPatch(product.id(),
+                null, null, null, new BigDecimal("1.00"), null, null, null, null, null);
+        when(productJpaRepository.findWithSpecificationsById(product.id().value())).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ProductNotFoundException.class, () -> productRepositoryAdapter.patch(patch));
+        verify(productMapper, never()).applyPatch(any(), any());
+    }
+
+    @Test
+    @DisplayName("Dado un producto con versión, cuando se actualiza, entonces debe usar un único UPDATE condicionado sin leer antes")
+    void givenVersionedProduct_whenUpdate_thenShouldUpdateInSingleStatementWithoutReading() {
+        // Given
+        Product versionedProduct = product.withVersion(3L);
+        when(productMapper.toEntity(versionedProduct)).thenReturn(productEntity);
+        when(productJpaRepository.updateIfVersionMatches(productEntity)).thenReturn(1);
+
+        // When
+        Product result = productRepositoryAdapter.update(versionedProduct);
+
+        // Then
+        assertEquals(4L, result.version());
+        assertEquals(versionedProduct.name(), result.name());
+        verify(productOutboxWriter).updated("prod001", 4L);
+        verify(productJpaRepository, never()).findById(anyString());
+        verify(productJpaRepository, never()).findVersionById(anyString());
+        verify(productJpaRepository).deleteSpecificationsNotIn(eq("prod001"), any());
+    }
+
+    @Test
+    @DisplayName("Dado una versión obsoleta, cuando se actualiza, entonces debe lanzar ProductVersionConflictException")
+    void givenStaleVersion_whenUpdate_thenShouldThrowProductVersionConflictException() {
+        // Given
+        Product staleProduct = product.withVersion(3L);
+        when(productMapper.toEntity(staleProduct)).thenReturn(productEntity);
+        when(productJpaRepository.updateIfVersionMatches(productEntity)).thenReturn(0);
+        when(productJpaRepository.findVersionById("prod001")).thenReturn(Optional.of(5L));
+
+        // When
+        ProductVersionConflictException exception = assertThrows(ProductVersionConflictException.class,
+                () -> productRepositoryAdapter.update(staleProduct));
+
+        // Then
+        assertEquals(3L, exception.getExpectedVersion());
+        assertEquals(5L, exception.getCurrentVersion());
+        verify(productJpaRepository, never()).deleteSpecificationsNotIn(anyString(), any());
+        verifyNoInteractions(productOutboxWriter, productInvalidationNotifier);
+    }
+
+    @Test
+    @DisplayName("Dado una versión vigente pero nombre duplicado, cuando se actualiza, entonces debe lanzar ProductAlreadyExistsException")
+    void givenCurrentVersionAndDuplicatedName_whenUpdate_thenShouldThrowProductAlreadyExistsException() {
+        // Given
+        Product versionedProduct = product.withVersion(3L);
+        when(productMapper.toEntity(versionedProduct)).thenReturn(productEntity);
+        when(productJpaRepository.updateIfVersionMatches(productEntity)).thenReturn(0);
+        when(productJpaRepository.findVersionById("prod001")).thenReturn(Optional.of(3L));
+
+        // When & Then
+        assertThrows(ProductAlreadyExistsException.class, () -> productRepositoryAdapter.update(versionedProduct));
+    }
+
+    @Test
+    @DisplayName("Dado un producto versionado inexistente, cuando se actualiza, entonces debe lanzar ProductNotFoundException")
+    void givenMissingVersionedProduct_whenUpdate_thenShouldThrowProductNotFoundException() {
+        // Given
+        Product versionedProduct = product.withVersion(3L);
+        when(productMapper.toEntity(versionedProduct)).thenReturn(productEntity);
+        when(productJpaRepository.updateIfVersionMatches(productEntity)).thenReturn(0);
+        when(productJpaRepository.findVersionById("prod001")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ProductNotFoundException.class, () -> productRepositoryAdapter.update(versionedProduct));
+    }
+
+    @Test
+    @DisplayName("Dado un patch con versión obsoleta, cuando se aplica, entonces debe lanzar ProductVersionConflictException")
+    void givenPatchWithStaleVersion_whenPatch_thenShouldThrowProductVersionConflictException() {
+        // Given
+        productEntity.setVersion(5L);
+        ProductPatch patch = new ProductPatch(product.id(),
+                null, null, null, new BigDecimal("1.00"), null, null, null, null, null)
+                .withExpectedVersion(4L);
+        when(productJpaRepository.findWithSpecificationsById("prod001")).thenReturn(Optional.of(productEntity));
+
+        // When & Then
+        assertThrows(ProductVersionConflictException.class, () -> productRepositoryAdapter.patch(patch));
+        verify(productMapper, never()).applyPatch(any(), any());
+    }
+
+    @Test
+    @DisplayName("Dado una versión vigente, cuando se elimina, entonces debe usar un DELETE condicionado")
+    void givenCurrentVersion_whenDeleteByIdWithVersion_thenShouldDeleteConditionally() {
+        // Given
+        when(productJpaRepository.deleteByIdAndVersion("prod001", 2L)).thenReturn(1);
+
+        // When
+        productRepositoryAdapter.deleteById("prod001", 2L);
+
+        // Then
+        verify(productJpaRepository, never()).existsById(anyString());
+        verify(productJpaRepository, never()).findVersionById(anyString());
+    }
+
+    @Test
+    @DisplayName("Dado una versión obsoleta, cuando se elimina, entonces debe lanzar ProductVersionConflictException")
+    void givenStaleVersion_whenDeleteByIdWithVersion_thenShouldThrowProductVersionConflictException() {
+        // Given
+        when(productJpaRepository.deleteByIdAndVersion("prod001", 2L)).thenReturn(0);
+        when(productJpaRepository.findVersionById("prod001")).thenReturn(Optional.of(3L));
+
+        // When & Then
+        assertThrows(ProductVersionConflictException.class, () -> productRepositoryAdapter.deleteById("prod001", 2L));
+    }
+
     // Métodos helper
     private ProductEntity createProductEntity() {
         return ProductEntity.builder()
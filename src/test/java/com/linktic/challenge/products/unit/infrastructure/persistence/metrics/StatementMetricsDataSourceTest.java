@@ -0,0 +1,121 @@
+package com.linktic.challenge.products.unit.infrastructure.persistence.metrics;
+
+import com.linktic.challenge.products.infrastructure.persistence.metrics.SqlStatementRecorder;
+import com.linktic.challenge.products.infrastructure.persistence.metrics.SqlStatementStats;
+import com.linktic.challenge.products.infrastructure.persistence.metrics.StatementMetricsDataSource;
+import com.linktic.challenge.products.support.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opentest4j.AssertionFailedError;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatementMetricsDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private StatementMetricsDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new StatementMetricsDataSource(targetDataSource);
+        when(targetDataSource.getConnection()).thenReturn(connection);
+    }
+
+    private void runQuery() {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT * FROM products");
+             ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                rs.getString(1);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Test
+    @DisplayName("Dada una consulta dentro de una captura, cuando se ejecuta, entonces debe contar la sentencia y las filas")
+    void givenQueryWithinCapture_whenExecuted_thenShouldCountStatementAndRows() throws SQLException {
+        // Given
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+
+        // When
+        SqlStatementStats stats = SqlStatementRecorder.record(this::runQuery);
+
+        // Then
+        assertEquals(1, stats.statements());
+        assertEquals(2, stats.rows());
+        verify(resultSet).close();
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Dadas capturas anidadas, cuando termina la interna, entonces sus cifras deben sumarse a la externa")
+    void givenNestedCaptures_whenInnerEnds_thenShouldAddToOuter() throws SQLException {
+        // Given
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+
+        // When
+        SqlStatementStats outer = SqlStatementRecorder.record(() -> {
+            runQuery();
+            SqlStatementRecorder.record(this::runQuery);
+        });
+
+        // Then
+        assertEquals(2, outer.statements());
+    }
+
+    @Test
+    @DisplayName("Dado un presupuesto superado, cuando se valida, entonces la aserción debe fallar")
+    void givenExceededBudget_whenAsserting_thenShouldFail() throws SQLException {
+        // Given
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+
+        // When & Then
+        assertDoesNotThrow(() -> QueryBudget.assertStatementsAtMost(1, this::runQuery));
+        assertThrows(AssertionFailedError.class, () -> QueryBudget.assertStatementsAtMost(1, () -> {
+            runQuery();
+            runQuery();
+        }));
+    }
+
+    @Test
+    @DisplayName("Dada una conexión instrumentada, cuando se hace unwrap, entonces debe llegar al objeto del driver")
+    void givenWrappedConnection_whenUnwrapping_thenShouldDelegateToDriver() throws SQLException {
+        // Given
+        when(connection.unwrap(Connection.class)).thenReturn(connection);
+
+        // When
+        Connection unwrapped = dataSource.getConnection().unwrap(Connection.class);
+
+        // Then
+        assertSame(connection, unwrapped);
+    }
+}
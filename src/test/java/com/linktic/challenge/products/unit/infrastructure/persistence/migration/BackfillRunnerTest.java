@@ -0,0 +1,138 @@
+package com.linktic.challenge.products.unit.infrastructure.persistence.migration;
+
+import com.linktic.challenge.products.infrastructure.persistence.migration.Backfill;
+import com.linktic.challenge.products.infrastructure.persistence.migration.BackfillProperties;
+import com.linktic.challenge.products.infrastructure.persistence.migration.BackfillRunner;
+import com.linktic.challenge.products.infrastructure.persistence.migration.BackfillRunner.ChunkResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BackfillRunnerTest {
+
+    private static final String CHUNK_SQL = "UPDATE products SET search_name = lower(name) WHERE id BETWEEN ? AND ?";
+
+    private static final Backfill BACKFILL = new Backfill() {
+        @Override
+        public String name() {
+            return "products-search-name";
+        }
+
+        @Override
+        public String table() {
+            return "products";
+        }
+
+        @Override
+        public String chunkSql() {
+            return CHUNK_SQL;
+        }
+    };
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private BackfillRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        BackfillProperties properties = new BackfillProperties(true, 2, 0.5, Duration.ofSeconds(2),
+                Duration.ofSeconds(30), Duration.ofSeconds(30), 5, Duration.ofSeconds(30));
+        runner = new BackfillRunner(List.of(BACKFILL), jdbcTemplate, transactionTemplate, properties, null,
+                new SimpleMeterRegistry());
+
+        // Ejecuta el callback directamente, sin transacción real
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Dado un backfill a medias, cuando se procesa un tramo, entonces debe continuar tras la última clave y guardar el avance")
+    void givenPartiallyProcessedBackfill_whenRunningChunk_thenShouldResumeAfterLastKeyAndRecordProgress() {
+        // Given
+        when(jdbcTemplate.queryForList(contains("FOR UPDATE SKIP LOCKED"), eq(BACKFILL.name())))
+                .thenReturn(List.of(progress("prod002")));
+        when(jdbcTemplate.queryForMap(contains("WHERE id > CAST(? AS text)"), eq("prod002"), eq(2)))
+                .thenReturn(Map.of("first_key", "prod003", "last_key", "prod004"));
+        when(jdbcTemplate.update(CHUNK_SQL, "prod003", "prod004")).thenReturn(2);
+
+        // When
+        ChunkResult result = runner.runChunk(BACKFILL);
+
+        // Then
+        assertEquals(ChunkResult.Status.PROCESSED, result.status());
+        assertEquals(2, result.rows());
+        assertEquals("prod004", result.lastKey());
+        verify(jdbcTemplate).update(contains("SET last_key = ?"), eq("prod004"), eq(2), eq(BACKFILL.name()));
+        verify(jdbcTemplate).execute("SET LOCAL lock_timeout = 2000");
+    }
+
+    @Test
+    @DisplayName("Dado un backfill sin claves pendientes, cuando se procesa un tramo, entonces debe marcarlo completado")
+    void givenNoKeysLeft_whenRunningChunk_thenShouldMarkCompleted() {
+        // Given
+        when(jdbcTemplate.queryForList(contains("FOR UPDATE SKIP LOCKED"), eq(BACKFILL.name())))
+                .thenReturn(List.of(progress("prod004")));
+        Map<String, Object> emptyRange = new HashMap<>();
+        emptyRange.put("first_key", null);
+        emptyRange.put("last_key", null);
+        when(jdbcTemplate.queryForMap(anyString(), eq("prod004"), eq(2))).thenReturn(emptyRange);
+
+        // When
+        ChunkResult result = runner.runChunk(BACKFILL);
+
+        // Then
+        assertEquals(ChunkResult.Status.COMPLETED, result.status());
+        verify(jdbcTemplate).update(contains("SET completed_at"), eq(BACKFILL.name()));
+        verify(jdbcTemplate, never()).update(eq(CHUNK_SQL), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Dado el progreso bloqueado por otra instancia, cuando se procesa un tramo, entonces no debe tocar la tabla")
+    void givenProgressLockedByAnotherInstance_whenRunningChunk_thenShouldReturnBusy() {
+        // Given
+        when(jdbcTemplate.queryForList(contains("FOR UPDATE SKIP LOCKED"), eq(BACKFILL.name()))).thenReturn(List.of());
+
+        // When
+        ChunkResult result = runner.runChunk(BACKFILL);
+
+        // Then
+        assertEquals(ChunkResult.Status.BUSY, result.status());
+        verify(jdbcTemplate, never()).queryForMap(anyString(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Dado un ciclo de trabajo máximo, cuando se calcula la pausa tras un tramo, entonces debe ser proporcional")
+    void givenMaxDutyCycle_whenComputingPause_thenShouldBeProportional() {
+        assertEquals(Duration.ofMillis(100), BackfillRunner.pauseAfter(Duration.ofMillis(100), 0.5));
+        assertEquals(Duration.ofMillis(300), BackfillRunner.pauseAfter(Duration.ofMillis(100), 0.25));
+        assertEquals(Duration.ZERO, BackfillRunner.pauseAfter(Duration.ofMillis(100), 1.0));
+    }
+
+    private static Map<String, Object> progress(String lastKey) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("last_key", lastKey);
+        row.put("completed_at", null);
+        return row;
+    }
+}
@@ -0,0 +1,89 @@
+package com.linktic.challenge.products.unit.infrastructure.persistence.migration;
+
+import com.linktic.challenge.products.infrastructure.persistence.migration.MigrationProperties;
+import com.linktic.challenge.products.infrastructure.persistence.migration.SchemaFingerprintMigrationStrategy;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SchemaFingerprintMigrationStrategyTest {
+
+    private static Resource script(String name, String content) {
+        return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return name;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Dados los mismos scripts, cuando se calcula la huella, entonces debe ser estable")
+    void givenSameScripts_whenComputingFingerprint_thenShouldBeStable() {
+        // Given
+        List<Resource> scripts = List.of(script("V1__a.sql", "CREATE TABLE a (id INT);"));
+
+        // When & Then
+        assertEquals(SchemaFingerprintMigrationStrategy.fingerprint(scripts),
+                SchemaFingerprintMigrationStrategy.fingerprint(List.of(script("V1__a.sql", "CREATE TABLE a (id INT);"))));
+    }
+
+    @Test
+    @DisplayName("Dado un script modificado o renombrado, cuando se calcula la huella, entonces debe cambiar")
+    void givenChangedOrRenamedScript_whenComputingFingerprint_thenShouldChange() {
+        // Given
+        String original = SchemaFingerprintMigrationStrategy.fingerprint(List.of(script("V1__a.sql", "CREATE TABLE a (id INT);")));
+
+        // When
+        String changed = SchemaFingerprintMigrationStrategy.fingerprint(List.of(script("V1__a.sql", "CREATE TABLE a (id BIGINT);")));
+        String renamed = SchemaFingerprintMigrationStrategy.fingerprint(List.of(script("V2__a.sql", "CREATE TABLE a (id INT);")));
+
+        // Then
+        assertNotEquals(original, changed);
+        assertNotEquals(original, renamed);
+    }
+
+    @Test
+    @DisplayName("Dada la omisión desactivada, cuando arranca, entonces debe ejecutar migrate de Flyway")
+    void givenSkipDisabled_whenStarting_thenShouldRunFlywayMigrate() {
+        // Given
+        Flyway flyway = mock(Flyway.class);
+        SchemaFingerprintMigrationStrategy strategy = new SchemaFingerprintMigrationStrategy(
+                new PathMatchingResourcePatternResolver(), new MigrationProperties(false, "classpath*:db/migration/**/*.sql*"));
+
+        // When
+        strategy.migrate(flyway);
+
+        // Then
+        verify(flyway).migrate();
+    }
+
+    @Test
+    @DisplayName("Dada la corrida de entrenamiento de CDS, cuando arranca, entonces no debe tocar la base")
+    void givenCdsTrainingRun_whenStarting_thenShouldNotTouchDatabase() {
+        // Given
+        Flyway flyway = mock(Flyway.class);
+        SchemaFingerprintMigrationStrategy strategy = new SchemaFingerprintMigrationStrategy(
+                new PathMatchingResourcePatternResolver(), new MigrationProperties(true, "classpath*:db/migration/**/*.sql*"));
+        System.setProperty("spring.context.exit", "onRefresh");
+
+        // When
+        try {
+            strategy.migrate(flyway);
+        } finally {
+            System.clearProperty("spring.context.exit");
+        }
+
+        // Then
+        verifyNoInteractions(flyway);
+    }
+}
@@ -0,0 +1,107 @@
+package com.linktic.challenge.products.unit.infrastructure.persistence.pool;
+
+import com.linktic.challenge.products.infrastructure.persistence.pool.ConnectionLeakDetector;
+import com.linktic.challenge.products.infrastructure.persistence.pool.LeakTrackingDataSource;
+import com.linktic.challenge.shared.constants.CorrelationConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeakTrackingDataSourceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T10:00:00Z");
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionLeakDetector detector;
+    private LeakTrackingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        detector = new ConnectionLeakDetector(Duration.ofSeconds(10), meterRegistry, clock);
+        dataSource = new LeakTrackingDataSource(targetDataSource, detector);
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        lenient().when(clock.instant()).thenReturn(NOW);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Dada una conexión retenida por una petición más del umbral, cuando se revisa, entonces debe avisar una sola vez")
+    void givenConnectionHeldPastThreshold_whenScanned_thenShouldReportOnce() throws SQLException {
+        // Given
+        MDC.put(CorrelationConstants.MDC_KEY, "cid-123");
+        Connection held = dataSource.getConnection();
+        when(clock.instant()).thenReturn(NOW.plusSeconds(11));
+
+        // When
+        int first = detector.scan();
+        int second = detector.scan();
+
+        // Then
+        assertEquals(1, first);
+        assertEquals(0, second);
+        assertEquals(1.0, meterRegistry.get("products.datasource.connections.leaked").counter().count());
+        assertEquals(1.0, meterRegistry.get("products.datasource.connections.held").gauge().value());
+
+        held.close();
+        verify(connection).close();
+        assertEquals(0.0, meterRegistry.get("products.datasource.connections.held").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Dada una conexión devuelta antes del umbral, cuando se revisa, entonces no debe avisar")
+    void givenConnectionReturnedBeforeThreshold_whenScanned_thenShouldNotReport() throws SQLException {
+        // Given
+        MDC.put(CorrelationConstants.MDC_KEY, "cid-123");
+        dataSource.getConnection().close();
+        when(clock.instant()).thenReturn(NOW.plusSeconds(11));
+
+        // When
+        int reported = detector.scan();
+
+        // Then
+        assertEquals(0, reported);
+        assertEquals(0.0, meterRegistry.get("products.datasource.connections.leaked").counter().count());
+    }
+
+    @Test
+    @DisplayName("Dada una conexión fuera de una petición, cuando se obtiene, entonces debe retornarse sin seguir")
+    void givenConnectionOutsideRequest_whenObtained_thenShouldNotBeTracked() throws SQLException {
+        // When
+        Connection obtained = dataSource.getConnection();
+
+        // Then
+        assertSame(connection, obtained);
+        assertEquals(0.0, meterRegistry.get("products.datasource.connections.held").gauge().value());
+    }
+}
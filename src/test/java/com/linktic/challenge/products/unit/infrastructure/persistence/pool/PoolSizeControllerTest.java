@@ -0,0 +1,79 @@
+package com.linktic.challenge.products.unit.infrastructure.persistence.pool;
+
+import com.linktic.challenge.products.infrastructure.persistence.pool.ConnectionPoolProperties;
+import com.linktic.challenge.products.infrastructure.persistence.pool.PoolSizeController;
+import com.linktic.challenge.products.infrastructure.persistence.pool.PoolSizeController.PoolSample;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoolSizeControllerTest {
+
+    private PoolSizeController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new PoolSizeController(new ConnectionPoolProperties.AutoSize(
+                true, 5, 30, Duration.ofSeconds(30), Duration.ofMillis(5), 2.0, 20));
+    }
+
+    @Test
+    @DisplayName("Dado espera sobre el objetivo con la base estable, cuando se evalúa, entonces debe crecer en sqrt(tamaño)")
+    void givenWaitAboveTargetWithStableDatabase_whenEvaluated_thenShouldGrowBySqrt() {
+        // Given
+        controller.nextSize(16, new PoolSample(1000, 1, 8, 10));
+
+        // When
+        int next = controller.nextSize(16, new PoolSample(1000, 20, 9, 16));
+
+        // Then
+        assertEquals(20, next);
+    }
+
+    @Test
+    @DisplayName("Dado espera sobre el objetivo con la base degradada, cuando se evalúa, entonces no debe crecer")
+    void givenWaitAboveTargetWithDegradedDatabase_whenEvaluated_thenShouldKeepSize() {
+        // Given
+        controller.nextSize(16, new PoolSample(1000, 1, 8, 10));
+
+        // When
+        int next = controller.nextSize(16, new PoolSample(1000, 20, 40, 16));
+
+        // Then
+        assertEquals(16, next);
+    }
+
+    @Test
+    @DisplayName("Dado un pool casi saturado, cuando la espera supera el objetivo, entonces no debe pasar del máximo")
+    void givenPoolNearMaximum_whenWaitAboveTarget_thenShouldCapAtMaximum() {
+        // When
+        int next = controller.nextSize(29, new PoolSample(1000, 20, 8, 29));
+
+        // Then
+        assertEquals(30, next);
+    }
+
+    @Test
+    @DisplayName("Dado un pool sin espera y ocupado menos de la mitad, cuando se evalúa, entonces debe reducirse en una conexión")
+    void givenUnderusedPoolWithoutWait_whenEvaluated_thenShouldShrinkByOne() {
+        // When
+        int next = controller.nextSize(12, new PoolSample(1000, 0.5, 8, 3));
+
+        // Then
+        assertEquals(11, next);
+    }
+
+    @Test
+    @DisplayName("Dado un pool en el mínimo sin tráfico, cuando se evalúa, entonces no debe bajar del mínimo")
+    void givenPoolAtMinimumWithoutTraffic_whenEvaluated_thenShouldKeepMinimum() {
+        // When
+        int next = controller.nextSize(5, new PoolSample(0, 0, 0, 0));
+
+        // Then
+        assertEquals(5, next);
+    }
+}
@@ -0,0 +1,93 @@
+package com.linktic.challenge.products.unit.infrastructure.persistence.routing;
+
+import com.linktic.challenge.products.infrastructure.persistence.routing.ReplicaLagMonitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+    @Mock
+    private DataSource replicaDataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new ReplicaLagMonitor(replicaDataSource, Duration.ofSeconds(5), Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Dado un retraso menor al máximo, cuando se mide, entonces la réplica debe quedar disponible")
+    void givenLagBelowMaximum_whenRefresh_thenReplicaShouldBeAvailable() throws SQLException {
+        // Given
+        stubLagSeconds(1.5);
+
+        // When
+        monitor.refresh();
+
+        // Then
+        assertTrue(monitor.isReplicaAvailable());
+        assertEquals(Duration.ofMillis(1500), monitor.getLastLag());
+    }
+
+    @Test
+    @DisplayName("Dado un retraso mayor al máximo, cuando se mide, entonces la réplica no debe estar disponible")
+    void givenLagAboveMaximum_whenRefresh_thenReplicaShouldBeUnavailable() throws SQLException {
+        // Given
+        stubLagSeconds(12.0);
+
+        // When
+        monitor.refresh();
+
+        // Then
+        assertFalse(monitor.isReplicaAvailable());
+    }
+
+    @Test
+    @DisplayName("Dado una réplica inaccesible, cuando se mide, entonces la réplica no debe estar disponible")
+    void givenUnreachableReplica_whenRefresh_thenReplicaShouldBeUnavailable() throws SQLException {
+        // Given
+        stubLagSeconds(0.0);
+        monitor.refresh();
+        when(replicaDataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // When
+        monitor.refresh();
+
+        // Then
+        assertFalse(monitor.isReplicaAvailable());
+    }
+
+    private void stubLagSeconds(double lagSeconds) throws SQLException {
+        when(replicaDataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+    }
+}
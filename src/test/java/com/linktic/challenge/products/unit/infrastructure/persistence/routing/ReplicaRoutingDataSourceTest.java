@@ -0,0 +1,112 @@
+package com.linktic.challenge.products.unit.infrastructure.persistence.routing;
+
+import com.linktic.challenge.products.infrastructure.persistence.routing.ReadConsistencyContext;
+import com.linktic.challenge.products.infrastructure.persistence.routing.ReplicaLagMonitor;
+import com.linktic.challenge.products.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primaryDataSource;
+
+    @Mock
+    private DataSource replicaDataSource;
+
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistencyContext.clear();
+    }
+
+    @Test
+    @DisplayName("Dado una réplica disponible, cuando se pide una conexión de lectura, entonces debe usar la réplica")
+    void givenAvailableReplica_whenGetConnection_thenShouldUseReplica() throws SQLException {
+        // Given
+        when(replicaLagMonitor.isReplicaAvailable()).thenReturn(true);
+        when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertSame(replicaConnection, connection);
+        verify(primaryDataSource, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Dado una réplica atrasada, cuando se pide una conexión de lectura, entonces debe usar el primario")
+    void givenLaggingReplica_whenGetConnection_thenShouldUsePrimary() throws SQLException {
+        // Given
+        when(replicaLagMonitor.isReplicaAvailable()).thenReturn(false);
+        when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertSame(primaryConnection, connection);
+        verify(replicaDataSource, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Dado read-your-writes activo, cuando se pide una conexión de lectura, entonces debe usar el primario")
+    void givenPrimaryRequired_whenGetConnection_thenShouldUsePrimary() throws SQLException {
+        // Given
+        ReadConsistencyContext.requirePrimary();
+        when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertSame(primaryConnection, connection);
+        verify(replicaDataSource, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Dado una réplica que falla, cuando se pide una conexión de lectura, entonces debe caer al primario y marcarla no disponible")
+    void givenFailingReplica_whenGetConnection_thenShouldFallBackToPrimary() throws SQLException {
+        // Given
+        SQLException failure = new SQLException("Connection refused");
+        when(replicaLagMonitor.isReplicaAvailable()).thenReturn(true);
+        when(replicaDataSource.getConnection()).thenThrow(failure);
+        when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertSame(primaryConnection, connection);
+        verify(replicaLagMonitor).markUnavailable(failure);
+    }
+}
@@ -0,0 +1,119 @@
+package com.linktic.challenge.products.unit.infrastructure.popularity;
+
+import com.linktic.challenge.products.domain.repository.ProductPopularityRepository;
+import com.linktic.challenge.products.infrastructure.popularity.PopularityProperties;
+import com.linktic.challenge.products.infrastructure.popularity.ProductViewCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductViewCounterTest {
+
+    private static final Duration HALF_LIFE = Duration.ofDays(7);
+    // Una vida media después de la fecha de referencia del decaimiento
+    private static final Instant ONE_HALF_LIFE = Instant.parse("2025-01-08T00:00:00Z");
+
+    @Mock
+    private ProductPopularityRepository productPopularityRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Dadas varias visitas, cuando se vuelcan, entonces la puntuación debe ser el logaritmo de las visitas más el decaimiento")
+    void givenSeveralViews_whenFlushing_thenScoreShouldBeLogOfViewsPlusDecay() {
+        // Given
+        ProductViewCounter counter = counter(ONE_HALF_LIFE, 100);
+        for (int i = 0; i < 4; i++) {
+            counter.recordView("prod001");
+        }
+        counter.recordView("prod002");
+
+        // When
+        counter.flush();
+
+        // Then
+        Map<String, Double> scores = capturedScores();
+        assertEquals(Math.log(4) + Math.log(2), scores.get("prod001"), 1e-9);
+        assertEquals(Math.log(2), scores.get("prod002"), 1e-9);
+        assertEquals(5.0, meterRegistry.get("products.popularity.views").tag("stage", "flushed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Dadas visitas ya volcadas, cuando se vuelca otra vez sin visitas nuevas, entonces no debe escribir en la base")
+    void givenFlushedViews_whenFlushingAgain_thenShouldNotWrite() {
+        // Given
+        ProductViewCounter counter = counter(ONE_HALF_LIFE, 100);
+        counter.recordView("prod001");
+        counter.flush();
+
+        // When
+        counter.flush();
+
+        // Then
+        verify(productPopularityRepository, times(1)).addPopularity(anyMap());
+    }
+
+    @Test
+    @DisplayName("Dado el límite de productos en memoria, cuando se visita uno nuevo, entonces la visita debe descartarse")
+    void givenTrackedProductsLimit_whenViewingNewProduct_thenShouldDropView() {
+        // Given
+        ProductViewCounter counter = counter(ONE_HALF_LIFE, 1);
+        counter.recordView("prod001");
+
+        // When
+        counter.recordView("prod002");
+        counter.recordView("prod001");
+        counter.flush();
+
+        // Then
+        assertEquals(Set.of("prod001"), capturedScores().keySet());
+        assertEquals(1.0, meterRegistry.get("products.popularity.views").tag("stage", "dropped").counter().count());
+    }
+
+    @Test
+    @DisplayName("Dado un volcado fallido, cuando se vuelca de nuevo, entonces debe reintentar las mismas visitas")
+    void givenFailedFlush_whenFlushingAgain_thenShouldRetrySameViews() {
+        // Given
+        ProductViewCounter counter = counter(ONE_HALF_LIFE, 100);
+        doThrow(new IllegalStateException("conexión perdida")).doNothing()
+                .when(productPopularityRepository).addPopularity(anyMap());
+        counter.recordView("prod001");
+        counter.recordView("prod001");
+        assertThrows(IllegalStateException.class, counter::flush);
+
+        // When
+        counter.flush();
+
+        // Then
+        assertEquals(Math.log(2) + Math.log(2), capturedScores().get("prod001"), 1e-9);
+    }
+
+    private ProductViewCounter counter(Instant now, int maxTrackedProducts) {
+        return new ProductViewCounter(productPopularityRepository,
+                new PopularityProperties(Duration.ofSeconds(10), HALF_LIFE, maxTrackedProducts, 1000),
+                Clock.fixed(now, ZoneOffset.UTC), meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Double> capturedScores() {
+        ArgumentCaptor<Map<String, Double>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(productPopularityRepository, atLeastOnce()).addPopularity(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,88 @@
+package com.linktic.challenge.products.unit.infrastructure.ranking;
+
+import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
+import com.linktic.challenge.products.domain.model.CategoryTopProducts;
+import com.linktic.challenge.products.infrastructure.ranking.CategoryTopProductsEngine;
+import com.linktic.challenge.products.infrastructure.ranking.TopProductsLoader;
+import com.linktic.challenge.products.infrastructure.ranking.TopProductsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static com.linktic.challenge.products.unit.infrastructure.ranking.RankedProductsTest.ids;
+import static com.linktic.challenge.products.unit.infrastructure.ranking.RankedProductsTest.product;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTopProductsEngineTest {
+
+    @Mock
+    private TopProductsLoader loader;
+
+    private CategoryTopProductsEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new CategoryTopProductsEngine(loader, new TopProductsProperties(2, 3, Duration.ofMinutes(10)),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Dado un catálogo, cuando se piden los destacados, entonces debe cargarlos una vez y agruparlos por categoría")
+    void givenCatalog_whenRequestingTopProducts_thenShouldLoadOnceAndGroupByCategory() {
+        // Given
+        when(loader.loadTopRanked(null, 3)).thenReturn(List.of(
+                product("p1", "10.00", 4.0, "Audio"),
+                product("p2", "30.00", 5.0, "Audio"),
+                product("p3", "20.00", 3.0, "Audio"),
+                product("p4", "50.00", 2.0, "Hogar")
+        ));
+
+        // When
+        engine.topProductsByCategory(2);
+        Map<String, CategoryTopProducts> result = engine.topProductsByCategory(2);
+
+        // Then
+        assertEquals(List.of("Audio", "Hogar"), List.copyOf(result.keySet()));
+        assertEquals(List.of("p2", "p1"), ids(result.get("Audio").topRated()));
+        assertEquals(List.of("p1", "p3"), ids(result.get("Audio").lowestPrice()));
+        assertEquals(List.of("p4"), ids(result.get("Hogar").topRated()));
+        verify(loader, times(1)).loadTopRanked(null, 3);
+    }
+
+    @Test
+    @DisplayName("Dado un producto que cambia de categoría, cuando se aplica, entonces debe moverse y la categoría vacía desaparecer")
+    void givenProductChangingCategory_whenApplied_thenShouldMoveAndDropEmptyCategory() {
+        // Given
+        when(loader.loadTopRanked(null, 3)).thenReturn(List.of(
+                product("p1", "10.00", 4.0, "Audio"),
+                product("p4", "50.00", 2.0, "Hogar")
+        ));
+        engine.topProductsByCategory(2);
+
+        // When
+        engine.apply(List.of(product("p4", "5.00", 4.5, "Audio")), List.of());
+        Map<String, CategoryTopProducts> result = engine.topProductsByCategory(2);
+
+        // Then
+        assertEquals(List.of("Audio"), List.copyOf(result.keySet()));
+        assertEquals(List.of("p4", "p1"), ids(result.get("Audio").topRated()));
+        assertEquals(List.of("p4", "p1"), ids(result.get("Audio").lowestPrice()));
+    }
+
+    @Test
+    @DisplayName("Dado un límite mayor al permitido, cuando se piden los destacados, entonces debe lanzar InvalidProductException")
+    void givenLimitAboveMaximum_whenRequestingTopProducts_thenShouldThrowInvalidProductException() {
+        assertThrows(InvalidProductException.class, () -> engine.topProductsByCategory(3));
+        verifyNoInteractions(loader);
+    }
+}
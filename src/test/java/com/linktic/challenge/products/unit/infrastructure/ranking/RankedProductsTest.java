@@ -0,0 +1,106 @@
+package com.linktic.challenge.products.unit.infrastructure.ranking;
+
+import com.linktic.challenge.products.domain.model.*;
+import com.linktic.challenge.products.infrastructure.ranking.RankedProducts;
+import com.linktic.challenge.products.infrastructure.ranking.RankingOrder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankedProductsTest {
+
+    @Test
+    @DisplayName("Dados candidatos, cuando se construye por rating, entonces debe ordenar descendente con desempate por ID y truncar")
+    void givenCandidates_whenBuildingByRating_thenShouldSortDescendingWithIdTieBreakAndTruncate() {
+        // When
+        RankedProducts ranked = RankedProducts.of(RankingOrder.RATING, 2, List.of(
+                product("p1", "10.00", 4.0),
+                product("p2", "20.00", 5.0),
+                product("p3", "30.00", 4.0)
+        ), true);
+
+        // Then
+        assertEquals(List.of("p2", "p3"), ids(ranked.products()));
+        assertFalse(ranked.complete());
+    }
+
+    @Test
+    @DisplayName("Dada una lista llena, cuando se ofrece un producto mejor que el último, entonces debe entrar y desplazar al último")
+    void givenFullList_whenOfferingBetterProduct_thenShouldEnterAndEvictLast() {
+        // Given
+        RankedProducts ranked = RankedProducts.of(RankingOrder.PRICE, 2, List.of(
+                product("p1", "10.00", 4.0),
+                product("p2", "20.00", 5.0)
+        ), true);
+
+        // When
+        RankedProducts offered = ranked.offer(product("p3", "15.00", 3.0));
+
+        // Then
+        assertEquals(List.of("p1", "p3"), ids(offered.products()));
+        assertFalse(offered.complete());
+        assertEquals(List.of("p1", "p2"), ids(ranked.products()));
+    }
+
+    @Test
+    @DisplayName("Dada una lista incompleta, cuando se ofrece un producto peor que el último, entonces no debe entrar")
+    void givenIncompleteList_whenOfferingWorseProduct_thenShouldNotEnter() {
+        // Given
+        RankedProducts ranked = RankedProducts.of(RankingOrder.PRICE, 2, List.of(
+                product("p1", "10.00", 4.0),
+                product("p2", "20.00", 5.0),
+                product("p3", "30.00", 5.0)
+        ), true).without("p2");
+
+        // When
+        RankedProducts offered = ranked.offer(product("p4", "25.00", 3.0));
+
+        // Then
+        assertEquals(List.of("p1"), ids(offered.products()));
+        assertTrue(offered.needsRefill(2));
+    }
+
+    @Test
+    @DisplayName("Dada una lista completa, cuando se ofrece cualquier producto con lugar disponible, entonces debe entrar")
+    void givenCompleteListWithRoom_whenOfferingProduct_thenShouldEnter() {
+        // Given
+        RankedProducts ranked = RankedProducts.empty(RankingOrder.RATING, 3)
+                .offer(product("p1", "10.00", 2.0));
+
+        // When
+        RankedProducts offered = ranked.offer(product("p2", "20.00", 1.0));
+
+        // Then
+        assertEquals(List.of("p1", "p2"), ids(offered.products()));
+        assertTrue(offered.complete());
+        assertFalse(offered.needsRefill(3));
+    }
+
+    static Product product(String id, String price, double rating) {
+        return product(id, price, rating, "Audio");
+    }
+
+    static Product product(String id, String price, double rating, String category) {
+        return new Product(
+                new ProductId(id),
+                new ProductName("Producto " + id),
+                new ProductImageUrl("https://example.com/" + id + ".jpg"),
+                new ProductDescription("Descripción del producto " + id),
+                new ProductPrice(new BigDecimal(price), Currency.getInstance("USD")),
+                new ProductRating(rating),
+                new ProductCategory(category),
+                new ProductBrand(null),
+                new ProductSpecifications(Map.of())
+        );
+    }
+
+    static List<String> ids(List<Product> products) {
+        return products.stream().map(product -> product.id().value()).toList();
+    }
+}
@@ -0,0 +1,172 @@
+package com.linktic.challenge.products.unit.infrastructure.rating;
+
+import com.linktic.challenge.products.domain.exception.entity.ProductNotFoundException;
+import com.linktic.challenge.products.domain.model.ProductRating;
+import com.linktic.challenge.products.domain.model.ProductRatingVotes;
+import com.linktic.challenge.products.domain.repository.ProductRatingRepository;
+import com.linktic.challenge.products.domain.repository.ProductRepository;
+import com.linktic.challenge.products.infrastructure.rating.RatingVoteAggregator;
+import com.linktic.challenge.products.infrastructure.rating.RatingVoteProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RatingVoteAggregatorTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductRatingRepository productRatingRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RatingVoteAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new RatingVoteAggregator(productRepository, productRatingRepository,
+                new RatingVoteProperties(Duration.ofSeconds(5), 1000), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Dados varios votos de un producto, cuando se vuelcan, entonces debe enviarse su cantidad y suma en un solo lote")
+    void givenSeveralVotes_whenFlushing_thenShouldSendCountAndSumInOneBatch() {
+        // Given
+        when(productRepository.existsById("prod001")).thenReturn(true);
+        when(productRatingRepository.applyVotes(anyCollection())).thenReturn(List.of("prod001"));
+        aggregator.submitVote("prod001", ProductRating.of(4.5));
+        aggregator.submitVote("prod001", ProductRating.of(3.0));
+        aggregator.submitVote("prod001", ProductRating.of(5.0));
+
+        // When
+        aggregator.flush();
+
+        // Then
+        assertEquals(List.of(new ProductRatingVotes("prod001", 3, new BigDecimal("12.50"))), capturedVotes());
+        verify(productRepository, times(1)).existsById("prod001");
+        assertEquals(3.0, meterRegistry.get("products.rating.votes").tag("stage", "flushed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Dados votos ya volcados, cuando se vuelca otra vez sin votos nuevos, entonces no debe escribir en la base")
+    void givenFlushedVotes_whenFlushingAgain_thenShouldNotWrite() {
+        // Given
+        when(productRepository.existsById("prod001")).thenReturn(true);
+        when(productRatingRepository.applyVotes(anyCollection())).thenReturn(List.of("prod001"));
+        aggregator.submitVote("prod001", ProductRating.of(4.0));
+        aggregator.flush();
+
+        // When
+        aggregator.flush();
+
+        // Then
+        verify(productRatingRepository, times(1)).applyVotes(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Dado un volcado fallido, cuando se vuelca de nuevo, entonces debe reintentar los mismos votos")
+    void givenFailedFlush_whenFlushingAgain_thenShouldRetrySameVotes() {
+        // Given
+        when(productRepository.existsById("prod001")).thenReturn(true);
+        when(productRatingRepository.applyVotes(anyCollection()))
+                .thenThrow(new IllegalStateException("conexión perdida"))
+                .thenReturn(List.of("prod001"));
+        aggregator.submitVote("prod001", ProductRating.of(2.0));
+        assertThrows(IllegalStateException.class, aggregator::flush);
+
+        // When
+        aggregator.flush();
+
+        // Then
+        assertEquals(List.of(new ProductRatingVotes("prod001", 1, new BigDecimal("2.00"))), capturedVotes());
+    }
+
+    @Test
+    @DisplayName("Dado un producto eliminado tras recibir votos, cuando se vuelca, entonces sus votos deben descartarse")
+    void givenProductDeletedAfterVotes_whenFlushing_thenShouldDiscardVotes() {
+        // Given
+        when(productRepository.existsById("prod001")).thenReturn(true);
+        when(productRatingRepository.applyVotes(anyCollection())).thenReturn(List.of());
+        aggregator.submitVote("prod001", ProductRating.of(1.0));
+
+        // When
+        aggregator.flush();
+        aggregator.flush();
+
+        // Then
+        verify(productRatingRepository, times(1)).applyVotes(anyCollection());
+        assertEquals(1.0, meterRegistry.get("products.rating.votes").tag("stage", "discarded").counter().count());
+    }
+
+    @Test
+    @DisplayName("Dados votos volcados, cuando termina el volcado, entonces debe quitar el acumulador vacío y el siguiente voto debe consultar la base")
+    void givenFlushedVotes_whenFlushCompletes_thenShouldRemoveEmptyTally() {
+        // Given
+        when(productRepository.existsById("prod001")).thenReturn(true);
+        when(productRatingRepository.applyVotes(anyCollection())).thenReturn(List.of("prod001"));
+        aggregator.submitVote("prod001", ProductRating.of(4.0));
+
+        // When
+        aggregator.flush();
+
+        // Then
+        assertEquals(0, aggregator.pendingProducts());
+        aggregator.submitVote("prod001", ProductRating.of(3.0));
+        assertEquals(1, aggregator.pendingProducts());
+        verify(productRepository, times(2)).existsById("prod001");
+    }
+
+    @Test
+    @DisplayName("Dado un voto que llega durante el volcado, cuando termina, entonces debe conservar el acumulador con ese voto")
+    void givenVoteDuringFlush_whenFlushCompletes_thenShouldKeepTallyWithLateVote() {
+        // Given
+        when(productRepository.existsById("prod001")).thenReturn(true);
+        when(productRatingRepository.applyVotes(anyCollection())).thenAnswer(invocation -> {
+            aggregator.submitVote("prod001", ProductRating.of(5.0));
+            return List.of("prod001");
+        }).thenReturn(List.of("prod001"));
+        aggregator.submitVote("prod001", ProductRating.of(2.0));
+
+        // When
+        aggregator.flush();
+        aggregator.flush();
+
+        // Then
+        assertEquals(List.of(new ProductRatingVotes("prod001", 1, new BigDecimal("5.00"))), capturedVotes());
+        verify(productRepository, times(1)).existsById("prod001");
+    }
+
+    @Test
+    @DisplayName("Dado un producto inexistente, cuando se vota, entonces debe lanzar ProductNotFoundException")
+    void givenMissingProduct_whenSubmittingVote_thenShouldThrowProductNotFoundException() {
+        // Given
+        when(productRepository.existsById("prod404")).thenReturn(false);
+        ProductRating score = ProductRating.of(4.0);
+
+        // When & Then
+        assertThrows(ProductNotFoundException.class, () -> aggregator.submitVote("prod404", score));
+        verifyNoInteractions(productRatingRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProductRatingVotes> capturedVotes() {
+        ArgumentCaptor<Collection<ProductRatingVotes>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(productRatingRepository, atLeastOnce()).applyVotes(captor.capture());
+        return List.copyOf(captor.getValue());
+    }
+}
@@ -0,0 +1,68 @@
+package com.linktic.challenge.products.unit.infrastructure.timing;
+
+import com.linktic.challenge.products.infrastructure.timing.RequestStage;
+import com.linktic.challenge.products.infrastructure.timing.RequestTimings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingsTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.end();
+    }
+
+    @Test
+    @DisplayName("Dado que no hay petición activa, cuando se mide una etapa, entonces solo debe ejecutar la acción")
+    void givenNoActiveRequest_whenTimingStage_thenShouldOnlyRunAction() {
+        // When
+        String result = RequestTimings.time(RequestStage.USE_CASE, () -> "ok");
+
+        // Then
+        assertEquals("ok", result);
+        assertNull(RequestTimings.current());
+    }
+
+    @Test
+    @DisplayName("Dada una petición con handler, cuando se completa, entonces debe calcular etapas, total y filtros")
+    void givenRequestWithHandler_whenCompleted_thenShouldComputeStagesTotalAndFilters() {
+        // Given
+        RequestTimings timings = RequestTimings.begin();
+        timings.markHandlerStart("ProductController.getProductById");
+        RequestTimings.time(RequestStage.USE_CASE, () -> "producto");
+        RequestTimings.time(RequestStage.USE_CASE, () -> "otro");
+        RequestTimings.record(RequestStage.DB, Duration.ofMillis(3));
+        timings.markBodyWrite();
+        timings.markHandlerEnd();
+
+        // When
+        Map<RequestStage, Duration> durations = timings.complete();
+
+        // Then
+        assertEquals(Duration.ofMillis(3), durations.get(RequestStage.DB));
+        assertTrue(durations.containsKey(RequestStage.USE_CASE));
+        assertTrue(durations.containsKey(RequestStage.SERIALIZATION));
+        assertTrue(durations.containsKey(RequestStage.FILTERS));
+        assertTrue(durations.get(RequestStage.TOTAL).compareTo(durations.get(RequestStage.FILTERS)) >= 0);
+    }
+
+    @Test
+    @DisplayName("Dadas etapas medidas, cuando se genera Server-Timing, entonces debe usar el formato nombre;dur")
+    void givenMeasuredStages_whenFormattingServerTiming_thenShouldUseNameDurFormat() {
+        // Given
+        RequestTimings timings = RequestTimings.begin();
+        RequestTimings.record(RequestStage.DTO_MAPPING, Duration.ofMillis(2));
+
+        // When
+        String header = timings.toServerTiming(Duration.ofMillis(1));
+
+        // Then
+        assertTrue(header.startsWith("dto-mapping;dur=2.00, db;dur=1.00, app;dur="), header);
+    }
+}
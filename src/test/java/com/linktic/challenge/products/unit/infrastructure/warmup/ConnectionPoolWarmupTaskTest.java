@@ -0,0 +1,77 @@
+package com.linktic.challenge.products.unit.infrastructure.warmup;
+
+import com.linktic.challenge.products.infrastructure.warmup.ConnectionPoolWarmupTask;
+import com.linktic.challenge.products.infrastructure.warmup.WarmupProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConnectionPoolWarmupTaskTest {
+
+    private WarmupProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WarmupProperties(true, Duration.ofSeconds(1), 10, 1, 3);
+    }
+
+    private static DataSource pool(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    @Test
+    @DisplayName("Dado un primario y una réplica, cuando se calienta, entonces debe llenar ambos pools y devolver las conexiones")
+    void givenPrimaryAndReplica_whenWarmingUp_thenShouldFillBothPools() throws SQLException {
+        // Given
+        DataSource primary = pool(mock(Connection.class));
+        Connection replicaConnection = mock(Connection.class);
+        DataSource replica = pool(replicaConnection);
+
+        // When
+        long opened = new ConnectionPoolWarmupTask(primary, replica).warmUp(properties);
+
+        // Then
+        assertEquals(6, opened);
+        verify(primary, times(3)).getConnection();
+        verify(replica, times(3)).getConnection();
+        verify(replicaConnection, times(3)).close();
+    }
+
+    @Test
+    @DisplayName("Dada una réplica que no responde, cuando se calienta, entonces debe llenar igual el pool del primario")
+    void givenUnreachableReplica_whenWarmingUp_thenShouldStillFillPrimaryPool() throws SQLException {
+        // Given
+        DataSource primary = pool(mock(Connection.class));
+        DataSource replica = mock(DataSource.class);
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // When
+        long opened = new ConnectionPoolWarmupTask(primary, replica).warmUp(properties);
+
+        // Then
+        assertEquals(3, opened);
+        verify(replica).getConnection();
+    }
+
+    @Test
+    @DisplayName("Dado solo el primario, cuando se calienta, entonces debe llenar su pool")
+    void givenPrimaryOnly_whenWarmingUp_thenShouldFillPrimaryPool() throws SQLException {
+        // Given
+        DataSource primary = pool(mock(Connection.class));
+
+        // When & Then
+        assertEquals(3, new ConnectionPoolWarmupTask(primary, null).warmUp(properties));
+    }
+}
@@ -0,0 +1,71 @@
+package com.linktic.challenge.products.unit.infrastructure.warmup;
+
+import com.linktic.challenge.products.infrastructure.warmup.WarmupProperties;
+import com.linktic.challenge.products.infrastructure.warmup.WarmupRunner;
+import com.linktic.challenge.products.infrastructure.warmup.WarmupTask;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WarmupRunnerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WarmupProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new WarmupProperties(true, Duration.ofSeconds(1), 10, 1, 2);
+    }
+
+    private static WarmupTask task(String name, long warmed) {
+        WarmupTask task = mock(WarmupTask.class);
+        when(task.name()).thenReturn(name);
+        when(task.warmUp(any())).thenReturn(warmed);
+        return task;
+    }
+
+    @Test
+    @DisplayName("Dadas varias tareas, cuando la aplicación está lista, entonces debe ejecutarlas en orden y publicar métricas")
+    void givenTasks_whenApplicationReady_thenShouldRunInOrderAndPublishMetrics() {
+        // Given
+        WarmupTask pool = task("connection-pool", 2);
+        WarmupTask replay = task("endpoint-replay", 10);
+        WarmupRunner runner = new WarmupRunner(List.of(pool, replay), properties, meterRegistry);
+
+        // When
+        runner.onApplicationEvent(null);
+
+        // Then
+        var inOrder = inOrder(pool, replay);
+        inOrder.verify(pool).warmUp(properties);
+        inOrder.verify(replay).warmUp(properties);
+        assertEquals(10, meterRegistry.get("products.warmup.items").tag("task", "endpoint-replay").counter().count());
+        assertEquals(1, meterRegistry.get("products.warmup.duration").tag("task", "connection-pool").timer().count());
+    }
+
+    @Test
+    @DisplayName("Dada una tarea que falla, cuando la aplicación está lista, entonces las demás deben ejecutarse igual")
+    void givenFailingTask_whenApplicationReady_thenShouldStillRunOthers() {
+        // Given
+        WarmupTask failing = mock(WarmupTask.class);
+        when(failing.name()).thenReturn("cache");
+        when(failing.warmUp(any())).thenThrow(new IllegalStateException("sin datos"));
+        WarmupTask replay = task("endpoint-replay", 5);
+        WarmupRunner runner = new WarmupRunner(List.of(failing, replay), properties, meterRegistry);
+
+        // When
+        assertDoesNotThrow(() -> runner.onApplicationEvent(null));
+
+        // Then
+        verify(replay).warmUp(properties);
+        assertNull(meterRegistry.find("products.warmup.items").tag("task", "cache").counter());
+    }
+}
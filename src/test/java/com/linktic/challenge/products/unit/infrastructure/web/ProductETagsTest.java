@@ -0,0 +1,53 @@
+package com.linktic.challenge.products.unit.infrastructure.web;
+
+import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
+import com.linktic.challenge.products.domain.exception.entity.ProductVersionConflictException;
+import com.linktic.challenge.products.infrastructure.web.ProductETags;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductETagsTest {
+    private static final String PRODUCT_ID = "prod001";
+
+    @Test
+    @DisplayName("Dado una versión, cuando se formatea, entonces debe retornar un ETag fuerte entre comillas")
+    void givenVersion_whenFormat_thenShouldReturnQuotedStrongETag() {
+        assertEquals("\"7\"", ProductETags.format(7L));
+        assertNull(ProductETags.format(null));
+    }
+
+    @Test
+    @DisplayName("Dado un ETag fuerte, cuando se interpreta If-Match, entonces debe retornar la versión")
+    void givenStrongETag_whenParseIfMatch_thenShouldReturnVersion() {
+        assertEquals(7L, ProductETags.parseIfMatch(PRODUCT_ID, "\"7\""));
+        assertEquals(7L, ProductETags.parseIfMatch(PRODUCT_ID, "  \"7\" "));
+    }
+
+    @Test
+    @DisplayName("Dado un ETag débil, cuando se interpreta If-Match, entonces debe lanzar ProductVersionConflictException")
+    void givenWeakETag_whenParseIfMatch_thenShouldThrowProductVersionConflictException() {
+        ProductVersionConflictException exception = assertThrows(ProductVersionConflictException.class,
+                () -> ProductETags.parseIfMatch(PRODUCT_ID, "W/\"7\""));
+
+        assertEquals(PRODUCT_ID, exception.getProductId());
+        assertNull(exception.getCurrentVersion());
+    }
+
+    @Test
+    @DisplayName("Dado un If-Match ausente o comodín, cuando se interpreta, entonces no debe imponer versión")
+    void givenMissingOrWildcardIfMatch_whenParse_thenShouldReturnNull() {
+        assertNull(ProductETags.parseIfMatch(PRODUCT_ID, null));
+        assertNull(ProductETags.parseIfMatch(PRODUCT_ID, " "));
+        assertNull(ProductETags.parseIfMatch(PRODUCT_ID, "*"));
+    }
+
+    @Test
+    @DisplayName("Dado un If-Match mal formado, cuando se interpreta, entonces debe lanzar InvalidProductException")
+    void givenMalformedIfMatch_whenParse_thenShouldThrowInvalidProductException() {
+        assertThrows(InvalidProductException.class, () -> ProductETags.parseIfMatch(PRODUCT_ID, "7"));
+        assertThrows(InvalidProductException.class, () -> ProductETags.parseIfMatch(PRODUCT_ID, "\"abc\""));
+        assertThrows(InvalidProductException.class, () -> ProductETags.parseIfMatch(PRODUCT_ID, "\"1\", \"2\""));
+    }
+}
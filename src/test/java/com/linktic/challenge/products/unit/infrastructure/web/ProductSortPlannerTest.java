@@ -0,0 +1,48 @@
+package com.linktic.challenge.products.unit.infrastructure.web;
+
+import com.linktic.challenge.products.domain.exception.entity.InvalidProductException;
+import com.linktic.challenge.products.infrastructure.web.ProductSortPlanner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductSortPlannerTest {
+
+    @Test
+    @DisplayName("Dado un campo permitido, cuando se planifica el orden, entonces debe desempatar por ID en la misma dirección")
+    void givenSortableField_whenPlanning_thenShouldAddIdTieBreakInSameDirection() {
+        // When
+        Sort sort = ProductSortPlanner.plan("price", "DESC");
+
+        // Then
+        assertEquals(Sort.by(Sort.Order.desc("price"), Sort.Order.desc("id")), sort);
+    }
+
+    @Test
+    @DisplayName("Dada la popularidad, cuando se planifica el orden, entonces debe aceptarse con desempate por ID")
+    void givenPopularityField_whenPlanning_thenShouldAcceptWithIdTieBreak() {
+        assertEquals(Sort.by(Sort.Order.desc("popularity"), Sort.Order.desc("id")),
+                ProductSortPlanner.plan("popularity", "desc"));
+    }
+
+    @Test
+    @DisplayName("Dado el ID como campo, cuando se planifica el orden, entonces no debe repetir el desempate")
+    void givenIdField_whenPlanning_thenShouldNotRepeatTieBreak() {
+        assertEquals(Sort.by(Sort.Order.asc("id")), ProductSortPlanner.plan("id", "asc"));
+    }
+
+    @Test
+    @DisplayName("Dado un campo sin índice, cuando se planifica el orden, entonces debe lanzar InvalidProductException")
+    void givenUnindexedField_whenPlanning_thenShouldThrowInvalidProductException() {
+        assertThrows(InvalidProductException.class, () -> ProductSortPlanner.plan("description", "asc"));
+        assertThrows(InvalidProductException.class, () -> ProductSortPlanner.plan("unknown", "asc"));
+    }
+
+    @Test
+    @DisplayName("Dada una dirección inválida, cuando se planifica el orden, entonces debe lanzar InvalidProductException")
+    void givenInvalidDirection_whenPlanning_thenShouldThrowInvalidProductException() {
+        assertThrows(InvalidProductException.class, () -> ProductSortPlanner.plan("name", "sideways"));
+    }
+}
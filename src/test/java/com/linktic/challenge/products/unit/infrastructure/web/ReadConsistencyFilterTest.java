@@ -0,0 +1,86 @@
+package com.linktic.challenge.products.unit.infrastructure.web;
+
+import com.linktic.challenge.products.infrastructure.persistence.routing.ReadConsistencyContext;
+import com.linktic.challenge.products.infrastructure.web.ReadConsistencyFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadConsistencyFilterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T10:00:00Z");
+
+    private final ReadConsistencyFilter filter =
+            new ReadConsistencyFilter(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("Dado una escritura, cuando pasa por el filtro, entonces debe emitir la cookie read-your-writes")
+    void givenWriteRequest_whenFiltered_thenShouldIssueReadYourWritesCookie() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/v1/products/prod001");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean primaryRequired = filterAndCapture(request, response);
+
+        // Then
+        Cookie cookie = response.getCookie(ReadConsistencyFilter.COOKIE);
+        assertNotNull(cookie);
+        assertEquals(String.valueOf(NOW.toEpochMilli() + 5000), cookie.getValue());
+        assertTrue(primaryRequired);
+        assertFalse(ReadConsistencyContext.isPrimaryRequired());
+    }
+
+    @Test
+    @DisplayName("Dado una lectura con cookie vigente, cuando pasa por el filtro, entonces debe leer del primario")
+    void givenReadWithActiveCookie_whenFiltered_thenShouldRequirePrimary() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/prod001");
+        request.setCookies(new Cookie(ReadConsistencyFilter.COOKIE, String.valueOf(NOW.toEpochMilli() + 1000)));
+
+        // When & Then
+        assertTrue(filterAndCapture(request, new MockHttpServletResponse()));
+    }
+
+    @Test
+    @DisplayName("Dado una lectura con cookie vencida, cuando pasa por el filtro, entonces puede leer de la réplica")
+    void givenReadWithExpiredCookie_whenFiltered_thenShouldNotRequirePrimary() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/prod001");
+        request.setCookies(new Cookie(ReadConsistencyFilter.COOKIE, String.valueOf(NOW.toEpochMilli() - 1)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When & Then
+        assertFalse(filterAndCapture(request, response));
+        assertNull(response.getCookie(ReadConsistencyFilter.COOKIE));
+    }
+
+    @Test
+    @DisplayName("Dado X-Read-Consistency strong, cuando pasa por el filtro, entonces debe leer del primario")
+    void givenStrongConsistencyHeader_whenFiltered_thenShouldRequirePrimary() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products");
+        request.addHeader(ReadConsistencyFilter.HEADER, "STRONG");
+
+        // When & Then
+        assertTrue(filterAndCapture(request, new MockHttpServletResponse()));
+    }
+
+    private boolean filterAndCapture(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicBoolean primaryRequired = new AtomicBoolean();
+        FilterChain chain = (req, res) -> primaryRequired.set(ReadConsistencyContext.isPrimaryRequired());
+        filter.doFilterInternal(request, response, chain);
+        return primaryRequired.get();
+    }
+}
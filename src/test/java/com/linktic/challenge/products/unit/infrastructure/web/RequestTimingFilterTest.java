@@ -0,0 +1,62 @@
+package com.linktic.challenge.products.unit.infrastructure.web;
+
+import com.linktic.challenge.products.infrastructure.timing.RequestStage;
+import com.linktic.challenge.products.infrastructure.timing.RequestTimings;
+import com.linktic.challenge.products.infrastructure.web.RequestTimingFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestTimingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestTimingFilter(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Dada una petición atendida por un handler, cuando termina, entonces debe publicar las etapas con su handler")
+    void givenHandledRequest_whenFinished_thenShouldPublishStagesTaggedByHandler() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilterInternal(request, response, (req, res) -> {
+            RequestTimings timings = RequestTimings.current();
+            timings.markHandlerStart("ProductController.getAllProducts");
+            RequestTimings.time(RequestStage.USE_CASE, () -> "productos");
+            timings.markHandlerEnd();
+        });
+
+        // Then
+        assertEquals(1, meterRegistry.get("products.request.stage")
+                .tags("stage", "usecase", "handler", "ProductController.getAllProducts").timer().count());
+        assertEquals(1, meterRegistry.get("products.request.stage")
+                .tags("stage", "filters", "handler", "ProductController.getAllProducts").timer().count());
+        assertNull(RequestTimings.current());
+    }
+
+    @Test
+    @DisplayName("Dada una petición sin handler, cuando termina, entonces no debe publicar métricas")
+    void givenRequestWithoutHandler_whenFinished_thenShouldNotPublishMetrics() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/desconocido");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilterInternal(request, response, (req, res) -> { });
+
+        // Then
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+}
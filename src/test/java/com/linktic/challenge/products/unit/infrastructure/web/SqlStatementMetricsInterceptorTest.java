@@ -0,0 +1,69 @@
+package com.linktic.challenge.products.unit.infrastructure.web;
+
+import com.linktic.challenge.products.infrastructure.persistence.metrics.SqlMetricsProperties;
+import com.linktic.challenge.products.infrastructure.web.ProductController;
+import com.linktic.challenge.products.infrastructure.web.SqlStatementMetricsInterceptor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class SqlStatementMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementMetricsInterceptor interceptor;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new SqlStatementMetricsInterceptor(meterRegistry,
+                new SqlMetricsProperties(true, Map.of("ProductController.getProductById", 0)));
+        handler = new HandlerMethod(mock(ProductController.class),
+                ProductController.class.getMethod("getProductById", String.class, String.class, Set.class));
+    }
+
+    @Test
+    @DisplayName("Dada una petición a un handler, cuando termina, entonces debe publicar las métricas con el tag del handler")
+    void givenHandlerRequest_whenCompleted_thenShouldPublishMetricsTaggedByHandler() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/prod001");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // Then
+        assertEquals(1, meterRegistry.get("products.db.statements")
+                .tag("handler", "ProductController.getProductById").summary().count());
+        assertEquals(1, meterRegistry.get("products.db.time")
+                .tag("handler", "ProductController.getProductById").timer().count());
+        assertTrue(meterRegistry.find("products.db.budget.exceeded").counters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dado un handler que no es de controlador, cuando termina, entonces no debe publicar métricas")
+    void givenNonHandlerMethod_whenCompleted_thenShouldNotPublishMetrics() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api-docs");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Object resourceHandler = new Object();
+
+        // When
+        interceptor.preHandle(request, response, resourceHandler);
+        interceptor.afterCompletion(request, response, resourceHandler, null);
+
+        // Then
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+}